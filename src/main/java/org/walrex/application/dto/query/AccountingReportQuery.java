@@ -0,0 +1,43 @@
+package org.walrex.application.dto.query;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Parameters of the trial balance and general ledger reports.
+ */
+@Data
+@Builder
+public class AccountingReportQuery {
+
+    /**
+     * First day of the range (inclusive).
+     */
+    private LocalDate dateFrom;
+
+    /**
+     * Last day of the range (inclusive).
+     */
+    private LocalDate dateTo;
+
+    /**
+     * Only accounts whose code starts with this prefix (all when null).
+     */
+    private String accountPrefix;
+
+    /**
+     * Code prefix lengths to subtotal in the trial balance (e.g. 2, 3). Empty = no roll-up.
+     */
+    @Builder.Default
+    private SortedSet<Integer> rollupLevels = new TreeSet<>();
+
+    /**
+     * Whether the trial balance includes the account rows or only the roll-up subtotals.
+     */
+    @Builder.Default
+    private boolean includeDetail = true;
+}
@@ -41,6 +41,26 @@ public class PageRequest {
     @Builder.Default
     private SortDirection sortDirection = SortDirection.ASCENDING;
 
+    /**
+     * Cursor opaco para paginación keyset (scroll infinito).
+     * null = paginación por offset con page/size; vacío = primera página en modo keyset.
+     * En modo keyset se ignora page: cada página continúa donde terminó la anterior.
+     */
+    private String cursor;
+
+    /**
+     * Si se calcula el total de elementos (COUNT). En modo keyset solo se calcula si se pide.
+     */
+    @Builder.Default
+    private boolean includeTotal = true;
+
+    /**
+     * Indica si la consulta usa paginación keyset en vez de offset.
+     */
+    public boolean isKeyset() {
+        return cursor != null;
+    }
+
     /**
      * Enum para la dirección del ordenamiento.
      */
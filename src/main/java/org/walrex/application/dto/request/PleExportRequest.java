@@ -0,0 +1,26 @@
+package org.walrex.application.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO para solicitar la exportación de un libro PLE
+ *
+ * @param book  LIBRO_DIARIO (5.1) o LIBRO_MAYOR (6.1)
+ * @param year  Año del periodo
+ * @param month Mes del periodo (1-12)
+ */
+public record PleExportRequest(
+        @NotBlank(message = "book is required")
+        String book,
+
+        @NotNull(message = "year is required")
+        Integer year,
+
+        @NotNull(message = "month is required")
+        @Min(value = 1, message = "month must be between 1 and 12")
+        @Max(value = 12, message = "month must be between 1 and 12")
+        Integer month
+) {}
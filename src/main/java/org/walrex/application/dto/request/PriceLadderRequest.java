@@ -0,0 +1,76 @@
+package org.walrex.application.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO para cotizar varios montos de una ruta en una sola llamada (slider de montos).
+ *
+ * Las validaciones aquí son de FORMATO, no de negocio.
+ */
+public record PriceLadderRequest(
+    /**
+     * Montos a cotizar en la moneda base.
+     */
+    @NotEmpty(message = "At least one amount is required")
+    @Size(max = 100, message = "A maximum of 100 amounts is allowed")
+    List<@NotNull @DecimalMin(value = "0.01", message = "Amount must be greater than 0") BigDecimal> amounts,
+
+    @NotBlank(message = "Base country code is required")
+    @Pattern(regexp = "^[A-Z]{2}$", message = "Base country must be a valid 2-letter code (uppercase)")
+    String baseCodeCountry,
+
+    @NotBlank(message = "Base currency is required")
+    @Pattern(regexp = "^[A-Z]{3}$", message = "Base currency must be a valid 3-letter code (uppercase)")
+    String baseCurrency,
+
+    @NotBlank(message = "Quote country code is required")
+    @Pattern(regexp = "^[A-Z]{2}$", message = "Quote country must be a valid 2-letter code (uppercase)")
+    String quoteCodeCountry,
+
+    @NotBlank(message = "Quote currency is required")
+    @Pattern(regexp = "^[A-Z]{3}$", message = "Quote currency must be a valid 3-letter code (uppercase)")
+    String quoteCurrency,
+
+    /**
+     * Margen de ganancia a aplicar (opcional). Por defecto 5.0.
+     */
+    @DecimalMin(value = "0.0", message = "Margin must be 0 or greater")
+    BigDecimal margin,
+
+    /**
+     * Tipo de cálculo para la tasa (MIN, MAX, PROMEDIO). Por defecto PROMEDIO.
+     */
+    @Pattern(
+            regexp = "^(MIN|MAX|PROMEDIO)$",
+            message = "Rate type must be MIN, MAX or PROMEDIO"
+    )
+    String typeRate
+) {
+    /**
+     * Constructor que normaliza los datos.
+     */
+    public PriceLadderRequest {
+        if (baseCurrency != null) {
+            baseCurrency = baseCurrency.toUpperCase().trim();
+        }
+        if (quoteCurrency != null) {
+            quoteCurrency = quoteCurrency.toUpperCase().trim();
+        }
+        if (margin == null) {
+            margin = BigDecimal.valueOf(5.0);
+        }
+        if (typeRate == null || typeRate.isBlank()) {
+            typeRate = "PROMEDIO";
+        } else {
+            typeRate = typeRate.toUpperCase().trim();
+        }
+    }
+}
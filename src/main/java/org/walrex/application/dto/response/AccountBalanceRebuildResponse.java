@@ -0,0 +1,10 @@
+package org.walrex.application.dto.response;
+
+/**
+ * DTO para respuesta de la reconstrucción de saldos por periodo
+ */
+public record AccountBalanceRebuildResponse(
+        Integer year,
+        int rows,
+        long durationMs
+) {}
@@ -0,0 +1,16 @@
+package org.walrex.application.dto.response;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO para los movimientos de una cuenta en un periodo mensual
+ */
+public record AccountPeriodBalanceResponse(
+        Integer accountId,
+        int year,
+        int month,
+        BigDecimal debit,
+        BigDecimal credit,
+        BigDecimal net,
+        int lineCount
+) {}
@@ -0,0 +1,29 @@
+package org.walrex.application.dto.response;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO de respuesta con las velas OHLC de un símbolo.
+ */
+public record MarketCandleResponse(
+        String symbol,
+        String interval,
+        List<Bar> candles
+) {
+    /**
+     * Vela OHLC + volumen. La última puede estar aún en curso.
+     */
+    public record Bar(
+            Instant openTime,
+            Instant closeTime,
+            BigDecimal open,
+            BigDecimal high,
+            BigDecimal low,
+            BigDecimal close,
+            BigDecimal volume,
+            long tradeCount
+    ) {
+    }
+}
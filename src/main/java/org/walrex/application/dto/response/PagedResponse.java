@@ -1,5 +1,8 @@
 package org.walrex.application.dto.response;
 
+import org.walrex.application.dto.query.PageRequest;
+import org.walrex.domain.model.PagedResult;
+
 import java.util.List;
 
 /**
@@ -55,7 +58,12 @@ public record PagedResponse<T>(
         /**
          * Indica si hay más páginas disponibles (útil para scroll infinito).
          */
-        boolean hasMore
+        boolean hasMore,
+
+        /**
+         * Cursor para pedir la página siguiente en modo keyset (null en modo offset o en la última página).
+         */
+        String nextCursor
 
 ) {
     /**
@@ -74,7 +82,30 @@ public record PagedResponse<T>(
                 page == 1,                          // first (1-indexed)
                 page >= totalPages,                 // last (1-indexed)
                 content.isEmpty(),                   // empty
-                (long) page * size < totalElements  // hasMore
+                (long) page * size < totalElements, // hasMore
+                null                                // nextCursor
+        );
+    }
+
+    /**
+     * Factory method para una página keyset. page es 0 y, si no se pidió el total,
+     * totalElements y totalPages son -1.
+     *
+     * @param pageRequest Petición original (para saber si es la primera página)
+     * @param result Resultado keyset del puerto de consulta
+     */
+    public static <T> PagedResponse<T> keyset(List<T> content, PageRequest pageRequest, PagedResult<?> result) {
+        return new PagedResponse<>(
+                content,
+                0,
+                result.size(),
+                result.totalElements(),
+                result.totalPages(),
+                pageRequest.getCursor() == null || pageRequest.getCursor().isBlank(),
+                result.nextCursor() == null,
+                content.isEmpty(),
+                result.nextCursor() != null,
+                result.nextCursor()
         );
     }
 }
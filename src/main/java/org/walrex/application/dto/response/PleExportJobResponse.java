@@ -0,0 +1,26 @@
+package org.walrex.application.dto.response;
+
+import java.time.OffsetDateTime;
+
+/**
+ * DTO para respuesta de una exportación PLE (estado, avance y artefacto)
+ */
+public record PleExportJobResponse(
+        Long id,
+        String book,
+        String format,
+        int year,
+        int month,
+        String status,
+        Long rowsTotal,
+        long rowsWritten,
+        Integer progress,
+        String fileName,
+        Long fileSize,
+        String downloadUrl,
+        int attempts,
+        String lastError,
+        OffsetDateTime createdAt,
+        OffsetDateTime startedAt,
+        OffsetDateTime finishedAt
+) {}
@@ -0,0 +1,30 @@
+package org.walrex.application.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO de respuesta con las cotizaciones de una ruta para varios montos.
+ */
+public record PriceLadderResponse(
+        String baseCurrency,
+        String quoteCurrency,
+        BigDecimal marginApplied,
+        String typeRate,
+        List<Point> points
+) {
+    /**
+     * Cotización para un monto. Si {@code available} es false ningún anuncio acepta el monto.
+     */
+    public record Point(
+            BigDecimal amount,
+            boolean available,
+            BigDecimal averageBuyPrice,
+            BigDecimal averageSellPrice,
+            BigDecimal rate,
+            BigDecimal exchangeRate,
+            BigDecimal convertedAmount,
+            BigDecimal usdtReceived
+    ) {
+    }
+}
@@ -0,0 +1,20 @@
+package org.walrex.application.dto.response;
+
+import java.time.Instant;
+
+/**
+ * DTO para respuesta de recarga del catálogo de datos de referencia
+ */
+public record ReferenceDataRefreshResponse(
+        int countries,
+        int currencies,
+        int systemDocumentTypes,
+        int sunatDocumentTypes,
+        int typeComprobants,
+        int ocupaciones,
+        int departaments,
+        int provinces,
+        int payoutRailInstitutions,
+        Instant loadedAt,
+        long durationMs
+) {}
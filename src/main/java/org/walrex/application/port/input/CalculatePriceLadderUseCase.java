@@ -0,0 +1,19 @@
+package org.walrex.application.port.input;
+
+import io.smallrye.mutiny.Uni;
+import org.walrex.domain.model.PriceLadder;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface CalculatePriceLadderUseCase {
+    Uni<PriceLadder> calculatePriceLadder(
+            List<BigDecimal> amounts,
+            String baseCountry,
+            String baseCurrency,
+            String quoteCountry,
+            String quoteCurrency,
+            BigDecimal margin,
+            String typeRate
+    );
+}
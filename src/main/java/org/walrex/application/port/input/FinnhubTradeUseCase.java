@@ -11,8 +11,9 @@ import java.time.Instant;
  *
  * La implementación evaluará si el cambio supera el umbral configurado
  * y, en ese caso, consultará AstroPay para registrar la tasa oficial.
+ * Cada trade alimenta además las velas OHLC en memoria.
  */
 public interface FinnhubTradeUseCase {
 
-    Uni<Void> onTrade(String symbol, BigDecimal price, Instant tradeTime);
+    Uni<Void> onTrade(String symbol, BigDecimal price, BigDecimal volume, Instant tradeTime);
 }
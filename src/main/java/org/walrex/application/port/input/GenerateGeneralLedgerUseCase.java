@@ -0,0 +1,17 @@
+package org.walrex.application.port.input;
+
+import io.smallrye.mutiny.Multi;
+import org.walrex.application.dto.query.AccountingReportQuery;
+import org.walrex.domain.model.LedgerRow;
+
+public interface GenerateGeneralLedgerUseCase {
+    /**
+     * Streams the general ledger (libro mayor) for the range: for each account with movements,
+     * its opening balance, every journal line with the running balance, and the closing balance.
+     *
+     * @param query Range and account prefix
+     * @return Multi with the report rows
+     * @throws IllegalArgumentException if the range is missing or inverted
+     */
+    Multi<LedgerRow> generalLedger(AccountingReportQuery query);
+}
@@ -0,0 +1,17 @@
+package org.walrex.application.port.input;
+
+import io.smallrye.mutiny.Multi;
+import org.walrex.application.dto.query.AccountingReportQuery;
+import org.walrex.domain.model.TrialBalanceRow;
+
+public interface GenerateTrialBalanceUseCase {
+    /**
+     * Streams the trial balance (balance de comprobación) for the range, ordered by account code,
+     * with the roll-up subtotals placed after the accounts they cover.
+     *
+     * @param query Range, account prefix and roll-up levels
+     * @return Multi with the report rows
+     * @throws IllegalArgumentException if the range is missing or inverted
+     */
+    Multi<TrialBalanceRow> trialBalance(AccountingReportQuery query);
+}
@@ -0,0 +1,29 @@
+package org.walrex.application.port.input;
+
+import io.smallrye.mutiny.Uni;
+import org.walrex.domain.model.AccountPeriodBalance;
+
+import java.util.List;
+
+public interface GetAccountBalanceUseCase {
+    /**
+     * Gets the movements of an account in a monthly period.
+     *
+     * @param accountId Account identifier
+     * @param year Period year
+     * @param month Period month (1-12)
+     * @return Uni with the balance (zero movements if the account had none in the period)
+     * @throws IllegalArgumentException if the month is out of range
+     */
+    Uni<AccountPeriodBalance> findByAccountAndPeriod(Integer accountId, int year, int month);
+
+    /**
+     * Gets the balances of every account with movements in a monthly period.
+     *
+     * @param year Period year
+     * @param month Period month (1-12)
+     * @return Uni with the balances ordered by account
+     * @throws IllegalArgumentException if the month is out of range
+     */
+    Uni<List<AccountPeriodBalance>> findByPeriod(int year, int month);
+}
@@ -0,0 +1,27 @@
+package org.walrex.application.port.input;
+
+import io.smallrye.mutiny.Uni;
+import org.walrex.domain.model.CandleInterval;
+import org.walrex.domain.model.MarketCandle;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Puerto de entrada para consultar velas OHLC agregadas a partir de los ticks de mercado.
+ */
+public interface GetMarketCandlesUseCase {
+
+    /**
+     * Velas del símbolo en [from, to), incluida la vela en curso si cae en el rango.
+     *
+     * @param symbol Símbolo del proveedor (ej: OANDA:USD_COP)
+     * @param interval Intervalo de la vela
+     * @param from Inicio del rango (inclusive)
+     * @param to Fin del rango (exclusivo)
+     * @param limit Máximo de velas (las más recientes del rango)
+     * @return Velas en orden ascendente por openTime
+     */
+    Uni<List<MarketCandle>> getCandles(String symbol, CandleInterval interval,
+                                       Instant from, Instant to, int limit);
+}
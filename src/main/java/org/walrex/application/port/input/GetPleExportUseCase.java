@@ -0,0 +1,15 @@
+package org.walrex.application.port.input;
+
+import io.smallrye.mutiny.Uni;
+import org.walrex.domain.model.PleExportJob;
+
+/**
+ * Use case to follow a PLE export (status, progress and artifact).
+ */
+public interface GetPleExportUseCase {
+
+    /**
+     * @throws org.walrex.domain.exception.PleExportJobNotFoundException (as Uni failure) if it does not exist
+     */
+    Uni<PleExportJob> findById(Long id);
+}
@@ -0,0 +1,14 @@
+package org.walrex.application.port.input;
+
+import io.smallrye.mutiny.Uni;
+
+public interface RebuildAccountBalancesUseCase {
+    /**
+     * Recomputes the materialized account balances from the journal entries.
+     * Needed after back-fills or fixes made directly in the database.
+     *
+     * @param year Year to rebuild, or null to rebuild every year
+     * @return Uni with the number of balance rows written
+     */
+    Uni<Integer> rebuild(Integer year);
+}
@@ -0,0 +1,27 @@
+package org.walrex.application.port.input;
+
+import io.smallrye.mutiny.Uni;
+import org.walrex.domain.model.PleBook;
+import org.walrex.domain.model.PleExportJob;
+
+/**
+ * Use case to queue the export of a PLE book for a monthly period.
+ */
+public interface RequestPleExportUseCase {
+
+    /**
+     * Queues the export; if one is already pending or running for the same book and period,
+     * that job is returned instead.
+     *
+     * @throws IllegalArgumentException (as Uni failure) if the period is invalid
+     */
+    Uni<PleExportJob> request(PleBook book, int year, int month);
+
+    /**
+     * Resumes a FAILED export from its last checkpoint.
+     *
+     * @throws org.walrex.domain.exception.PleExportJobNotFoundException (as Uni failure) if it does not exist
+     * @throws IllegalStateException (as Uni failure) if the job cannot be resumed
+     */
+    Uni<PleExportJob> resume(Long id);
+}
@@ -0,0 +1,17 @@
+package org.walrex.application.port.input;
+
+import io.smallrye.mutiny.Multi;
+import org.walrex.application.dto.response.ExchangeRateQueryResponse;
+import org.walrex.domain.model.RateCorridor;
+
+import java.util.Set;
+
+public interface StreamExchangeRatesUseCase {
+
+    /**
+     * Emite la tasa vigente de cada corredor pedido y luego cada tasa nueva en cuanto se publica.
+     *
+     * @param corridors Corredores a seguir; vacío para recibir todos (sin tasa inicial)
+     */
+    Multi<ExchangeRateQueryResponse> stream(Set<RateCorridor> corridors);
+}
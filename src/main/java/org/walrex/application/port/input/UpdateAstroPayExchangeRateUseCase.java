@@ -13,7 +13,7 @@ public interface UpdateAstroPayExchangeRateUseCase {
 
     /**
      * Refresca todas las rutas ASTROPAY que involucren la moneda indicada (from o to).
-     * Llamado por FinnhubTradeService cuando detecta variación > umbral en el par USD/{currency}.
+     * Llamado por RateRecomputeCoordinator cuando Finnhub detecta variación > umbral en el par USD/{currency}.
      */
     Uni<Void> updateRatesForCurrency(String currencyCode);
 
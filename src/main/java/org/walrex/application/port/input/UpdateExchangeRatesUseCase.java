@@ -5,16 +5,26 @@ import org.walrex.domain.model.ExchangeRateRouteInfo;
 import org.walrex.domain.model.ExchangeRateUpdate;
 
 import java.math.BigDecimal;
+import java.util.Map;
 
 public interface UpdateExchangeRatesUseCase {
 
     /** Actualiza tasas de rutas BINANCE (Binance P2P). */
     Uni<ExchangeRateUpdate> updateExchangeRates();
 
+    /** Actualiza solo las rutas BINANCE cuyo origen o destino es la moneda indicada. */
+    Uni<ExchangeRateUpdate> updateExchangeRatesForCurrency(String currencyCode);
+
     /**
      * Persiste una cross rate calculada externamente para una ruta específica.
      * Aplica la misma lógica que el scheduler: Redis + BD si la variación supera el umbral,
      * solo TTL en Redis si la variación es mínima.
      */
     Uni<Void> saveRateForRoute(ExchangeRateRouteInfo route, BigDecimal crossRate);
+
+    /**
+     * Igual que {@link #saveRateForRoute} para varias rutas a la vez: una lectura de Redis,
+     * un upsert en price_exchange y una escritura en Redis para todo el lote.
+     */
+    Uni<Void> saveRatesForRoutes(Map<ExchangeRateRouteInfo, BigDecimal> crossRatesByRoute);
 }
@@ -0,0 +1,57 @@
+package org.walrex.application.port.output;
+
+import io.smallrye.mutiny.Uni;
+import org.walrex.domain.model.AccountPeriodBalance;
+import org.walrex.domain.model.JournalEntry;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Materialized per-account, per-month balances (account_period_balance).
+ *
+ * The write methods run in the caller's transaction, so the balances change atomically with
+ * the journal entry that moves them.
+ */
+public interface AccountBalancePort {
+
+    /**
+     * Adds the lines of the entry to the balances of its period.
+     *
+     * SQL: INSERT INTO account_period_balance ... ON CONFLICT DO UPDATE SET debit = debit + $d, ...
+     *
+     * @param journalEntry Entry with its lines and entry date
+     * @return Uni completed when the balances are updated
+     */
+    Uni<Void> post(JournalEntry journalEntry);
+
+    /**
+     * Subtracts the lines of the entry from the balances of its period (void, delete).
+     *
+     * @param journalEntry Entry with its lines and entry date
+     * @return Uni completed when the balances are updated
+     */
+    Uni<Void> reverse(JournalEntry journalEntry);
+
+    /**
+     * Reads the balance of an account in a period.
+     *
+     * SQL: SELECT * FROM account_period_balance WHERE account_id = $1 AND period_year = $2 AND period_month = $3
+     *
+     * @return Uni with Optional of the balance (empty if the account had no movements)
+     */
+    Uni<Optional<AccountPeriodBalance>> findByAccountAndPeriod(Integer accountId, int year, int month);
+
+    /**
+     * Reads the balances of all accounts with movements in a period, ordered by account.
+     */
+    Uni<List<AccountPeriodBalance>> findByPeriod(int year, int month);
+
+    /**
+     * Recomputes the balances from journal_entry_lines (back-fills, manual SQL fixes).
+     *
+     * @param year Year to rebuild, or null to rebuild every year
+     * @return Uni with the number of balance rows written
+     */
+    Uni<Integer> rebuild(Integer year);
+}
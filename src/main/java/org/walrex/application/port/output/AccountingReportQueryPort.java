@@ -0,0 +1,50 @@
+package org.walrex.application.port.output;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import org.walrex.domain.model.LedgerRow;
+import org.walrex.domain.model.TrialBalanceRow;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Streaming reads for the accounting reports.
+ *
+ * The Multi results come from a database cursor: rows are fetched in batches as the
+ * subscriber requests them, so the report size does not bound the heap.
+ * Only ACTIVE, non-deleted journal entries count.
+ */
+public interface AccountingReportQueryPort {
+
+    /**
+     * Streams one row per account with opening balance and movements, ordered by account code.
+     *
+     * Whole months come from account_period_balance; only the days of partial months at the
+     * edges of the range are summed from journal_entry_lines.
+     *
+     * @param from          First day (inclusive)
+     * @param to            Last day (inclusive)
+     * @param accountPrefix Account code prefix, or null for every account
+     */
+    Multi<TrialBalanceRow> streamTrialBalance(LocalDate from, LocalDate to, String accountPrefix);
+
+    /**
+     * Streams the journal lines of the range as MOVEMENT rows (balance not yet computed),
+     * ordered by account code, entry date, operation number and line. Every account with no
+     * lines in the range comes instead as one OPENING row without date or balance.
+     */
+    Multi<LedgerRow> streamLedgerMovements(LocalDate from, LocalDate to, String accountPrefix);
+
+    /**
+     * Balance (debit - credit) of every account before {@code from}.
+     * One entry per account with history, so it is bounded by the size of the chart.
+     */
+    Uni<Map<Integer, BigDecimal>> findOpeningBalances(LocalDate from, String accountPrefix);
+
+    /**
+     * Account names by code, to label the roll-up subtotals.
+     */
+    Uni<Map<String, String>> findAccountNames();
+}
@@ -5,6 +5,7 @@ import org.walrex.application.dto.response.PagedResponse;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Puerto de salida genérico para operaciones de caché.
@@ -34,6 +35,19 @@ public interface CachePort<T> {
      */
     Uni<Void> put(String cacheKey, PagedResponse<T> value, Duration ttl);
 
+    /**
+     * Obtiene un resultado paginado o lo carga con el loader y lo cachea.
+     * A diferencia de get + put, protege a la BD cuando una clave popular expira o se
+     * invalida: las cargas concurrentes de la misma clave se comparten y las entradas se
+     * recargan en segundo plano antes (o poco después) de vencer.
+     *
+     * @param cacheKey Clave única que identifica la consulta
+     * @param ttl Tiempo de vida del cache
+     * @param loader Consulta a la BD; solo se ejecuta si hace falta
+     * @return Uni con el resultado paginado
+     */
+    Uni<PagedResponse<T>> getOrLoad(String cacheKey, Duration ttl, Supplier<Uni<PagedResponse<T>>> loader);
+
     /**
      * Invalida una clave específica en la caché.
      *
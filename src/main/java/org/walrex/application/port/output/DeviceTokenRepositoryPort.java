@@ -15,5 +15,18 @@ public interface DeviceTokenRepositoryPort {
 
     Uni<List<DeviceToken>> findAllActive();
 
+    /**
+     * Página de tokens activos con id mayor a {@code afterId}, ordenados por id (keyset).
+     * Solo se llenan id y token.
+     */
+    Uni<List<DeviceToken>> findActivePage(Integer afterId, int limit);
+
     Uni<Void> deactivate(String token);
+
+    /**
+     * Desactiva todos los tokens indicados en un solo UPDATE.
+     *
+     * @return cantidad de tokens desactivados
+     */
+    Uni<Integer> deactivateAll(List<String> tokens);
 }
@@ -0,0 +1,20 @@
+package org.walrex.application.port.output;
+
+import io.smallrye.mutiny.Multi;
+import org.walrex.domain.model.ExchangeRateEvent;
+
+/**
+ * Puerto de salida para difundir en vivo las tasas publicadas a los clientes conectados a este nodo.
+ */
+public interface ExchangeRateBroadcastPort {
+
+    /**
+     * Publica una tasa. No bloquea; los suscriptores lentos pierden eventos en lugar de frenar al publicador.
+     */
+    void publish(ExchangeRateEvent event);
+
+    /**
+     * Stream caliente de tasas publicadas a partir de la suscripción.
+     */
+    Multi<ExchangeRateEvent> events();
+}
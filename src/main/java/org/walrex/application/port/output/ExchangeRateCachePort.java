@@ -4,6 +4,8 @@ import io.smallrye.mutiny.Uni;
 import org.walrex.domain.model.ExchangeRateCache;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -32,6 +34,23 @@ public interface ExchangeRateCachePort {
      */
     Uni<Void> set(String key, ExchangeRateCache value, Duration ttl);
 
+    /**
+     * Obtiene varias tasas del caché en una sola ida y vuelta (MGET).
+     *
+     * @param keys Claves a consultar
+     * @return Uni con las entradas encontradas; las claves ausentes no aparecen en el mapa
+     */
+    Uni<Map<String, ExchangeRateCache>> getAll(Collection<String> keys);
+
+    /**
+     * Guarda varias tasas con el mismo TTL en una sola ida y vuelta (pipeline).
+     *
+     * @param values Valores por clave
+     * @param ttl Time-To-Live aplicado a todas las claves
+     * @return Uni<Void> indicando completitud de la operación
+     */
+    Uni<Void> setAll(Map<String, ExchangeRateCache> values, Duration ttl);
+
     /**
      * Elimina una tasa de cambio del caché.
      *
@@ -49,4 +49,25 @@ public interface ExchangeRateProviderPort {
             BigDecimal transAmount,
             BigDecimal transCryptoAmount
     );
+
+    /**
+     * Consulta una página del order book P2P sin filtro de monto.
+     * Usado para construir snapshots amplios que luego se filtran localmente por monto.
+     *
+     * @param asset Moneda base (ej: USDT)
+     * @param fiat Moneda fiat (ej: PEN, VES)
+     * @param tradeType Tipo de operación (BUY o SELL)
+     * @param payTypes Métodos de pago opcionales
+     * @param page Número de página (desde 1)
+     * @param rows Anuncios por página
+     * @return Lista de tasas de la página
+     */
+    Uni<List<ExchangeRate>> fetchOrderBookPage(
+            String asset,
+            String fiat,
+            String tradeType,
+            List<String> payTypes,
+            int page,
+            int rows
+    );
 }
@@ -1,10 +1,16 @@
 package org.walrex.application.port.output;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
-import org.walrex.infrastructure.adapter.outbound.persistence.entity.InstitutionPayoutRailEntity;
+import org.walrex.domain.model.PayoutRailInstitution;
 
 import java.util.List;
 
 public interface FinancialInstitutionQueryPort {
-    Uni<List<InstitutionPayoutRailEntity>> findByRailCodeAndCountryIso2(String methodType, String countryIso2);
+    Uni<List<PayoutRailInstitution>> findByRailCodeAndCountryIso2(String methodType, String countryIso2);
+
+    /**
+     * Todas las instituciones activas en algún riel de pago, para el catálogo en memoria.
+     */
+    Multi<PayoutRailInstitution> streamAll();
 }
@@ -0,0 +1,39 @@
+package org.walrex.application.port.output;
+
+import io.smallrye.mutiny.Uni;
+import org.walrex.domain.model.AccountingBookType;
+import org.walrex.domain.model.CorrelativeRange;
+
+/**
+ * Allocates journal entry correlatives from per-(scope, year) counters.
+ *
+ * Numbers are taken inside the caller's transaction: the counter row stays locked until
+ * commit, so concurrent postings never share a number, and a rollback gives the numbers
+ * back (correlatives stay gap-free, as the accounting books require).
+ */
+public interface JournalCorrelativePort {
+
+    /**
+     * Reserves {@code count} consecutive operation numbers for the year.
+     * Operation numbers are global per year across all book types.
+     *
+     * SQL: SELECT allocate_journal_correlative('OPERATION', $1, $2)
+     *
+     * @param year  Year of the entries
+     * @param count How many numbers to reserve (1 for a single posting)
+     * @return Uni with the reserved range
+     */
+    Uni<CorrelativeRange> reserveOperationNumbers(int year, int count);
+
+    /**
+     * Reserves {@code count} consecutive book correlatives for the book type and year.
+     *
+     * SQL: SELECT allocate_journal_correlative($1, $2, $3)
+     *
+     * @param bookType Accounting book (DIARIO, VENTAS, COMPRAS)
+     * @param year     Year of the entries
+     * @param count    How many numbers to reserve (1 for a single posting)
+     * @return Uni with the reserved range
+     */
+    Uni<CorrelativeRange> reserveBookCorrelatives(AccountingBookType bookType, int year, int count);
+}
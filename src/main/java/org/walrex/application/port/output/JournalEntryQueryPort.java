@@ -48,12 +48,13 @@ public interface JournalEntryQueryPort {
     // ==================== Lists with Pagination ====================
 
     /**
-     * Lists journal entries with pagination and filters.
+     * Lists journal entries with pagination and filters, including their lines and documents.
      *
      * Dynamic SQL with:
      * - WHERE conditions based on JournalEntryFilter
-     * - ORDER BY based on PageRequest.sortBy
-     * - LIMIT $n OFFSET $m for pagination
+     * - ORDER BY entry_date DESC, id DESC
+     * - LIMIT $n OFFSET $m, or a keyset condition when PageRequest.cursor is set
+     * - lines and documents of the page loaded with one query each (journal_entry_id = ANY($ids))
      *
      * @param pageRequest Pagination configuration
      * @param filter Optional filters
@@ -95,27 +96,4 @@ public interface JournalEntryQueryPort {
      * @return Uni with list of deleted journal entries
      */
     Uni<List<JournalEntry>> findAllDeleted();
-
-    /**
-     * Gets the next available book correlative for a specific book type.
-     *
-     * SQL: SELECT COALESCE(MAX(book_correlative), 0) + 1 FROM journal_entries
-     *      WHERE book_type = $1 AND EXTRACT(YEAR FROM entry_date) = $2
-     *
-     * @param bookType Type of accounting book (DIARIO, VENTAS, COMPRAS)
-     * @param year Year for the correlative
-     * @return Uni with the next correlative number
-     */
-    Uni<Integer> getNextBookCorrelative(String bookType, Integer year);
-
-    /**
-     * Gets the next available operation number.
-     *
-     * SQL: SELECT COALESCE(MAX(operation_number), 0) + 1 FROM journal_entries
-     *      WHERE EXTRACT(YEAR FROM entry_date) = $1
-     *
-     * @param year Year for the operation number
-     * @return Uni with the next operation number
-     */
-    Uni<Integer> getNextOperationNumber(Integer year);
 }
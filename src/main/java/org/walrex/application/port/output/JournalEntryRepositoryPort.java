@@ -1,8 +1,11 @@
 package org.walrex.application.port.output;
 
 import io.smallrye.mutiny.Uni;
+import org.walrex.domain.model.EntryStatus;
 import org.walrex.domain.model.JournalEntry;
 
+import java.util.Optional;
+
 public interface JournalEntryRepositoryPort {
 
     /**
@@ -36,12 +39,14 @@ public interface JournalEntryRepositoryPort {
      *
      * Expected SQL:
      * UPDATE journal_entries SET deleted_at=NOW(), updated_at=NOW()
-     * WHERE id=$1 AND deleted_at IS NULL
+     * WHERE id=$1 AND deleted_at IS NULL RETURNING status
+     *
+     * The status comes from the locked row, so a concurrent void is already reflected in it.
      *
      * @param id Identifier of the journal entry
-     * @return Uni<Boolean> true if deleted (rowCount > 0), false if didn't exist
+     * @return Uni with the status the entry had when deleted, empty if it didn't exist or was already deleted
      */
-    Uni<Boolean> softDelete(Integer id);
+    Uni<Optional<EntryStatus>> softDelete(Integer id);
 
     /**
      * Hard deletes a journal entry and its lines.
@@ -62,12 +67,12 @@ public interface JournalEntryRepositoryPort {
      *
      * Expected SQL:
      * UPDATE journal_entries SET deleted_at=NULL, updated_at=NOW()
-     * WHERE id=$1 AND deleted_at IS NOT NULL
+     * WHERE id=$1 AND deleted_at IS NOT NULL RETURNING status
      *
      * @param id Identifier of the journal entry
-     * @return Uni<Boolean> true if restored, false if didn't exist or wasn't deleted
+     * @return Uni with the status of the restored entry, empty if it didn't exist or wasn't deleted
      */
-    Uni<Boolean> restore(Integer id);
+    Uni<Optional<EntryStatus>> restore(Integer id);
 
     /**
      * Voids a journal entry (sets status to VOIDED).
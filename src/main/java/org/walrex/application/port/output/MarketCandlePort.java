@@ -0,0 +1,38 @@
+package org.walrex.application.port.output;
+
+import io.smallrye.mutiny.Uni;
+import org.walrex.domain.model.CandleInterval;
+import org.walrex.domain.model.MarketCandle;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Puerto de salida para la tabla de rollup de velas OHLC (market_candle).
+ */
+public interface MarketCandlePort {
+
+    /**
+     * Inserta o combina velas. Si ya existe una vela para (symbol, interval, openTime)
+     * se fusiona con la recibida (ver {@link MarketCandle#mergeWith(MarketCandle)}).
+     *
+     * Idempotente por {@code writeId}: repetir la escritura de un lote ya aplicado (un reintento
+     * tras un timeout que sí llegó a confirmarse) no vuelve a sumar volumen ni trades.
+     */
+    Uni<Void> upsertAll(UUID writeId, List<MarketCandle> candles);
+
+    /**
+     * Borra los writeId registrados antes de {@code before}; un lote no se reintenta después de eso.
+     *
+     * @return cantidad de registros borrados
+     */
+    Uni<Integer> purgeWriteLog(Instant before);
+
+    /**
+     * Velas con openTime en [from, to), en orden ascendente, como máximo {@code limit}
+     * (las más recientes del rango).
+     */
+    Uni<List<MarketCandle>> findCandles(String symbol, CandleInterval interval,
+                                        Instant from, Instant to, int limit);
+}
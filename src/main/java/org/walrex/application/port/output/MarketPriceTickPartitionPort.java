@@ -0,0 +1,49 @@
+package org.walrex.application.port.output;
+
+import io.smallrye.mutiny.Uni;
+import org.walrex.domain.model.CandleInterval;
+import org.walrex.domain.model.TickPartition;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Puerto de salida para el mantenimiento de particiones de market_price_tick.
+ */
+public interface MarketPriceTickPartitionPort {
+
+    /**
+     * Particiones de rango adjuntas a market_price_tick, ordenadas por límite superior.
+     * No incluye la partición DEFAULT.
+     */
+    Uni<List<TickPartition>> listPartitions();
+
+    /**
+     * Crea la partición [from, to) si no existe. Si la partición DEFAULT tiene ticks en ese
+     * rango, los mueve a la nueva partición en la misma transacción.
+     *
+     * @return número de ticks movidos desde DEFAULT
+     */
+    Uni<Long> createPartition(String name, Instant from, Instant to);
+
+    /**
+     * Ticks que están en la partición DEFAULT (fuera de todas las particiones de rango).
+     */
+    Uni<Long> countDefaultRows();
+
+    /**
+     * En una sola transacción: agrega a market_candle los ticks de la partición DEFAULT
+     * anteriores a {@code before} y luego los elimina. Si el rollup falla no se elimina nada.
+     *
+     * @return número de ticks eliminados
+     */
+    Uni<Long> rollupAndPurgeDefault(Instant before, List<CandleInterval> rollupIntervals);
+
+    /**
+     * En una sola transacción: agrega los ticks de la partición a market_candle en los
+     * intervalos indicados y luego elimina la partición. Si el rollup falla no se elimina.
+     *
+     * @return número de velas generadas por el rollup
+     */
+    Uni<Long> rollupAndDrop(TickPartition partition, List<CandleInterval> rollupIntervals);
+}
@@ -0,0 +1,51 @@
+package org.walrex.application.port.output;
+
+import io.smallrye.mutiny.Uni;
+import org.walrex.domain.model.OutboxNotification;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Puerto de salida para el outbox persistente de notificaciones push.
+ */
+public interface NotificationOutboxPort {
+
+    /**
+     * Encola notificaciones en un solo statement. Si ya hay una pendiente con la misma
+     * coalesce_key se reemplaza su payload (el último gana) y se conserva su ventana;
+     * si no, se crea una que se puede enviar a partir de now + window.
+     *
+     * @return Uni<Void> indicando completitud de la operación
+     */
+    Uni<Void> enqueue(List<OutboxNotification> notifications, Duration window);
+
+    /**
+     * Marca como SENDING y devuelve hasta {@code limit} notificaciones vencidas.
+     * Usa SKIP LOCKED, así que varias instancias pueden despachar a la vez.
+     */
+    Uni<List<OutboxNotification>> claimDue(int limit);
+
+    Uni<Void> markSent(Long id);
+
+    /**
+     * Devuelve la notificación a PENDING para reintentar tras {@code retryAfter}; pasa a FAILED
+     * si agotó {@code maxAttempts} y a SUPERSEDED si mientras tanto se encoló otra con la misma clave.
+     */
+    Uni<Void> markFailed(Long id, String error, Duration retryAfter, int maxAttempts);
+
+    /**
+     * Recupera notificaciones en SENDING por más de {@code stuckAfter} (instancia caída a mitad de envío)
+     * con la misma regla que {@link #markFailed}.
+     *
+     * @return cantidad de notificaciones recuperadas
+     */
+    Uni<Integer> requeueStuck(Duration stuckAfter, int maxAttempts);
+
+    /**
+     * Elimina notificaciones terminadas (SENT, SUPERSEDED, FAILED) más antiguas que {@code olderThan}.
+     *
+     * @return cantidad de filas eliminadas
+     */
+    Uni<Integer> purge(Duration olderThan);
+}
@@ -0,0 +1,35 @@
+package org.walrex.application.port.output;
+
+import io.smallrye.mutiny.Uni;
+import org.walrex.domain.model.LiquidityLadder;
+
+import java.util.List;
+
+/**
+ * Puerto de salida para leer snapshots en memoria del order book P2P.
+ *
+ * A diferencia de {@link ExchangeRateProviderPort}, no consulta al proveedor en
+ * cada llamada: devuelve el último snapshot conocido para la clave
+ * (asset, fiat, tradeType, payTypes) y lo refresca en segundo plano.
+ */
+public interface OrderBookSnapshotPort {
+
+    /**
+     * Obtiene la escalera de liquidez vigente (anuncios sin filtrar por monto).
+     *
+     * Puede devolver datos ligeramente desactualizados mientras un refresco está
+     * en curso o el proveedor está fallando (stale-while-revalidate).
+     *
+     * @param asset Moneda base (ej: USDT)
+     * @param fiat Moneda fiat (ej: PEN, VES)
+     * @param tradeType Tipo de operación (BUY o SELL)
+     * @param payTypes Métodos de pago
+     * @return Escalera del snapshot; vacía si no hay datos utilizables
+     */
+    Uni<LiquidityLadder> getLadder(
+            String asset,
+            String fiat,
+            String tradeType,
+            List<String> payTypes
+    );
+}
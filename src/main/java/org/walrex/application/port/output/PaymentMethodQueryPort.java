@@ -3,6 +3,7 @@ package org.walrex.application.port.output;
 import io.smallrye.mutiny.Uni;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Port for querying payment methods for Binance P2P
@@ -16,4 +17,11 @@ public interface PaymentMethodQueryPort {
      * @return Uni with list of Binance payment codes (bank.name_pay_binance values)
      */
     Uni<List<String>> findBinancePaymentCodesByCountryCurrency(Long countryCurrencyId);
+
+    /**
+     * Get all active Binance payment method codes grouped by country_currency, in one query
+     *
+     * @return Uni with map of country_currency ID to Binance payment codes
+     */
+    Uni<Map<Long, List<String>>> findAllActiveBinancePaymentCodes();
 }
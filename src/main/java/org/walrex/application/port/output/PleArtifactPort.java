@@ -0,0 +1,59 @@
+package org.walrex.application.port.output;
+
+import io.smallrye.mutiny.Uni;
+
+import java.util.List;
+
+/**
+ * Output port for the files of a PLE export: the partial TXT being written and the final ZIP.
+ *
+ * Every attempt writes its own partial file, so a stale worker that has not yet noticed it lost
+ * the job can only damage its own file, never the one of the attempt that replaced it.
+ */
+public interface PleArtifactPort {
+
+    /**
+     * Starts the partial file of {@code attempt} with the first {@code bytes} bytes of the
+     * partial file of {@code fromAttempt} (the one holding the last checkpoint; null for the
+     * shared file of exports checkpointed before per-attempt files).
+     *
+     * @return bytes copied; less than {@code bytes} if that file is missing or shorter
+     */
+    Uni<Long> adopt(Long jobId, Integer fromAttempt, int attempt, long bytes);
+
+    /**
+     * Appends records to the partial file of an attempt, first truncating it to {@code offset}
+     * (anything written after the last checkpoint is discarded).
+     *
+     * @return size of the partial file after the append
+     */
+    Uni<Long> append(Long jobId, int attempt, long offset, List<String> records);
+
+    /**
+     * Zips the partial file of the attempt as {@code fileName}.txt into an artifact of this attempt.
+     * An export without lines produces an empty TXT, as the PLE expects.
+     * The partial file is kept: remove it with {@link #discardParts} once the attempt completed the job.
+     */
+    Uni<Artifact> seal(Long jobId, int attempt, String fileName);
+
+    /**
+     * Removes the partial file of one attempt (the attempt lost the job).
+     */
+    Uni<Void> discardPart(Long jobId, int attempt);
+
+    /**
+     * Removes the partial files of every attempt of a job.
+     */
+    Uni<Void> discardParts(Long jobId);
+
+    /**
+     * Removes an artifact that will not be published (its attempt lost the job).
+     */
+    Uni<Void> discard(Artifact artifact);
+
+    /**
+     * A finished artifact.
+     */
+    record Artifact(String filePath, long size) {
+    }
+}
@@ -0,0 +1,25 @@
+package org.walrex.application.port.output;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import org.walrex.domain.model.PleBook;
+import org.walrex.domain.model.PleCursor;
+import org.walrex.domain.model.PleLine;
+
+/**
+ * Output port that reads the journal lines of a period in the order of a PLE book.
+ */
+public interface PleBookQueryPort {
+
+    /**
+     * Counts the lines of ACTIVE, non-deleted entries in the period.
+     */
+    Uni<Long> countLines(int year, int month);
+
+    /**
+     * Streams the lines of the period in book order from a database cursor.
+     *
+     * @param after Last line already exported (null to start from the beginning)
+     */
+    Multi<PleLine> streamLines(PleBook book, int year, int month, PleCursor after);
+}
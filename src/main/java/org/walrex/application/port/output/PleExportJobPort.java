@@ -0,0 +1,72 @@
+package org.walrex.application.port.output;
+
+import io.smallrye.mutiny.Uni;
+import org.walrex.domain.model.PleBook;
+import org.walrex.domain.model.PleCursor;
+import org.walrex.domain.model.PleExportJob;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Output port for the ple_export_job table.
+ *
+ * Updates made by a worker are fenced by the attempt that claimed the job: if the job was
+ * re-queued in the meantime (the worker looked stuck), the stale worker's writes match no row.
+ * Attempt numbers are never reused, not even after a resume.
+ */
+public interface PleExportJobPort {
+
+    /**
+     * Queues an export, or returns the PENDING/RUNNING job of the same book and period.
+     */
+    Uni<PleExportJob> enqueue(PleBook book, int year, int month);
+
+    Uni<Optional<PleExportJob>> findById(Long id);
+
+    /**
+     * Marks the oldest PENDING job as RUNNING and returns it (SKIP LOCKED, safe across instances).
+     */
+    Uni<Optional<PleExportJob>> claimNext();
+
+    /**
+     * Re-queues RUNNING jobs without a checkpoint for more than {@code stuckAfter}
+     * (FAILED once they used {@code maxAttempts} since they were queued or resumed).
+     *
+     * @return number of jobs re-queued or failed
+     */
+    Uni<Integer> requeueStuck(Duration stuckAfter, int maxAttempts);
+
+    /**
+     * Records the number of lines of the period the first time the job runs.
+     */
+    Uni<Void> start(Long id, int attempt, long rowsTotal);
+
+    /**
+     * Records the last line written and the size of the partial file, which becomes the one
+     * the next attempt continues from.
+     *
+     * @return false if the job is no longer owned by this attempt
+     */
+    Uni<Boolean> checkpoint(Long id, int attempt, long rowsWritten, PleCursor cursor, long partBytes);
+
+    /**
+     * Marks the job COMPLETED with its artifact.
+     *
+     * @return false if the job is no longer owned by this attempt
+     */
+    Uni<Boolean> complete(Long id, int attempt, String fileName, String filePath, long fileSize);
+
+    /**
+     * Puts the job back to PENDING, or FAILED once it used {@code maxAttempts}; the checkpoint is kept.
+     */
+    Uni<Void> fail(Long id, int attempt, String error, int maxAttempts);
+
+    /**
+     * Moves a FAILED job back to PENDING with its checkpoint and a fresh retry budget
+     * ({@code maxAttempts} more claims). The attempt number keeps growing.
+     *
+     * @return false if the job is not FAILED or another export of the same period is active
+     */
+    Uni<Boolean> resume(Long id);
+}
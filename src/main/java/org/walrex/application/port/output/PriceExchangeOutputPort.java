@@ -1,9 +1,11 @@
 package org.walrex.application.port.output;
 
 import io.smallrye.mutiny.Uni;
+import org.walrex.domain.model.PriceExchangeUpsert;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -45,6 +47,16 @@ public interface PriceExchangeOutputPort {
             LocalDate exchangeDate
     );
 
+    /**
+     * Igual que {@link #upsertRate} pero para varios pares en un solo statement:
+     * desactiva las tasas activas de la fecha para todos los pares e inserta las nuevas.
+     *
+     * @param rates Pares y precios a escribir
+     * @param exchangeDate Fecha
+     * @return Uni con la cantidad de registros creados
+     */
+    Uni<Integer> upsertRates(List<PriceExchangeUpsert> rates, LocalDate exchangeDate);
+
     /**
      * Busca la tasa activa más reciente por códigos de país y moneda.
      *
@@ -1,6 +1,7 @@
 package org.walrex.application.port.output;
 
 import io.smallrye.mutiny.Uni;
+import org.walrex.domain.model.BroadcastResult;
 
 import java.util.Map;
 
@@ -8,5 +9,9 @@ public interface PushNotificationPort {
 
     Uni<Void> sendToDevice(String deviceToken, Map<String, String> data);
 
-    Uni<Void> sendToAllActiveDevices(Map<String, String> data);
+    /**
+     * Envía el payload a todos los dispositivos activos.
+     * Los errores del proveedor no fallan el Uni: se cuentan en el resultado.
+     */
+    Uni<BroadcastResult> sendToAllActiveDevices(Map<String, String> data);
 }
@@ -0,0 +1,50 @@
+package org.walrex.application.port.output;
+
+import io.smallrye.mutiny.Uni;
+import org.walrex.domain.model.ReferenceDataSnapshot;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Puerto de salida para el catálogo en memoria de datos de referencia
+ * (países, monedas, tipos de documento, tipos de comprobante, ocupaciones, departamentos,
+ * provincias e instituciones financieras por riel de pago).
+ */
+public interface ReferenceDataCatalogPort {
+
+    /**
+     * Snapshot vigente. Solo consulta la BD si todavía no se cargó ninguno.
+     */
+    Uni<ReferenceDataSnapshot> snapshot();
+
+    /**
+     * Recarga el snapshot desde la BD. Si la carga falla se conserva el anterior.
+     */
+    Uni<ReferenceDataSnapshot> refresh();
+
+    /**
+     * Avisa que un catálogo cambió: hasta que termine una recarga iniciada después de este
+     * aviso, {@link #lookup} y {@link #read} consultan la BD en lugar del snapshot.
+     */
+    void markChanged();
+
+    /**
+     * Indica si el snapshot instalado es posterior al último aviso de cambio.
+     */
+    boolean isCurrent();
+
+    /**
+     * Búsqueda puntual (por id o código). Se resuelve con el snapshot si está al día y lo
+     * contiene; si no, con la BD, de modo que un registro recién creado o modificado nunca
+     * da 404 ni datos viejos mientras llega la recarga.
+     */
+    <T> Uni<Optional<T>> lookup(Function<ReferenceDataSnapshot, Optional<T>> fromSnapshot,
+                                Supplier<Uni<Optional<T>>> fromDatabase);
+
+    /**
+     * Listado completo. Se resuelve con el snapshot si está al día; si no, con la BD.
+     */
+    <T> Uni<T> read(Function<ReferenceDataSnapshot, T> fromSnapshot, Supplier<Uni<T>> fromDatabase);
+}
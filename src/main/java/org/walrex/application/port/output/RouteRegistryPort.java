@@ -0,0 +1,22 @@
+package org.walrex.application.port.output;
+
+import io.smallrye.mutiny.Uni;
+import org.walrex.domain.model.RouteRegistrySnapshot;
+
+/**
+ * Puerto de salida para el registro en memoria de rutas de remesas y métodos de pago.
+ */
+public interface RouteRegistryPort {
+
+    /**
+     * Snapshot vigente. Solo consulta la BD si todavía no se cargó ninguno.
+     */
+    Uni<RouteRegistrySnapshot> current();
+
+    /**
+     * Recarga el snapshot si la configuración cambió en BD (o si superó la edad máxima).
+     *
+     * @return true si se reemplazó el snapshot
+     */
+    Uni<Boolean> refreshIfChanged();
+}
@@ -0,0 +1,12 @@
+package org.walrex.domain.exception;
+
+/**
+ * Exception thrown when a pagination cursor is malformed or does not match the requested sort.
+ * Translates to HTTP 400 Bad Request.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package org.walrex.domain.exception;
+
+/**
+ * Exception thrown when the PLE exports are not configured (e.g. the taxpayer RUC is missing).
+ * Translates to HTTP 503 Service Unavailable: no request succeeds until the configuration is fixed.
+ */
+public class PleConfigurationException extends RuntimeException {
+
+    public PleConfigurationException(String message) {
+        super(message);
+    }
+}
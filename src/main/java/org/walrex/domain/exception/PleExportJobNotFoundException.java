@@ -0,0 +1,18 @@
+package org.walrex.domain.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a PLE export job is not found.
+ * Translates to HTTP 404 Not Found.
+ */
+@Getter
+public class PleExportJobNotFoundException extends RuntimeException {
+
+    private final Long jobId;
+
+    public PleExportJobNotFoundException(Long id) {
+        super("PLE export job not found with id: " + id);
+        this.jobId = id;
+    }
+}
@@ -0,0 +1,40 @@
+package org.walrex.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Debit and credit movements of an account in a monthly period.
+ *
+ * Maintained incrementally when journal entries are posted, voided, deleted or restored;
+ * only ACTIVE, non-deleted entries count.
+ *
+ * @param accountId Account identifier
+ * @param year      Period year
+ * @param month     Period month (1-12)
+ * @param debit     Sum of debits in the period
+ * @param credit    Sum of credits in the period
+ * @param lineCount Number of journal lines behind the sums
+ */
+public record AccountPeriodBalance(
+        Integer accountId,
+        int year,
+        int month,
+        BigDecimal debit,
+        BigDecimal credit,
+        int lineCount
+) {
+
+    /**
+     * Empty balance for a period without movements.
+     */
+    public static AccountPeriodBalance empty(Integer accountId, int year, int month) {
+        return new AccountPeriodBalance(accountId, year, month, BigDecimal.ZERO, BigDecimal.ZERO, 0);
+    }
+
+    /**
+     * Net movement of the period (debit - credit).
+     */
+    public BigDecimal net() {
+        return debit.subtract(credit);
+    }
+}
@@ -0,0 +1,24 @@
+package org.walrex.domain.model;
+
+/**
+ * Resultado de un broadcast push a los dispositivos activos.
+ *
+ * @param devices Tokens a los que se intentó enviar
+ * @param sent    Envíos aceptados por el proveedor
+ * @param failed  Envíos rechazados, incluidos los de lotes que fallaron completos
+ */
+public record BroadcastResult(int devices, int sent, int failed) {
+
+    public static final BroadcastResult EMPTY = new BroadcastResult(0, 0, 0);
+
+    public BroadcastResult plus(BroadcastResult other) {
+        return new BroadcastResult(devices + other.devices, sent + other.sent, failed + other.failed);
+    }
+
+    /**
+     * Hubo destinatarios y ninguno recibió el mensaje (ej: el proveedor está caído).
+     */
+    public boolean failedEntirely() {
+        return devices > 0 && sent == 0;
+    }
+}
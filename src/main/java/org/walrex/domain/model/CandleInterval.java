@@ -0,0 +1,54 @@
+package org.walrex.domain.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Intervalos soportados para las velas OHLC de mercado.
+ * Los buckets se alinean a epoch en UTC (la vela diaria abre a las 00:00 UTC).
+ */
+public enum CandleInterval {
+
+    M1("1m", Duration.ofMinutes(1)),
+    M5("5m", Duration.ofMinutes(5)),
+    H1("1h", Duration.ofHours(1)),
+    D1("1d", Duration.ofDays(1));
+
+    private final String code;
+    private final Duration duration;
+
+    CandleInterval(String code, Duration duration) {
+        this.code = code;
+        this.duration = duration;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Inicio del bucket que contiene el instante dado.
+     */
+    public Instant bucketStart(Instant instant) {
+        long seconds = duration.toSeconds();
+        return Instant.ofEpochSecond(Math.floorDiv(instant.getEpochSecond(), seconds) * seconds);
+    }
+
+    /**
+     * Obtiene el intervalo a partir de su código ("1m", "5m", "1h", "1d").
+     *
+     * @throws IllegalArgumentException si el código no es válido
+     */
+    public static CandleInterval fromCode(String code) {
+        return Arrays.stream(values())
+                .filter(interval -> interval.code.equalsIgnoreCase(code))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Intervalo no soportado: " + code + ". Valores válidos: 1m, 5m, 1h, 1d"));
+    }
+}
@@ -0,0 +1,37 @@
+package org.walrex.domain.model;
+
+/**
+ * Contiguous block of correlatives reserved in a single allocation.
+ *
+ * @param first First number of the block (inclusive)
+ * @param last  Last number of the block (inclusive)
+ */
+public record CorrelativeRange(int first, int last) {
+
+    public CorrelativeRange {
+        if (first < 1 || last < first) {
+            throw new IllegalArgumentException("Invalid correlative range: " + first + ".." + last);
+        }
+    }
+
+    /**
+     * Builds the range that ends at {@code last} and holds {@code count} numbers.
+     */
+    public static CorrelativeRange endingAt(int last, int count) {
+        return new CorrelativeRange(last - count + 1, last);
+    }
+
+    public int size() {
+        return last - first + 1;
+    }
+
+    /**
+     * Returns the i-th number of the block (0-based).
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " outside range of " + size());
+        }
+        return first + index;
+    }
+}
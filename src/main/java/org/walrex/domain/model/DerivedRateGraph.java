@@ -0,0 +1,197 @@
+package org.walrex.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Grafo acíclico de tasas derivadas.
+ *
+ * Cada definición tiene la forma {@code DESTINO = TERM * TERM ...}, donde cada término es
+ * un par {@code FROM/TO} (se multiplica) o {@code inv(FROM/TO)} (se multiplica por 1/tasa).
+ * Ejemplo: {@code EUR/VES = PEN/VES * EUR/PEN}.
+ *
+ * Un destino puede ser entrada de otra definición; los nodos se guardan en orden
+ * topológico y se rechazan ciclos al construir el grafo.
+ */
+public final class DerivedRateGraph {
+
+    private static final int INVERSE_SCALE = 10;
+
+    private final List<Node> nodes;
+
+    private DerivedRateGraph(List<Node> nodes) {
+        this.nodes = nodes;
+    }
+
+    /**
+     * Término de una definición.
+     */
+    public record Term(String pair, boolean inverted) {
+
+        BigDecimal apply(BigDecimal rate) {
+            return inverted ? BigDecimal.ONE.divide(rate, INVERSE_SCALE, RoundingMode.HALF_UP) : rate;
+        }
+
+        boolean involvesAny(Set<String> currencies) {
+            String[] codes = pair.split("/");
+            return currencies.contains(codes[0]) || currencies.contains(codes[1]);
+        }
+    }
+
+    /**
+     * Tasa derivada: {@code target} = producto de {@code terms}.
+     */
+    public record Node(String target, List<Term> terms) {
+
+        public String currencyFrom() {
+            return target.split("/")[0];
+        }
+
+        public String currencyTo() {
+            return target.split("/")[1];
+        }
+
+        /**
+         * Evalúa la fórmula. Vacío si falta alguna entrada.
+         */
+        public Optional<BigDecimal> evaluate(Function<String, Optional<BigDecimal>> rates) {
+            BigDecimal result = BigDecimal.ONE;
+            for (Term term : terms) {
+                Optional<BigDecimal> rate = rates.apply(term.pair())
+                        .filter(value -> value.signum() > 0);
+                if (rate.isEmpty()) {
+                    return Optional.empty();
+                }
+                result = result.multiply(term.apply(rate.get()));
+            }
+            return Optional.of(result);
+        }
+    }
+
+    public static DerivedRateGraph parse(List<String> definitions) {
+        Map<String, Node> byTarget = new LinkedHashMap<>();
+        for (String definition : definitions) {
+            if (definition == null || definition.isBlank()) {
+                continue;
+            }
+            Node node = parseNode(definition);
+            if (byTarget.put(node.target(), node) != null) {
+                throw new IllegalStateException("Tasa derivada duplicada: " + node.target());
+            }
+        }
+        return new DerivedRateGraph(topologicalOrder(byTarget));
+    }
+
+    /**
+     * Nodos en orden topológico.
+     */
+    public List<Node> nodes() {
+        return nodes;
+    }
+
+    /**
+     * Nodos a recalcular cuando cambian tasas que involucran las monedas indicadas:
+     * los que las usan directamente y, transitivamente, los que dependen de esos.
+     * Se devuelven en orden topológico.
+     */
+    public List<Node> affectedBy(Set<String> currencies) {
+        Set<String> upper = new LinkedHashSet<>();
+        currencies.forEach(code -> upper.add(code.toUpperCase(Locale.ROOT)));
+
+        Set<String> affectedTargets = new LinkedHashSet<>();
+        List<Node> affected = new ArrayList<>();
+        for (Node node : nodes) {
+            boolean direct = node.terms().stream().anyMatch(term -> term.involvesAny(upper));
+            boolean transitive = node.terms().stream().anyMatch(term -> affectedTargets.contains(term.pair()));
+            if (direct || transitive) {
+                affectedTargets.add(node.target());
+                affected.add(node);
+            }
+        }
+        return affected;
+    }
+
+    private static Node parseNode(String definition) {
+        String[] sides = definition.split("=");
+        if (sides.length != 2) {
+            throw new IllegalStateException("Definición de tasa derivada inválida: " + definition);
+        }
+        String target = parsePair(sides[0], definition);
+        List<Term> terms = Arrays.stream(sides[1].split("\\*"))
+                .map(String::trim)
+                .map(raw -> {
+                    String lower = raw.toLowerCase(Locale.ROOT);
+                    if (lower.startsWith("inv(") && raw.endsWith(")")) {
+                        return new Term(parsePair(raw.substring(4, raw.length() - 1), definition), true);
+                    }
+                    return new Term(parsePair(raw, definition), false);
+                })
+                .toList();
+
+        if (terms.stream().anyMatch(term -> term.pair().equals(target))) {
+            throw new IllegalStateException("La tasa derivada " + target + " depende de sí misma");
+        }
+        return new Node(target, terms);
+    }
+
+    private static String parsePair(String raw, String definition) {
+        String[] codes = raw.trim().toUpperCase(Locale.ROOT).split("/");
+        if (codes.length != 2 || codes[0].isBlank() || codes[1].isBlank()) {
+            throw new IllegalStateException("Par inválido '" + raw.trim() + "' en: " + definition);
+        }
+        return codes[0].trim() + "/" + codes[1].trim();
+    }
+
+    /**
+     * Orden topológico (Kahn) considerando solo dependencias entre tasas derivadas.
+     */
+    private static List<Node> topologicalOrder(Map<String, Node> byTarget) {
+        Map<String, Integer> pendingInputs = new HashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        byTarget.values().forEach(node -> {
+            Set<String> derivedInputs = new LinkedHashSet<>();
+            node.terms().stream()
+                    .map(Term::pair)
+                    .filter(byTarget::containsKey)
+                    .forEach(derivedInputs::add);
+            pendingInputs.put(node.target(), derivedInputs.size());
+            derivedInputs.forEach(input ->
+                    dependents.computeIfAbsent(input, k -> new ArrayList<>()).add(node.target()));
+        });
+
+        Deque<String> ready = new ArrayDeque<>();
+        byTarget.keySet().stream().filter(target -> pendingInputs.get(target) == 0).forEach(ready::add);
+
+        List<Node> ordered = new ArrayList<>();
+        while (!ready.isEmpty()) {
+            String target = ready.poll();
+            ordered.add(byTarget.get(target));
+            for (String dependent : dependents.getOrDefault(target, List.of())) {
+                if (pendingInputs.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (ordered.size() != byTarget.size()) {
+            List<String> cyclic = byTarget.keySet().stream()
+                    .filter(target -> pendingInputs.get(target) > 0)
+                    .toList();
+            throw new IllegalStateException("Ciclo en tasas derivadas: " + cyclic);
+        }
+        return List.copyOf(ordered);
+    }
+}
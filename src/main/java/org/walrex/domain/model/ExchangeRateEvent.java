@@ -0,0 +1,14 @@
+package org.walrex.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Record para una tasa recién publicada (BD y/o Redis) que se difunde a los clientes conectados
+ */
+public record ExchangeRateEvent(
+        RateCorridor corridor,
+        BigDecimal rate,       // Tasa con margen aplicado
+        LocalDate date         // Fecha de la tasa
+) {
+}
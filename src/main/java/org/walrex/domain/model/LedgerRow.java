@@ -0,0 +1,43 @@
+package org.walrex.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Row of the general ledger (libro mayor).
+ *
+ * Each account produces an OPENING row, one MOVEMENT row per journal line in the range
+ * and a CLOSING row; {@code balance} is the running balance (debit - credit) after the row.
+ */
+public record LedgerRow(
+        Kind kind,
+        Integer accountId,
+        String accountCode,
+        String accountName,
+        LocalDate entryDate,
+        Integer operationNumber,
+        Integer bookCorrelative,
+        String bookType,
+        String description,
+        BigDecimal debit,
+        BigDecimal credit,
+        BigDecimal balance
+) {
+
+    public enum Kind {
+        OPENING,
+        MOVEMENT,
+        CLOSING
+    }
+
+    public static LedgerRow opening(Integer accountId, String code, String name, LocalDate date, BigDecimal balance) {
+        return new LedgerRow(Kind.OPENING, accountId, code, name, date, null, null, null,
+                "Saldo inicial", BigDecimal.ZERO, BigDecimal.ZERO, balance);
+    }
+
+    public static LedgerRow closing(Integer accountId, String code, String name, LocalDate date,
+                                    BigDecimal debit, BigDecimal credit, BigDecimal balance) {
+        return new LedgerRow(Kind.CLOSING, accountId, code, name, date, null, null, null,
+                "Saldo final", debit, credit, balance);
+    }
+}
@@ -0,0 +1,91 @@
+package org.walrex.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns the journal lines of a range, ordered by account, into general ledger rows:
+ * OPENING when an account starts, MOVEMENT rows with the running balance, CLOSING when it ends.
+ * An account without movements in the range (an OPENING input row) only gets its OPENING and
+ * CLOSING rows when it carries a non-zero opening balance.
+ *
+ * Keeps only the account in progress, so it can run over a stream of any length.
+ * Not thread-safe: use one instance per report.
+ */
+public class LedgerRunningBalance {
+
+    private final Map<Integer, BigDecimal> openings;
+    private final LocalDate from;
+    private final LocalDate to;
+
+    private LedgerRow current;
+    private BigDecimal balance;
+    private BigDecimal debit;
+    private BigDecimal credit;
+
+    /**
+     * @param openings Balance of each account before {@code from} (missing = zero)
+     */
+    public LedgerRunningBalance(Map<Integer, BigDecimal> openings, LocalDate from, LocalDate to) {
+        this.openings = openings;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Consumes a MOVEMENT row, or the OPENING row of an account without movements, and
+     * returns the rows to emit.
+     */
+    public List<LedgerRow> accept(LedgerRow movement) {
+        List<LedgerRow> out = new ArrayList<>(3);
+        if (movement.kind() == LedgerRow.Kind.OPENING) {
+            closeCurrent(out);
+            BigDecimal opening = openings.get(movement.accountId());
+            if (opening != null && opening.signum() != 0) {
+                out.add(LedgerRow.opening(movement.accountId(), movement.accountCode(), movement.accountName(),
+                        from, opening));
+                out.add(LedgerRow.closing(movement.accountId(), movement.accountCode(), movement.accountName(),
+                        to, BigDecimal.ZERO, BigDecimal.ZERO, opening));
+            }
+            return out;
+        }
+        if (current == null || !current.accountId().equals(movement.accountId())) {
+            closeCurrent(out);
+            current = movement;
+            balance = openings.getOrDefault(movement.accountId(), BigDecimal.ZERO);
+            debit = BigDecimal.ZERO;
+            credit = BigDecimal.ZERO;
+            out.add(LedgerRow.opening(movement.accountId(), movement.accountCode(), movement.accountName(),
+                    from, balance));
+        }
+
+        debit = debit.add(movement.debit());
+        credit = credit.add(movement.credit());
+        balance = balance.add(movement.debit()).subtract(movement.credit());
+        out.add(new LedgerRow(LedgerRow.Kind.MOVEMENT, movement.accountId(), movement.accountCode(),
+                movement.accountName(), movement.entryDate(), movement.operationNumber(),
+                movement.bookCorrelative(), movement.bookType(), movement.description(),
+                movement.debit(), movement.credit(), balance));
+        return out;
+    }
+
+    /**
+     * Closes the last account.
+     */
+    public List<LedgerRow> finish() {
+        List<LedgerRow> out = new ArrayList<>(1);
+        closeCurrent(out);
+        return out;
+    }
+
+    private void closeCurrent(List<LedgerRow> out) {
+        if (current != null) {
+            out.add(LedgerRow.closing(current.accountId(), current.accountCode(), current.accountName(),
+                    to, debit, credit, balance));
+            current = null;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.walrex.domain.model;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Escalera de liquidez P2P para un (asset, fiat, tradeType, payTypes).
+ *
+ * Mantiene los anuncios ordenados del mejor al peor precio (BUY ascendente, SELL descendente)
+ * para resolver cualquier monto localmente filtrando por el rango [minAmount, maxAmount]
+ * de cada anuncio, sin consultar al proveedor por monto.
+ */
+public record LiquidityLadder(
+        String tradeType,
+        List<ExchangeRate> ads
+) {
+
+    public LiquidityLadder {
+        ads = ads == null ? List.of() : List.copyOf(ads);
+    }
+
+    /**
+     * Construye la escalera ordenando los anuncios según el tipo de operación.
+     */
+    public static LiquidityLadder of(String tradeType, List<ExchangeRate> ads) {
+        Comparator<ExchangeRate> byPrice = Comparator.comparing(ExchangeRate::price);
+        List<ExchangeRate> sorted = ads == null ? List.of() : ads.stream()
+                .filter(ad -> ad.price() != null)
+                .sorted("SELL".equalsIgnoreCase(tradeType) ? byPrice.reversed() : byPrice)
+                .toList();
+        return new LiquidityLadder(tradeType, sorted);
+    }
+
+    public static LiquidityLadder empty(String tradeType) {
+        return new LiquidityLadder(tradeType, List.of());
+    }
+
+    public boolean isEmpty() {
+        return ads.isEmpty();
+    }
+
+    /**
+     * Mejores anuncios que aceptan un monto expresado en fiat.
+     *
+     * @param fiatAmount Monto en fiat
+     * @param limit Máximo de anuncios a devolver
+     */
+    public List<ExchangeRate> eligibleForFiat(BigDecimal fiatAmount, int limit) {
+        List<ExchangeRate> eligible = new ArrayList<>(limit);
+        for (ExchangeRate ad : ads) {
+            if (accepts(ad, fiatAmount)) {
+                eligible.add(ad);
+                if (eligible.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return eligible;
+    }
+
+    /**
+     * Mejores anuncios que aceptan un monto expresado en crypto.
+     * El rango de cada anuncio está en fiat, por lo que se convierte con su propio precio.
+     *
+     * @param cryptoAmount Monto en crypto (ej: USDT)
+     * @param limit Máximo de anuncios a devolver
+     */
+    public List<ExchangeRate> eligibleForCrypto(BigDecimal cryptoAmount, int limit) {
+        List<ExchangeRate> eligible = new ArrayList<>(limit);
+        for (ExchangeRate ad : ads) {
+            if (accepts(ad, cryptoAmount.multiply(ad.price()))) {
+                eligible.add(ad);
+                if (eligible.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return eligible;
+    }
+
+    private static boolean accepts(ExchangeRate ad, BigDecimal fiatAmount) {
+        return (ad.minAmount() == null || fiatAmount.compareTo(ad.minAmount()) >= 0)
+                && (ad.maxAmount() == null || fiatAmount.compareTo(ad.maxAmount()) <= 0);
+    }
+}
@@ -0,0 +1,67 @@
+package org.walrex.domain.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Vela OHLC + volumen de un símbolo para un intervalo.
+ *
+ * Guarda el instante del primer y último trade para poder combinar velas parciales del
+ * mismo bucket (reinicios, ticks tardíos) sin depender del orden de llegada:
+ * open sale del trade más antiguo y close del más reciente.
+ */
+public record MarketCandle(
+        String symbol,
+        CandleInterval interval,
+        Instant openTime,
+        BigDecimal open,
+        BigDecimal high,
+        BigDecimal low,
+        BigDecimal close,
+        BigDecimal volume,
+        long tradeCount,
+        Instant firstTradeAt,
+        Instant lastTradeAt
+) {
+
+    /**
+     * Abre una vela con un único trade.
+     */
+    public static MarketCandle open(String symbol, CandleInterval interval,
+                                    BigDecimal price, BigDecimal volume, Instant tradeTime) {
+        return new MarketCandle(symbol, interval, interval.bucketStart(tradeTime),
+                price, price, price, price, volume, 1, tradeTime, tradeTime);
+    }
+
+    /**
+     * Aplica un trade del mismo bucket.
+     */
+    public MarketCandle update(BigDecimal price, BigDecimal tradeVolume, Instant tradeTime) {
+        return mergeWith(new MarketCandle(symbol, interval, openTime,
+                price, price, price, price, tradeVolume, 1, tradeTime, tradeTime));
+    }
+
+    /**
+     * Combina dos velas parciales del mismo bucket. Operación conmutativa.
+     */
+    public MarketCandle mergeWith(MarketCandle other) {
+        boolean otherStartsFirst = other.firstTradeAt.isBefore(firstTradeAt);
+        boolean otherEndsLast = !other.lastTradeAt.isBefore(lastTradeAt);
+        return new MarketCandle(
+                symbol,
+                interval,
+                openTime,
+                otherStartsFirst ? other.open : open,
+                high.max(other.high),
+                low.min(other.low),
+                otherEndsLast ? other.close : close,
+                volume.add(other.volume),
+                tradeCount + other.tradeCount,
+                otherStartsFirst ? other.firstTradeAt : firstTradeAt,
+                otherEndsLast ? other.lastTradeAt : lastTradeAt);
+    }
+
+    public Instant closeTime() {
+        return openTime.plus(interval.getDuration());
+    }
+}
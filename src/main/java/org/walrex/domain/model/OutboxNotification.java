@@ -0,0 +1,18 @@
+package org.walrex.domain.model;
+
+import java.util.Map;
+
+/**
+ * Record para un push de notification_outbox
+ */
+public record OutboxNotification(
+        Long id,                   // null hasta que se guarda
+        String coalesceKey,        // Notificaciones con la misma clave se fusionan (ej: exchange-rate:PEN/VES)
+        Map<String, String> data,  // Payload FCM
+        int attempts               // Intentos de envío realizados
+) {
+
+    public static OutboxNotification of(String coalesceKey, Map<String, String> data) {
+        return new OutboxNotification(null, coalesceKey, Map.copyOf(data), 0);
+    }
+}
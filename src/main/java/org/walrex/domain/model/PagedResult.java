@@ -26,7 +26,12 @@ public record PagedResult<T>(
         /**
          * Total de páginas disponibles.
          */
-        int totalPages
+        int totalPages,
+
+        /**
+         * Cursor de la página siguiente en modo keyset; null si no hay más o en modo offset.
+         */
+        String nextCursor
 ) {
     /**
      * Factory method para crear un resultado paginado calculando automáticamente totalPages.
@@ -40,6 +45,21 @@ public record PagedResult<T>(
      */
     public static <T> PagedResult<T> of(List<T> content, int page, int size, long totalElements) {
         int totalPages = size > 0 ? (int) Math.ceil((double) totalElements / size) : 0;
-        return new PagedResult<>(content, page, size, totalElements, totalPages);
+        return new PagedResult<>(content, page, size, totalElements, totalPages, null);
+    }
+
+    /**
+     * Resultado de una página keyset. Sin número de página; totalElements es -1 si no se contó.
+     *
+     * @param content Lista de elementos
+     * @param size Tamaño de página
+     * @param nextCursor Cursor de la página siguiente, null si es la última
+     * @param totalElements Total de elementos o -1 si no se pidió
+     * @param <T> Tipo de elemento
+     * @return PagedResult en modo keyset
+     */
+    public static <T> PagedResult<T> keyset(List<T> content, int size, String nextCursor, long totalElements) {
+        int totalPages = totalElements >= 0 && size > 0 ? (int) Math.ceil((double) totalElements / size) : -1;
+        return new PagedResult<>(content, 0, size, totalElements, totalPages, nextCursor);
     }
 }
\ No newline at end of file
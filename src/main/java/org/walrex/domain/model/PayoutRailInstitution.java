@@ -0,0 +1,20 @@
+package org.walrex.domain.model;
+
+/**
+ * Institución financiera habilitada en un riel de pago (institution_payout_rail activo).
+ *
+ * @param railCode       Código del riel de pago (payout_rail.code)
+ * @param countryIso2    Código ISO alfa-2 del país de la institución
+ * @param bankId         Id de la institución financiera
+ * @param bankName       Nombre de la institución
+ * @param bankSigla      Siglas de la institución
+ * @param requiredFields JSON con los campos adicionales que exige el riel, o null
+ */
+public record PayoutRailInstitution(
+        String railCode,
+        String countryIso2,
+        Long bankId,
+        String bankName,
+        String bankSigla,
+        String requiredFields) {
+}
@@ -0,0 +1,67 @@
+package org.walrex.domain.model;
+
+/**
+ * Electronic books of the SUNAT PLE (Programa de Libros Electrónicos) exported from the journal.
+ * Both share the 21-field layout of Anexo 2; they differ in the book code and the ordering.
+ */
+public enum PleBook {
+    /**
+     * Libro Diario, formato 5.1: lines in journal order.
+     */
+    LIBRO_DIARIO("5.1", "050100"),
+
+    /**
+     * Libro Mayor, formato 6.1: the same lines grouped by account.
+     */
+    LIBRO_MAYOR("6.1", "060100");
+
+    private final String format;
+    private final String code;
+
+    PleBook(String format, String code) {
+        this.format = format;
+        this.code = code;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * PLE file name: LE + RUC + AAAAMM00 + book code + oportunidad (00) + indicador de operación (1)
+     * + indicador de contenido (1 with lines, 0 empty) + moneda (1 = soles) + generado por PLE (1).
+     *
+     * @param ruc        Taxpayer RUC (11 digits)
+     * @param year       Period year
+     * @param month      Period month (1-12)
+     * @param hasContent Whether the book has at least one line
+     * @return File name without extension
+     */
+    public String fileName(String ruc, int year, int month, boolean hasContent) {
+        return "LE" + ruc + String.format("%04d%02d00", year, month) + code + "00" + "1"
+                + (hasContent ? "1" : "0") + "1" + "1";
+    }
+
+    /**
+     * Creates a PleBook from a string value: the enum name or the PLE format (5.1, 6.1).
+     *
+     * @throws IllegalArgumentException if the value is invalid
+     */
+    public static PleBook fromString(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("PLE book cannot be null");
+        }
+        for (PleBook book : values()) {
+            if (book.name().equalsIgnoreCase(value.trim()) || book.format.equals(value.trim())) {
+                return book;
+            }
+        }
+        throw new IllegalArgumentException(
+                "Invalid PLE book: " + value + ". Valid values are: LIBRO_DIARIO (5.1), LIBRO_MAYOR (6.1)"
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package org.walrex.domain.model;
+
+/**
+ * Position of the last line written to a PLE export, in the order of its book.
+ *
+ * @param accountCode Account code of the line (only part of the order in the Libro Mayor)
+ * @param entryId     Journal entry id
+ * @param lineId      Journal entry line id
+ */
+public record PleCursor(String accountCode, Integer entryId, Integer lineId) {
+}
@@ -0,0 +1,73 @@
+package org.walrex.domain.model;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Background export of one PLE book for a monthly period.
+ *
+ * The lines are appended to a partial TXT file of the attempt; every checkpoint records the last
+ * line written, the size of the file at that point and the attempt that wrote it, so the next
+ * attempt copies the file up to the checkpoint and continues from the next line.
+ *
+ * @param id          Job identifier
+ * @param book        Exported book
+ * @param year        Period year
+ * @param month       Period month (1-12)
+ * @param status      Current status
+ * @param rowsTotal   Lines in the period, counted when the job first starts (null before that)
+ * @param rowsWritten Lines written up to the last checkpoint
+ * @param cursor      Last line written (null if none)
+ * @param partBytes   Size of the partial TXT at the last checkpoint
+ * @param partAttempt Attempt whose partial TXT holds the checkpoint (null: none, or the shared file of older jobs)
+ * @param fileName    Name of the PLE file, set on completion
+ * @param filePath    Path of the zipped artifact, set on completion
+ * @param fileSize    Size of the zipped artifact
+ * @param attempts    Times the job was claimed by a worker; never reset, it fences the worker's writes
+ * @param lastError   Last failure message
+ */
+public record PleExportJob(
+        Long id,
+        PleBook book,
+        int year,
+        int month,
+        PleExportStatus status,
+        Long rowsTotal,
+        long rowsWritten,
+        PleCursor cursor,
+        long partBytes,
+        Integer partAttempt,
+        String fileName,
+        String filePath,
+        Long fileSize,
+        int attempts,
+        String lastError,
+        OffsetDateTime createdAt,
+        OffsetDateTime startedAt,
+        OffsetDateTime finishedAt
+) {
+
+    /**
+     * Same job without checkpoint, for when the partial file no longer matches it
+     * (e.g. lost with the node that wrote it).
+     */
+    public PleExportJob restarted() {
+        return new PleExportJob(id, book, year, month, status, rowsTotal, 0, null, 0, null,
+                fileName, filePath, fileSize, attempts, lastError, createdAt, startedAt, finishedAt);
+    }
+
+    /**
+     * Percentage of lines written (0-100), or null while the total is unknown.
+     */
+    public Integer progress() {
+        if (status == PleExportStatus.COMPLETED) {
+            return 100;
+        }
+        if (rowsTotal == null) {
+            return null;
+        }
+        if (rowsTotal == 0) {
+            return 0;
+        }
+        return (int) Math.min(99, rowsWritten * 100 / rowsTotal);
+    }
+}
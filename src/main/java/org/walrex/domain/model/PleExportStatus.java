@@ -0,0 +1,26 @@
+package org.walrex.domain.model;
+
+/**
+ * Lifecycle of a PLE export job.
+ */
+public enum PleExportStatus {
+    /**
+     * Waiting for a worker (new, resumed or re-queued after a crash).
+     */
+    PENDING,
+
+    /**
+     * Claimed by a worker; the checkpoint advances as lines are written.
+     */
+    RUNNING,
+
+    /**
+     * The zipped artifact is ready for download.
+     */
+    COMPLETED,
+
+    /**
+     * Gave up after the configured attempts; can be resumed from the last checkpoint.
+     */
+    FAILED
+}
@@ -0,0 +1,86 @@
+package org.walrex.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * A journal line in the layout of the PLE Libro Diario (5.1) and Libro Mayor (6.1).
+ *
+ * @param accountCode     Account code
+ * @param entryId         Journal entry id
+ * @param lineId          Journal entry line id
+ * @param lineNumber      Position of the line within its entry (1-based)
+ * @param operationNumber Operation number of the entry (CUO); the entry id when missing
+ * @param entryDate       Accounting date
+ * @param description     Line description, or the entry description
+ * @param debit           Debit amount
+ * @param credit          Credit amount
+ */
+public record PleLine(
+        String accountCode,
+        Integer entryId,
+        Integer lineId,
+        long lineNumber,
+        Integer operationNumber,
+        LocalDate entryDate,
+        String description,
+        BigDecimal debit,
+        BigDecimal credit
+) {
+
+    private static final DateTimeFormatter PLE_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final int MAX_GLOSA = 200;
+
+    public PleCursor cursor() {
+        return new PleCursor(accountCode, entryId, lineId);
+    }
+
+    /**
+     * Formats the line as a PLE record (21 pipe-terminated fields, without the line break).
+     * Journal entries carry no currency, cost center or comprobante data, so those optional
+     * fields are left empty and the currency is PEN.
+     *
+     * @param year  Period year
+     * @param month Period month
+     */
+    public String toRecord(int year, int month) {
+        String date = entryDate.format(PLE_DATE);
+        return String.join("|",
+                String.format("%04d%02d00", year, month),                          // 1 periodo
+                String.valueOf(operationNumber != null ? operationNumber : entryId), // 2 CUO
+                String.format("M%09d", lineNumber),                                // 3 correlativo del asiento
+                accountCode,                                                       // 4 cuenta contable
+                "",                                                                // 5 unidad de operación
+                "",                                                                // 6 centro de costos
+                "PEN",                                                             // 7 moneda
+                "",                                                                // 8 tipo doc. emisor
+                "",                                                                // 9 nro. doc. emisor
+                "",                                                                // 10 tipo comprobante
+                "",                                                                // 11 serie
+                "",                                                                // 12 número
+                date,                                                              // 13 fecha contable
+                "",                                                                // 14 fecha de vencimiento
+                date,                                                              // 15 fecha de operación
+                glosa(description),                                                // 16 glosa
+                "",                                                                // 17 glosa referencial
+                amount(debit),                                                     // 18 debe
+                amount(credit),                                                    // 19 haber
+                "",                                                                // 20 dato estructurado
+                "1")                                                               // 21 estado
+                + "|";
+    }
+
+    private static String glosa(String value) {
+        if (value == null || value.isBlank()) {
+            return "-";
+        }
+        String clean = value.replace('|', ' ').replaceAll("\\s+", " ").trim();
+        return clean.length() > MAX_GLOSA ? clean.substring(0, MAX_GLOSA) : clean;
+    }
+
+    private static String amount(BigDecimal value) {
+        return (value != null ? value : BigDecimal.ZERO).setScale(2, RoundingMode.HALF_UP).toPlainString();
+    }
+}
@@ -0,0 +1,13 @@
+package org.walrex.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Record para una fila a escribir en price_exchange dentro de un upsert por lote
+ */
+public record PriceExchangeUpsert(
+        Integer currencyBaseId,    // ID country_currency origen
+        Integer currencyQuoteId,   // ID country_currency destino
+        BigDecimal price           // Tasa cruzada con margen aplicado
+) {
+}
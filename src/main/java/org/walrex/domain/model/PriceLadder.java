@@ -0,0 +1,33 @@
+package org.walrex.domain.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Modelo de dominio con las cotizaciones de una ruta para varios montos a la vez.
+ *
+ * Cada punto se calcula en memoria sobre la escalera de liquidez; los montos que
+ * ningún anuncio acepta se marcan como no disponibles.
+ */
+public record PriceLadder(
+        String baseCurrency,
+        String quoteCurrency,
+        BigDecimal marginApplied,
+        String typeRate,
+        List<Point> points
+) {
+    public record Point(
+            BigDecimal amount,
+            boolean available,
+            BigDecimal averageBuyPrice,
+            BigDecimal averageSellPrice,
+            BigDecimal rate,
+            BigDecimal exchangeRate,
+            BigDecimal convertedAmount,
+            BigDecimal usdtReceived
+    ) {
+        public static Point unavailable(BigDecimal amount) {
+            return new Point(amount, false, null, null, null, null, null, null);
+        }
+    }
+}
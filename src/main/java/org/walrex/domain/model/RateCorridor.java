@@ -0,0 +1,35 @@
+package org.walrex.domain.model;
+
+import java.util.Locale;
+
+/**
+ * Corredor de una tasa publicada: país y moneda origen → país y moneda destino.
+ */
+public record RateCorridor(
+        String fromCountry,   // Código ISO2 país origen (ej: PE)
+        String fromCurrency,  // Código ISO3 moneda origen (ej: PEN)
+        String toCountry,     // Código ISO2 país destino (ej: VE)
+        String toCurrency     // Código ISO3 moneda destino (ej: VES)
+) {
+
+    public RateCorridor {
+        fromCountry = fromCountry.toUpperCase(Locale.ROOT);
+        fromCurrency = fromCurrency.toUpperCase(Locale.ROOT);
+        toCountry = toCountry.toUpperCase(Locale.ROOT);
+        toCurrency = toCurrency.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Parsea el formato {@code PE:PEN:VE:VES}.
+     *
+     * @throws IllegalArgumentException si el formato no es válido
+     */
+    public static RateCorridor parse(String value) {
+        String[] parts = value == null ? new String[0] : value.trim().split(":");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException(
+                    "Invalid pair '" + value + "', expected fromCountry:fromCurrency:toCountry:toCurrency (ej: PE:PEN:VE:VES)");
+        }
+        return new RateCorridor(parts[0], parts[1], parts[2], parts[3]);
+    }
+}
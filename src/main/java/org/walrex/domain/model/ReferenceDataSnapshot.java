@@ -0,0 +1,234 @@
+package org.walrex.domain.model;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Foto inmutable de los catálogos de referencia: países, monedas, tipos de documento
+ * (sistema y SUNAT), tipos de comprobante SUNAT, ocupaciones, departamentos y provincias
+ * (ubigeo) e instituciones financieras por riel de pago.
+ *
+ * Se construye una sola vez por carga y se reemplaza completa, así que los lectores nunca
+ * ven un estado a medias. Las listas conservan el orden de la consulta de origen y las
+ * búsquedas son accesos a mapas con la misma semántica que las consultas que reemplazan:
+ * - país por id solo si está activo (status = '1'); por código alfabético o numérico entre los no eliminados
+ * - moneda por id, código alfabético o numérico entre las no eliminadas
+ * - tipo de documento del sistema por id o código entre los no eliminados
+ * - tipo de documento SUNAT por id o código entre los activos
+ * - departamento por id y provincia por id, código o parte del nombre entre los activos
+ * - instituciones activas por código de riel y código ISO alfa-2 del país (distingue mayúsculas,
+ *   como la consulta)
+ *
+ * Los distritos no se incluyen: solo los lee la importación de ubigeo, que debe compararse con
+ * las filas que hay en la BD en ese momento.
+ *
+ * Los objetos de dominio se comparten entre todos los lectores: no se deben modificar.
+ */
+public record ReferenceDataSnapshot(
+        List<Country> countries,
+        Map<Integer, Country> countriesById,
+        Map<String, Country> countriesByAlphabeticCode3,
+        Map<Integer, Country> countriesByNumericCode,
+        List<Currency> currencies,
+        Map<Integer, Currency> currenciesById,
+        Map<String, Currency> currenciesByAlphabeticCode,
+        Map<Integer, Currency> currenciesByNumericCode,
+        List<SystemDocumentType> systemDocumentTypes,
+        Map<Long, SystemDocumentType> systemDocumentTypesById,
+        Map<String, SystemDocumentType> systemDocumentTypesByCode,
+        List<SunatDocumentType> sunatDocumentTypes,
+        Map<Integer, SunatDocumentType> sunatDocumentTypesById,
+        Map<String, SunatDocumentType> sunatDocumentTypesByCode,
+        List<TypeComprobantSunat> typeComprobants,
+        List<Ocupacion> ocupaciones,
+        List<Departament> departaments,
+        Map<Integer, Departament> departamentsById,
+        List<Province> provinces,
+        Map<Integer, Province> provincesById,
+        Map<String, Province> provincesByCode,
+        List<PayoutRailInstitution> payoutRailInstitutions,
+        Map<RailCountry, List<PayoutRailInstitution>> payoutRailInstitutionsByRailAndCountry,
+        Instant loadedAt) {
+
+    /**
+     * Clave de las instituciones por riel de pago y país.
+     */
+    public record RailCountry(String railCode, String countryIso2) {
+    }
+
+    /**
+     * Construye los índices a partir de los listados completos de cada catálogo.
+     */
+    public static ReferenceDataSnapshot of(List<Country> countries,
+                                           List<Currency> currencies,
+                                           List<SystemDocumentType> systemDocumentTypes,
+                                           List<SunatDocumentType> sunatDocumentTypes,
+                                           List<TypeComprobantSunat> typeComprobants,
+                                           List<Ocupacion> ocupaciones,
+                                           List<Departament> departaments,
+                                           List<Province> provinces,
+                                           List<PayoutRailInstitution> payoutRailInstitutions,
+                                           Instant loadedAt) {
+        Map<Integer, Country> countriesById = new LinkedHashMap<>();
+        for (Country country : countries) {
+            if ("1".equals(country.getStatus())) {
+                countriesById.putIfAbsent(country.getId(), country);
+            }
+        }
+
+        Map<RailCountry, List<PayoutRailInstitution>> institutionsByRailAndCountry = new LinkedHashMap<>();
+        for (PayoutRailInstitution institution : payoutRailInstitutions) {
+            institutionsByRailAndCountry
+                    .computeIfAbsent(new RailCountry(institution.railCode(), institution.countryIso2()),
+                            key -> new ArrayList<>())
+                    .add(institution);
+        }
+        institutionsByRailAndCountry.replaceAll((key, institutions) -> List.copyOf(institutions));
+
+        return new ReferenceDataSnapshot(
+                List.copyOf(countries),
+                Map.copyOf(countriesById),
+                index(countries, country -> upper(country.getAlphabeticCode3())),
+                index(countries, Country::getNumericCode),
+                List.copyOf(currencies),
+                index(currencies, Currency::getId),
+                index(currencies, currency -> upper(currency.getAlphabeticCode())),
+                index(currencies, Currency::getNumericCode),
+                List.copyOf(systemDocumentTypes),
+                index(systemDocumentTypes, SystemDocumentType::getId),
+                index(systemDocumentTypes, type -> upper(type.getCode())),
+                List.copyOf(sunatDocumentTypes),
+                index(sunatDocumentTypes, SunatDocumentType::getId),
+                index(sunatDocumentTypes, type -> upper(type.getCode())),
+                List.copyOf(typeComprobants),
+                List.copyOf(ocupaciones),
+                List.copyOf(departaments),
+                index(departaments, Departament::getId),
+                List.copyOf(provinces),
+                index(provinces, Province::getId),
+                index(provinces, province -> upper(province.getCode())),
+                List.copyOf(payoutRailInstitutions),
+                Map.copyOf(institutionsByRailAndCountry),
+                loadedAt);
+    }
+
+    public Optional<Country> findCountryById(Integer id) {
+        return Optional.ofNullable(id == null ? null : countriesById.get(id));
+    }
+
+    public Optional<Country> findCountryByAlphabeticCode3(String code) {
+        return Optional.ofNullable(code == null ? null : countriesByAlphabeticCode3.get(upper(code)));
+    }
+
+    public Optional<Country> findCountryByNumericCode(String code) {
+        return parseNumericCode(code).map(countriesByNumericCode::get);
+    }
+
+    public Optional<Currency> findCurrencyById(Integer id) {
+        return Optional.ofNullable(id == null ? null : currenciesById.get(id));
+    }
+
+    public Optional<Currency> findCurrencyByAlphabeticCode(String code) {
+        return Optional.ofNullable(code == null ? null : currenciesByAlphabeticCode.get(upper(code)));
+    }
+
+    public Optional<Currency> findCurrencyByNumericCode(String code) {
+        return parseNumericCode(code).map(currenciesByNumericCode::get);
+    }
+
+    public Optional<SystemDocumentType> findSystemDocumentTypeById(Long id) {
+        return Optional.ofNullable(id == null ? null : systemDocumentTypesById.get(id));
+    }
+
+    public Optional<SystemDocumentType> findSystemDocumentTypeByCode(String code) {
+        return Optional.ofNullable(code == null ? null : systemDocumentTypesByCode.get(upper(code)));
+    }
+
+    public Optional<SunatDocumentType> findSunatDocumentTypeById(Integer id) {
+        return Optional.ofNullable(id == null ? null : sunatDocumentTypesById.get(id));
+    }
+
+    public Optional<SunatDocumentType> findSunatDocumentTypeByCode(String code) {
+        return Optional.ofNullable(code == null ? null : sunatDocumentTypesByCode.get(upper(code)));
+    }
+
+    /**
+     * Ocupaciones ordenadas por nombre cuyo nombre contiene el filtro (sin distinguir mayúsculas).
+     * Sin filtro devuelve todas.
+     */
+    public List<Ocupacion> ocupaciones(String nombreFilter) {
+        if (nombreFilter == null || nombreFilter.isBlank()) {
+            return ocupaciones;
+        }
+        String filter = nombreFilter.toLowerCase(Locale.ROOT);
+        return ocupaciones.stream()
+                .filter(ocupacion -> ocupacion.getNombre() != null
+                        && ocupacion.getNombre().toLowerCase(Locale.ROOT).contains(filter))
+                .toList();
+    }
+
+    public Optional<Departament> findDepartamentById(Integer id) {
+        return Optional.ofNullable(id == null ? null : departamentsById.get(id));
+    }
+
+    public Optional<Province> findProvinceById(Integer id) {
+        return Optional.ofNullable(id == null ? null : provincesById.get(id));
+    }
+
+    public Optional<Province> findProvinceByCode(String code) {
+        return Optional.ofNullable(code == null ? null : provincesByCode.get(upper(code)));
+    }
+
+    /**
+     * Primera provincia, en el orden de carga, cuyo nombre contiene el texto (sin distinguir mayúsculas).
+     */
+    public Optional<Province> findProvinceByName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        String filter = name.trim().toLowerCase(Locale.ROOT);
+        return provinces.stream()
+                .filter(province -> province.getName() != null
+                        && province.getName().toLowerCase(Locale.ROOT).contains(filter))
+                .findFirst();
+    }
+
+    /**
+     * Instituciones activas en el riel de pago para el país; lista vacía si no hay ninguna.
+     */
+    public List<PayoutRailInstitution> payoutRailInstitutions(String railCode, String countryIso2) {
+        return payoutRailInstitutionsByRailAndCountry.getOrDefault(new RailCountry(railCode, countryIso2), List.of());
+    }
+
+    private static <K, V> Map<K, V> index(List<V> values, Function<V, K> keyOf) {
+        Map<K, V> index = new LinkedHashMap<>();
+        for (V value : values) {
+            K key = keyOf.apply(value);
+            if (key != null) {
+                index.putIfAbsent(key, value);
+            }
+        }
+        return Map.copyOf(index);
+    }
+
+    private static Optional<Integer> parseNumericCode(String code) {
+        if (code == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Integer.valueOf(code.trim()));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String upper(String code) {
+        return code == null ? null : code.trim().toUpperCase(Locale.ROOT);
+    }
+}
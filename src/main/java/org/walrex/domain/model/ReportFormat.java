@@ -0,0 +1,44 @@
+package org.walrex.domain.model;
+
+/**
+ * Output format of the accounting reports.
+ */
+public enum ReportFormat {
+    JSON("application/json", "json"),
+    CSV("text/csv; charset=UTF-8", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extension;
+
+    ReportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Creates a ReportFormat from a string value (JSON when null or blank).
+     *
+     * @throws IllegalArgumentException if the value is invalid
+     */
+    public static ReportFormat fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return JSON;
+        }
+        try {
+            return ReportFormat.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "Invalid report format: " + value + ". Valid values are: JSON, CSV, XLSX"
+            );
+        }
+    }
+}
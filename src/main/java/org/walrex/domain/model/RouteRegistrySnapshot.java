@@ -0,0 +1,109 @@
+package org.walrex.domain.model;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Foto inmutable de la configuración de rutas de remesas y métodos de pago Binance.
+ *
+ * Se construye una sola vez por carga y se reemplaza completa cuando cambia la configuración,
+ * así que los lectores nunca ven un estado a medias. Las búsquedas son accesos a mapas:
+ * - por corredor (countryFrom, currencyFrom, countryTo, currencyTo)
+ * - por par de monedas FROM/TO (la primera ruta activa gana)
+ * - por proveedor de tasa (ASTROPAY, BINANCE, ...)
+ * - métodos de pago por country_currency
+ */
+public record RouteRegistrySnapshot(
+        List<ExchangeRateRouteInfo> activeRoutes,
+        Map<String, ExchangeRateRouteInfo> byCorridor,
+        Map<String, ExchangeRateRouteInfo> byCurrencyPair,
+        Map<String, List<ExchangeRateRouteInfo>> byProvider,
+        Map<Long, List<String>> paymentCodesByCountryCurrency,
+        String fingerprint,
+        Instant loadedAt) {
+
+    private static final RouteRegistrySnapshot EMPTY =
+            of(List.of(), Map.of(), Map.of(), null, Instant.EPOCH);
+
+    /**
+     * Construye los índices a partir de las rutas activas, las rutas por proveedor
+     * y los métodos de pago por country_currency.
+     */
+    public static RouteRegistrySnapshot of(List<ExchangeRateRouteInfo> activeRoutes,
+                                           Map<String, List<ExchangeRateRouteInfo>> routesByProvider,
+                                           Map<Long, List<String>> paymentCodesByCountryCurrency,
+                                           String fingerprint,
+                                           Instant loadedAt) {
+        Map<String, ExchangeRateRouteInfo> byCorridor = new LinkedHashMap<>();
+        Map<String, ExchangeRateRouteInfo> byCurrencyPair = new LinkedHashMap<>();
+        for (ExchangeRateRouteInfo route : activeRoutes) {
+            byCorridor.putIfAbsent(corridorKey(route.getCountryFromCode(), route.getCurrencyFromCode(),
+                    route.getCountryToCode(), route.getCurrencyToCode()), route);
+            byCurrencyPair.putIfAbsent(pairKey(route.getCurrencyFromCode(), route.getCurrencyToCode()), route);
+        }
+
+        Map<String, List<ExchangeRateRouteInfo>> byProvider = new LinkedHashMap<>();
+        routesByProvider.forEach((provider, routes) ->
+                byProvider.put(provider.toUpperCase(Locale.ROOT), List.copyOf(routes)));
+
+        Map<Long, List<String>> paymentCodes = new LinkedHashMap<>();
+        paymentCodesByCountryCurrency.forEach((id, codes) -> paymentCodes.put(id, List.copyOf(codes)));
+
+        return new RouteRegistrySnapshot(
+                List.copyOf(activeRoutes),
+                Map.copyOf(byCorridor),
+                Map.copyOf(byCurrencyPair),
+                Map.copyOf(byProvider),
+                Map.copyOf(paymentCodes),
+                fingerprint,
+                loadedAt);
+    }
+
+    public static RouteRegistrySnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Ruta activa para el corredor indicado (sin distinguir mayúsculas).
+     */
+    public Optional<ExchangeRateRouteInfo> findRoute(String countryFrom, String currencyFrom,
+                                                     String countryTo, String currencyTo) {
+        return Optional.ofNullable(byCorridor.get(corridorKey(countryFrom, currencyFrom, countryTo, currencyTo)));
+    }
+
+    /**
+     * Ruta activa para el par de monedas {@code FROM/TO}.
+     */
+    public Optional<ExchangeRateRouteInfo> findByCurrencyPair(String pair) {
+        return Optional.ofNullable(byCurrencyPair.get(pair.toUpperCase(Locale.ROOT)));
+    }
+
+    /**
+     * Rutas activas del proveedor de tasa indicado. Vacío si no hay.
+     */
+    public List<ExchangeRateRouteInfo> routesByProvider(String provider) {
+        return byProvider.getOrDefault(provider.toUpperCase(Locale.ROOT), List.of());
+    }
+
+    /**
+     * Códigos de método de pago Binance del country_currency. Vacío si no hay configurados.
+     */
+    public List<String> paymentCodes(Long countryCurrencyId) {
+        if (countryCurrencyId == null) {
+            return List.of();
+        }
+        return paymentCodesByCountryCurrency.getOrDefault(countryCurrencyId, List.of());
+    }
+
+    private static String corridorKey(String countryFrom, String currencyFrom, String countryTo, String currencyTo) {
+        return (countryFrom + ":" + currencyFrom + ">" + countryTo + ":" + currencyTo).toUpperCase(Locale.ROOT);
+    }
+
+    private static String pairKey(String currencyFrom, String currencyTo) {
+        return (currencyFrom + "/" + currencyTo).toUpperCase(Locale.ROOT);
+    }
+}
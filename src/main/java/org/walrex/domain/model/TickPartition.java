@@ -0,0 +1,17 @@
+package org.walrex.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Partición de rango de market_price_tick.
+ *
+ * @param name Nombre de la tabla partición
+ * @param from Límite inferior inclusivo; null si es MINVALUE (partición legacy)
+ * @param to Límite superior exclusivo
+ */
+public record TickPartition(String name, Instant from, Instant to) {
+
+    public boolean endsBeforeOrAt(Instant instant) {
+        return !to.isAfter(instant);
+    }
+}
@@ -0,0 +1,97 @@
+package org.walrex.domain.model;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+
+/**
+ * Streaming roll-up of trial balance rows by account code prefix (plan contable jerárquico).
+ *
+ * Rows must arrive ordered by code, so every account under a prefix is contiguous. The
+ * subtotal of a prefix is emitted right after its last account, when the next code leaves
+ * the prefix. Only the open prefixes are kept in memory (at most one per level), whatever
+ * the size of the chart.
+ *
+ * Not thread-safe: use one instance per report.
+ */
+public class TrialBalanceRollup {
+
+    private final SortedSet<Integer> levels;
+    private final Map<String, String> names;
+    private final boolean includeDetail;
+    private final Deque<Group> open = new ArrayDeque<>();
+
+    /**
+     * @param levels        Prefix lengths to subtotal (e.g. 2 = cuenta, 3 = subcuenta)
+     * @param names         Account names by code, used to label the subtotals
+     * @param includeDetail Whether the account rows are emitted along with the subtotals
+     */
+    public TrialBalanceRollup(SortedSet<Integer> levels, Map<String, String> names, boolean includeDetail) {
+        this.levels = levels;
+        this.names = names;
+        this.includeDetail = includeDetail;
+    }
+
+    /**
+     * Consumes an account row and returns the rows to emit before the next one.
+     */
+    public List<TrialBalanceRow> accept(TrialBalanceRow row) {
+        List<TrialBalanceRow> out = new ArrayList<>();
+        String code = row.code();
+
+        while (!open.isEmpty() && !code.startsWith(open.peek().prefix)) {
+            out.add(open.pop().toRow(names));
+        }
+        for (int level : levels) {
+            if (code.length() < level) {
+                break;
+            }
+            String prefix = code.substring(0, level);
+            if (open.stream().noneMatch(group -> group.prefix.equals(prefix))) {
+                open.push(new Group(prefix));
+            }
+        }
+        open.forEach(group -> group.add(row));
+
+        if (includeDetail) {
+            out.add(row);
+        }
+        return out;
+    }
+
+    /**
+     * Closes the prefixes still open after the last row.
+     */
+    public List<TrialBalanceRow> finish() {
+        List<TrialBalanceRow> out = new ArrayList<>();
+        while (!open.isEmpty()) {
+            out.add(open.pop().toRow(names));
+        }
+        return out;
+    }
+
+    private static final class Group {
+        private final String prefix;
+        private BigDecimal opening = BigDecimal.ZERO;
+        private BigDecimal debit = BigDecimal.ZERO;
+        private BigDecimal credit = BigDecimal.ZERO;
+
+        private Group(String prefix) {
+            this.prefix = prefix;
+        }
+
+        private void add(TrialBalanceRow row) {
+            opening = opening.add(row.opening());
+            debit = debit.add(row.debit());
+            credit = credit.add(row.credit());
+        }
+
+        private TrialBalanceRow toRow(Map<String, String> names) {
+            return new TrialBalanceRow(null, prefix, names.getOrDefault(prefix, ""), true, opening, debit, credit);
+        }
+    }
+}
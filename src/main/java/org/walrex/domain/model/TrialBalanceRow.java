@@ -0,0 +1,50 @@
+package org.walrex.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Row of the trial balance (balance de comprobación) for a date range.
+ *
+ * Amounts follow the debit-positive convention: opening and closing are debit - credit.
+ *
+ * @param accountId Account identifier (null for roll-up rows)
+ * @param code      Account code, or the code prefix for roll-up rows
+ * @param name      Account name
+ * @param rollup    True if the row is the subtotal of every account under {@code code}
+ * @param opening   Balance before the start of the range
+ * @param debit     Debits in the range
+ * @param credit    Credits in the range
+ */
+public record TrialBalanceRow(
+        Integer accountId,
+        String code,
+        String name,
+        boolean rollup,
+        BigDecimal opening,
+        BigDecimal debit,
+        BigDecimal credit
+) {
+
+    /**
+     * Balance at the end of the range.
+     */
+    public BigDecimal closing() {
+        return opening.add(debit).subtract(credit);
+    }
+
+    /**
+     * Closing balance when it is a debit balance (saldo deudor), zero otherwise.
+     */
+    public BigDecimal debitBalance() {
+        BigDecimal closing = closing();
+        return closing.signum() > 0 ? closing : BigDecimal.ZERO;
+    }
+
+    /**
+     * Closing balance when it is a credit balance (saldo acreedor), as a positive amount; zero otherwise.
+     */
+    public BigDecimal creditBalance() {
+        BigDecimal closing = closing();
+        return closing.signum() < 0 ? closing.negate() : BigDecimal.ZERO;
+    }
+}
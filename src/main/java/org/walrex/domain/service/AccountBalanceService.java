@@ -0,0 +1,57 @@
+package org.walrex.domain.service;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.walrex.application.port.input.GetAccountBalanceUseCase;
+import org.walrex.application.port.input.RebuildAccountBalancesUseCase;
+import org.walrex.application.port.output.AccountBalancePort;
+import org.walrex.domain.model.AccountPeriodBalance;
+
+import java.util.List;
+
+/**
+ * Reads and rebuilds the materialized per-period account balances.
+ * The incremental updates are done by JournalEntryService when entries change.
+ */
+@Slf4j
+@ApplicationScoped
+public class AccountBalanceService implements GetAccountBalanceUseCase, RebuildAccountBalancesUseCase {
+
+    @Inject
+    AccountBalancePort accountBalancePort;
+
+    @Override
+    public Uni<AccountPeriodBalance> findByAccountAndPeriod(Integer accountId, int year, int month) {
+        log.debug("Getting balance of account {} for {}-{}", accountId, year, month);
+        if (!isValidMonth(month)) {
+            return Uni.createFrom().failure(invalidMonth(month));
+        }
+        return accountBalancePort.findByAccountAndPeriod(accountId, year, month)
+                .map(balance -> balance.orElseGet(() -> AccountPeriodBalance.empty(accountId, year, month)));
+    }
+
+    @Override
+    public Uni<List<AccountPeriodBalance>> findByPeriod(int year, int month) {
+        log.debug("Getting account balances for {}-{}", year, month);
+        if (!isValidMonth(month)) {
+            return Uni.createFrom().failure(invalidMonth(month));
+        }
+        return accountBalancePort.findByPeriod(year, month);
+    }
+
+    @Override
+    public Uni<Integer> rebuild(Integer year) {
+        log.info("Rebuilding account balances for {}", year != null ? year : "all years");
+        return accountBalancePort.rebuild(year);
+    }
+
+    private static boolean isValidMonth(int month) {
+        return month >= 1 && month <= 12;
+    }
+
+    private static IllegalArgumentException invalidMonth(int month) {
+        return new IllegalArgumentException("month must be between 1 and 12, got " + month);
+    }
+}
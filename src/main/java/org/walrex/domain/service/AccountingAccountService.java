@@ -106,27 +106,16 @@ public class AccountingAccountService implements
         // Generar clave única de cache
         String cacheKey = AccountingAccountCacheKeyGenerator.generateKey(pageRequest, filter);
 
-        // Cache-aside pattern
-        return accountCachePort.get(cacheKey)
-                .onItem().transformToUni(cachedResult -> {
-                    if (cachedResult != null) {
-                        log.debug("Returning cached result for key: {}", cacheKey);
-                        return Uni.createFrom().item(cachedResult);
-                    }
-
-                    // Cache miss - consultar DB
-                    log.debug("Cache miss for key: {}. Querying database.", cacheKey);
-                    return fetchFromDatabaseAndCache(pageRequest, filter, cacheKey);
-                });
+        // Cache-aside con protección contra estampidas (single-flight + recarga anticipada)
+        return accountCachePort.getOrLoad(cacheKey, CACHE_TTL, () -> fetchFromDatabase(pageRequest, filter));
     }
 
     /**
-     * Consulta la DB y cachea el resultado.
+     * Consulta la DB; getOrLoad se encarga de cachear el resultado.
      */
-    private Uni<PagedResponse<AccountingAccountResponse>> fetchFromDatabaseAndCache(
+    private Uni<PagedResponse<AccountingAccountResponse>> fetchFromDatabase(
             PageRequest pageRequest,
-            AccountingAccountFilter filter,
-            String cacheKey) {
+            AccountingAccountFilter filter) {
 
         return accountQueryPort.findAll(pageRequest, filter)
                 .onItem().transform(pagedResult -> {
@@ -134,6 +123,10 @@ public class AccountingAccountService implements
                             .map(accountDtoMapper::toResponse)
                             .toList();
 
+                    if (pageRequest.isKeyset()) {
+                        return PagedResponse.keyset(responses, pageRequest, pagedResult);
+                    }
+
                     // Convert page from 0-based (backend) to 1-based (frontend)
                     return PagedResponse.of(
                             responses,
@@ -141,11 +134,6 @@ public class AccountingAccountService implements
                             pagedResult.size(),
                             pagedResult.totalElements()
                     );
-                })
-                .call(result -> {
-                    // Cachear el resultado (fire-and-forget)
-                    log.debug("Caching result for key: {}", cacheKey);
-                    return accountCachePort.put(cacheKey, result, CACHE_TTL);
                 });
     }
 
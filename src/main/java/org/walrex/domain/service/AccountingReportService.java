@@ -0,0 +1,83 @@
+package org.walrex.domain.service;
+
+import io.smallrye.mutiny.Multi;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.walrex.application.dto.query.AccountingReportQuery;
+import org.walrex.application.port.input.GenerateGeneralLedgerUseCase;
+import org.walrex.application.port.input.GenerateTrialBalanceUseCase;
+import org.walrex.application.port.output.AccountingReportQueryPort;
+import org.walrex.domain.model.LedgerRow;
+import org.walrex.domain.model.LedgerRunningBalance;
+import org.walrex.domain.model.TrialBalanceRollup;
+import org.walrex.domain.model.TrialBalanceRow;
+
+/**
+ * Trial balance and general ledger reports.
+ *
+ * Both are built as streams over a database cursor: rows are aggregated and handed to the
+ * writer as they arrive, and the only state kept is the account (or code prefixes) in progress.
+ */
+@Slf4j
+@ApplicationScoped
+public class AccountingReportService implements GenerateTrialBalanceUseCase, GenerateGeneralLedgerUseCase {
+
+    @Inject
+    AccountingReportQueryPort accountingReportQueryPort;
+
+    @Override
+    public Multi<TrialBalanceRow> trialBalance(AccountingReportQuery query) {
+        IllegalArgumentException invalid = validate(query);
+        if (invalid != null) {
+            return Multi.createFrom().failure(invalid);
+        }
+        log.info("Generating trial balance {} to {} (prefix: {}, roll-up: {})",
+                query.getDateFrom(), query.getDateTo(), query.getAccountPrefix(), query.getRollupLevels());
+
+        Multi<TrialBalanceRow> accounts = accountingReportQueryPort.streamTrialBalance(
+                query.getDateFrom(), query.getDateTo(), query.getAccountPrefix());
+        if (query.getRollupLevels() == null || query.getRollupLevels().isEmpty()) {
+            return accounts;
+        }
+
+        return accountingReportQueryPort.findAccountNames()
+                .onItem().transformToMulti(names -> {
+                    TrialBalanceRollup rollup = new TrialBalanceRollup(
+                            query.getRollupLevels(), names, query.isIncludeDetail());
+                    return accounts
+                            .onItem().transformToIterable(rollup::accept)
+                            .onCompletion().continueWith(rollup::finish);
+                });
+    }
+
+    @Override
+    public Multi<LedgerRow> generalLedger(AccountingReportQuery query) {
+        IllegalArgumentException invalid = validate(query);
+        if (invalid != null) {
+            return Multi.createFrom().failure(invalid);
+        }
+        log.info("Generating general ledger {} to {} (prefix: {})",
+                query.getDateFrom(), query.getDateTo(), query.getAccountPrefix());
+
+        return accountingReportQueryPort.findOpeningBalances(query.getDateFrom(), query.getAccountPrefix())
+                .onItem().transformToMulti(openings -> {
+                    LedgerRunningBalance ledger = new LedgerRunningBalance(
+                            openings, query.getDateFrom(), query.getDateTo());
+                    return accountingReportQueryPort.streamLedgerMovements(
+                                    query.getDateFrom(), query.getDateTo(), query.getAccountPrefix())
+                            .onItem().transformToIterable(ledger::accept)
+                            .onCompletion().continueWith(ledger::finish);
+                });
+    }
+
+    private static IllegalArgumentException validate(AccountingReportQuery query) {
+        if (query.getDateFrom() == null || query.getDateTo() == null) {
+            return new IllegalArgumentException("dateFrom and dateTo are required");
+        }
+        if (query.getDateTo().isBefore(query.getDateFrom())) {
+            return new IllegalArgumentException("dateTo must not be before dateFrom");
+        }
+        return null;
+    }
+}
@@ -8,23 +8,27 @@ import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.walrex.application.port.input.UpdateAstroPayExchangeRateUseCase;
 import org.walrex.application.port.input.UpdateExchangeRatesUseCase;
 import org.walrex.application.port.output.AstroPayPort;
-import org.walrex.application.port.output.RemittanceRouteOutputPort;
+import org.walrex.application.port.output.RouteRegistryPort;
 import org.walrex.domain.model.AstroPayRate;
 import org.walrex.domain.model.ExchangeRateRouteInfo;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @ApplicationScoped
 public class AstroPayExchangeRateService implements UpdateAstroPayExchangeRateUseCase {
 
+    private static final String PROVIDER = "ASTROPAY";
+
     @ConfigProperty(name = "astropay.margin-percent", defaultValue = "6")
     BigDecimal marginPercent;
 
     @Inject
-    RemittanceRouteOutputPort routeOutputPort;
+    RouteRegistryPort routeRegistry;
 
     @Inject
     AstroPayPort astroPayPort;
@@ -36,40 +40,37 @@ public class AstroPayExchangeRateService implements UpdateAstroPayExchangeRateUs
 
     @Override
     public Uni<Void> updateRatesForActiveRoutes() {
-        return routeOutputPort.findActiveRoutesByProvider("ASTROPAY")
+        return astroPayRoutes()
                 .chain(routes -> {
                     if (routes.isEmpty()) {
                         log.info("[AstroPayExchangeRate] Sin rutas ASTROPAY activas");
                         return Uni.createFrom().voidItem();
                     }
                     log.info("[AstroPayExchangeRate] Actualizando {} rutas ASTROPAY", routes.size());
-                    return executeSequentially(routes.stream()
-                            .map(this::fetchAndSaveForRoute)
-                            .toList());
+                    return fetchAndSaveForRoutes(routes);
                 });
     }
 
     @Override
     public Uni<Void> updateRatesForCurrency(String currencyCode) {
-        return routeOutputPort.findActiveRoutesByProvider("ASTROPAY")
+        return astroPayRoutes()
                 .chain(routes -> {
-                    List<Uni<Void>> affected = routes.stream()
+                    List<ExchangeRateRouteInfo> affected = routes.stream()
                             .filter(r -> currencyCode.equalsIgnoreCase(r.getCurrencyFromCode())
                                       || currencyCode.equalsIgnoreCase(r.getCurrencyToCode()))
-                            .map(this::fetchAndSaveForRoute)
                             .toList();
                     if (affected.isEmpty()) {
                         log.info("[AstroPayExchangeRate] No hay rutas ASTROPAY para moneda {}", currencyCode);
                         return Uni.createFrom().voidItem();
                     }
                     log.info("[AstroPayExchangeRate] Refrescando {} rutas ASTROPAY para {}", affected.size(), currencyCode);
-                    return executeSequentially(affected);
+                    return fetchAndSaveForRoutes(affected);
                 });
     }
 
     @Override
     public Uni<Void> saveRateForPair(String currencyFrom, String currencyTo, AstroPayRate rate) {
-        return routeOutputPort.findActiveRoutesByProvider("ASTROPAY")
+        return astroPayRoutes()
                 .chain(routes -> routes.stream()
                         .filter(r -> r.getCurrencyFromCode().equalsIgnoreCase(currencyFrom)
                                 && r.getCurrencyToCode().equalsIgnoreCase(currencyTo))
@@ -83,18 +84,47 @@ public class AstroPayExchangeRateService implements UpdateAstroPayExchangeRateUs
 
     // ── Lógica interna ────────────────────────────────────────────────────────
 
-    private Uni<Void> fetchAndSaveForRoute(ExchangeRateRouteInfo route) {
+    private Uni<List<ExchangeRateRouteInfo>> astroPayRoutes() {
+        return routeRegistry.current().map(registry -> registry.routesByProvider(PROVIDER));
+    }
+
+    /**
+     * Consulta AstroPay en paralelo para todas las rutas y guarda las tasas en un solo lote.
+     * Las rutas cuya consulta falla se omiten.
+     */
+    private Uni<Void> fetchAndSaveForRoutes(List<ExchangeRateRouteInfo> routes) {
+        List<Uni<Map.Entry<ExchangeRateRouteInfo, BigDecimal>>> fetches = routes.stream()
+                .map(this::fetchMarginRate)
+                .toList();
+
+        return Uni.combine().all().unis(fetches).with(results -> {
+                    Map<ExchangeRateRouteInfo, BigDecimal> ratesByRoute = new LinkedHashMap<>();
+                    for (Object result : results) {
+                        if (result instanceof Map.Entry<?, ?> entry) {
+                            ratesByRoute.put((ExchangeRateRouteInfo) entry.getKey(), (BigDecimal) entry.getValue());
+                        }
+                    }
+                    return ratesByRoute;
+                })
+                .chain(ratesByRoute -> updateExchangeRatesUseCase.saveRatesForRoutes(ratesByRoute));
+    }
+
+    private Uni<Map.Entry<ExchangeRateRouteInfo, BigDecimal>> fetchMarginRate(ExchangeRateRouteInfo route) {
         String from = route.getCurrencyFromCode();
         String to = route.getCurrencyToCode();
 
         return astroPayPort.getExchangeRate(from, to)
-                .chain(rate -> applyMarginAndSave(route, rate))
+                .map(rate -> Map.entry(route, marginRate(route, rate)))
                 .onFailure().invoke(e ->
                         log.error("[AstroPayExchangeRate] Error actualizando {}→{}: {}", from, to, e.getMessage()))
                 .onFailure().recoverWithNull();
     }
 
     private Uni<Void> applyMarginAndSave(ExchangeRateRouteInfo route, AstroPayRate rate) {
+        return updateExchangeRatesUseCase.saveRateForRoute(route, marginRate(route, rate));
+    }
+
+    private BigDecimal marginRate(ExchangeRateRouteInfo route, AstroPayRate rate) {
         // Divisor = 1 + (marginPercent / 100). Ejemplo: 6 → 1.06
         // Dividir (no multiplicar) para dar menos al cliente y capturar el margen.
         BigDecimal divisor = BigDecimal.ONE.add(marginPercent.divide(BigDecimal.valueOf(100), 5, RoundingMode.HALF_UP));
@@ -104,15 +134,6 @@ public class AstroPayExchangeRateService implements UpdateAstroPayExchangeRateUs
                 route.getCurrencyFromCode(), route.getCurrencyToCode(),
                 rate.getExchange(), marginPercent, divisor, marginRate);
 
-        return updateExchangeRatesUseCase.saveRateForRoute(route, marginRate);
-    }
-
-    // Ejecución secuencial para evitar conflictos de sesión en Hibernate Reactive
-    private Uni<Void> executeSequentially(List<Uni<Void>> unis) {
-        Uni<Void> chain = Uni.createFrom().voidItem();
-        for (Uni<Void> uni : unis) {
-            chain = chain.chain(() -> uni);
-        }
-        return chain;
+        return marginRate;
     }
 }
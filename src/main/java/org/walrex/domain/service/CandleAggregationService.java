@@ -0,0 +1,240 @@
+package org.walrex.domain.service;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.walrex.application.port.input.GetMarketCandlesUseCase;
+import org.walrex.application.port.output.MarketCandlePort;
+import org.walrex.domain.model.CandleInterval;
+import org.walrex.domain.model.MarketCandle;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Agregador en memoria de velas OHLC + volumen a partir del stream de ticks.
+ *
+ * Mantiene una vela abierta por (símbolo, intervalo). Cuando llega un tick de un bucket
+ * posterior, o vence el intervalo (más un margen de gracia), la vela se cierra y queda
+ * pendiente de persistir en la tabla de rollup. Un tick tardío de un bucket ya cerrado
+ * se persiste como vela de corrección y se fusiona en BD.
+ *
+ * Las consultas combinan lo persistido con las velas aún en memoria, de modo que la
+ * última vela siempre refleja el precio actual.
+ *
+ * Cada lote persistido lleva un writeId. Un lote que falla se reintenta tal cual, con el
+ * mismo id y sin fusionarlo con velas nuevas, para que la BD reconozca la repetición si la
+ * escritura anterior sí se confirmó.
+ */
+@Slf4j
+@ApplicationScoped
+public class CandleAggregationService implements GetMarketCandlesUseCase {
+
+    @ConfigProperty(name = "market.candle.intervals", defaultValue = "1m,5m,1h,1d")
+    List<String> intervalCodes;
+
+    @ConfigProperty(name = "market.candle.close-grace-seconds", defaultValue = "2")
+    long closeGraceSeconds;
+
+    @ConfigProperty(name = "market.candle.max-pending", defaultValue = "10000")
+    int maxPending;
+
+    @ConfigProperty(name = "market.candle.write-log-retention-hours", defaultValue = "24")
+    long writeLogRetentionHours;
+
+    @Inject
+    MarketCandlePort candlePort;
+
+    private final ConcurrentHashMap<CandleKey, MarketCandle> openCandles = new ConcurrentHashMap<>();
+    private final Deque<MarketCandle> pendingWrites = new ArrayDeque<>();
+    private volatile PendingBatch retryBatch;
+    private List<CandleInterval> intervals;
+
+    @PostConstruct
+    void init() {
+        intervals = intervalCodes.stream().map(CandleInterval::fromCode).toList();
+        log.info("[CandleAggregation] Intervalos activos: {}", intervalCodes);
+    }
+
+    /**
+     * Aplica un trade a las velas abiertas del símbolo. Solo memoria, no bloquea.
+     */
+    public void onTick(String symbol, BigDecimal price, BigDecimal volume, Instant tradeTime) {
+        BigDecimal tradeVolume = volume != null ? volume : BigDecimal.ZERO;
+
+        for (CandleInterval interval : intervals) {
+            Instant bucket = interval.bucketStart(tradeTime);
+            openCandles.compute(new CandleKey(symbol, interval), (key, current) -> {
+                if (current == null) {
+                    return MarketCandle.open(symbol, interval, price, tradeVolume, tradeTime);
+                }
+                int cmp = bucket.compareTo(current.openTime());
+                if (cmp == 0) {
+                    return current.update(price, tradeVolume, tradeTime);
+                }
+                if (cmp > 0) {
+                    enqueue(current);
+                    return MarketCandle.open(symbol, interval, price, tradeVolume, tradeTime);
+                }
+                // Tick tardío de un bucket ya cerrado: se fusiona en BD como corrección
+                enqueue(MarketCandle.open(symbol, interval, price, tradeVolume, tradeTime));
+                return current;
+            });
+        }
+    }
+
+    /**
+     * Cierra las velas cuyo intervalo terminó hace más de close-grace-seconds.
+     */
+    public void closeExpired(Instant now) {
+        Instant cutoff = now.minusSeconds(closeGraceSeconds);
+        openCandles.forEach((key, candle) -> {
+            if (!candle.closeTime().isAfter(cutoff) && openCandles.remove(key, candle)) {
+                enqueue(candle);
+            }
+        });
+    }
+
+    /**
+     * Cierra todas las velas abiertas aunque estén incompletas (apagado).
+     * Al reiniciar, la vela parcial se fusiona con la nueva del mismo bucket.
+     */
+    public void closeAll() {
+        openCandles.forEach((key, candle) -> {
+            if (openCandles.remove(key, candle)) {
+                enqueue(candle);
+            }
+        });
+    }
+
+    /**
+     * Persiste las velas cerradas pendientes en un único upsert.
+     * Si falla, el lote se conserva y el siguiente ciclo lo reintenta antes que las velas nuevas.
+     */
+    public Uni<Void> flushClosed() {
+        PendingBatch retry = retryBatch;
+        if (retry != null) {
+            // Tras reintentar con éxito se persiste también lo acumulado mientras tanto
+            return write(retry).chain(written -> written ? flushClosed() : Uni.createFrom().voidItem());
+        }
+
+        List<MarketCandle> candles = mergeByBucket(drainPending());
+        if (candles.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return write(new PendingBatch(UUID.randomUUID(), candles)).replaceWithVoid();
+    }
+
+    /**
+     * Borra los writeId más viejos que write-log-retention-hours.
+     */
+    public Uni<Void> purgeWriteLog(Instant now) {
+        return candlePort.purgeWriteLog(now.minus(Duration.ofHours(writeLogRetentionHours)))
+                .invoke(purged -> log.debug("[CandleAggregation] {} writeId antiguos borrados", purged))
+                .replaceWithVoid();
+    }
+
+    private Uni<Boolean> write(PendingBatch batch) {
+        return candlePort.upsertAll(batch.writeId(), batch.candles())
+                .map(v -> {
+                    retryBatch = null;
+                    log.debug("[CandleAggregation] {} velas persistidas", batch.candles().size());
+                    return true;
+                })
+                .onFailure().recoverWithItem(e -> {
+                    log.error("[CandleAggregation] Error persistiendo {} velas (lote {}): {}",
+                            batch.candles().size(), batch.writeId(), e.getMessage());
+                    retryBatch = batch;
+                    return false;
+                });
+    }
+
+    @Override
+    public Uni<List<MarketCandle>> getCandles(String symbol, CandleInterval interval,
+                                              Instant from, Instant to, int limit) {
+        return candlePort.findCandles(symbol, interval, from, to, limit)
+                .map(persisted -> mergeInMemory(persisted, symbol, interval, from, to, limit));
+    }
+
+    private List<MarketCandle> mergeInMemory(List<MarketCandle> persisted, String symbol,
+                                             CandleInterval interval, Instant from, Instant to, int limit) {
+        TreeMap<Instant, MarketCandle> byOpenTime = new TreeMap<>();
+        persisted.forEach(candle -> byOpenTime.put(candle.openTime(), candle));
+
+        List<MarketCandle> inMemory = new ArrayList<>(pendingSnapshot());
+        PendingBatch retry = retryBatch;
+        if (retry != null) {
+            inMemory.addAll(retry.candles());
+        }
+        MarketCandle open = openCandles.get(new CandleKey(symbol, interval));
+        if (open != null) {
+            inMemory.add(open);
+        }
+
+        inMemory.stream()
+                .filter(candle -> candle.symbol().equals(symbol) && candle.interval() == interval)
+                .filter(candle -> !candle.openTime().isBefore(from) && candle.openTime().isBefore(to))
+                .forEach(candle -> byOpenTime.merge(candle.openTime(), candle, MarketCandle::mergeWith));
+
+        List<MarketCandle> result = new ArrayList<>(byOpenTime.values());
+        return result.size() > limit ? result.subList(result.size() - limit, result.size()) : result;
+    }
+
+    /**
+     * Fusiona velas del mismo bucket para que el upsert no toque dos veces la misma fila.
+     */
+    private List<MarketCandle> mergeByBucket(List<MarketCandle> candles) {
+        Map<BucketKey, MarketCandle> merged = new LinkedHashMap<>();
+        candles.forEach(candle -> merged.merge(
+                new BucketKey(candle.symbol(), candle.interval(), candle.openTime()),
+                candle, MarketCandle::mergeWith));
+        return new ArrayList<>(merged.values());
+    }
+
+    private void enqueue(MarketCandle candle) {
+        synchronized (pendingWrites) {
+            if (pendingWrites.size() >= maxPending) {
+                MarketCandle dropped = pendingWrites.pollFirst();
+                log.warn("[CandleAggregation] Cola llena — descartando vela {} {} {}",
+                        dropped.symbol(), dropped.interval().getCode(), dropped.openTime());
+            }
+            pendingWrites.addLast(candle);
+        }
+    }
+
+    private List<MarketCandle> drainPending() {
+        synchronized (pendingWrites) {
+            List<MarketCandle> drained = new ArrayList<>(pendingWrites);
+            pendingWrites.clear();
+            return drained;
+        }
+    }
+
+    private List<MarketCandle> pendingSnapshot() {
+        synchronized (pendingWrites) {
+            return new ArrayList<>(pendingWrites);
+        }
+    }
+
+    private record CandleKey(String symbol, CandleInterval interval) {
+    }
+
+    private record PendingBatch(UUID writeId, List<MarketCandle> candles) {
+    }
+
+    private record BucketKey(String symbol, CandleInterval interval, Instant openTime) {
+    }
+}
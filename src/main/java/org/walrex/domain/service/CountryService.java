@@ -15,6 +15,7 @@ import org.walrex.application.port.input.*;
 import org.walrex.application.port.output.CountryCachePort;
 import org.walrex.application.port.output.CountryQueryPort;
 import org.walrex.application.port.output.CountryRepositoryPort;
+import org.walrex.application.port.output.ReferenceDataCatalogPort;
 import org.walrex.domain.exception.CountryNotFoundException;
 import org.walrex.domain.exception.DuplicateCountryException;
 import org.walrex.domain.model.Country;
@@ -52,10 +53,10 @@ public class CountryService implements
     @Inject
     CountryDtoMapper countryDtoMapper;
 
-    private static final Duration CACHE_TTL = Duration.ofMinutes(5);
+    @Inject
+    ReferenceDataCatalogPort referenceDataCatalog;
 
-    // TTL del cache: 12 horas para listado completo (/all endpoint)
-    private static final Duration CACHE_ALL_TTL = Duration.ofHours(12);
+    private static final Duration CACHE_TTL = Duration.ofMinutes(5);
 
     /**
      * Crea un nuevo pais.
@@ -70,6 +71,7 @@ public class CountryService implements
                 .call(savedCurrency -> {
                     // Invalidar cache después de crear
                     log.debug("Invalidating currency cache after creation");
+                    referenceDataCatalog.markChanged();
                     return countryCachePort.invalidateAll();
                 });
     }
@@ -95,18 +97,8 @@ public class CountryService implements
         // Generar clave única de cache
         String cacheKey = CountryCacheKeyGenerator.generateKey(pageRequest, filter);
 
-        // Cache-aside pattern
-        return countryCachePort.get(cacheKey)
-                .onItem().transformToUni(cachedResult -> {
-                    if (cachedResult != null) {
-                        log.debug("Returning cached result for key: {}", cacheKey);
-                        return Uni.createFrom().item(cachedResult);
-                    }
-
-                    // Cache miss - consultar DB
-                    log.debug("Cache miss for key: {}. Querying database.", cacheKey);
-                    return fetchFromDatabaseAndCache(pageRequest, filter, cacheKey);
-                });
+        // Cache-aside con protección contra estampidas (single-flight + recarga anticipada)
+        return countryCachePort.getOrLoad(cacheKey, CACHE_TTL, () -> fetchFromDatabase(pageRequest, filter));
     }
 
     @Override
@@ -126,17 +118,17 @@ public class CountryService implements
                 .call(updatedCurrency -> {
                     // Invalidar cache después de actualizar
                     log.debug("Invalidating currency cache after update");
+                    referenceDataCatalog.markChanged();
                     return countryCachePort.invalidateAll();
                 });
     }
 
     /**
-     * Consulta la DB y cachea el resultado.
+     * Consulta la DB; getOrLoad se encarga de cachear el resultado.
      */
-    private Uni<PagedResponse<CountryResponse>> fetchFromDatabaseAndCache(
+    private Uni<PagedResponse<CountryResponse>> fetchFromDatabase(
             PageRequest pageRequest,
-            CountryFilter filter,
-            String cacheKey) {
+            CountryFilter filter) {
 
         return countryQueryPort.findAll(pageRequest, filter)
                 .onItem().transform(pagedResult -> {
@@ -144,6 +136,10 @@ public class CountryService implements
                             .map(countryDtoMapper::toResponse)
                             .toList();
 
+                    if (pageRequest.isKeyset()) {
+                        return PagedResponse.keyset(responses, pageRequest, pagedResult);
+                    }
+
                     // Convert page from 0-based (backend) to 1-based (frontend)
                     return PagedResponse.of(
                             responses,
@@ -151,11 +147,6 @@ public class CountryService implements
                             pagedResult.size(),
                             pagedResult.totalElements()
                     );
-                })
-                .call(result -> {
-                    // Cachear el resultado (fire-and-forget)
-                    log.debug("Caching result for key: {}", cacheKey);
-                    return countryCachePort.put(cacheKey, result, CACHE_TTL);
                 });
     }
 
@@ -192,7 +183,9 @@ public class CountryService implements
     @Override
     public Uni<Country> findById(Integer id) {
         log.info("Getting currency by id: {}", id);
-        return countryQueryPort.findById(id)
+        return referenceDataCatalog.lookup(
+                        catalog -> catalog.findCountryById(id),
+                        () -> countryQueryPort.findById(id))
                 .onItem().transform(optional -> optional.orElseThrow(
                         () -> new CountryNotFoundException(id)
                 ));
@@ -206,7 +199,9 @@ public class CountryService implements
     @Override
     public Uni<Country> findByAlphabeticCode3(String alphabeticCode) {
         log.info("Getting country by alphabetic code: {}", alphabeticCode);
-        return countryQueryPort.findByAlphabeticCode(alphabeticCode)
+        return referenceDataCatalog.lookup(
+                        catalog -> catalog.findCountryByAlphabeticCode3(alphabeticCode),
+                        () -> countryQueryPort.findByAlphabeticCode(alphabeticCode))
                 .onItem().transform(optional -> optional.orElseThrow(
                         () -> new CountryNotFoundException("Country not found with alphabetic code: " + alphabeticCode)
                 ));
@@ -254,7 +249,9 @@ public class CountryService implements
     @Override
     public Uni<Country> findByNumericCode(String numericCode) {
         log.info("Getting country by numeric code: {}", numericCode);
-        return countryQueryPort.findByNumericCode(numericCode)
+        return referenceDataCatalog.lookup(
+                        catalog -> catalog.findCountryByNumericCode(numericCode),
+                        () -> countryQueryPort.findByNumericCode(numericCode))
                 .onItem().transform(optional -> optional.orElseThrow(
                         () -> new CountryNotFoundException("Country not found with numeric code: " + numericCode)
                 ));
@@ -323,6 +320,7 @@ public class CountryService implements
                     if (deleted) {
                         // Invalidar cache después de eliminar
                         log.debug("Invalidating country cache after deletion");
+                        referenceDataCatalog.markChanged();
                         return countryCachePort.invalidateAll();
                     }
                     return Uni.createFrom().voidItem();
@@ -337,6 +335,7 @@ public class CountryService implements
                     if (restored) {
                         // Invalidar cache después de restaurar
                         log.debug("Invalidating country cache after restoration");
+                        referenceDataCatalog.markChanged();
                         return countryCachePort.invalidateAll();
                     }
                     return Uni.createFrom().voidItem();
@@ -348,49 +347,21 @@ public class CountryService implements
     /**
      * Obtiene todos los países activos sin paginación.
      *
-     * Implementa cache-aside pattern con TTL de 12 horas:
-     * 1. Intenta obtener del cache
-     * 2. Si no existe, consulta la DB
-     * 3. Cachea el resultado por 12 horas
-     * 4. Devuelve el resultado
-     *
-     * El cache se invalida automáticamente en create/update/delete.
+     * Se sirve del catálogo en memoria de datos de referencia, que se recarga cuando
+     * la tabla country cambia (LISTEN/NOTIFY), así que no necesita caché propia. Entre un
+     * cambio y la recarga se lee de la BD.
      *
      * @return Uni con lista completa de países
      */
     @Override
     public Uni<List<CountryResponse>> findAll() {
         log.info("Listing all countries (no pagination)");
-
-        // Generar clave única de cache
-        String cacheKey = CountryCacheKeyGenerator.generateKeyForAll();
-
-        // Cache-aside pattern
-        return countryCachePort.<CountryResponse>getList(cacheKey)
-                .onItem().transformToUni(cachedResult -> {
-                    if (cachedResult != null) {
-                        log.debug("Returning cached result for key: {}", cacheKey);
-                        return Uni.createFrom().item(cachedResult);
-                    }
-
-                    // Cache miss - consultar DB
-                    log.debug("Cache miss for key: {}. Querying database.", cacheKey);
-                    return fetchAllCountriesAndCache(cacheKey);
-                });
-    }
-
-    /**
-     * Consulta la DB y cachea el resultado para endpoint /all.
-     */
-    private Uni<List<CountryResponse>> fetchAllCountriesAndCache(String cacheKey) {
-        return countryQueryPort.streamAll()
-                .onItem().transform(countryDtoMapper::toResponse)
-                .collect().asList()
-                .call(result -> {
-                    // Cachear el resultado por 12 horas (fire-and-forget)
-                    log.debug("Caching result for key: {} with TTL of {} hours",
-                            cacheKey, CACHE_ALL_TTL.toHours());
-                    return countryCachePort.putList(cacheKey, result, CACHE_ALL_TTL);
-                });
+        return referenceDataCatalog.read(
+                catalog -> catalog.countries().stream()
+                        .map(countryDtoMapper::toResponse)
+                        .toList(),
+                () -> countryQueryPort.streamAll()
+                        .onItem().transform(countryDtoMapper::toResponse)
+                        .collect().asList());
     }
-}
\ No newline at end of file
+}
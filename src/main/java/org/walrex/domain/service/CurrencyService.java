@@ -21,6 +21,7 @@ import org.walrex.application.port.input.UpdateCurrencyUseCase;
 import org.walrex.application.port.output.CurrencyCachePort;
 import org.walrex.application.port.output.CurrencyQueryPort;
 import org.walrex.application.port.output.CurrencyRepositoryPort;
+import org.walrex.application.port.output.ReferenceDataCatalogPort;
 import org.walrex.domain.exception.CurrencyNotFoundException;
 import org.walrex.domain.exception.DuplicateCurrencyException;
 import org.walrex.domain.model.Currency;
@@ -56,6 +57,9 @@ public class CurrencyService implements
     @Inject
     CurrencyDtoMapper currencyDtoMapper;
 
+    @Inject
+    ReferenceDataCatalogPort referenceDataCatalog;
+
     // TTL del cache: 5 minutos para listado paginado
     private static final Duration CACHE_TTL = Duration.ofMinutes(5);
 
@@ -78,6 +82,7 @@ public class CurrencyService implements
                 .call(savedCurrency -> {
                     // Invalidar cache después de crear
                     log.debug("Invalidating currency cache after creation");
+                    referenceDataCatalog.markChanged();
                     return currencyCachePort.invalidateAll();
                 });
     }
@@ -103,27 +108,16 @@ public class CurrencyService implements
         // Generar clave única de cache
         String cacheKey = CurrencyCacheKeyGenerator.generateKey(pageRequest, filter);
 
-        // Cache-aside pattern
-        return currencyCachePort.get(cacheKey)
-                .onItem().transformToUni(cachedResult -> {
-                    if (cachedResult != null) {
-                        log.debug("Returning cached result for key: {}", cacheKey);
-                        return Uni.createFrom().item(cachedResult);
-                    }
-
-                    // Cache miss - consultar DB
-                    log.debug("Cache miss for key: {}. Querying database.", cacheKey);
-                    return fetchFromDatabaseAndCache(pageRequest, filter, cacheKey);
-                });
+        // Cache-aside con protección contra estampidas (single-flight + recarga anticipada)
+        return currencyCachePort.getOrLoad(cacheKey, CACHE_TTL, () -> fetchFromDatabase(pageRequest, filter));
     }
 
     /**
-     * Consulta la DB y cachea el resultado.
+     * Consulta la DB; getOrLoad se encarga de cachear el resultado.
      */
-    private Uni<PagedResponse<CurrencyResponse>> fetchFromDatabaseAndCache(
+    private Uni<PagedResponse<CurrencyResponse>> fetchFromDatabase(
             PageRequest pageRequest,
-            CurrencyFilter filter,
-            String cacheKey) {
+            CurrencyFilter filter) {
 
         return currencyQueryPort.findAll(pageRequest, filter)
                 .onItem().transform(pagedResult -> {
@@ -138,11 +132,6 @@ public class CurrencyService implements
                             pagedResult.size(),
                             pagedResult.totalElements()
                     );
-                })
-                .call(result -> {
-                    // Cachear el resultado (fire-and-forget)
-                    log.debug("Caching result for key: {}", cacheKey);
-                    return currencyCachePort.put(cacheKey, result, CACHE_TTL);
                 });
     }
 
@@ -234,7 +223,9 @@ public class CurrencyService implements
     @Override
     public Uni<Currency> findById(Integer id) {
         log.info("Getting currency by id: {}", id);
-        return currencyQueryPort.findById(id)
+        return referenceDataCatalog.lookup(
+                        catalog -> catalog.findCurrencyById(id),
+                        () -> currencyQueryPort.findById(id))
                 .onItem().transform(optional -> optional.orElseThrow(
                         () -> new CurrencyNotFoundException(id)
                 ));
@@ -248,7 +239,9 @@ public class CurrencyService implements
     @Override
     public Uni<Currency> findByAlphabeticCode(String alphabeticCode) {
         log.info("Getting currency by alphabetic code: {}", alphabeticCode);
-        return currencyQueryPort.findByAlphabeticCode(alphabeticCode)
+        return referenceDataCatalog.lookup(
+                        catalog -> catalog.findCurrencyByAlphabeticCode(alphabeticCode),
+                        () -> currencyQueryPort.findByAlphabeticCode(alphabeticCode))
                 .onItem().transform(optional -> optional.orElseThrow(
                         () -> new CurrencyNotFoundException("Currency not found with alphabetic code: " + alphabeticCode)
                 ));
@@ -262,7 +255,9 @@ public class CurrencyService implements
     @Override
     public Uni<Currency> findByNumericCode(String numericCode) {
         log.info("Getting currency by numeric code: {}", numericCode);
-        return currencyQueryPort.findByNumericCode(numericCode)
+        return referenceDataCatalog.lookup(
+                        catalog -> catalog.findCurrencyByNumericCode(numericCode),
+                        () -> currencyQueryPort.findByNumericCode(numericCode))
                 .onItem().transform(optional -> optional.orElseThrow(
                         () -> new CurrencyNotFoundException("Currency not found with numeric code: " + numericCode)
                 ));
@@ -287,6 +282,7 @@ public class CurrencyService implements
                 .call(updatedCurrency -> {
                     // Invalidar cache después de actualizar
                     log.debug("Invalidating currency cache after update");
+                    referenceDataCatalog.markChanged();
                     return currencyCachePort.invalidateAll();
                 });
     }
@@ -304,6 +300,7 @@ public class CurrencyService implements
                     if (deleted) {
                         // Invalidar cache después de eliminar
                         log.debug("Invalidating currency cache after deletion");
+                        referenceDataCatalog.markChanged();
                         return currencyCachePort.invalidateAll();
                     }
                     return Uni.createFrom().voidItem();
@@ -321,6 +318,7 @@ public class CurrencyService implements
                     if (restored) {
                         // Invalidar cache después de restaurar
                         log.debug("Invalidating currency cache after restoration");
+                        referenceDataCatalog.markChanged();
                         return currencyCachePort.invalidateAll();
                     }
                     return Uni.createFrom().voidItem();
@@ -147,27 +147,16 @@ public class CustomerService implements
                 // Generar clave única de cache
                 String cacheKey = CustomerCacheKeyGenerator.generateKey(pageRequest, filter);
 
-                // Cache-aside pattern
-                return customerCachePort.get(cacheKey)
-                                .onItem().transformToUni(cachedResult -> {
-                                        if (cachedResult != null) {
-                                                log.debug("Returning cached result for key: {}", cacheKey);
-                                                return Uni.createFrom().item(cachedResult);
-                                        }
-
-                                        // Cache miss - consultar DB
-                                        log.debug("Cache miss for key: {}. Querying database.", cacheKey);
-                                        return fetchFromDatabaseAndCache(pageRequest, filter, cacheKey);
-                                });
+                // Cache-aside con protección contra estampidas (single-flight + recarga anticipada)
+                return customerCachePort.getOrLoad(cacheKey, CACHE_TTL, () -> fetchFromDatabase(pageRequest, filter));
         }
 
         /**
-         * Consulta la DB y cachea el resultado.
+         * Consulta la DB; getOrLoad se encarga de cachear el resultado.
          */
-        private Uni<PagedResponse<CustomerResponse>> fetchFromDatabaseAndCache(
+        private Uni<PagedResponse<CustomerResponse>> fetchFromDatabase(
                         PageRequest pageRequest,
-                        CustomerFilter filter,
-                        String cacheKey) {
+                        CustomerFilter filter) {
 
                 return customerQueryPort.findAll(pageRequest, filter)
                                 .onItem().transform(pagedResult -> {
@@ -175,17 +164,16 @@ public class CustomerService implements
                                                         .map(customerDtoMapper::toResponse)
                                                         .toList();
 
+                                        if (pageRequest.isKeyset()) {
+                                                return PagedResponse.keyset(responses, pageRequest, pagedResult);
+                                        }
+
                                         // Convert page from 0-based (backend) to 1-based (frontend)
                                         return PagedResponse.of(
                                                         responses,
                                                         pagedResult.page() + 1,
                                                         pagedResult.size(),
                                                         pagedResult.totalElements());
-                                })
-                                .call(result -> {
-                                        // Cachear el resultado (fire-and-forget)
-                                        log.debug("Caching result for key: {}", cacheKey);
-                                        return customerCachePort.put(cacheKey, result, CACHE_TTL);
                                 });
         }
 
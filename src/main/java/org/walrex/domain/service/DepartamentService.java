@@ -13,6 +13,7 @@ import org.walrex.application.dto.response.PagedResponse;
 import org.walrex.application.port.input.*;
 import org.walrex.application.port.output.DepartamentQueryPort;
 import org.walrex.application.port.output.DepartamentRepositoryPort;
+import org.walrex.application.port.output.ReferenceDataCatalogPort;
 import org.walrex.domain.exception.DepartamentNotFoundException;
 import org.walrex.domain.exception.DuplicateDepartamentException;
 import org.walrex.domain.model.Departament;
@@ -37,11 +38,15 @@ public class DepartamentService implements
     @Inject
     DepartamentDtoMapper dtoMapper;
 
+    @Inject
+    ReferenceDataCatalogPort referenceDataCatalog;
+
     @Override
     public Uni<Departament> agregar(Departament departament) {
         log.info("Creating departament: {} ({})", departament.getName(), departament.getCode());
         return validateUniqueness(departament.getCode(), departament.getName(), null)
-                .onItem().transformToUni(v -> repositoryPort.save(departament));
+                .onItem().transformToUni(v -> repositoryPort.save(departament))
+                .invoke(saved -> referenceDataCatalog.markChanged());
     }
 
     @Override
@@ -51,19 +56,27 @@ public class DepartamentService implements
                 .onItem().transformToUni(v -> {
                     departament.setId(id);
                     return repositoryPort.update(departament);
-                });
+                })
+                .invoke(updated -> referenceDataCatalog.markChanged());
     }
 
     @Override
     public Uni<Void> deshabilitar(Integer id) {
         log.info("Soft deleting departament id: {}", id);
         return repositoryPort.softDelete(id)
+                .invoke(deleted -> {
+                    if (deleted) {
+                        referenceDataCatalog.markChanged();
+                    }
+                })
                 .replaceWithVoid();
     }
 
     @Override
     public Uni<Departament> findById(Integer id) {
-        return queryPort.findById(id)
+        return referenceDataCatalog.lookup(
+                        catalog -> catalog.findDepartamentById(id),
+                        () -> queryPort.findById(id))
                 .onItem().transform(optional -> optional.orElseThrow(
                         () -> new DepartamentNotFoundException(id)));
     }
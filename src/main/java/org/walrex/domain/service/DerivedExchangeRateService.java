@@ -1,31 +1,53 @@
 package org.walrex.domain.service;
 
 import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.walrex.application.port.input.UpdateExchangeRatesUseCase;
 import org.walrex.application.port.output.ExchangeRateCachePort;
-import org.walrex.application.port.output.RemittanceRouteOutputPort;
+import org.walrex.application.port.output.RouteRegistryPort;
+import org.walrex.domain.model.DerivedRateGraph;
 import org.walrex.domain.model.ExchangeRateCache;
 import org.walrex.domain.model.ExchangeRateRouteInfo;
+import org.walrex.domain.model.RouteRegistrySnapshot;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Calcula tasas derivadas que no vienen directamente de un proveedor.
  *
- * EUR/VES = PEN/VES (Binance P2P) × EUR/PEN (AstroPay)
+ * Las fórmulas se declaran en {@code walrex.derived-rates.definitions} (ver {@link DerivedRateGraph}),
+ * p.ej. {@code EUR/VES = PEN/VES * EUR/PEN}. Cuando cambian tasas de ciertas monedas solo se
+ * recalculan los nodos que dependen de ellas, en orden topológico. Las entradas se leen de
+ * {@link LatestRateStore} y solo se consulta Redis si el par no se calculó en este nodo.
  */
 @Slf4j
 @ApplicationScoped
 public class DerivedExchangeRateService {
 
+    private static final int RATE_SCALE = 5;
+
+    @ConfigProperty(name = "walrex.derived-rates.definitions", defaultValue = "EUR/VES = PEN/VES * EUR/PEN")
+    List<String> definitions;
+
+    @ConfigProperty(name = "walrex.derived-rates.max-input-age-minutes", defaultValue = "720")
+    long maxInputAgeMinutes;
+
     @Inject
-    RemittanceRouteOutputPort routeOutputPort;
+    RouteRegistryPort routeRegistry;
 
     @Inject
     ExchangeRateCachePort cachePort;
@@ -33,72 +55,109 @@ public class DerivedExchangeRateService {
     @Inject
     UpdateExchangeRatesUseCase updateExchangeRatesUseCase;
 
-    public Uni<Void> updateEurVes() {
-        return routeOutputPort.findAllActiveExchangeRateRoutes()
-                .chain(routes -> {
-                    Optional<ExchangeRateRouteInfo> eurVesRoute = routes.stream()
-                            .filter(r -> "EUR".equalsIgnoreCase(r.getCurrencyFromCode())
-                                      && "VES".equalsIgnoreCase(r.getCurrencyToCode()))
-                            .findFirst();
-
-                    Optional<ExchangeRateRouteInfo> eurPenRoute = routes.stream()
-                            .filter(r -> "EUR".equalsIgnoreCase(r.getCurrencyFromCode())
-                                      && "PEN".equalsIgnoreCase(r.getCurrencyToCode()))
-                            .findFirst();
-
-                    Optional<ExchangeRateRouteInfo> penVesRoute = routes.stream()
-                            .filter(r -> "PEN".equalsIgnoreCase(r.getCurrencyFromCode())
-                                      && "VES".equalsIgnoreCase(r.getCurrencyToCode()))
-                            .findFirst();
-
-                    if (eurVesRoute.isEmpty() || eurPenRoute.isEmpty() || penVesRoute.isEmpty()) {
-                        log.warn("[DerivedRate] Rutas necesarias para EUR/VES no encontradas: eurVes={} eurPen={} penVes={}",
-                                eurVesRoute.isPresent(), eurPenRoute.isPresent(), penVesRoute.isPresent());
-                        return Uni.createFrom().voidItem();
-                    }
+    @Inject
+    LatestRateStore latestRateStore;
+
+    private DerivedRateGraph graph;
+
+    @PostConstruct
+    void init() {
+        graph = DerivedRateGraph.parse(definitions);
+        log.info("[DerivedRate] {} tasas derivadas configuradas: {}", graph.nodes().size(),
+                graph.nodes().stream().map(DerivedRateGraph.Node::target).toList());
+    }
 
-                    LocalDate today = LocalDate.now();
-                    String eurPenKey = ExchangeRateCache.generateCacheKey(
-                            eurPenRoute.get().getCountryFromCode(), "EUR",
-                            eurPenRoute.get().getCountryToCode(), "PEN",
-                            today);
-                    String penVesKey = ExchangeRateCache.generateCacheKey(
-                            penVesRoute.get().getCountryFromCode(), "PEN",
-                            penVesRoute.get().getCountryToCode(), "VES",
-                            today);
-
-                    return Uni.combine().all()
-                            .unis(cachePort.get(eurPenKey), cachePort.get(penVesKey))
-                            .asTuple()
-                            .chain(tuple -> {
-                                Optional<ExchangeRateCache> eurPenCache = tuple.getItem1();
-                                Optional<ExchangeRateCache> penVesCache = tuple.getItem2();
-
-                                if (eurPenCache.isEmpty()) {
-                                    log.warn("[DerivedRate] EUR/PEN no está en caché (key={}), omitiendo EUR/VES", eurPenKey);
-                                    return Uni.createFrom().voidItem();
-                                }
-                                if (penVesCache.isEmpty()) {
-                                    log.warn("[DerivedRate] PEN/VES no está en caché (key={}), omitiendo EUR/VES", penVesKey);
-                                    return Uni.createFrom().voidItem();
-                                }
-
-                                BigDecimal eurPenRate = eurPenCache.get().getRate();
-                                BigDecimal penVesRate = penVesCache.get().getRate();
-                                // EUR/VES = cuántos VES por 1 EUR
-                                // Si PEN/VES = 14 (1 PEN → 14 VES) y EUR/PEN = 3.8 (1 EUR → 3.8 PEN)
-                                // entonces EUR/VES = 14 × 3.8 = 53.2
-                                BigDecimal eurVesRate = penVesRate.multiply(eurPenRate)
-                                        .setScale(5, RoundingMode.HALF_UP);
-
-                                log.info("[DerivedRate] EUR/VES = PEN/VES({}) × EUR/PEN({}) = {}",
-                                        penVesRate, eurPenRate, eurVesRate);
-
-                                return updateExchangeRatesUseCase.saveRateForRoute(eurVesRoute.get(), eurVesRate);
-                            });
+    /**
+     * Recalcula y persiste las tasas derivadas que dependen de las monedas indicadas.
+     */
+    public Uni<Void> recomputeAffectedBy(Set<String> currencies) {
+        List<DerivedRateGraph.Node> affected = graph.affectedBy(currencies);
+        if (affected.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+
+        return routeRegistry.current()
+                .chain(registry -> {
+                    // Secuencial: cada nodo puede usar el resultado del anterior y se evita
+                    // compartir sesión de Hibernate Reactive entre escrituras
+                    Uni<Void> chain = Uni.createFrom().voidItem();
+                    for (DerivedRateGraph.Node node : affected) {
+                        chain = chain.chain(() -> recompute(node, registry));
+                    }
+                    return chain;
                 })
                 .onFailure().invoke(e ->
-                        log.error("[DerivedRate] Error calculando EUR/VES: {}", e.getMessage(), e))
+                        log.error("[DerivedRate] Error recalculando tasas derivadas de {}: {}", currencies, e.getMessage(), e))
                 .onFailure().recoverWithNull();
     }
+
+    private Uni<Void> recompute(DerivedRateGraph.Node node, RouteRegistrySnapshot routes) {
+        ExchangeRateRouteInfo targetRoute = routes.findByCurrencyPair(node.target()).orElse(null);
+        if (targetRoute == null) {
+            log.warn("[DerivedRate] Ruta activa para {} no encontrada, se omite", node.target());
+            return Uni.createFrom().voidItem();
+        }
+
+        return resolveInputs(node, routes).chain(inputs -> {
+            Optional<BigDecimal> value = node.evaluate(pair -> Optional.ofNullable(inputs.get(pair)));
+            if (value.isEmpty()) {
+                log.warn("[DerivedRate] Entradas faltantes para {} (disponibles={}), se omite",
+                        node.target(), inputs.keySet());
+                return Uni.createFrom().voidItem();
+            }
+
+            BigDecimal rate = value.get().setScale(RATE_SCALE, RoundingMode.HALF_UP);
+            log.info("[DerivedRate] {} = {} = {} (entradas {})", node.target(), formula(node), rate, inputs);
+            return updateExchangeRatesUseCase.saveRateForRoute(targetRoute, rate);
+        });
+    }
+
+    /**
+     * Valores de los términos: primero {@link LatestRateStore}; los que falten, de Redis.
+     */
+    private Uni<Map<String, BigDecimal>> resolveInputs(DerivedRateGraph.Node node,
+                                                       RouteRegistrySnapshot routes) {
+        Duration maxAge = Duration.ofMinutes(maxInputAgeMinutes);
+        Map<String, BigDecimal> resolved = new ConcurrentHashMap<>();
+        List<Uni<Void>> cacheReads = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+
+        for (DerivedRateGraph.Term term : node.terms()) {
+            String pair = term.pair();
+            Optional<BigDecimal> latest = latestRateStore.find(pair, maxAge);
+            if (latest.isPresent()) {
+                resolved.put(pair, latest.get());
+                continue;
+            }
+
+            ExchangeRateRouteInfo route = routes.findByCurrencyPair(pair).orElse(null);
+            if (route == null) {
+                continue;
+            }
+            String cacheKey = ExchangeRateCache.generateCacheKey(
+                    route.getCountryFromCode(), route.getCurrencyFromCode(),
+                    route.getCountryToCode(), route.getCurrencyToCode(),
+                    today);
+            cacheReads.add(cachePort.get(cacheKey)
+                    .invoke(cached -> cached.ifPresent(value -> {
+                        resolved.put(pair, value.getRate());
+                        latestRateStore.record(route.getCurrencyFromCode(), route.getCurrencyToCode(), value.getRate());
+                    }))
+                    .onFailure().invoke(e ->
+                            log.warn("[DerivedRate] Error leyendo {} de caché: {}", cacheKey, e.getMessage()))
+                    .onFailure().recoverWithNull()
+                    .replaceWithVoid());
+        }
+
+        if (cacheReads.isEmpty()) {
+            return Uni.createFrom().item(resolved);
+        }
+        return Uni.combine().all().unis(cacheReads).discardItems().replaceWith(resolved);
+    }
+
+    private String formula(DerivedRateGraph.Node node) {
+        return node.terms().stream()
+                .map(term -> term.inverted() ? "inv(" + term.pair() + ")" : term.pair())
+                .collect(Collectors.joining(" × "));
+    }
 }
@@ -5,13 +5,16 @@ import jakarta.enterprise.context.ApplicationScoped;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.walrex.application.port.input.CalculateExchangeRateUseCase;
+import org.walrex.application.port.input.CalculatePriceLadderUseCase;
 import org.walrex.application.port.output.ExchangeRateProviderPort;
-import org.walrex.application.port.output.PaymentMethodQueryPort;
-import org.walrex.application.port.output.RemittanceRouteOutputPort;
+import org.walrex.application.port.output.OrderBookSnapshotPort;
+import org.walrex.application.port.output.RouteRegistryPort;
 import org.walrex.domain.exception.ExchangeRateTimeoutException;
 import org.walrex.domain.model.ExchangeCalculation;
 import org.walrex.domain.model.ExchangeRate;
 import org.walrex.domain.model.ExchangeRateRouteInfo;
+import org.walrex.domain.model.LiquidityLadder;
+import org.walrex.domain.model.PriceLadder;
 import org.walrex.domain.model.RemittanceRoute;
 
 import java.math.BigDecimal;
@@ -26,14 +29,15 @@ import java.util.concurrent.TimeoutException;
  *
  * Responsabilidades:
  * - Validar que existe una ruta configurada para el par de monedas
- * - Consultar tasas en tiempo real de Binance P2P
+ * - Consultar tasas de Binance P2P desde el snapshot en memoria (fallback en tiempo real)
  * - Calcular conversión cruzada usando USDT como intermediario
  * - Aplicar margen de ganancia
+ * - Cotizar varios montos a la vez sobre la escalera de liquidez en memoria
  */
 @Slf4j
 @ApplicationScoped
 @RequiredArgsConstructor
-public class ExchangeRateCalculationService implements CalculateExchangeRateUseCase {
+public class ExchangeRateCalculationService implements CalculateExchangeRateUseCase, CalculatePriceLadderUseCase {
 
     private static final String USDT = "USDT";
     private static final String TRADE_TYPE_BUY = "BUY";
@@ -45,9 +49,9 @@ public class ExchangeRateCalculationService implements CalculateExchangeRateUseC
     // (menor que el timeout de 30s del RestClient para detectar antes)
     private static final Duration CALCULATION_TIMEOUT = Duration.ofSeconds(25);
 
-    private final RemittanceRouteOutputPort remittanceRoutePort;
-    private final PaymentMethodQueryPort paymentMethodPort;
+    private final RouteRegistryPort routeRegistry;
     private final ExchangeRateProviderPort exchangeRateProvider;
+    private final OrderBookSnapshotPort orderBookSnapshotPort;
 
     @Override
     public Uni<ExchangeCalculation> calculateExchangeRate(
@@ -62,14 +66,7 @@ public class ExchangeRateCalculationService implements CalculateExchangeRateUseC
         log.info("Calculating exchange rate: {} {} -> {}, margin: {}%, typeRate: {}",
                 amount, baseCurrency, quoteCurrency, margin, typeRate);
 
-        return remittanceRoutePort.findAllActiveExchangeRateRoutes()
-                .map(routes -> routes.stream()
-                        .filter(route -> matchesCurrencyPair(route, baseCountry, baseCurrency, quoteCountry, quoteCurrency))
-                        .findFirst()
-                        .orElseThrow(() -> new IllegalArgumentException(
-                                String.format("No active remittance route found for %s (%s) -> %s (%s)",
-                                        baseCountry, baseCurrency, quoteCountry, quoteCurrency)))
-                )
+        return findRoute(baseCountry, baseCurrency, quoteCountry, quoteCurrency)
                 .flatMap(route -> calculateCrossRate(amount, route, margin, typeRate))
                 // Aplicar timeout proactivo de 25 segundos
                 .ifNoItem().after(CALCULATION_TIMEOUT).failWith(() -> {
@@ -89,12 +86,47 @@ public class ExchangeRateCalculationService implements CalculateExchangeRateUseC
                 });
     }
 
+    @Override
+    public Uni<PriceLadder> calculatePriceLadder(
+            List<BigDecimal> amounts,
+            String baseCountry,
+            String baseCurrency,
+            String quoteCountry,
+            String quoteCurrency,
+            BigDecimal margin,
+            String typeRate) {
+
+        log.info("Calculating price ladder: {} amounts {} -> {}, margin: {}%, typeRate: {}",
+                amounts.size(), baseCurrency, quoteCurrency, margin, typeRate);
+
+        return findRoute(baseCountry, baseCurrency, quoteCountry, quoteCurrency)
+                .flatMap(route -> Uni.combine().all()
+                        .unis(fetchLadder(route, true), fetchLadder(route, false))
+                        .asTuple()
+                        .map(ladders -> new PriceLadder(
+                                route.getCurrencyFromCode(),
+                                route.getCurrencyToCode(),
+                                margin,
+                                typeRate,
+                                amounts.stream()
+                                        .map(amount -> calculateLadderPoint(
+                                                amount, ladders.getItem1(), ladders.getItem2(), margin, typeRate))
+                                        .toList())))
+                .ifNoItem().after(CALCULATION_TIMEOUT).failWith(() -> new ExchangeRateTimeoutException(
+                        String.format("El cálculo de tipo de cambio excedió el tiempo máximo de espera (%d segundos). " +
+                                "Por favor, intente nuevamente.", CALCULATION_TIMEOUT.getSeconds())));
+    }
+
     /**
-     * Verifica si la ruta coincide con el par solicitado.
+     * Busca la ruta activa configurada para el par solicitado en el registro en memoria.
      */
-    private boolean matchesCurrencyPair(ExchangeRateRouteInfo route, String baseCountry, String baseCurrency, String quoteCountry, String quoteCurrency) {
-        return baseCountry.equalsIgnoreCase(route.getCountryFromCode()) && baseCurrency.equalsIgnoreCase(route.getCurrencyFromCode())
-                && quoteCountry.equalsIgnoreCase(route.getCountryToCode()) && quoteCurrency.equalsIgnoreCase(route.getCurrencyToCode());
+    private Uni<ExchangeRateRouteInfo> findRoute(String baseCountry, String baseCurrency, String quoteCountry, String quoteCurrency) {
+        return routeRegistry.current()
+                .map(registry -> registry.findRoute(baseCountry, baseCurrency, quoteCountry, quoteCurrency)
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                String.format("No active remittance route found for %s (%s) -> %s (%s)",
+                                        baseCountry, baseCurrency, quoteCountry, quoteCurrency)))
+                );
     }
 
     private Uni<ExchangeCalculation> calculateCrossRate(
@@ -142,6 +174,9 @@ public class ExchangeRateCalculationService implements CalculateExchangeRateUseC
 
     /**
      * Obtiene el listado de tasas para un par y tipo de operación.
+     *
+     * Primero resuelve el monto sobre la escalera de liquidez en memoria; solo si ningún
+     * anuncio lo acepta consulta Binance en tiempo real con el monto.
      */
     private Uni<List<ExchangeRate>> fetchRatesForPair(ExchangeRateRouteInfo route, boolean isBuy, BigDecimal amount) {
         Long countryCurrencyId = isBuy ? route.getCountryCurrencyFromId() : route.getCountryCurrencyToId();
@@ -158,15 +193,77 @@ public class ExchangeRateCalculationService implements CalculateExchangeRateUseC
         final BigDecimal finalFiatAmount = amount;
         final BigDecimal finalCryptoAmount = cryptoAmount;
 
-        return paymentMethodPort.findBinancePaymentCodesByCountryCurrency(countryCurrencyId)
-                .flatMap(payTypes -> exchangeRateProvider.fetchExchangeRates(
-                        USDT,
-                        currency,
-                        tradeType,
-                        payTypes,
-                        finalFiatAmount,
-                        finalCryptoAmount
-                ));
+        return paymentCodes(countryCurrencyId)
+                .flatMap(payTypes -> orderBookSnapshotPort.getLadder(USDT, currency, tradeType, payTypes)
+                        .map(ladder -> isBuy
+                                ? ladder.eligibleForFiat(finalFiatAmount, TOP_PRICES_LIMIT)
+                                : ladder.eligibleForCrypto(finalCryptoAmount, TOP_PRICES_LIMIT))
+                        .flatMap(eligible -> {
+                            if (!eligible.isEmpty()) {
+                                log.debug("{} {} served from liquidity ladder ({} eligible ads)",
+                                        tradeType, currency, eligible.size());
+                                return Uni.createFrom().item(eligible);
+                            }
+                            log.info("No eligible ladder ads for {} {} — fetching live", tradeType, currency);
+                            return exchangeRateProvider.fetchExchangeRates(
+                                    USDT,
+                                    currency,
+                                    tradeType,
+                                    payTypes,
+                                    finalFiatAmount,
+                                    finalCryptoAmount
+                            );
+                        }));
+    }
+
+    /**
+     * Métodos de pago Binance del country_currency, desde el registro en memoria.
+     */
+    private Uni<List<String>> paymentCodes(Long countryCurrencyId) {
+        return routeRegistry.current().map(registry -> registry.paymentCodes(countryCurrencyId));
+    }
+
+    /**
+     * Obtiene la escalera de liquidez para un tramo de la ruta.
+     */
+    private Uni<LiquidityLadder> fetchLadder(ExchangeRateRouteInfo route, boolean isBuy) {
+        Long countryCurrencyId = isBuy ? route.getCountryCurrencyFromId() : route.getCountryCurrencyToId();
+        String currency = isBuy ? route.getCurrencyFromCode() : route.getCurrencyToCode();
+        String tradeType = isBuy ? TRADE_TYPE_BUY : TRADE_TYPE_SELL;
+
+        return paymentCodes(countryCurrencyId)
+                .flatMap(payTypes -> orderBookSnapshotPort.getLadder(USDT, currency, tradeType, payTypes));
+    }
+
+    /**
+     * Cotiza un monto en memoria sobre las escaleras de compra y venta.
+     */
+    private PriceLadder.Point calculateLadderPoint(
+            BigDecimal amount,
+            LiquidityLadder buyLadder,
+            LiquidityLadder sellLadder,
+            BigDecimal margin,
+            String typeRate) {
+
+        List<ExchangeRate> buyRates = buyLadder.eligibleForFiat(amount, TOP_PRICES_LIMIT);
+        if (buyRates.isEmpty()) {
+            return PriceLadder.Point.unavailable(amount);
+        }
+        BigDecimal avgBuyPrice = calculateRateByStrategy(buyRates, true, typeRate);
+        BigDecimal usdtReceived = calculateUsdtReceived(amount, avgBuyPrice);
+
+        List<ExchangeRate> sellRates = sellLadder.eligibleForCrypto(usdtReceived, TOP_PRICES_LIMIT);
+        if (sellRates.isEmpty()) {
+            return PriceLadder.Point.unavailable(amount);
+        }
+        BigDecimal avgSellPrice = calculateRateByStrategy(sellRates, false, typeRate);
+
+        BigDecimal rate = avgSellPrice.divide(avgBuyPrice, SCALE, RoundingMode.HALF_UP);
+        BigDecimal exchangeRate = applyMargin(rate, margin);
+        BigDecimal convertedAmount = amount.multiply(exchangeRate).setScale(2, RoundingMode.HALF_UP);
+
+        return new PriceLadder.Point(amount, true, avgBuyPrice, avgSellPrice, rate,
+                exchangeRate, convertedAmount, usdtReceived);
     }
 
     /**
@@ -220,8 +317,7 @@ public class ExchangeRateCalculationService implements CalculateExchangeRateUseC
         BigDecimal rate = avgSellPrice.divide(avgBuyPrice, SCALE, RoundingMode.HALF_UP);
 
         // Tasa con margen aplicado (dividiendo para reducir el monto que damos)
-        BigDecimal marginMultiplier = BigDecimal.ONE.add(margin.divide(BigDecimal.valueOf(100), SCALE, RoundingMode.HALF_UP));
-        BigDecimal exchangeRate = rate.divide(marginMultiplier, SCALE, RoundingMode.HALF_UP);
+        BigDecimal exchangeRate = applyMargin(rate, margin);
 
         // Monto convertido
         BigDecimal convertedAmount = amount.multiply(exchangeRate).setScale(2, RoundingMode.HALF_UP);
@@ -244,4 +340,12 @@ public class ExchangeRateCalculationService implements CalculateExchangeRateUseC
                 usdtReceived
         );
     }
+
+    /**
+     * Aplica el margen dividiendo la tasa para reducir el monto que damos.
+     */
+    private BigDecimal applyMargin(BigDecimal rate, BigDecimal margin) {
+        BigDecimal marginMultiplier = BigDecimal.ONE.add(margin.divide(BigDecimal.valueOf(100), SCALE, RoundingMode.HALF_UP));
+        return rate.divide(marginMultiplier, SCALE, RoundingMode.HALF_UP);
+    }
 }
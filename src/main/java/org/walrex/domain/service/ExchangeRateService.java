@@ -4,18 +4,24 @@ import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.walrex.application.port.input.UpdateExchangeRatesUseCase;
+import org.walrex.application.port.output.ExchangeRateBroadcastPort;
 import org.walrex.application.port.output.ExchangeRateCachePort;
 import org.walrex.application.port.output.ExchangeRateProviderPort;
-import org.walrex.application.port.output.PaymentMethodQueryPort;
+import org.walrex.application.port.output.NotificationOutboxPort;
 import org.walrex.application.port.output.PriceExchangeOutputPort;
-import org.walrex.application.port.output.PushNotificationPort;
-import org.walrex.application.port.output.RemittanceRouteOutputPort;
+import org.walrex.application.port.output.RouteRegistryPort;
 import org.walrex.domain.model.ExchangeRate;
 import org.walrex.domain.model.ExchangeRateCache;
+import org.walrex.domain.model.ExchangeRateEvent;
 import org.walrex.domain.model.ExchangeRateRouteInfo;
+import org.walrex.domain.model.RouteRegistrySnapshot;
 import org.walrex.domain.model.RemittanceRoute;
 import org.walrex.domain.model.ExchangeRateUpdate;
+import org.walrex.domain.model.OutboxNotification;
+import org.walrex.domain.model.PriceExchangeUpsert;
+import org.walrex.domain.model.RateCorridor;
 import org.walrex.domain.model.RouteRates;
 
 import java.math.BigDecimal;
@@ -23,11 +29,15 @@ import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -47,6 +57,7 @@ public class ExchangeRateService implements UpdateExchangeRatesUseCase {
 
     private static final BigDecimal CHANGE_THRESHOLD_PERCENT = BigDecimal.valueOf(0.8); // ±0.5%
     private static final Duration CACHE_TTL = Duration.ofHours(12); // 12 horas
+    private static final String NOTIFICATION_KEY_PREFIX = "exchange-rate:";
 
     @Inject
     ExchangeRateProviderPort exchangeRateProvider;
@@ -55,16 +66,22 @@ public class ExchangeRateService implements UpdateExchangeRatesUseCase {
     PriceExchangeOutputPort priceExchangePort;
 
     @Inject
-    RemittanceRouteOutputPort remittanceRoutePort;
+    RouteRegistryPort routeRegistry;
 
     @Inject
-    PaymentMethodQueryPort paymentMethodQueryPort;
+    ExchangeRateCachePort cachePort;
 
     @Inject
-    ExchangeRateCachePort cachePort;
+    NotificationOutboxPort notificationOutboxPort;
+
+    @Inject
+    ExchangeRateBroadcastPort broadcastPort;
+
+    @ConfigProperty(name = "walrex.notification-outbox.coalesce-window", defaultValue = "PT15M")
+    Duration notificationCoalesceWindow;
 
     @Inject
-    PushNotificationPort pushNotificationPort;
+    LatestRateStore latestRateStore;
 
     /**
      * Actualiza todas las tasas de cambio basado en las rutas de remesas configuradas
@@ -74,13 +91,28 @@ public class ExchangeRateService implements UpdateExchangeRatesUseCase {
     @Override
     public Uni<ExchangeRateUpdate> updateExchangeRates() {
         log.info("Starting exchange rate update for remittances");
+        return updateExchangeRates(route -> true);
+    }
+
+    /**
+     * Actualiza solo las rutas BINANCE cuyo origen o destino es la moneda indicada
+     */
+    @Override
+    public Uni<ExchangeRateUpdate> updateExchangeRatesForCurrency(String currencyCode) {
+        log.info("Starting exchange rate update for routes involving {}", currencyCode);
+        return updateExchangeRates(route -> currencyCode.equalsIgnoreCase(route.getCurrencyFromCode())
+                || currencyCode.equalsIgnoreCase(route.getCurrencyToCode()));
+    }
 
-        return remittanceRoutePort.findAllActiveExchangeRateRoutes()
+    private Uni<ExchangeRateUpdate> updateExchangeRates(Predicate<ExchangeRateRouteInfo> scope) {
+
+        return routeRegistry.current()
+                .map(RouteRegistrySnapshot::activeRoutes)
                 .onFailure().invoke(error ->
                         log.error("=== [ERROR] Failed to fetch active routes ===", error)
                 )
                 .onItem().invoke(routes ->
-                        log.info("=== [ROUTES] Retrieved {} active routes from database ===", routes.size())
+                        log.info("=== [ROUTES] Retrieved {} active routes from registry ===", routes.size())
                 )
                 .onItem().transformToUni(routes -> {
                     if (routes.isEmpty()) {
@@ -91,12 +123,13 @@ public class ExchangeRateService implements UpdateExchangeRatesUseCase {
                     log.info("Found {} active remittance routes", routes.size());
 
                     // Solo procesar rutas BINANCE sin EUR como base.
-                    // EUR/VES se calcula como tasa derivada (PEN/VES × EUR/PEN) en DerivedExchangeRateService.
+                    // EUR/VES se calcula como tasa derivada (walrex.derived-rates) en DerivedExchangeRateService.
                     // ASTROPAY las maneja AstroPayExchangeRateService.
                     Map<String, ExchangeRateRouteInfo> uniquePairs = routes.stream()
                             .filter(r -> (r.getRateProvider() == null
                                     || "BINANCE".equalsIgnoreCase(r.getRateProvider()))
                                     && !"EUR".equalsIgnoreCase(r.getCurrencyFromCode()))
+                            .filter(scope)
                             .collect(Collectors.toMap(
                                     route -> route.getCountryFromCode() + ":" +
                                             route.getCurrencyFromCode() + "/" +
@@ -149,18 +182,18 @@ public class ExchangeRateService implements UpdateExchangeRatesUseCase {
 
     @Override
     public Uni<Void> saveRateForRoute(ExchangeRateRouteInfo route, BigDecimal crossRate) {
-        return saveRateWithCache(
-                route.getCountryFromCode(),
-                route.getCountryToCode(),
-                route.getCountryCurrencyFromId().intValue(),
-                route.getCurrencyFromCode(),
-                route.getCountryCurrencyToId().intValue(),
-                route.getCurrencyToCode(),
-                route.getCountryCurrencyFromId(),
-                route.getCountryCurrencyToId(),
-                crossRate,
-                LocalDate.now()
-        ).replaceWithVoid();
+        return saveRatesForRoutes(Map.of(route, crossRate));
+    }
+
+    @Override
+    public Uni<Void> saveRatesForRoutes(Map<ExchangeRateRouteInfo, BigDecimal> crossRatesByRoute) {
+        if (crossRatesByRoute.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        List<PendingRate> pendingRates = crossRatesByRoute.entrySet().stream()
+                .map(entry -> PendingRate.of(entry.getKey(), entry.getValue()))
+                .toList();
+        return saveRatesBatch(pendingRates, LocalDate.now());
     }
 
     /**
@@ -182,8 +215,8 @@ public class ExchangeRateService implements UpdateExchangeRatesUseCase {
                 pairKey, currencyFrom, currencyTo, asset);
 
         // Query payment methods for FROM currency (for BUY USDT with PEN)
-        Uni<List<String>> fromPaymentMethods = paymentMethodQueryPort
-                .findBinancePaymentCodesByCountryCurrency(countryCurrencyFromId)
+        Uni<List<String>> fromPaymentMethods = routeRegistry.current()
+                .map(registry -> registry.paymentCodes(countryCurrencyFromId))
                 .onItem().invoke(methods -> {
                     if (methods.isEmpty()) {
                         log.warn("No payment methods configured for country_currency {}", countryCurrencyFromId);
@@ -192,8 +225,8 @@ public class ExchangeRateService implements UpdateExchangeRatesUseCase {
                 });
 
         // Query payment methods for TO currency (for SELL USDT for VES)
-        Uni<List<String>> toPaymentMethods = paymentMethodQueryPort
-                .findBinancePaymentCodesByCountryCurrency(countryCurrencyToId)
+        Uni<List<String>> toPaymentMethods = routeRegistry.current()
+                .map(registry -> registry.paymentCodes(countryCurrencyToId))
                 .onItem().invoke(methods -> {
                     if (methods.isEmpty()) {
                         log.warn("No payment methods configured for country_currency {}", countryCurrencyToId);
@@ -401,8 +434,8 @@ public class ExchangeRateService implements UpdateExchangeRatesUseCase {
     }
 
     /**
-     * Guarda las tasas cruzadas de cada par con margen del 5%
-     * IMPORTANTE: Ejecuta secuencialmente para evitar conflictos de sesión en Hibernate Reactive
+     * Guarda las tasas cruzadas de cada par con margen del 5%, todas en un solo lote
+     * (ver {@link #saveRatesBatch}).
      */
     private Uni<Void> saveAverageRates(ExchangeRateUpdate update) {
         log.info("=== [SAVE AVERAGE RATES START] Thread: {} | Pairs to process: {} ===",
@@ -410,13 +443,11 @@ public class ExchangeRateService implements UpdateExchangeRatesUseCase {
 
         LocalDate today = LocalDate.now();
 
-        // Crear lista de operaciones de guardado para cada par
-        List<Uni<Integer>> saveOperations = update.ratesByPair().values().stream()
+        // Calcular la tasa a guardar de cada par
+        List<PendingRate> pendingRates = update.ratesByPair().values().stream()
                 .flatMap(rates -> {
                     String countryFromCode = rates.countryFromCode();
                     String countryToCode = rates.countryToCode();
-                    Integer ccFromId = rates.countryCurrencyFromId().intValue();  // ID country_currencies origen
-                    Integer ccToId = rates.countryCurrencyToId().intValue();      // ID country_currencies destino
                     String currencyFrom = rates.currencyFromCode();   // PEN
                     String currencyTo = rates.currencyToCode();       // VES
 
@@ -449,50 +480,26 @@ public class ExchangeRateService implements UpdateExchangeRatesUseCase {
                     log.info("=== [CROSS RATE] {}->{} | Without margin: {} | With 5% margin: {} ===",
                             currencyFrom, currencyTo, crossRate, marginRate);
 
-                    // Verificar caché y decidir si guardar en BD
-                    // Se pasan ccFromId/ccToId (country_currencies IDs) para que cada país
-                    // tenga su propio registro en price_exchange
-                    return Stream.of(saveRateWithCache(
+                    return Stream.of(new PendingRate(
                             countryFromCode,
                             countryToCode,
-                            ccFromId,
                             currencyFrom,
-                            ccToId,
                             currencyTo,
                             rates.countryCurrencyFromId(),
                             rates.countryCurrencyToId(),
-                            marginRate,
-                            today
+                            marginRate
                     ));
                 })
                 .toList();
 
-        log.info("=== [SAVE OPS] Total save operations created: {} ===", saveOperations.size());
+        log.info("=== [SAVE OPS] Total rates to save: {} ===", pendingRates.size());
 
-        if (saveOperations.isEmpty()) {
+        if (pendingRates.isEmpty()) {
             log.warn("No rates to save");
             return Uni.createFrom().voidItem();
         }
 
-        // Ejecutar las persistencias SECUENCIALMENTE para evitar conflictos de sesión
-        Uni<List<Integer>> chain = Uni.createFrom().item(new java.util.ArrayList<Integer>());
-
-        int opIndex = 0;
-        for (Uni<Integer> saveOp : saveOperations) {
-            final int currentIndex = opIndex++;
-            chain = chain.onItem().transformToUni(list ->
-                saveOp.onItem().invoke(id ->
-                        log.info("=== [SAVE CHAIN] Operation {} completed with ID: {} ===", currentIndex, id)
-                ).onItem().transform(id -> {
-                    list.add(id);
-                    return list;
-                })
-            );
-        }
-
-        return chain.onItem().invoke(savedIds ->
-                log.info("=== [SAVE COMPLETE] Saved {} average rates | IDs: {} ===", savedIds.size(), savedIds)
-        ).replaceWithVoid();
+        return saveRatesBatch(pendingRates, today);
     }
 
     /**
@@ -518,218 +525,135 @@ public class ExchangeRateService implements UpdateExchangeRatesUseCase {
     }
 
     /**
-     * Guarda una tasa con verificación de caché para evitar escrituras innecesarias en BD.
+     * Guarda un lote de tasas con verificación de caché para evitar escrituras innecesarias en BD.
      *
      * Lógica:
-     * 1. Genera clave de caché
-     * 2. Consulta caché
-     * 3. Si no existe en caché → Guardar en Redis + BD
-     * 4. Si existe en caché:
-     *    - Calcular diferencia porcentual
-     *    - Si dentro de ±0.5% → Solo actualizar TTL en Redis
-     *    - Si excede ±0.5% → Guardar en Redis + BD
+     * 1. Lee todas las claves de caché en un solo MGET
+     * 2. Por cada tasa:
+     *    - Si no existe en caché → BD + Redis
+     *    - Si excede ±0.8% → BD + Redis
+     *    - Si está dentro del umbral → Solo actualizar TTL en Redis
+     * 3. Un solo upsert multi-fila en price_exchange con las tasas que cambiaron
+     * 4. Un solo pipeline en Redis con todas las entradas
+     * 5. Un solo INSERT en notification_outbox para los push
+     *
+     * Son cuatro idas y vueltas sin importar cuántos corredores haya, y como el upsert no usa
+     * sesión de Hibernate Reactive ya no hace falta persistir ruta por ruta.
      */
-    private Uni<Integer> saveRateWithCache(
-            String countryFromCode,
-            String countryToCode,
-            Integer currencyFromId,
-            String currencyFrom,
-            Integer currencyToId,
-            String currencyTo,
-            Long countryCurrencyFromId,
-            Long countryCurrencyToId,
-            BigDecimal newRate,
-            LocalDate date) {
-
-        String cacheKey = ExchangeRateCache.generateCacheKey(
-                countryFromCode, currencyFrom, countryToCode, currencyTo, date);
-
-        log.info("=== [CACHE CHECK] Key: {} | NewRate: {} ===", cacheKey, newRate);
-
-        return cachePort.get(cacheKey)
-                .flatMap(cachedOptional -> {
-                    if (cachedOptional.isEmpty()) {
-                        // No existe en caché → Guardar en Redis + BD
-                        log.info("=== [CACHE MISS] {}/{} | Saving to Redis + DB ===",
-                                currencyFrom, currencyTo);
-                        return saveToRedisAndDb(cacheKey, countryFromCode, countryToCode,
-                                currencyFrom, currencyTo,
-                                countryCurrencyFromId, countryCurrencyToId,
-                                currencyFromId, currencyToId, newRate, date)
-                                .onItem().invoke(savedId -> {
-                                    try {
-                                        Map<String, String> fcmData = new HashMap<>();
-                                        fcmData.put("type", "EXCHANGE_RATE_NEW");
-                                        fcmData.put("title", "Nueva tasa disponible");
-                                        fcmData.put("body", "Tasa " + currencyFrom + "/" + currencyTo + " disponible para hoy");
-                                        fcmData.put("screen", "exchange_rates");
-                                        fcmData.put("screenArgs", "{\"currencyFrom\":\"" + currencyFrom + "\",\"currencyTo\":\"" + currencyTo + "\"}");
-
-                                        pushNotificationPort.sendToAllActiveDevices(fcmData)
-                                                .subscribe().with(
-                                                        v -> log.info("=== [FCM] Push notification sent for new {}/{} rate ===",
-                                                                currencyFrom, currencyTo),
-                                                        err -> log.error("=== [FCM ERROR] Failed to send push notification: {} ===",
-                                                                err.getMessage())
-                                                );
-                                    } catch (Exception e) {
-                                        log.error("=== [FCM ERROR] Exception sending push for new {}/{} rate: {} ===",
-                                                currencyFrom, currencyTo, e.getMessage());
-                                    }
-                                });
-                    }
+    private Uni<Void> saveRatesBatch(List<PendingRate> pendingRates, LocalDate date) {
+        Map<String, PendingRate> ratesByKey = new LinkedHashMap<>();
+        for (PendingRate rate : pendingRates) {
+            latestRateStore.record(rate.currencyFrom(), rate.currencyTo(), rate.rate());
+            ratesByKey.put(rate.cacheKey(date), rate);
+        }
 
-                    ExchangeRateCache cached = cachedOptional.get();
-                    BigDecimal cachedRate = cached.getRate();
-                    BigDecimal percentageChange = calculatePercentageChange(newRate, cachedRate);
-
-                    log.info("=== [CACHE HIT] {}/{} | Cached: {} | New: {} | Change: {}% ===",
-                            currencyFrom, currencyTo, cachedRate, newRate, percentageChange);
-
-                    if (exceedsThreshold(percentageChange)) {
-                        // Excede threshold → Guardar en Redis + BD
-                        log.info("=== [THRESHOLD EXCEEDED] {}/{} | Change {}% > {}% | Saving to Redis + DB ===",
-                                currencyFrom, currencyTo, percentageChange, CHANGE_THRESHOLD_PERCENT);
-                        return saveToRedisAndDb(cacheKey, countryFromCode, countryToCode,
-                                currencyFrom, currencyTo,
-                                countryCurrencyFromId, countryCurrencyToId,
-                                currencyFromId, currencyToId, newRate, date)
-                                .onItem().invoke(savedId -> {
-                                    try {
-                                        Map<String, String> fcmData = new HashMap<>();
-                                        fcmData.put("type", "EXCHANGE_RATE_UPDATE");
-                                        fcmData.put("title", "Tipo de cambio actualizado");
-                                        fcmData.put("body", currencyFrom + "/" + currencyTo + " ha variado un " + percentageChange.abs() + "%");
-                                        fcmData.put("screen", "exchange_rates");
-                                        fcmData.put("screenArgs", "{\"currencyFrom\":\"" + currencyFrom + "\",\"currencyTo\":\"" + currencyTo + "\"}");
-
-                                        pushNotificationPort.sendToAllActiveDevices(fcmData)
-                                                .subscribe().with(
-                                                        v -> log.info("=== [FCM] Push notification sent for {}/{} rate change ===",
-                                                                currencyFrom, currencyTo),
-                                                        err -> log.error("=== [FCM ERROR] Failed to send push notification: {} ===",
-                                                                err.getMessage())
-                                                );
-                                    } catch (Exception e) {
-                                        log.error("=== [FCM ERROR] Exception sending push for {}/{} rate change: {} ===",
-                                                currencyFrom, currencyTo, e.getMessage());
-                                    }
-                                });
-                    } else {
-                        // Dentro del threshold → Solo actualizar TTL en Redis
-                        log.info("=== [WITHIN THRESHOLD] {}/{} | Change {}% <= {}% | Updating TTL only ===",
-                                currencyFrom, currencyTo, percentageChange, CHANGE_THRESHOLD_PERCENT);
-                        return updateCacheTTL(cacheKey, countryFromCode, countryToCode,
-                                currencyFrom, currencyTo, newRate);
-                    }
-                })
-                .onFailure().invoke(error ->
-                        log.error("=== [CACHE ERROR] {}/{} | Falling back to direct DB save | Error: {} ===",
-                                currencyFrom, currencyTo, error.getMessage())
-                )
-                .onFailure().recoverWithUni(() -> {
-                    // Si Redis falla, guardar directo en BD
-                    log.warn("=== [CACHE FALLBACK] {}/{} | Saving to DB only ===", currencyFrom, currencyTo);
-                    return saveRate(currencyFromId, currencyFrom, currencyToId, currencyTo,
-                            newRate, date, "CROSS_RATE");
+        return cachePort.getAll(ratesByKey.keySet())
+                .chain(cached -> {
+                    List<RateChange> changes = new ArrayList<>();
+                    Map<String, ExchangeRateCache> cacheValues = new LinkedHashMap<>();
+
+                    ratesByKey.forEach((cacheKey, rate) -> {
+                        ExchangeRateCache previous = cached.get(cacheKey);
+                        if (previous == null) {
+                            log.info("=== [CACHE MISS] {}/{} | Saving to Redis + DB ===",
+                                    rate.currencyFrom(), rate.currencyTo());
+                            changes.add(new RateChange(rate, null));
+                        } else {
+                            BigDecimal percentageChange = calculatePercentageChange(rate.rate(), previous.getRate());
+                            log.info("=== [CACHE HIT] {}/{} | Cached: {} | New: {} | Change: {}% ===",
+                                    rate.currencyFrom(), rate.currencyTo(), previous.getRate(), rate.rate(), percentageChange);
+
+                            if (exceedsThreshold(percentageChange)) {
+                                log.info("=== [THRESHOLD EXCEEDED] {}/{} | Change {}% > {}% | Saving to Redis + DB ===",
+                                        rate.currencyFrom(), rate.currencyTo(), percentageChange, CHANGE_THRESHOLD_PERCENT);
+                                changes.add(new RateChange(rate, percentageChange));
+                            } else {
+                                log.info("=== [WITHIN THRESHOLD] {}/{} | Change {}% <= {}% | Updating TTL only ===",
+                                        rate.currencyFrom(), rate.currencyTo(), percentageChange, CHANGE_THRESHOLD_PERCENT);
+                            }
+                        }
+                        cacheValues.put(cacheKey, rate.toCache());
+                    });
+
+                    return saveRates(changes, date)
+                            .chain(saved -> {
+                                if (!saved) {
+                                    // Sin BD no se cachean: el próximo ciclo los vuelve a intentar
+                                    changes.forEach(change -> cacheValues.remove(change.rate().cacheKey(date)));
+                                }
+                                return cachePort.setAll(cacheValues, CACHE_TTL)
+                                        .invoke(() -> publishRates(cacheValues.keySet(), ratesByKey, date))
+                                        .chain(() -> saved ? enqueueNotifications(changes) : Uni.createFrom().voidItem());
+                            });
                 });
     }
 
     /**
-     * Guarda la tasa en la base de datos y luego en Redis.
-     * IMPORTANTE: Se ejecuta SECUENCIALMENTE (BD primero, Redis después) para evitar
-     * problemas de contexto de transacción Hibernate al correr en paralelo con Redis.
+     * Difunde a los clientes en vivo las tasas recién escritas en caché, que son las que sirve getRate.
      */
-    private Uni<Integer> saveToRedisAndDb(
-            String cacheKey,
-            String countryFromCode,
-            String countryToCode,
-            String currencyFrom,
-            String currencyTo,
-            Long countryCurrencyFromId,
-            Long countryCurrencyToId,
-            Integer currencyFromId,
-            Integer currencyToId,
-            BigDecimal rate,
-            LocalDate date) {
-
-        // Paso 1: Guardar en BD primero (requiere @WithTransaction limpio)
-        return saveRate(currencyFromId, currencyFrom, currencyToId, currencyTo,
-                rate, date, "CROSS_RATE")
-                .onItem().transformToUni(savedId -> {
-                    // Paso 2: BD exitosa → actualizar Redis cache
-                    log.info("=== [DB OK] {}/{} savedId:{} | Now saving to Redis cache key: {} ===",
-                            currencyFrom, currencyTo, savedId, cacheKey);
-
-                    ExchangeRateCache cacheValue = ExchangeRateCache.builder()
-                            .rate(rate)
-                            .currencyFrom(currencyFrom)
-                            .currencyTo(currencyTo)
-                            .countryFromCode(countryFromCode)
-                            .countryToCode(countryToCode)
-                            .updatedAt(OffsetDateTime.now())
-                            .build();
-
-                    return cachePort.set(cacheKey, cacheValue, CACHE_TTL)
-                            .onFailure().invoke(error ->
-                                    log.error("Failed to save to Redis cache: {}", error.getMessage()))
-                            .onFailure().recoverWithNull()
-                            .replaceWith(savedId);
-                });
+    private void publishRates(Collection<String> cachedKeys, Map<String, PendingRate> ratesByKey, LocalDate date) {
+        cachedKeys.forEach(cacheKey -> broadcastPort.publish(ratesByKey.get(cacheKey).toEvent(date)));
     }
 
     /**
-     * Actualiza solo el TTL en Redis sin guardar en BD.
+     * Persiste en BD las tasas que cambiaron, en un solo upsert.
+     *
+     * @return Uni con true si se guardaron (o no había nada que guardar)
      */
-    private Uni<Integer> updateCacheTTL(
-            String cacheKey,
-            String countryFromCode,
-            String countryToCode,
-            String currencyFrom,
-            String currencyTo,
-            BigDecimal rate) {
+    private Uni<Boolean> saveRates(List<RateChange> changes, LocalDate date) {
+        if (changes.isEmpty()) {
+            return Uni.createFrom().item(true);
+        }
+
+        List<PriceExchangeUpsert> upserts = changes.stream()
+                .map(change -> change.rate().toUpsert())
+                .toList();
 
-        ExchangeRateCache cacheValue = ExchangeRateCache.builder()
-                .rate(rate)
-                .currencyFrom(currencyFrom)
-                .currencyTo(currencyTo)
-                .countryFromCode(countryFromCode)
-                .countryToCode(countryToCode)
-                .updatedAt(OffsetDateTime.now())
-                .build();
-
-        return cachePort.set(cacheKey, cacheValue, CACHE_TTL)
-                .replaceWith(0) // Retornar 0 para indicar que no se guardó en BD
+        log.info("=== [SAVE RATES] {} rates | date: {} ===", upserts.size(), date);
+
+        return priceExchangePort.upsertRates(upserts, date)
+                .onItem().invoke(count ->
+                        log.info("=== [SAVE COMPLETE] Saved {} rates ===", count)
+                )
+                .replaceWith(true)
                 .onFailure().invoke(error ->
-                        log.error("Failed to update cache TTL: {}", error.getMessage())
+                        log.error("=== [SAVE FAILED] {} rates | Error: {} ===", upserts.size(), error.getMessage(), error)
                 )
-                .onFailure().recoverWithItem(0);
+                .onFailure().recoverWithItem(false);
     }
 
     /**
-     * Guarda una tasa en la base de datos
+     * Encola el push de tasa nueva o actualizada en notification_outbox. Se coalesce por par
+     * de monedas: dentro de la ventana solo se envía el último (lo despacha NotificationOutboxScheduler).
      */
-    private Uni<Integer> saveRate(
-            Integer baseId,
-            String baseCode,
-            Integer quoteId,
-            String quoteCode,
-            BigDecimal price,
-            LocalDate date,
-            String operationType) {
-
-        log.info("=== [SAVE RATE] {} | {}/{} ({}→{}) | price: {} | date: {} ===",
-                operationType, baseCode, quoteCode, baseId, quoteId, price, date);
-
-        return priceExchangePort.upsertRate(baseId, quoteId, price, date)
-                .onItem().invoke(savedId ->
-                        log.info("=== [SAVED] {} {}/{} | ID: {} ===", operationType, baseCode, quoteCode, savedId)
-                )
+    private Uni<Void> enqueueNotifications(List<RateChange> changes) {
+        Map<String, OutboxNotification> byPair = new LinkedHashMap<>();
+        for (RateChange change : changes) {
+            String currencyFrom = change.rate().currencyFrom();
+            String currencyTo = change.rate().currencyTo();
+
+            Map<String, String> fcmData = new HashMap<>();
+            if (change.percentageChange() == null) {
+                fcmData.put("type", "EXCHANGE_RATE_NEW");
+                fcmData.put("title", "Nueva tasa disponible");
+                fcmData.put("body", "Tasa " + currencyFrom + "/" + currencyTo + " disponible para hoy");
+            } else {
+                fcmData.put("type", "EXCHANGE_RATE_UPDATE");
+                fcmData.put("title", "Tipo de cambio actualizado");
+                fcmData.put("body", currencyFrom + "/" + currencyTo + " ha variado un " + change.percentageChange().abs() + "%");
+            }
+            fcmData.put("screen", "exchange_rates");
+            fcmData.put("screenArgs", "{\"currencyFrom\":\"" + currencyFrom + "\",\"currencyTo\":\"" + currencyTo + "\"}");
+
+            String coalesceKey = NOTIFICATION_KEY_PREFIX + currencyFrom + "/" + currencyTo;
+            byPair.put(coalesceKey, OutboxNotification.of(coalesceKey, fcmData));
+        }
+
+        return notificationOutboxPort.enqueue(List.copyOf(byPair.values()), notificationCoalesceWindow)
+                .invoke(() -> log.info("=== [OUTBOX] Enqueued push for {} pairs ===", byPair.size()))
                 .onFailure().invoke(error ->
-                        log.error("=== [SAVE FAILED] {} {}/{} | Error: {} ===",
-                                operationType, baseCode, quoteCode, error.getMessage(), error)
-                )
-                .onFailure().recoverWithItem(0);
+                        log.error("=== [OUTBOX ERROR] Failed to enqueue push notifications: {} ===", error.getMessage()))
+                .onFailure().recoverWithNull();
     }
 
     /**
@@ -761,4 +685,59 @@ public class ExchangeRateService implements UpdateExchangeRatesUseCase {
         BigDecimal absChange = percentageChange.abs();
         return absChange.compareTo(CHANGE_THRESHOLD_PERCENT) > 0;
     }
+
+    /**
+     * Tasa calculada para un corredor, pendiente de guardar.
+     */
+    private record PendingRate(
+            String countryFromCode,
+            String countryToCode,
+            String currencyFrom,
+            String currencyTo,
+            Long countryCurrencyFromId,
+            Long countryCurrencyToId,
+            BigDecimal rate) {
+
+        static PendingRate of(ExchangeRateRouteInfo route, BigDecimal rate) {
+            return new PendingRate(
+                    route.getCountryFromCode(),
+                    route.getCountryToCode(),
+                    route.getCurrencyFromCode(),
+                    route.getCurrencyToCode(),
+                    route.getCountryCurrencyFromId(),
+                    route.getCountryCurrencyToId(),
+                    rate);
+        }
+
+        String cacheKey(LocalDate date) {
+            return ExchangeRateCache.generateCacheKey(countryFromCode, currencyFrom, countryToCode, currencyTo, date);
+        }
+
+        // price_exchange guarda IDs de country_currencies para que cada país tenga su propio registro
+        PriceExchangeUpsert toUpsert() {
+            return new PriceExchangeUpsert(countryCurrencyFromId.intValue(), countryCurrencyToId.intValue(), rate);
+        }
+
+        ExchangeRateEvent toEvent(LocalDate date) {
+            return new ExchangeRateEvent(
+                    new RateCorridor(countryFromCode, currencyFrom, countryToCode, currencyTo), rate, date);
+        }
+
+        ExchangeRateCache toCache() {
+            return ExchangeRateCache.builder()
+                    .rate(rate)
+                    .currencyFrom(currencyFrom)
+                    .currencyTo(currencyTo)
+                    .countryFromCode(countryFromCode)
+                    .countryToCode(countryToCode)
+                    .updatedAt(OffsetDateTime.now())
+                    .build();
+        }
+    }
+
+    /**
+     * Tasa que debe escribirse en BD; percentageChange es null si no estaba en caché.
+     */
+    private record RateChange(PendingRate rate, BigDecimal percentageChange) {
+    }
 }
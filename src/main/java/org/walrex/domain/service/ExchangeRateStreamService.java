@@ -0,0 +1,110 @@
+package org.walrex.domain.service;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.Cancellable;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.walrex.application.dto.response.ExchangeRateQueryResponse;
+import org.walrex.application.port.input.GetExchangeRateUseCase;
+import org.walrex.application.port.input.StreamExchangeRatesUseCase;
+import org.walrex.application.port.output.ExchangeRateBroadcastPort;
+import org.walrex.domain.model.ExchangeRateEvent;
+import org.walrex.domain.model.RateCorridor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Streaming de tasas para clientes conectados (reemplaza el polling a /exchange/rate).
+ *
+ * Se suscribe al difusor antes de leer la tasa inicial, así una tasa publicada mientras
+ * se consulta no se pierde (a lo sumo llega dos veces): se retiene hasta terminar la
+ * lectura y se emite después de la tasa inicial, que nunca la pisa con un valor anterior.
+ */
+@Slf4j
+@ApplicationScoped
+public class ExchangeRateStreamService implements StreamExchangeRatesUseCase {
+
+    @Inject
+    GetExchangeRateUseCase getExchangeRateUseCase;
+
+    @Inject
+    ExchangeRateBroadcastPort broadcastPort;
+
+    @Override
+    public Multi<ExchangeRateQueryResponse> stream(Set<RateCorridor> corridors) {
+        Multi<ExchangeRateQueryResponse> live = broadcastPort.events()
+                .select().where(event -> corridors.isEmpty() || corridors.contains(event.corridor()))
+                .map(this::toResponse);
+
+        if (corridors.isEmpty()) {
+            return live;
+        }
+
+        Multi<ExchangeRateQueryResponse> current = Multi.createFrom().iterable(corridors)
+                .onItem().transformToUniAndConcatenate(corridor -> getExchangeRateUseCase.getRate(
+                                corridor.fromCountry(), corridor.fromCurrency(),
+                                corridor.toCountry(), corridor.toCurrency())
+                        .onFailure().invoke(e ->
+                                log.debug("[RateStream] Sin tasa inicial para {}: {}", corridor, e.getMessage()))
+                        .onFailure().recoverWithNull());
+
+        return liveAfterInitial(current, live);
+    }
+
+    /**
+     * Emite primero las tasas iniciales y luego el stream en vivo, pero suscribiéndose a
+     * {@code live} antes de empezar a leer: lo publicado durante la lectura se retiene y se
+     * emite justo después de las iniciales, en el orden en que llegó.
+     */
+    static <T> Multi<T> liveAfterInitial(Multi<T> initial, Multi<T> live) {
+        return Multi.createFrom().emitter(emitter -> {
+            Object lock = new Object();
+            List<T> buffered = new ArrayList<>();
+            AtomicBoolean initialDone = new AtomicBoolean(false);
+
+            Cancellable liveSubscription = live.subscribe().with(
+                    item -> {
+                        synchronized (lock) {
+                            if (!initialDone.get()) {
+                                buffered.add(item);
+                                return;
+                            }
+                        }
+                        emitter.emit(item);
+                    },
+                    emitter::fail,
+                    emitter::complete);
+
+            Cancellable initialSubscription = initial.subscribe().with(
+                    emitter::emit,
+                    failure -> {
+                        liveSubscription.cancel();
+                        emitter.fail(failure);
+                    },
+                    () -> {
+                        synchronized (lock) {
+                            buffered.forEach(emitter::emit);
+                            buffered.clear();
+                            initialDone.set(true);
+                        }
+                    });
+
+            emitter.onTermination(() -> {
+                initialSubscription.cancel();
+                liveSubscription.cancel();
+            });
+        });
+    }
+
+    private ExchangeRateQueryResponse toResponse(ExchangeRateEvent event) {
+        RateCorridor corridor = event.corridor();
+        return new ExchangeRateQueryResponse(
+                corridor.fromCountry(), corridor.fromCurrency(),
+                corridor.toCountry(), corridor.toCurrency(),
+                event.rate(), event.date());
+    }
+}
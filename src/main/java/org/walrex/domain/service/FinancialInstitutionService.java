@@ -9,7 +9,8 @@ import org.walrex.application.dto.response.FinancialInstitutionResponse;
 import org.walrex.application.dto.response.RequiredFieldAdditionalResponse;
 import org.walrex.application.port.input.GetFinancialInstitutionsUseCase;
 import org.walrex.application.port.output.FinancialInstitutionQueryPort;
-import org.walrex.infrastructure.adapter.outbound.persistence.entity.InstitutionPayoutRailEntity;
+import org.walrex.application.port.output.ReferenceDataCatalogPort;
+import org.walrex.domain.model.PayoutRailInstitution;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -24,23 +25,29 @@ public class FinancialInstitutionService implements GetFinancialInstitutionsUseC
     @Inject
     ObjectMapper objectMapper;
 
+    @Inject
+    ReferenceDataCatalogPort referenceDataCatalog;
+
     @Override
     public Uni<List<FinancialInstitutionResponse>> getByMethodAndCountry(String methodType, String countryIso2) {
         log.debug("Fetching financial institutions for method: {} and country: {}", methodType, countryIso2);
         
-        return queryPort.findByRailCodeAndCountryIso2(methodType, countryIso2)
-                .map(entities -> entities.stream()
+        // Catálogo en memoria: se recarga cuando cambian las instituciones o sus rieles; hasta entonces, BD
+        return referenceDataCatalog.read(
+                        catalog -> catalog.payoutRailInstitutions(methodType, countryIso2),
+                        () -> queryPort.findByRailCodeAndCountryIso2(methodType, countryIso2))
+                .map(institutions -> institutions.stream()
                         .map(this::mapToResponse)
                         .collect(Collectors.toList()));
     }
 
-    private FinancialInstitutionResponse mapToResponse(InstitutionPayoutRailEntity entity) {
-        RequiredFieldAdditionalResponse requiredFields = parseRequiredFields(entity.getRequiredFields());
+    private FinancialInstitutionResponse mapToResponse(PayoutRailInstitution institution) {
+        RequiredFieldAdditionalResponse requiredFields = parseRequiredFields(institution.requiredFields());
         
         return FinancialInstitutionResponse.builder()
-                .id_financial_institution(entity.getBank().getId())
-                .name_financial_institution(entity.getBank().getDetName())
-                .siglas_financial_institution(entity.getBank().getSigla())
+                .id_financial_institution(institution.bankId())
+                .name_financial_institution(institution.bankName())
+                .siglas_financial_institution(institution.bankSigla())
                 .required_fields_additional(List.of(requiredFields))
                 .build();
     }
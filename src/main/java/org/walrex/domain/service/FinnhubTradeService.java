@@ -6,8 +6,6 @@ import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.walrex.application.port.input.FinnhubTradeUseCase;
-import org.walrex.application.port.input.UpdateAstroPayExchangeRateUseCase;
-import org.walrex.application.port.input.UpdateExchangeRatesUseCase;
 import org.walrex.application.port.output.MarketPriceTickPort;
 import org.walrex.domain.model.MarketPriceTick;
 
@@ -29,18 +27,17 @@ public class FinnhubTradeService implements FinnhubTradeUseCase {
     MarketPriceTickPort tickPort;
 
     @Inject
-    UpdateAstroPayExchangeRateUseCase updateAstroPayUseCase;
+    RateRecomputeCoordinator recomputeCoordinator;
 
     @Inject
-    UpdateExchangeRatesUseCase updateExchangeRatesUseCase;
-
-    @Inject
-    DerivedExchangeRateService derivedRateService;
+    CandleAggregationService candleAggregationService;
 
     private final ConcurrentHashMap<String, BigDecimal> lastPrices = new ConcurrentHashMap<>();
 
     @Override
-    public Uni<Void> onTrade(String symbol, BigDecimal price, Instant tradeTime) {
+    public Uni<Void> onTrade(String symbol, BigDecimal price, BigDecimal volume, Instant tradeTime) {
+        candleAggregationService.onTick(symbol, price, volume, tradeTime);
+
         BigDecimal previous = lastPrices.put(symbol, price);
         String[] currencies = parseCurrencyPair(symbol);
 
@@ -85,18 +82,14 @@ public class FinnhubTradeService implements FinnhubTradeUseCase {
                         return Uni.createFrom().voidItem();
                     }
 
-                    // El par USD/{currency} superó el umbral — refrescar tasas
+                    // El par USD/{currency} superó el umbral — el coordinador agrupa disparos
+                    // cercanos y recalcula solo las rutas de las monedas afectadas
                     String affectedCurrency = extractAffectedCurrency(currencies);
-                    log.info("[FinnhubTrade] {} superó {}% — actualizando rutas para {}",
+                    log.info("[FinnhubTrade] {} superó {}% — recálculo solicitado para {}",
                              symbol, priceChangeThreshold, affectedCurrency);
 
-                    return updateAstroPayUseCase.updateRatesForCurrency(affectedCurrency)
-                            .chain(() -> updateExchangeRatesUseCase.updateExchangeRates().replaceWithVoid())
-                            .chain(() -> derivedRateService.updateEurVes())
-                            .invoke(() -> log.info("[FinnhubTrade] Actualización completa (trigger: {})", symbol))
-                            .onFailure().invoke(e ->
-                                    log.error("[FinnhubTrade] Error en actualización tras {}: {}", symbol, e.getMessage()))
-                            .onFailure().recoverWithNull();
+                    recomputeCoordinator.requestRecompute(affectedCurrency, symbol);
+                    return Uni.createFrom().voidItem();
                 });
     }
 
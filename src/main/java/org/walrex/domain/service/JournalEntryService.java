@@ -10,6 +10,8 @@ import org.walrex.application.dto.query.PageRequest;
 import org.walrex.application.dto.response.JournalEntryResponse;
 import org.walrex.application.dto.response.PagedResponse;
 import org.walrex.application.port.input.*;
+import org.walrex.application.port.output.AccountBalancePort;
+import org.walrex.application.port.output.JournalCorrelativePort;
 import org.walrex.application.port.output.JournalEntryQueryPort;
 import org.walrex.application.port.output.JournalEntryRepositoryPort;
 import org.walrex.domain.exception.InvalidJournalEntryException;
@@ -21,6 +23,7 @@ import org.walrex.domain.model.JournalEntry;
 import org.walrex.infrastructure.adapter.inbound.mapper.JournalEntryDtoMapper;
 
 import java.math.BigDecimal;
+import java.util.Optional;
 
 @Slf4j
 @Transactional
@@ -38,6 +41,12 @@ public class JournalEntryService implements
     @Inject
     JournalEntryQueryPort journalEntryQueryPort;
 
+    @Inject
+    JournalCorrelativePort journalCorrelativePort;
+
+    @Inject
+    AccountBalancePort accountBalancePort;
+
     @Inject
     JournalEntryDtoMapper journalEntryDtoMapper;
 
@@ -65,6 +74,10 @@ public class JournalEntryService implements
                 })
                 // 4. Save to database
                 .onItem().transformToUni(je -> journalEntryRepositoryPort.save(je))
+                // 5. Add to the account balances in the same transaction
+                .call(savedEntry -> savedEntry.isActive()
+                        ? accountBalancePort.post(savedEntry)
+                        : Uni.createFrom().voidItem())
                 .invoke(savedEntry -> log.info("Journal entry created with id: {}", savedEntry.getId()));
     }
 
@@ -129,6 +142,8 @@ public class JournalEntryService implements
                 // 3. Set the ID
                 .invoke(existingEntry -> journalEntry.setId(id))
                 // 4. Update in database
+                // TODO: when update is implemented, reverse the old lines and post the new ones
+                //  (accountBalancePort) in the same transaction, as void and delete do
                 .onItem().transformToUni(existingEntry -> journalEntryRepositoryPort.update(journalEntry))
                 .invoke(updatedEntry -> log.info("Journal entry {} updated", id));
     }
@@ -144,7 +159,13 @@ public class JournalEntryService implements
 
         // Check if entry exists first
         return findById(id)
-                .onItem().transformToUni(entry -> journalEntryRepositoryPort.softDelete(id))
+                .onItem().transformToUni(entry -> journalEntryRepositoryPort.softDelete(id)
+                        // Keyed on the status returned by the UPDATE, not on the one read above:
+                        // an entry voided in between was already reversed by the void
+                        .call(status -> status.orElse(null) == EntryStatus.ACTIVE
+                                ? accountBalancePort.reverse(entry)
+                                : Uni.createFrom().voidItem())
+                        .map(Optional::isPresent))
                 .invoke(deleted -> {
                     if (deleted) {
                         log.info("Journal entry {} soft deleted", id);
@@ -161,7 +182,12 @@ public class JournalEntryService implements
     public Uni<Boolean> restore(Integer id) {
         log.info("Restoring journal entry id: {}", id);
 
-        return journalEntryRepositoryPort.restore(id)
+        return journalEntryQueryPort.findByIdIncludingDeleted(id)
+                .onItem().transformToUni(entry -> journalEntryRepositoryPort.restore(id)
+                        .call(status -> entry.isPresent() && status.orElse(null) == EntryStatus.ACTIVE
+                                ? accountBalancePort.post(entry.get())
+                                : Uni.createFrom().voidItem())
+                        .map(Optional::isPresent))
                 .invoke(restored -> {
                     if (restored) {
                         log.info("Journal entry {} restored", id);
@@ -186,7 +212,11 @@ public class JournalEntryService implements
                         log.warn("Journal entry {} is already voided", id);
                     }
                 })
-                .onItem().transformToUni(entry -> journalEntryRepositoryPort.voidEntry(id))
+                .onItem().transformToUni(entry -> journalEntryRepositoryPort.voidEntry(id)
+                        // Only an entry that was ACTIVE changes state, so it is reversed exactly once
+                        .call(voided -> voided
+                                ? accountBalancePort.reverse(entry)
+                                : Uni.createFrom().voidItem()))
                 .invoke(voided -> {
                     if (voided) {
                         log.info("Journal entry {} voided", id);
@@ -261,23 +291,22 @@ public class JournalEntryService implements
      * Generates correlatives for the journal entry.
      * - operation_number: general correlative per year
      * - book_correlative: correlative per book type and year
+     *
+     * Both come from counters locked until the transaction commits. They are taken one after
+     * the other, always in the same order, so concurrent postings cannot deadlock on them.
      */
     private Uni<Void> generateCorrelatives(JournalEntry journalEntry) {
-        Integer year = journalEntry.getEntryDate().getYear();
-        String bookType = journalEntry.getBookType().name();
-
-        // Generate both correlatives in parallel
-        Uni<Integer> operationNumberUni = journalEntryQueryPort.getNextOperationNumber(year);
-        Uni<Integer> bookCorrelativeUni = journalEntryQueryPort.getNextBookCorrelative(bookType, year);
-
-        return Uni.combine().all().unis(operationNumberUni, bookCorrelativeUni)
-                .asTuple()
-                .invoke(tuple -> {
-                    journalEntry.setOperationNumber(tuple.getItem1());
-                    journalEntry.setBookCorrelative(tuple.getItem2());
-                    log.debug("Generated correlatives - Operation: {}, Book: {}",
-                            tuple.getItem1(), tuple.getItem2());
-                })
+        int year = journalEntry.getEntryDate().getYear();
+        AccountingBookType bookType = journalEntry.getBookType();
+
+        return journalCorrelativePort.reserveOperationNumbers(year, 1)
+                .chain(operation -> journalCorrelativePort.reserveBookCorrelatives(bookType, year, 1)
+                        .invoke(book -> {
+                            journalEntry.setOperationNumber(operation.first());
+                            journalEntry.setBookCorrelative(book.first());
+                            log.debug("Generated correlatives - Operation: {}, Book: {}",
+                                    operation.first(), book.first());
+                        }))
                 .replaceWithVoid();
     }
 }
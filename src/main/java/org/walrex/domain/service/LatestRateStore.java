@@ -0,0 +1,47 @@
+package org.walrex.domain.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Última tasa calculada por par (FROM/TO) en este nodo.
+ *
+ * La alimenta ExchangeRateService cada vez que obtiene una tasa nueva (se persista o solo
+ * se renueve el TTL), de modo que las tasas derivadas se calculan sin volver a Redis.
+ */
+@ApplicationScoped
+public class LatestRateStore {
+
+    private final ConcurrentHashMap<String, Entry> rates = new ConcurrentHashMap<>();
+
+    public void record(String currencyFrom, String currencyTo, BigDecimal rate) {
+        if (rate == null) {
+            return;
+        }
+        rates.put(pairKey(currencyFrom, currencyTo), new Entry(rate, Instant.now()));
+    }
+
+    /**
+     * Tasa del par si se registró hace menos de {@code maxAge}.
+     */
+    public Optional<BigDecimal> find(String pair, Duration maxAge) {
+        Entry entry = rates.get(pair.toUpperCase(Locale.ROOT));
+        if (entry == null || entry.recordedAt().isBefore(Instant.now().minus(maxAge))) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.rate());
+    }
+
+    public static String pairKey(String currencyFrom, String currencyTo) {
+        return (currencyFrom + "/" + currencyTo).toUpperCase(Locale.ROOT);
+    }
+
+    private record Entry(BigDecimal rate, Instant recordedAt) {
+    }
+}
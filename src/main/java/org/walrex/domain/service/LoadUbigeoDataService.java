@@ -9,6 +9,7 @@ import org.walrex.application.dto.request.LoadDataINEIRequest;
 import org.walrex.application.dto.request.UgibeoINEIRowRequest;
 import org.walrex.application.dto.response.LoadUbigeoDataResponse;
 import org.walrex.application.port.input.LoadUbigeoDataUseCase;
+import org.walrex.application.port.output.ReferenceDataCatalogPort;
 import org.walrex.application.port.output.UbigeoPersistencePort;
 import org.walrex.domain.model.Departament;
 import org.walrex.domain.model.District;
@@ -37,6 +38,9 @@ public class LoadUbigeoDataService implements LoadUbigeoDataUseCase {
     @Inject
     UbigeoPersistencePort ubigeoPersistencePort;
 
+    @Inject
+    ReferenceDataCatalogPort referenceDataCatalog;
+
     @Override
     @WithSpan("LoadUbigeoDataService.loadData")
     @LogExecutionTime(value = LogExecutionTime.LogLevel.INFO, logParameters = false, logReturn = false)
@@ -84,8 +88,9 @@ public class LoadUbigeoDataService implements LoadUbigeoDataUseCase {
             return Uni.createFrom().item(LoadUbigeoDataResponse.error("Algunos registros tienen estado inválido"));
         }
 
-        // Procesar registros dentro de una transacción
-        return processRecordsWithTransaction(request.records());
+        // Procesar registros dentro de una transacción; departamentos y provincias están en el catálogo en memoria
+        return processRecordsWithTransaction(request.records())
+                .eventually(referenceDataCatalog::markChanged);
     }
 
     /**
@@ -0,0 +1,197 @@
+package org.walrex.domain.service;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.walrex.application.port.output.MarketPriceTickPartitionPort;
+import org.walrex.domain.model.CandleInterval;
+import org.walrex.domain.model.TickPartition;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mantenimiento de particiones de market_price_tick.
+ *
+ * - Crea por adelantado particiones contiguas (diarias o mensuales, en UTC) a partir del
+ *   límite superior de la última existente, hasta {@code premake} periodos por delante.
+ * - Retención: las particiones que terminan antes de now - retention-days se agregan a
+ *   market_candle (rollup-intervals) y se eliminan con DROP, sin DELETE fila a fila.
+ * - Partición DEFAULT: recibe los ticks que llegan cuando el mantenimiento estuvo detenido
+ *   más de {@code premake} periodos. Al crear la partición de su rango se mueven a ella; los
+ *   que quedan fuera de retención se agregan y se borran de DEFAULT. Mientras DEFAULT tenga
+ *   filas, o la última partición termine a menos de {@link #HEADROOM_ALERT_PERIODS} periodos,
+ *   cada corrida lo registra como error.
+ */
+@Slf4j
+@ApplicationScoped
+public class MarketPriceTickRetentionService {
+
+    private static final String PARTITION_PREFIX = "market_price_tick_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+    static final int HEADROOM_ALERT_PERIODS = 2;
+
+    public enum Granularity { DAILY, MONTHLY }
+
+    @ConfigProperty(name = "market.tick.partition.granularity", defaultValue = "DAILY")
+    Granularity granularity;
+
+    @ConfigProperty(name = "market.tick.partition.premake", defaultValue = "7")
+    int premake;
+
+    @ConfigProperty(name = "market.tick.partition.retention-days", defaultValue = "90")
+    int retentionDays;
+
+    @ConfigProperty(name = "market.tick.partition.rollup-intervals", defaultValue = "1h,1d")
+    List<String> rollupIntervalCodes;
+
+    @Inject
+    MarketPriceTickPartitionPort partitionPort;
+
+    private List<CandleInterval> rollupIntervals;
+
+    @PostConstruct
+    void init() {
+        rollupIntervals = rollupIntervalCodes.stream().map(CandleInterval::fromCode).toList();
+    }
+
+    public Uni<Void> maintain(Instant now) {
+        return partitionPort.listPartitions()
+                .invoke(partitions -> checkHeadroom(partitions, now))
+                .chain(partitions -> createAhead(partitions, now).replaceWith(partitions))
+                .chain(partitions -> dropExpired(partitions, now))
+                .chain(() -> purgeExpiredDefault(now))
+                .chain(this::reportDefault);
+    }
+
+    /**
+     * Con el scheduler al día la última partición termina {@code premake} periodos por
+     * delante; si está a punto de alcanzarse, el mantenimiento estuvo detenido.
+     */
+    private void checkHeadroom(List<TickPartition> partitions, Instant now) {
+        LocalDate alertAt = periodStart(now);
+        for (int i = 0; i < HEADROOM_ALERT_PERIODS; i++) {
+            alertAt = nextPeriod(alertAt);
+        }
+        if (partitions.isEmpty()) {
+            log.error("[TickRetention] market_price_tick no tiene particiones de rango; los ticks van a DEFAULT");
+            return;
+        }
+        Instant lastTo = partitions.get(partitions.size() - 1).to();
+        if (!lastTo.isAfter(alertAt.atStartOfDay(ZoneOffset.UTC).toInstant())) {
+            log.error("[TickRetention] La última partición termina en {} (premake={}): el mantenimiento estuvo detenido",
+                    lastTo, premake);
+        }
+    }
+
+    private Uni<Void> createAhead(List<TickPartition> partitions, Instant now) {
+        LocalDate retentionStart = periodStart(now.minus(Duration.ofDays(retentionDays)));
+        LocalDate cursor = partitions.isEmpty()
+                ? periodStart(now)
+                : partitions.get(partitions.size() - 1).to().atZone(ZoneOffset.UTC).toLocalDate();
+        if (cursor.isBefore(retentionStart)) {
+            cursor = retentionStart;
+        }
+
+        LocalDate horizon = periodStart(now);
+        for (int i = 0; i <= premake; i++) {
+            horizon = nextPeriod(horizon);
+        }
+
+        List<LocalDate[]> ranges = new ArrayList<>();
+        while (cursor.isBefore(horizon)) {
+            LocalDate next = nextPeriod(cursor);
+            ranges.add(new LocalDate[]{cursor, next});
+            cursor = next;
+        }
+
+        if (ranges.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+
+        return Multi.createFrom().iterable(ranges)
+                .onItem().transformToUniAndConcatenate(range -> partitionPort.createPartition(
+                        PARTITION_PREFIX + range[0].format(PARTITION_SUFFIX),
+                        range[0].atStartOfDay(ZoneOffset.UTC).toInstant(),
+                        range[1].atStartOfDay(ZoneOffset.UTC).toInstant()))
+                .collect().asList()
+                .invoke(moved -> {
+                    log.info("[TickRetention] {} particiones {} creadas", moved.size(), granularity);
+                    long total = moved.stream().mapToLong(Long::longValue).sum();
+                    if (total > 0) {
+                        log.warn("[TickRetention] {} ticks movidos desde la partición DEFAULT", total);
+                    }
+                })
+                .replaceWithVoid();
+    }
+
+    private Uni<Void> dropExpired(List<TickPartition> partitions, Instant now) {
+        Instant cutoff = now.minus(Duration.ofDays(retentionDays));
+        List<TickPartition> expired = partitions.stream()
+                .filter(partition -> partition.endsBeforeOrAt(cutoff))
+                .toList();
+
+        if (expired.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+
+        return Multi.createFrom().iterable(expired)
+                .onItem().transformToUniAndConcatenate(partition -> partitionPort.rollupAndDrop(partition, rollupIntervals)
+                        .invoke(candles -> log.info("[TickRetention] Partición {} eliminada tras rollup de {} velas",
+                                partition.name(), candles))
+                        .onFailure().invoke(e -> log.error("[TickRetention] Error en rollup/drop de {}: {}",
+                                partition.name(), e.getMessage()))
+                        .onFailure().recoverWithItem(0L))
+                .collect().asList()
+                .replaceWithVoid();
+    }
+
+    /**
+     * Agrega y borra los ticks de DEFAULT fuera de retención. El corte se alinea al inicio
+     * del periodo para que ninguna vela quede repartida entre dos corridas.
+     */
+    private Uni<Void> purgeExpiredDefault(Instant now) {
+        Instant cutoff = periodStart(now.minus(Duration.ofDays(retentionDays))).atStartOfDay(ZoneOffset.UTC).toInstant();
+        return partitionPort.rollupAndPurgeDefault(cutoff, rollupIntervals)
+                .invoke(purged -> {
+                    if (purged > 0) {
+                        log.warn("[TickRetention] {} ticks anteriores a {} eliminados de DEFAULT tras rollup",
+                                purged, cutoff);
+                    }
+                })
+                .onFailure().invoke(e -> log.error("[TickRetention] Error en rollup/purga de DEFAULT: {}",
+                        e.getMessage()))
+                .onFailure().recoverWithItem(0L)
+                .replaceWithVoid();
+    }
+
+    private Uni<Void> reportDefault() {
+        return partitionPort.countDefaultRows()
+                .invoke(rows -> {
+                    if (rows > 0) {
+                        log.error("[TickRetention] La partición DEFAULT de market_price_tick tiene {} ticks", rows);
+                    }
+                })
+                .replaceWithVoid();
+    }
+
+    private LocalDate periodStart(Instant instant) {
+        LocalDate date = instant.atZone(ZoneOffset.UTC).toLocalDate();
+        return granularity == Granularity.MONTHLY ? date.withDayOfMonth(1) : date;
+    }
+
+    private LocalDate nextPeriod(LocalDate periodStart) {
+        return granularity == Granularity.MONTHLY
+                ? periodStart.withDayOfMonth(1).plusMonths(1)
+                : periodStart.plusDays(1);
+    }
+}
@@ -0,0 +1,105 @@
+package org.walrex.domain.service;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.walrex.application.port.output.NotificationOutboxPort;
+import org.walrex.application.port.output.PushNotificationPort;
+import org.walrex.domain.model.OutboxNotification;
+
+import java.time.Duration;
+
+/**
+ * Despacha en segundo plano las notificaciones de notification_outbox.
+ *
+ * - Reclama lotes vencidos y los envía uno tras otro (cada envío ya es un broadcast).
+ * - Un fallo devuelve la notificación a PENDING con backoff fijo hasta max-attempts.
+ *   Cuenta como fallo que ningún dispositivo haya recibido el broadcast; si llegó a
+ *   alguno se marca SENT, porque reintentar duplicaría el push a los que ya lo recibieron.
+ * - Antes de reclamar recupera las que quedaron en SENDING por una instancia caída.
+ */
+@Slf4j
+@ApplicationScoped
+public class NotificationOutboxDispatchService {
+
+    @ConfigProperty(name = "walrex.notification-outbox.batch-size", defaultValue = "50")
+    int batchSize;
+
+    @ConfigProperty(name = "walrex.notification-outbox.max-attempts", defaultValue = "5")
+    int maxAttempts;
+
+    @ConfigProperty(name = "walrex.notification-outbox.retry-after", defaultValue = "PT1M")
+    Duration retryAfter;
+
+    @ConfigProperty(name = "walrex.notification-outbox.stuck-after", defaultValue = "PT10M")
+    Duration stuckAfter;
+
+    @ConfigProperty(name = "walrex.notification-outbox.retention", defaultValue = "P7D")
+    Duration retention;
+
+    @Inject
+    NotificationOutboxPort outboxPort;
+
+    @Inject
+    PushNotificationPort pushNotificationPort;
+
+    /**
+     * Envía las notificaciones vencidas.
+     *
+     * @return Uni con la cantidad de notificaciones procesadas
+     */
+    public Uni<Integer> dispatchDue() {
+        return outboxPort.requeueStuck(stuckAfter, maxAttempts)
+                .invoke(requeued -> {
+                    if (requeued > 0) {
+                        log.warn("[NotificationOutbox] {} notificaciones recuperadas de SENDING", requeued);
+                    }
+                })
+                .chain(() -> outboxPort.claimDue(batchSize))
+                .chain(claimed -> {
+                    if (claimed.isEmpty()) {
+                        return Uni.createFrom().item(0);
+                    }
+                    log.info("[NotificationOutbox] Despachando {} notificaciones", claimed.size());
+                    return Multi.createFrom().iterable(claimed)
+                            .onItem().transformToUniAndConcatenate(this::send)
+                            .collect().asList()
+                            .map(done -> claimed.size());
+                });
+    }
+
+    /**
+     * Elimina las notificaciones terminadas más antiguas que la retención.
+     */
+    public Uni<Integer> purgeFinished() {
+        return outboxPort.purge(retention)
+                .invoke(deleted -> log.info("[NotificationOutbox] {} notificaciones antiguas eliminadas", deleted));
+    }
+
+    private Uni<Void> send(OutboxNotification notification) {
+        if (notification.data().isEmpty()) {
+            return outboxPort.markFailed(notification.id(), "empty payload", retryAfter, 0);
+        }
+
+        return pushNotificationPort.sendToAllActiveDevices(notification.data())
+                .chain(result -> {
+                    if (result.failedEntirely()) {
+                        String error = "no device received the push (" + result.failed() + " failures)";
+                        log.error("[NotificationOutbox] Error enviando {} (id {}, intento {}): {}",
+                                notification.coalesceKey(), notification.id(), notification.attempts(), error);
+                        return outboxPort.markFailed(notification.id(), error, retryAfter, maxAttempts);
+                    }
+                    return outboxPort.markSent(notification.id())
+                            .invoke(() -> log.debug("[NotificationOutbox] Enviada {} (id {}) a {} de {} dispositivos",
+                                    notification.coalesceKey(), notification.id(), result.sent(), result.devices()));
+                })
+                .onFailure().recoverWithUni(error -> {
+                    log.error("[NotificationOutbox] Error enviando {} (id {}, intento {}): {}",
+                            notification.coalesceKey(), notification.id(), notification.attempts(), error.getMessage());
+                    return outboxPort.markFailed(notification.id(), error.getMessage(), retryAfter, maxAttempts);
+                });
+    }
+}
@@ -12,6 +12,7 @@ import org.walrex.application.dto.response.OcupacionResponse;
 import org.walrex.application.port.input.OcupacionUseCase;
 import org.walrex.application.port.output.CachePort;
 import org.walrex.application.port.output.OcupacionRepositoryPort;
+import org.walrex.application.port.output.ReferenceDataCatalogPort;
 import org.walrex.domain.exception.DuplicateOcupacionException;
 import org.walrex.domain.exception.OcupacionNotFoundException;
 import org.walrex.domain.model.Ocupacion;
@@ -44,6 +45,9 @@ public class OcupacionDomainService implements OcupacionUseCase {
     @Inject
     OcupacionRestMapper ocupacionRestMapper;
 
+    @Inject
+    ReferenceDataCatalogPort referenceDataCatalog;
+
     @Override
     @WithTransaction
     public Uni<Ocupacion> createOcupacion(OcupacionCreateRequest request) {
@@ -55,6 +59,7 @@ public class OcupacionDomainService implements OcupacionUseCase {
                     ocupacion.setCreatedAt(LocalDateTime.now());
                     ocupacion.setUpdatedAt(LocalDateTime.now());
                     return ocupacionRepositoryPort.save(ocupacion)
+                            .invoke(savedOcupacion -> referenceDataCatalog.markChanged())
                             .call(savedOcupacion -> cachePort.invalidateAll());
                 });
     }
@@ -69,6 +74,7 @@ public class OcupacionDomainService implements OcupacionUseCase {
                     ocupacion.setId(id);
                     ocupacion.setUpdatedAt(LocalDateTime.now());
                     return ocupacionRepositoryPort.update(ocupacion)
+                            .invoke(updatedOcupacion -> referenceDataCatalog.markChanged())
                             .call(updatedOcupacion -> cachePort.invalidateAll());
                 });
     }
@@ -83,6 +89,7 @@ public class OcupacionDomainService implements OcupacionUseCase {
                     ocupacionToDelete.setStatus(0); // Logical delete
                     ocupacionToDelete.setUpdatedAt(LocalDateTime.now());
                     return ocupacionRepositoryPort.update(ocupacionToDelete)
+                            .invoke(updatedOcupacion -> referenceDataCatalog.markChanged())
                             .call(updatedOcupacion -> cachePort.invalidateAll())
                             .replaceWithVoid();
                 });
@@ -119,21 +126,13 @@ public class OcupacionDomainService implements OcupacionUseCase {
     @WithSession
     public Uni<List<OcupacionResponse>> findAllOcupacionesNoPaginated(String nombreFilter) {
         log.debug("Finding all ocupaciones (no paginated) with nameFilter: {}", nombreFilter);
-        String cacheKey = cacheKeyGenerator.generateKeyForFindAllNoPaginated(nombreFilter);
-
-        return cachePort.<OcupacionResponse>getList(cacheKey)
-                .onItem().ifNull().switchTo(() ->
-                    ocupacionRepositoryPort.findAllNoPaginated(nombreFilter)
-                        .map(ocupaciones -> ocupaciones.stream()
-                                .map(ocupacionRestMapper::toResponse)
-                                .collect(Collectors.toList()))
-                            .call(ocupacionResponses -> {
-                                if (!ocupacionResponses.isEmpty()) {
-                                    return cachePort.putList(cacheKey, ocupacionResponses, CACHE_TTL);
-                                }
-                                return Uni.createFrom().voidItem();
-                            })
-                );
+        // Catálogo en memoria: se recarga cuando cambia la tabla ocupaciones; hasta entonces, BD
+        return referenceDataCatalog.read(
+                        catalog -> catalog.ocupaciones(nombreFilter),
+                        () -> ocupacionRepositoryPort.findAllNoPaginated(nombreFilter))
+                .map(ocupaciones -> ocupaciones.stream()
+                        .map(ocupacionRestMapper::toResponse)
+                        .collect(Collectors.toList()));
     }
 
     private Uni<Void> validateUniqueness(String codigo, String nombre, Long excludeId) {
@@ -0,0 +1,204 @@
+package org.walrex.domain.service;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.walrex.application.port.input.GetPleExportUseCase;
+import org.walrex.application.port.input.RequestPleExportUseCase;
+import org.walrex.application.port.output.PleArtifactPort;
+import org.walrex.application.port.output.PleBookQueryPort;
+import org.walrex.application.port.output.PleExportJobPort;
+import org.walrex.domain.exception.PleConfigurationException;
+import org.walrex.domain.exception.PleExportJobNotFoundException;
+import org.walrex.domain.model.PleBook;
+import org.walrex.domain.model.PleCursor;
+import org.walrex.domain.model.PleExportJob;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SUNAT PLE exports (Libro Diario 5.1 / Libro Mayor 6.1) as background jobs.
+ *
+ * A request only queues the job. A worker claims it, streams the lines of the period from a
+ * database cursor and appends them to a partial TXT in batches of {@code checkpoint-rows};
+ * after each batch the last line and the file size are checkpointed. When the stream ends the
+ * TXT is zipped under its PLE file name. A crash or a failure resumes from the last checkpoint,
+ * and memory stays bounded by one batch whatever the size of the book.
+ *
+ * Every write of a worker is fenced by its attempt. Each attempt starts by copying the partial
+ * file of the last checkpoint into its own partial file and only writes to that one and to its
+ * own ZIP, so a stale worker can neither truncate the file a newer attempt is writing nor
+ * replace its ZIP. The partial files are removed once an attempt completed the job.
+ */
+@Slf4j
+@ApplicationScoped
+public class PleExportService implements RequestPleExportUseCase, GetPleExportUseCase {
+
+    @Inject
+    PleExportJobPort pleExportJobPort;
+
+    @Inject
+    PleBookQueryPort pleBookQueryPort;
+
+    @Inject
+    PleArtifactPort pleArtifactPort;
+
+    @ConfigProperty(name = "walrex.accounting.ple.ruc")
+    Optional<String> ruc;
+
+    @ConfigProperty(name = "walrex.accounting.ple.checkpoint-rows", defaultValue = "5000")
+    int checkpointRows;
+
+    @ConfigProperty(name = "walrex.accounting.ple.max-attempts", defaultValue = "3")
+    int maxAttempts;
+
+    @ConfigProperty(name = "walrex.accounting.ple.stuck-after", defaultValue = "PT10M")
+    Duration stuckAfter;
+
+    @Override
+    public Uni<PleExportJob> request(PleBook book, int year, int month) {
+        if (month < 1 || month > 12) {
+            return Uni.createFrom().failure(new IllegalArgumentException("Month must be between 1 and 12"));
+        }
+        if (year < 2000 || year > 9999) {
+            return Uni.createFrom().failure(new IllegalArgumentException("Invalid year: " + year));
+        }
+        if (ruc.filter(value -> value.matches("\\d{11}")).isEmpty()) {
+            return Uni.createFrom().failure(
+                    new PleConfigurationException("walrex.accounting.ple.ruc must be configured with an 11-digit RUC"));
+        }
+
+        return pleExportJobPort.enqueue(book, year, month)
+                .invoke(job -> log.info("PLE export {} requested for {} {}-{} ({})",
+                        job.id(), book.getFormat(), year, month, job.status()));
+    }
+
+    @Override
+    public Uni<PleExportJob> resume(Long id) {
+        return findById(id)
+                .chain(job -> pleExportJobPort.resume(id))
+                .chain(resumed -> {
+                    if (!resumed) {
+                        return Uni.createFrom().failure(new IllegalStateException(
+                                "PLE export " + id + " is not FAILED or another export of the same period is active"));
+                    }
+                    log.info("PLE export {} resumed", id);
+                    return findById(id);
+                });
+    }
+
+    @Override
+    public Uni<PleExportJob> findById(Long id) {
+        return pleExportJobPort.findById(id)
+                .chain(job -> job
+                        .map(value -> Uni.createFrom().item(value))
+                        .orElseGet(() -> Uni.createFrom().failure(new PleExportJobNotFoundException(id))));
+    }
+
+    /**
+     * Re-queues stuck jobs, then claims and runs the next pending one (if any).
+     */
+    public Uni<Void> runPending() {
+        return pleExportJobPort.requeueStuck(stuckAfter, maxAttempts)
+                .invoke(requeued -> {
+                    if (requeued > 0) {
+                        log.warn("[PLE] {} stuck export(s) re-queued", requeued);
+                    }
+                })
+                .chain(ignored -> pleExportJobPort.claimNext())
+                .chain(job -> job.map(this::run).orElseGet(() -> Uni.createFrom().voidItem()));
+    }
+
+    private Uni<Void> run(PleExportJob job) {
+        log.info("[PLE] Running export {} ({} {}-{}, attempt {}, from {} lines written)",
+                job.id(), job.book().getFormat(), job.year(), job.month(), job.attempts(), job.rowsWritten());
+        long startTime = System.currentTimeMillis();
+
+        Uni<Void> started = job.rowsTotal() != null
+                ? Uni.createFrom().voidItem()
+                : pleBookQueryPort.countLines(job.year(), job.month())
+                        .chain(total -> pleExportJobPort.start(job.id(), job.attempts(), total));
+
+        return started
+                .chain(() -> pleArtifactPort.adopt(job.id(), job.partAttempt(), job.attempts(), job.partBytes()))
+                .map(copied -> {
+                    if (copied >= job.partBytes()) {
+                        return job;
+                    }
+                    log.warn("[PLE] Partial file of export {} is shorter than its checkpoint ({} < {}), restarting",
+                            job.id(), copied, job.partBytes());
+                    return job.restarted();
+                })
+                .chain(this::export)
+                .chain(rowsWritten -> seal(job, rowsWritten))
+                .invoke(() -> log.info("[PLE] Export {} completed in {} ms",
+                        job.id(), System.currentTimeMillis() - startTime))
+                .onFailure().call(error -> {
+                    log.error("[PLE] Export {} failed on attempt {}: {}", job.id(), job.attempts(), error.getMessage());
+                    return pleExportJobPort.fail(job.id(), job.attempts(), String.valueOf(error.getMessage()), maxAttempts);
+                })
+                .onFailure().recoverWithNull();
+    }
+
+    /**
+     * Streams the remaining lines into the partial file.
+     *
+     * @return Uni with the total number of lines written
+     */
+    private Uni<Long> export(PleExportJob job) {
+        // [0] lines written, [1] size of the partial file; only touched by the sequential batches
+        long[] progress = {job.rowsWritten(), job.partBytes()};
+
+        return pleBookQueryPort.streamLines(job.book(), job.year(), job.month(), job.cursor())
+                .group().intoLists().of(checkpointRows)
+                .onItem().transformToUniAndConcatenate(batch -> {
+                    List<String> records = batch.stream()
+                            .map(line -> line.toRecord(job.year(), job.month()))
+                            .toList();
+                    PleCursor last = batch.get(batch.size() - 1).cursor();
+
+                    return pleArtifactPort.append(job.id(), job.attempts(), progress[1], records)
+                            .chain(size -> {
+                                progress[0] += batch.size();
+                                progress[1] = size;
+                                return pleExportJobPort.checkpoint(job.id(), job.attempts(), progress[0], last, size);
+                            })
+                            .chain(owned -> owned
+                                    ? Uni.createFrom().voidItem()
+                                    : pleArtifactPort.discardPart(job.id(), job.attempts())
+                                            .chain(() -> abandoned(job)));
+                })
+                .onItem().ignoreAsUni()
+                .map(ignored -> progress[0]);
+    }
+
+    private Uni<Void> seal(PleExportJob job, long rowsWritten) {
+        String fileName = job.book().fileName(ruc.orElseThrow(), job.year(), job.month(), rowsWritten > 0);
+
+        return pleArtifactPort.seal(job.id(), job.attempts(), fileName)
+                .chain(artifact -> pleExportJobPort.complete(
+                                job.id(), job.attempts(), fileName, artifact.filePath(), artifact.size())
+                        .chain(owned -> {
+                            if (owned) {
+                                // The job is already COMPLETED: a leftover partial file is only disk space
+                                return pleArtifactPort.discardParts(job.id())
+                                        .onFailure().invoke(error -> log.warn(
+                                                "[PLE] Could not remove the partial files of export {}: {}",
+                                                job.id(), error.getMessage()))
+                                        .onFailure().recoverWithNull();
+                            }
+                            return pleArtifactPort.discard(artifact)
+                                    .chain(() -> pleArtifactPort.discardPart(job.id(), job.attempts()))
+                                    .chain(() -> abandoned(job));
+                        }));
+    }
+
+    private static Uni<Void> abandoned(PleExportJob job) {
+        return Uni.createFrom().failure(new IllegalStateException("PLE export " + job.id()
+                + " was re-queued by another worker; abandoning attempt " + job.attempts()));
+    }
+}
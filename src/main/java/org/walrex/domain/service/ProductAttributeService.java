@@ -109,27 +109,16 @@ public class ProductAttributeService implements
         // Generar clave única de cache
         String cacheKey = ProductAttributeCacheKeyGenerator.generateKey(pageRequest, filter);
 
-        // Cache-aside pattern
-        return attributeCachePort.get(cacheKey)
-                .onItem().transformToUni(cachedResult -> {
-                    if (cachedResult != null) {
-                        log.debug("Returning cached result for key: {}", cacheKey);
-                        return Uni.createFrom().item(cachedResult);
-                    }
-
-                    // Cache miss - consultar DB
-                    log.debug("Cache miss for key: {}. Querying database.", cacheKey);
-                    return fetchFromDatabaseAndCache(pageRequest, filter, cacheKey);
-                });
+        // Cache-aside con protección contra estampidas (single-flight + recarga anticipada)
+        return attributeCachePort.getOrLoad(cacheKey, CACHE_TTL, () -> fetchFromDatabase(pageRequest, filter));
     }
 
     /**
-     * Consulta la DB y cachea el resultado.
+     * Consulta la DB; getOrLoad se encarga de cachear el resultado.
      */
-    private Uni<PagedResponse<ProductAttributeResponse>> fetchFromDatabaseAndCache(
+    private Uni<PagedResponse<ProductAttributeResponse>> fetchFromDatabase(
             PageRequest pageRequest,
-            ProductAttributeFilter filter,
-            String cacheKey) {
+            ProductAttributeFilter filter) {
 
         return attributeQueryPort.findAll(pageRequest, filter)
                 .onItem().transform(pagedResult -> {
@@ -144,11 +133,6 @@ public class ProductAttributeService implements
                             pagedResult.size(),
                             pagedResult.totalElements()
                     );
-                })
-                .call(result -> {
-                    // Cachear el resultado (fire-and-forget)
-                    log.debug("Caching result for key: {}", cacheKey);
-                    return attributeCachePort.put(cacheKey, result, CACHE_TTL);
                 });
     }
 
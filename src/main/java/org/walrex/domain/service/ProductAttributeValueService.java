@@ -131,27 +131,16 @@ public class ProductAttributeValueService implements
         // Generar clave única de cache
         String cacheKey = ProductAttributeValueCacheKeyGenerator.generateKey(pageRequest, filter);
 
-        // Cache-aside pattern
-        return valueCachePort.get(cacheKey)
-                .onItem().transformToUni(cachedResult -> {
-                    if (cachedResult != null) {
-                        log.debug("Returning cached result for key: {}", cacheKey);
-                        return Uni.createFrom().item(cachedResult);
-                    }
-
-                    // Cache miss - consultar DB
-                    log.debug("Cache miss for key: {}. Querying database.", cacheKey);
-                    return fetchFromDatabaseAndCache(pageRequest, filter, cacheKey);
-                });
+        // Cache-aside con protección contra estampidas (single-flight + recarga anticipada)
+        return valueCachePort.getOrLoad(cacheKey, CACHE_TTL, () -> fetchFromDatabase(pageRequest, filter));
     }
 
     /**
-     * Consulta la DB y cachea el resultado.
+     * Consulta la DB; getOrLoad se encarga de cachear el resultado.
      */
-    private Uni<PagedResponse<ProductAttributeValueResponse>> fetchFromDatabaseAndCache(
+    private Uni<PagedResponse<ProductAttributeValueResponse>> fetchFromDatabase(
             PageRequest pageRequest,
-            ProductAttributeValueFilter filter,
-            String cacheKey) {
+            ProductAttributeValueFilter filter) {
 
         return valueQueryPort.findAll(pageRequest, filter)
                 .onItem().transform(pagedResult -> {
@@ -166,11 +155,6 @@ public class ProductAttributeValueService implements
                             pagedResult.size(),
                             pagedResult.totalElements()
                     );
-                })
-                .call(result -> {
-                    // Cachear el resultado (fire-and-forget)
-                    log.debug("Caching result for key: {}", cacheKey);
-                    return valueCachePort.put(cacheKey, result, CACHE_TTL);
                 });
     }
 
@@ -107,27 +107,16 @@ public class ProductCategoryUomService implements
         // Generar clave única de cache
         String cacheKey = ProductCategoryUomCacheKeyGenerator.generateKey(pageRequest, filter);
 
-        // Cache-aside pattern
-        return categoryCachePort.get(cacheKey)
-                .onItem().transformToUni(cachedResult -> {
-                    if (cachedResult != null) {
-                        log.debug("Returning cached result for key: {}", cacheKey);
-                        return Uni.createFrom().item(cachedResult);
-                    }
-
-                    // Cache miss - consultar DB
-                    log.debug("Cache miss for key: {}. Querying database.", cacheKey);
-                    return fetchFromDatabaseAndCache(pageRequest, filter, cacheKey);
-                });
+        // Cache-aside con protección contra estampidas (single-flight + recarga anticipada)
+        return categoryCachePort.getOrLoad(cacheKey, CACHE_TTL, () -> fetchFromDatabase(pageRequest, filter));
     }
 
     /**
-     * Consulta la DB y cachea el resultado.
+     * Consulta la DB; getOrLoad se encarga de cachear el resultado.
      */
-    private Uni<PagedResponse<ProductCategoryUomResponse>> fetchFromDatabaseAndCache(
+    private Uni<PagedResponse<ProductCategoryUomResponse>> fetchFromDatabase(
             PageRequest pageRequest,
-            ProductCategoryUomFilter filter,
-            String cacheKey) {
+            ProductCategoryUomFilter filter) {
 
         return categoryQueryPort.findAll(pageRequest, filter)
                 .onItem().transform(pagedResult -> {
@@ -142,11 +131,6 @@ public class ProductCategoryUomService implements
                             pagedResult.size(),
                             pagedResult.totalElements()
                     );
-                })
-                .call(result -> {
-                    // Cachear el resultado (fire-and-forget)
-                    log.debug("Caching result for key: {}", cacheKey);
-                    return categoryCachePort.put(cacheKey, result, CACHE_TTL);
                 });
     }
 
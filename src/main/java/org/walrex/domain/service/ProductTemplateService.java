@@ -189,28 +189,17 @@ public class ProductTemplateService implements
         // Generar clave única de cache
         String cacheKey = ProductTemplateCacheKeyGenerator.generateKey(pageRequest, filter);
 
-        // Cache-aside pattern
-        return templateCachePort.get(cacheKey)
-                .onItem().transformToUni(cachedResult -> {
-                    if (cachedResult != null) {
-                        log.debug("Returning cached result for key: {}", cacheKey);
-                        return Uni.createFrom().item(cachedResult);
-                    }
-
-                    // Cache miss - consultar DB
-                    log.debug("Cache miss for key: {}. Querying database.", cacheKey);
-                    return fetchFromDatabaseAndCache(pageRequest, filter, cacheKey);
-                });
+        // Cache-aside con protección contra estampidas (single-flight + recarga anticipada)
+        return templateCachePort.getOrLoad(cacheKey, CACHE_TTL, () -> fetchFromDatabase(pageRequest, filter));
     }
 
     /**
-     * Consulta la DB y cachea el resultado.
+     * Consulta la DB; getOrLoad se encarga de cachear el resultado.
      * Usa SQL nativo con LEFT OUTER JOIN para evitar problemas de Hibernate Reactive.
      */
-    private Uni<PagedResponse<ProductTemplateResponse>> fetchFromDatabaseAndCache(
+    private Uni<PagedResponse<ProductTemplateResponse>> fetchFromDatabase(
             PageRequest pageRequest,
-            ProductTemplateFilter filter,
-            String cacheKey) {
+            ProductTemplateFilter filter) {
 
         // Usar query SQL nativa con LEFT OUTER JOIN
         Uni<List<Map<String, Object>>> dataUni = templateRepository.findWithFiltersNative(pageRequest, filter);
@@ -230,11 +219,6 @@ public class ProductTemplateService implements
                             pageRequest.getSize(),
                             tuple.getItem2()
                     );
-                })
-                .call(result -> {
-                    // Cachear el resultado (fire-and-forget)
-                    log.debug("Caching result for key: {}", cacheKey);
-                    return templateCachePort.put(cacheKey, result, CACHE_TTL);
                 });
     }
 
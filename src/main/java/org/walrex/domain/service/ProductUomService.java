@@ -134,30 +134,19 @@ public class ProductUomService implements
         // Generar clave única de cache
         String cacheKey = ProductUomCacheKeyGenerator.generateKey(pageRequest, filter);
 
-        // Cache-aside pattern
-        return uomCachePort.get(cacheKey)
-                .onItem().transformToUni(cachedResult -> {
-                    if (cachedResult != null) {
-                        log.debug("Returning cached result for key: {}", cacheKey);
-                        return Uni.createFrom().item(cachedResult);
-                    }
-
-                    // Cache miss - consultar DB
-                    log.debug("Cache miss for key: {}. Querying database.", cacheKey);
-                    return fetchFromDatabaseAndCache(pageRequest, filter, cacheKey);
-                });
+        // Cache-aside con protección contra estampidas (single-flight + recarga anticipada)
+        return uomCachePort.getOrLoad(cacheKey, CACHE_TTL, () -> fetchFromDatabase(pageRequest, filter));
     }
 
     /**
-     * Consulta la DB y cachea el resultado.
+     * Consulta la DB; getOrLoad se encarga de cachear el resultado.
      *
      * IMPORTANTE: Usa el repository directamente para obtener entidades con JOIN FETCH,
      * luego convierte a response con mapper que extrae categoryCode y categoryName.
      */
-    private Uni<PagedResponse<ProductUomResponse>> fetchFromDatabaseAndCache(
+    private Uni<PagedResponse<ProductUomResponse>> fetchFromDatabase(
             PageRequest pageRequest,
-            ProductUomFilter filter,
-            String cacheKey) {
+            ProductUomFilter filter) {
 
         // Obtener entidades con JOIN FETCH (incluye category)
         Uni<List<ProductUomEntity>> dataUni = uomRepository.findWithFilters(pageRequest, filter)
@@ -179,11 +168,6 @@ public class ProductUomService implements
                             pageRequest.getSize(),
                             tuple.getItem2()
                     );
-                })
-                .call(result -> {
-                    // Cachear el resultado (fire-and-forget)
-                    log.debug("Caching result for key: {}", cacheKey);
-                    return uomCachePort.put(cacheKey, result, CACHE_TTL);
                 });
     }
 
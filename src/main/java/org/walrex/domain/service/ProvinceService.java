@@ -13,6 +13,7 @@ import org.walrex.application.dto.response.ProvinceResponse;
 import org.walrex.application.port.input.*;
 import org.walrex.application.port.output.ProvinceQueryPort;
 import org.walrex.application.port.output.ProvinceRepositoryPort;
+import org.walrex.application.port.output.ReferenceDataCatalogPort;
 import org.walrex.domain.exception.DuplicateProvinceException;
 import org.walrex.domain.exception.ProvinceNotFoundException;
 import org.walrex.domain.model.Province;
@@ -37,6 +38,9 @@ public class ProvinceService implements
     @Inject
     ProvinceDtoMapper dtoMapper;
 
+    @Inject
+    ReferenceDataCatalogPort referenceDataCatalog;
+
     @Inject
     GetDepartmentRegionalUseCase getDepartmentUseCase;
 
@@ -86,7 +90,8 @@ public class ProvinceService implements
                     province.setDepartament(departament);
                     return validateUniqueness(province.getCode(), province.getName(), departmentId, null)
                             .onItem().transformToUni(v -> repositoryPort.save(province));
-                });
+                })
+                .invoke(saved -> referenceDataCatalog.markChanged());
     }
 
     @Override
@@ -105,33 +110,45 @@ public class ProvinceService implements
                                 province.setDepartament(existing.getDepartament());
                                 return repositoryPort.update(province);
                             });
-                });
+                })
+                .invoke(updated -> referenceDataCatalog.markChanged());
     }
 
     @Override
     public Uni<Void> deshabilitar(Integer id) {
         log.info("Soft deleting province id: {}", id);
         return repositoryPort.softDelete(id)
+                .invoke(deleted -> {
+                    if (deleted) {
+                        referenceDataCatalog.markChanged();
+                    }
+                })
                 .replaceWithVoid();
     }
 
     @Override
     public Uni<Province> findById(Integer id) {
-        return queryPort.findById(id)
+        return referenceDataCatalog.lookup(
+                        catalog -> catalog.findProvinceById(id),
+                        () -> queryPort.findById(id))
                 .onItem().transform(optional -> optional.orElseThrow(
                         () -> new ProvinceNotFoundException(id)));
     }
 
     @Override
     public Uni<Province> findByCode(String code) {
-        return queryPort.findByCode(code)
+        return referenceDataCatalog.lookup(
+                        catalog -> catalog.findProvinceByCode(code),
+                        () -> queryPort.findByCode(code))
                 .onItem().transform(optional -> optional.orElseThrow(
                         () -> new ProvinceNotFoundException("code", code)));
     }
 
     @Override
     public Uni<Province> findByName(String name) {
-        return queryPort.findByName(name)
+        return referenceDataCatalog.lookup(
+                        catalog -> catalog.findProvinceByName(name),
+                        () -> queryPort.findByName(name))
                 .onItem().transform(optional -> optional.orElseThrow(
                         () -> new ProvinceNotFoundException("name", name)));
     }
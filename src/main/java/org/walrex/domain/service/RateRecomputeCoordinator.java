@@ -0,0 +1,179 @@
+package org.walrex.domain.service;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.walrex.application.port.input.UpdateAstroPayExchangeRateUseCase;
+import org.walrex.application.port.input.UpdateExchangeRatesUseCase;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Coordina el recálculo de tasas disparado por movimientos de mercado.
+ *
+ * - Debounce: el primer disparo abre una ventana de debounce-ms; los disparos que llegan
+ *   dentro de la ventana se acumulan (por moneda) y se procesan juntos al vencer.
+ * - Incremental: solo se recalculan las rutas ASTROPAY y BINANCE de las monedas afectadas,
+ *   y las tasas derivadas que dependen de ellas (ver {@link DerivedExchangeRateService}).
+ * - Exclusión: nunca corren a la vez dos ciclos (incrementales o refrescos completos).
+ *   Si la ventana vence con un ciclo en curso, se procesa en la siguiente revisión; un
+ *   refresco completo pedido con un ciclo en curso queda diferido y corre en la siguiente
+ *   revisión, antes que cualquier ventana.
+ */
+@Slf4j
+@ApplicationScoped
+public class RateRecomputeCoordinator {
+
+    @ConfigProperty(name = "finnhub.recompute.debounce-ms", defaultValue = "3000")
+    long debounceMs;
+
+    @Inject
+    UpdateAstroPayExchangeRateUseCase updateAstroPayUseCase;
+
+    @Inject
+    UpdateExchangeRatesUseCase updateExchangeRatesUseCase;
+
+    @Inject
+    DerivedExchangeRateService derivedRateService;
+
+    private final Set<String> pendingCurrencies = new HashSet<>();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private Instant windowDeadline;
+    private DeferredRefresh deferredRefresh;
+
+    /**
+     * Registra que la moneda necesita recálculo. No bloquea ni dispara el recálculo.
+     */
+    public synchronized void requestRecompute(String currencyCode, String trigger) {
+        if (currencyCode == null || currencyCode.isBlank()) {
+            return;
+        }
+        boolean added = pendingCurrencies.add(currencyCode.toUpperCase(Locale.ROOT));
+        if (windowDeadline == null) {
+            windowDeadline = Instant.now().plus(Duration.ofMillis(debounceMs));
+            log.info("[RateRecompute] Ventana abierta por {} ({}), vence en {}ms", currencyCode, trigger, debounceMs);
+        } else if (added) {
+            log.info("[RateRecompute] {} ({}) agregado a la ventana en curso: {}", currencyCode, trigger, pendingCurrencies);
+        }
+    }
+
+    /**
+     * Procesa las monedas acumuladas si la ventana venció y no hay otro ciclo en curso.
+     */
+    public Uni<Void> runDue(Instant now) {
+        if (!running.compareAndSet(false, true)) {
+            return Uni.createFrom().voidItem();
+        }
+
+        DeferredRefresh deferred = takeDeferredRefresh();
+        if (deferred != null) {
+            log.info("{} Ejecutando refresco completo diferido", deferred.context());
+            return fullRefresh(deferred.refresh());
+        }
+        if (!isDue(now)) {
+            running.set(false);
+            return Uni.createFrom().voidItem();
+        }
+
+        Set<String> currencies = takePending();
+        if (currencies.isEmpty()) {
+            running.set(false);
+            return Uni.createFrom().voidItem();
+        }
+
+        log.info("[RateRecompute] Recalculando rutas para {}", currencies);
+        return Multi.createFrom().iterable(currencies)
+                .onItem().transformToUniAndConcatenate(this::recomputeCurrency)
+                .collect().asList()
+                .chain(() -> derivedRateService.recomputeAffectedBy(currencies))
+                .invoke(() -> log.info("[RateRecompute] Recálculo completo para {}", currencies))
+                .eventually(() -> running.set(false));
+    }
+
+    /**
+     * Ejecuta un refresco completo en exclusión mutua con los ciclos incrementales.
+     * Si ya hay un ciclo en curso, el refresco se difiere a la siguiente revisión de {@link #runDue}
+     * (si se pide varias veces, corre una sola vez).
+     */
+    public Uni<Void> runFullRefresh(String context, Supplier<Uni<Void>> refresh) {
+        if (!running.compareAndSet(false, true)) {
+            deferRefresh(new DeferredRefresh(context, refresh));
+            log.info("{} Recálculo en curso — refresco completo diferido", context);
+            return Uni.createFrom().voidItem();
+        }
+        return fullRefresh(refresh);
+    }
+
+    /**
+     * El refresco completo cubre las rutas de las monedas pendientes, pero no las tasas
+     * derivadas: esas se recalculan al terminar para las monedas que estaban en la ventana.
+     * Requiere haber tomado {@code running}.
+     */
+    private Uni<Void> fullRefresh(Supplier<Uni<Void>> refresh) {
+        Set<String> currencies = takePending();
+        return Uni.createFrom().deferred(refresh::get)
+                .chain(() -> currencies.isEmpty()
+                        ? Uni.createFrom().voidItem()
+                        : derivedRateService.recomputeAffectedBy(currencies)
+                                .invoke(() -> log.info("[RateRecompute] Derivadas recalculadas tras refresco completo para {}", currencies)))
+                // Si el refresco falla, las monedas vuelven a la ventana para el ciclo incremental
+                .onFailure().invoke(() -> restorePending(currencies))
+                .eventually(() -> running.set(false));
+    }
+
+    private Uni<Void> recomputeCurrency(String currencyCode) {
+        return updateAstroPayUseCase.updateRatesForCurrency(currencyCode)
+                .onFailure().invoke(e ->
+                        log.error("[RateRecompute] Error en rutas ASTROPAY de {}: {}", currencyCode, e.getMessage()))
+                .onFailure().recoverWithNull()
+                .chain(() -> updateExchangeRatesUseCase.updateExchangeRatesForCurrency(currencyCode))
+                .onFailure().invoke(e ->
+                        log.error("[RateRecompute] Error en rutas BINANCE de {}: {}", currencyCode, e.getMessage()))
+                .onFailure().recoverWithNull()
+                .replaceWithVoid();
+    }
+
+    private synchronized boolean isDue(Instant now) {
+        return windowDeadline != null && !now.isBefore(windowDeadline);
+    }
+
+    private synchronized void deferRefresh(DeferredRefresh refresh) {
+        deferredRefresh = refresh;
+    }
+
+    private synchronized DeferredRefresh takeDeferredRefresh() {
+        DeferredRefresh taken = deferredRefresh;
+        deferredRefresh = null;
+        return taken;
+    }
+
+    private synchronized void restorePending(Set<String> currencies) {
+        if (currencies.isEmpty()) {
+            return;
+        }
+        pendingCurrencies.addAll(currencies);
+        if (windowDeadline == null) {
+            windowDeadline = Instant.now();
+        }
+    }
+
+    private synchronized Set<String> takePending() {
+        Set<String> taken = new TreeSet<>(pendingCurrencies);
+        pendingCurrencies.clear();
+        windowDeadline = null;
+        return taken;
+    }
+
+    private record DeferredRefresh(String context, Supplier<Uni<Void>> refresh) {
+    }
+}
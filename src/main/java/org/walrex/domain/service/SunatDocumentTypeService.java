@@ -12,6 +12,7 @@ import org.walrex.application.dto.response.AvailabilityResponse;
 import org.walrex.application.dto.response.PagedResponse;
 import org.walrex.application.dto.response.SunatDocumentTypeResponse;
 import org.walrex.application.port.input.*;
+import org.walrex.application.port.output.ReferenceDataCatalogPort;
 import org.walrex.application.port.output.SunatDocumentTypeQueryPort;
 import org.walrex.application.port.output.SunatDocumentTypeRepositoryPort;
 import org.walrex.domain.exception.DuplicateSunatDocumentTypeException;
@@ -54,6 +55,9 @@ public class SunatDocumentTypeService implements
     @Inject
     SunatDocumentTypeDtoMapper dtoMapper;
 
+    @Inject
+    ReferenceDataCatalogPort referenceDataCatalog;
+
     // ==================== CreateSunatDocumentTypeUseCase ====================
 
     /**
@@ -68,7 +72,10 @@ public class SunatDocumentTypeService implements
         // Validar unicidad de ID y código
         return validateUniqueness(documentType.getId(), documentType.getCode(), null)
                 .onItem().transformToUni(v -> repositoryPort.save(documentType))
-                .invoke(saved -> log.info("SUNAT document type created successfully with ID: {}", saved.getId()));
+                .invoke(saved -> {
+                    referenceDataCatalog.markChanged();
+                    log.info("SUNAT document type created successfully with ID: {}", saved.getId());
+                });
     }
 
     // ==================== ListSunatDocumentTypeUseCase ====================
@@ -130,7 +137,9 @@ public class SunatDocumentTypeService implements
     @Override
     public Uni<SunatDocumentType> findById(Integer id) {
         log.info("Getting SUNAT document type by id: {}", id);
-        return queryPort.findById(id)
+        return referenceDataCatalog.lookup(
+                        catalog -> catalog.findSunatDocumentTypeById(id),
+                        () -> queryPort.findById(id))
                 .onItem().transform(optional -> optional.orElseThrow(
                         () -> new SunatDocumentTypeNotFoundException(id)
                 ));
@@ -144,7 +153,9 @@ public class SunatDocumentTypeService implements
     @Override
     public Uni<SunatDocumentType> findByCode(String code) {
         log.info("Getting SUNAT document type by code: {}", code);
-        return queryPort.findByCode(code)
+        return referenceDataCatalog.lookup(
+                        catalog -> catalog.findSunatDocumentTypeByCode(code),
+                        () -> queryPort.findByCode(code))
                 .onItem().transform(optional -> optional.orElseThrow(
                         () -> new SunatDocumentTypeNotFoundException("SUNAT document type not found with code: " + code)
                 ));
@@ -164,8 +175,12 @@ public class SunatDocumentTypeService implements
 
         // Validar unicidad del código excluyendo el ID actual
         // El ID no se valida porque no se puede cambiar
+        // El registro actual se lee de BD: el catálogo en memoria puede ir unos milisegundos atrasado
         return validateUniqueness(null, documentType.getCode(), id.toString())
-                .onItem().transformToUni(v -> findById(id))
+                .onItem().transformToUni(v -> queryPort.findById(id))
+                .onItem().transform(optional -> optional.orElseThrow(
+                        () -> new SunatDocumentTypeNotFoundException(id)
+                ))
                 .onItem().transformToUni(existing -> {
                     documentType.setId(id);
 
@@ -177,7 +192,10 @@ public class SunatDocumentTypeService implements
 
                     return repositoryPort.update(documentType);
                 })
-                .invoke(updated -> log.info("SUNAT document type updated successfully: {}", id));
+                .invoke(updated -> {
+                    referenceDataCatalog.markChanged();
+                    log.info("SUNAT document type updated successfully: {}", id);
+                });
     }
 
     // ==================== DeleteSunatDocumentTypeUseCase ====================
@@ -191,6 +209,7 @@ public class SunatDocumentTypeService implements
         return repositoryPort.deactivate(id)
                 .invoke(deactivated -> {
                     if (deactivated) {
+                        referenceDataCatalog.markChanged();
                         log.info("SUNAT document type deactivated successfully: {}", id);
                     } else {
                         log.warn("SUNAT document type not found or already inactive: {}", id);
@@ -207,6 +226,7 @@ public class SunatDocumentTypeService implements
         return repositoryPort.activate(id)
                 .invoke(activated -> {
                     if (activated) {
+                        referenceDataCatalog.markChanged();
                         log.info("SUNAT document type activated successfully: {}", id);
                     } else {
                         log.warn("SUNAT document type not found or already active: {}", id);
@@ -13,6 +13,7 @@ import org.walrex.application.dto.response.PagedResponse;
 import org.walrex.application.dto.response.SystemDocumentTypeResponse;
 import org.walrex.application.dto.response.SystemDocumentTypeSelectResponse;
 import org.walrex.application.port.input.*;
+import org.walrex.application.port.output.ReferenceDataCatalogPort;
 import org.walrex.application.port.output.SystemDocumentTypeCachePort;
 import org.walrex.application.port.output.SystemDocumentTypeQueryPort;
 import org.walrex.application.port.output.SystemDocumentTypeRepositoryPort;
@@ -53,6 +54,9 @@ public class SystemDocumentTypeService implements
     @Inject
     SystemDocumentTypeDtoMapper systemDocumentTypeDtoMapper;
 
+    @Inject
+    ReferenceDataCatalogPort referenceDataCatalog;
+
     private static final Duration CACHE_TTL = Duration.ofMinutes(5);
 
     /**
@@ -68,6 +72,7 @@ public class SystemDocumentTypeService implements
                 .call(savedDocumentType -> {
                     // Invalidar cache después de crear
                     log.debug("Invalidating system document type cache after creation");
+                    referenceDataCatalog.markChanged();
                     return systemDocumentTypeCachePort.invalidateAll();
                 });
     }
@@ -90,18 +95,8 @@ public class SystemDocumentTypeService implements
         // Generar clave única de cache
         String cacheKey = SystemDocumentTypeCacheKeyGenerator.generateKey(pageRequest, filter);
 
-        // Cache-aside pattern
-        return systemDocumentTypeCachePort.get(cacheKey)
-                .onItem().transformToUni(cachedResult -> {
-                    if (cachedResult != null) {
-                        log.debug("Returning cached result for key: {}", cacheKey);
-                        return Uni.createFrom().item(cachedResult);
-                    }
-
-                    // Cache miss - consultar DB
-                    log.debug("Cache miss for key: {}. Querying database.", cacheKey);
-                    return fetchFromDatabaseAndCache(pageRequest, filter, cacheKey);
-                });
+        // Cache-aside con protección contra estampidas (single-flight + recarga anticipada)
+        return systemDocumentTypeCachePort.getOrLoad(cacheKey, CACHE_TTL, () -> fetchFromDatabase(pageRequest, filter));
     }
 
     /**
@@ -122,17 +117,17 @@ public class SystemDocumentTypeService implements
                 .call(updatedDocumentType -> {
                     // Invalidar cache después de actualizar
                     log.debug("Invalidating system document type cache after update");
+                    referenceDataCatalog.markChanged();
                     return systemDocumentTypeCachePort.invalidateAll();
                 });
     }
 
     /**
-     * Consulta la DB y cachea el resultado.
+     * Consulta la DB; getOrLoad se encarga de cachear el resultado.
      */
-    private Uni<PagedResponse<SystemDocumentTypeResponse>> fetchFromDatabaseAndCache(
+    private Uni<PagedResponse<SystemDocumentTypeResponse>> fetchFromDatabase(
             PageRequest pageRequest,
-            SystemDocumentTypeFilter filter,
-            String cacheKey) {
+            SystemDocumentTypeFilter filter) {
 
         return systemDocumentTypeQueryPort.findAll(pageRequest, filter)
                 .onItem().transform(pagedResult -> {
@@ -146,11 +141,6 @@ public class SystemDocumentTypeService implements
                             pagedResult.page() + 1,
                             pagedResult.size(),
                             pagedResult.totalElements());
-                })
-                .call(result -> {
-                    // Cachear el resultado (fire-and-forget)
-                    log.debug("Caching result for key: {}", cacheKey);
-                    return systemDocumentTypeCachePort.put(cacheKey, result, CACHE_TTL);
                 });
     }
 
@@ -229,7 +219,9 @@ public class SystemDocumentTypeService implements
     @Override
     public Uni<SystemDocumentType> findById(Long id) {
         log.info("Getting system document type by id: {}", id);
-        return systemDocumentTypeQueryPort.findById(id)
+        return referenceDataCatalog.lookup(
+                        catalog -> catalog.findSystemDocumentTypeById(id),
+                        () -> systemDocumentTypeQueryPort.findById(id))
                 .onItem().transform(optional -> optional.orElseThrow(
                         () -> new SystemDocumentTypeNotFoundException(id)));
     }
@@ -240,7 +232,9 @@ public class SystemDocumentTypeService implements
     @Override
     public Uni<SystemDocumentType> findByCode(String code) {
         log.info("Getting system document type by code: {}", code);
-        return systemDocumentTypeQueryPort.findByCode(code)
+        return referenceDataCatalog.lookup(
+                        catalog -> catalog.findSystemDocumentTypeByCode(code),
+                        () -> systemDocumentTypeQueryPort.findByCode(code))
                 .onItem().transform(optional -> optional.orElseThrow(
                         () -> new SystemDocumentTypeNotFoundException(
                                 "System document type not found with code: " + code)));
@@ -316,6 +310,7 @@ public class SystemDocumentTypeService implements
                     if (deleted) {
                         // Invalidar cache después de eliminar
                         log.debug("Invalidating system document type cache after deletion");
+                        referenceDataCatalog.markChanged();
                         return systemDocumentTypeCachePort.invalidateAll();
                     }
                     return Uni.createFrom().voidItem();
@@ -330,6 +325,7 @@ public class SystemDocumentTypeService implements
                     if (restored) {
                         // Invalidar cache después de restaurar
                         log.debug("Invalidating system document type cache after restoration");
+                        referenceDataCatalog.markChanged();
                         return systemDocumentTypeCachePort.invalidateAll();
                     }
                     return Uni.createFrom().voidItem();
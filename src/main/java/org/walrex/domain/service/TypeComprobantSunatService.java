@@ -6,7 +6,9 @@ import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
 import org.walrex.application.dto.response.TypeComprobantSunatSelectResponse;
 import org.walrex.application.port.input.GetAllTypeComprobantsSunatUseCase;
+import org.walrex.application.port.output.ReferenceDataCatalogPort;
 import org.walrex.application.port.output.TypeComprobantSunatQueryPort;
+import org.walrex.domain.model.ReferenceDataSnapshot;
 import org.walrex.infrastructure.adapter.inbound.mapper.TypeComprobantSunatDtoMapper;
 
 import java.util.List;
@@ -15,6 +17,9 @@ import java.util.List;
 @ApplicationScoped
 public class TypeComprobantSunatService implements GetAllTypeComprobantsSunatUseCase {
 
+    @Inject
+    ReferenceDataCatalogPort referenceDataCatalog;
+
     @Inject
     TypeComprobantSunatQueryPort queryPort;
 
@@ -23,13 +28,14 @@ public class TypeComprobantSunatService implements GetAllTypeComprobantsSunatUse
 
     /**
      * Obtiene todos los tipos de comprobantes SUNAT.
-     * Los resultados se ordenan por código SUNAT.
+     * Los resultados se ordenan por código SUNAT y se sirven del catálogo en memoria
+     * (de la BD si cambió y todavía no se recargó).
      */
     @Override
     public Uni<List<TypeComprobantSunatSelectResponse>> execute() {
         log.info("Getting all type comprobants SUNAT");
 
-        return queryPort.findAll()
-                .onItem().transform(dtoMapper::toSelectResponseList);
+        return referenceDataCatalog.read(ReferenceDataSnapshot::typeComprobants, queryPort::findAll)
+                .map(dtoMapper::toSelectResponseList);
     }
 }
@@ -5,7 +5,9 @@ import org.mapstruct.Mapper;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.ReportingPolicy;
 import org.walrex.application.dto.response.ExchangeRateResponse;
+import org.walrex.application.dto.response.PriceLadderResponse;
 import org.walrex.domain.model.ExchangeCalculation;
+import org.walrex.domain.model.PriceLadder;
 
 /**
  * Mapper para convertir entre modelo de dominio y DTOs de Exchange Rate.
@@ -26,4 +28,12 @@ public interface ExchangeRateMapper {
      * @return DTO de respuesta con todos los detalles del cálculo
      */
     ExchangeRateResponse toResponse(ExchangeCalculation calculation);
+
+    /**
+     * Convierte la escalera de precios a DTO de respuesta.
+     *
+     * @param ladder Cotizaciones de la ruta para varios montos
+     * @return DTO de respuesta con un punto por monto
+     */
+    PriceLadderResponse toLadderResponse(PriceLadder ladder);
 }
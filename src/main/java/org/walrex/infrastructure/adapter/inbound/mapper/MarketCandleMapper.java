@@ -0,0 +1,27 @@
+package org.walrex.infrastructure.adapter.inbound.mapper;
+
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+import org.walrex.application.dto.response.MarketCandleResponse;
+import org.walrex.domain.model.MarketCandle;
+
+import java.util.List;
+
+/**
+ * Mapper para convertir velas OHLC de dominio a DTOs de respuesta.
+ */
+@Mapper(
+        componentModel = MappingConstants.ComponentModel.CDI,
+        unmappedTargetPolicy = ReportingPolicy.IGNORE,
+        injectionStrategy = InjectionStrategy.CONSTRUCTOR
+)
+public interface MarketCandleMapper {
+
+    @Mapping(target = "closeTime", expression = "java(candle.closeTime())")
+    MarketCandleResponse.Bar toBar(MarketCandle candle);
+
+    List<MarketCandleResponse.Bar> toBars(List<MarketCandle> candles);
+}
@@ -0,0 +1,221 @@
+package org.walrex.infrastructure.adapter.inbound.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.walrex.application.port.output.ReferenceDataCatalogPort;
+import org.walrex.domain.model.ReferenceDataSnapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Respuestas pre-serializadas de los endpoints de catálogo servidos desde el catálogo en memoria.
+ *
+ * - Cada catálogo guarda su JSON ya codificado, su versión gzip y un ETag fuerte (SHA-256 del JSON).
+ * - Solo se vuelve a serializar cuando cambia el snapshot de datos de referencia; mientras tanto
+ *   las respuestas son copias de bytes.
+ * - Mientras el catálogo no está al día (hubo un cambio y la recarga no terminó) el caso de uso
+ *   lee la BD: esa respuesta se codifica pero no se guarda, porque no corresponde al snapshot.
+ * - {@code If-None-Match} con el ETag vigente responde 304 sin llamar al caso de uso.
+ * - La versión gzip lleva su propio ETag (sufijo {@code -gz}) porque es otra representación.
+ *
+ * Métricas: {@code walrex.catalog.responses{catalog, result=not_modified|cached|encoded|uncached}}.
+ */
+@Slf4j
+@ApplicationScoped
+public class CatalogResponseCache {
+
+    private static final String APPLICATION_JSON = "application/json";
+    private static final String CACHE_CONTROL = "no-cache";
+    private static final String GZIP_SUFFIX = "-gz";
+
+    @Inject
+    ReferenceDataCatalogPort referenceDataCatalog;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private final Map<String, EncodedResponse> responses = new ConcurrentHashMap<>();
+
+    /**
+     * Responde el catálogo en un handler de Vert.x Web.
+     *
+     * @param catalog Nombre del catálogo (clave interna y tag de métricas)
+     * @param loader  Caso de uso que produce el cuerpo; solo se llama si cambió el snapshot
+     */
+    public Uni<Void> send(RoutingContext rc, String catalog, Supplier<Uni<?>> loader) {
+        return current(catalog, loader)
+                .invoke(encoded -> {
+                    boolean gzip = acceptsGzip(rc.request().getHeader(HttpHeaderNames.ACCEPT_ENCODING));
+                    HttpServerResponse response = rc.response()
+                            .putHeader(HttpHeaderNames.ETAG, encoded.etag(gzip))
+                            .putHeader(HttpHeaderNames.CACHE_CONTROL, CACHE_CONTROL)
+                            .putHeader(HttpHeaderNames.VARY, HttpHeaderNames.ACCEPT_ENCODING);
+
+                    if (encoded.matches(rc.request().getHeader(HttpHeaderNames.IF_NONE_MATCH))) {
+                        count(catalog, "not_modified");
+                        response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+                        return;
+                    }
+                    response.setStatusCode(HttpResponseStatus.OK.code())
+                            .putHeader(HttpHeaderNames.CONTENT_TYPE, APPLICATION_JSON);
+                    if (gzip) {
+                        response.putHeader(HttpHeaderNames.CONTENT_ENCODING, "gzip")
+                                .end(Buffer.buffer(encoded.gzip()));
+                    } else {
+                        response.end(Buffer.buffer(encoded.json()));
+                    }
+                })
+                .replaceWithVoid();
+    }
+
+    /**
+     * Igual que {@link #send} para recursos JAX-RS.
+     */
+    public Uni<Response> respond(String catalog, String ifNoneMatch, String acceptEncoding,
+                                 Supplier<Uni<?>> loader) {
+        return current(catalog, loader)
+                .map(encoded -> {
+                    boolean gzip = acceptsGzip(acceptEncoding);
+                    Response.ResponseBuilder builder;
+                    if (encoded.matches(ifNoneMatch)) {
+                        count(catalog, "not_modified");
+                        builder = Response.notModified();
+                    } else if (gzip) {
+                        builder = Response.ok(encoded.gzip(), APPLICATION_JSON)
+                                .header(HttpHeaderNames.CONTENT_ENCODING.toString(), "gzip");
+                    } else {
+                        builder = Response.ok(encoded.json(), APPLICATION_JSON);
+                    }
+                    return builder
+                            .header(HttpHeaderNames.ETAG.toString(), encoded.etag(gzip))
+                            .header(HttpHeaderNames.CACHE_CONTROL.toString(), CACHE_CONTROL)
+                            .header(HttpHeaderNames.VARY.toString(), HttpHeaderNames.ACCEPT_ENCODING.toString())
+                            .build();
+                });
+    }
+
+    private Uni<EncodedResponse> current(String catalog, Supplier<Uni<?>> loader) {
+        return referenceDataCatalog.snapshot().chain(snapshot -> {
+            boolean current = referenceDataCatalog.isCurrent();
+            EncodedResponse cached = responses.get(catalog);
+            if (current && cached != null && cached.source() == snapshot) {
+                count(catalog, "cached");
+                return Uni.createFrom().item(cached);
+            }
+            return loader.get().map(body -> {
+                EncodedResponse encoded = encode(snapshot, body);
+                if (!current) {
+                    count(catalog, "uncached");
+                    return encoded;
+                }
+                responses.put(catalog, encoded);
+                count(catalog, "encoded");
+                log.debug("[CatalogResponse] {} codificado: {} bytes ({} gzip), ETag {}",
+                        catalog, encoded.json().length, encoded.gzip().length, encoded.etag());
+                return encoded;
+            });
+        });
+    }
+
+    private EncodedResponse encode(ReferenceDataSnapshot source, Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            String etag = Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+            return new EncodedResponse(source, json, gzip(json), etag);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] coding = part.trim().split(";");
+            if (coding[0].trim().equals("gzip")) {
+                return coding.length == 1 || !coding[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private void count(String catalog, String result) {
+        Counter.builder("walrex.catalog.responses")
+                .tag("catalog", catalog)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Respuesta codificada para un snapshot concreto.
+     *
+     * @param source Snapshot con el que se generó; se compara por identidad
+     * @param etag   Valor del ETag sin comillas para la representación sin comprimir
+     */
+    private record EncodedResponse(ReferenceDataSnapshot source, byte[] json, byte[] gzip, String etag) {
+
+        String etag(boolean gzip) {
+            return "\"" + etag + (gzip ? GZIP_SUFFIX : "") + "\"";
+        }
+
+        /**
+         * Comparación débil de If-None-Match (RFC 9110 §13.1.2): vale cualquiera de las dos representaciones.
+         */
+        boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*")) {
+                    return true;
+                }
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals(etag(false)) || tag.equals(etag(true))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -5,12 +5,14 @@ import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.inject.Inject;
@@ -43,6 +45,9 @@ public class OcupacionResource {
     @Inject
     OcupacionRestMapper ocupacionRestMapper;
 
+    @Inject
+    CatalogResponseCache catalogResponses;
+
     @POST
     @Operation(summary = "Crear una nueva ocupación",
             description = "Registra una nueva ocupación en el sistema con un código y nombre únicos.")
@@ -153,10 +158,18 @@ public class OcupacionResource {
     @APIResponse(responseCode = "200", description = "Listado de todas las ocupaciones",
             content = @Content(mediaType = MediaType.APPLICATION_JSON,
                     schema = @Schema(implementation = OcupacionResponse.class)))
+    @APIResponse(responseCode = "304", description = "Sin cambios respecto al ETag enviado en If-None-Match (solo sin filtro)")
     public Uni<Response> getAllOcupacionesNoPaginated(
             @QueryParam("nombreFilter") @DefaultValue("")
             @Parameter(description = "Filtro por nombre de ocupación", required = false)
-            String nombreFilter) {
+            String nombreFilter,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
+        if (nombreFilter.isBlank()) {
+            // Listado completo: respuesta pre-serializada con ETag
+            return catalogResponses.respond("ocupaciones", ifNoneMatch, acceptEncoding,
+                    () -> ocupacionUseCase.findAllOcupacionesNoPaginated(null));
+        }
         return ocupacionUseCase.findAllOcupacionesNoPaginated(nombreFilter)
                 .map(Response::ok)
                 .map(Response.ResponseBuilder::build);
@@ -0,0 +1,41 @@
+package org.walrex.infrastructure.adapter.inbound.rest.report;
+
+import org.walrex.domain.model.LedgerRow;
+import org.walrex.domain.model.TrialBalanceRow;
+
+import java.util.List;
+
+/**
+ * Column layouts of the accounting reports.
+ */
+public final class AccountingReportColumns {
+
+    public static final List<ReportColumn<TrialBalanceRow>> TRIAL_BALANCE = List.of(
+            new ReportColumn<>("code", "Cuenta", TrialBalanceRow::code),
+            new ReportColumn<>("name", "Denominación", TrialBalanceRow::name),
+            new ReportColumn<>("rollup", "Subtotal", row -> row.rollup() ? "S" : ""),
+            new ReportColumn<>("opening", "Saldo inicial", TrialBalanceRow::opening),
+            new ReportColumn<>("debit", "Debe", TrialBalanceRow::debit),
+            new ReportColumn<>("credit", "Haber", TrialBalanceRow::credit),
+            new ReportColumn<>("closing", "Saldo final", TrialBalanceRow::closing),
+            new ReportColumn<>("debitBalance", "Saldo deudor", TrialBalanceRow::debitBalance),
+            new ReportColumn<>("creditBalance", "Saldo acreedor", TrialBalanceRow::creditBalance)
+    );
+
+    public static final List<ReportColumn<LedgerRow>> GENERAL_LEDGER = List.of(
+            new ReportColumn<>("kind", "Tipo", row -> row.kind().name()),
+            new ReportColumn<>("accountCode", "Cuenta", LedgerRow::accountCode),
+            new ReportColumn<>("accountName", "Denominación", LedgerRow::accountName),
+            new ReportColumn<>("entryDate", "Fecha", LedgerRow::entryDate),
+            new ReportColumn<>("bookType", "Libro", LedgerRow::bookType),
+            new ReportColumn<>("operationNumber", "N° operación", LedgerRow::operationNumber),
+            new ReportColumn<>("bookCorrelative", "Correlativo", LedgerRow::bookCorrelative),
+            new ReportColumn<>("description", "Glosa", LedgerRow::description),
+            new ReportColumn<>("debit", "Debe", LedgerRow::debit),
+            new ReportColumn<>("credit", "Haber", LedgerRow::credit),
+            new ReportColumn<>("balance", "Saldo", LedgerRow::balance)
+    );
+
+    private AccountingReportColumns() {
+    }
+}
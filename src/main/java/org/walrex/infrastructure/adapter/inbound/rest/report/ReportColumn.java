@@ -0,0 +1,13 @@
+package org.walrex.infrastructure.adapter.inbound.rest.report;
+
+import java.util.function.Function;
+
+/**
+ * Column of a tabular report.
+ *
+ * @param key    Field name in JSON
+ * @param header Column title in CSV and XLSX
+ * @param value  Value of the column for a row (String, Number, LocalDate or null)
+ */
+public record ReportColumn<T>(String key, String header, Function<T, Object> value) {
+}
@@ -0,0 +1,284 @@
+package org.walrex.infrastructure.adapter.inbound.rest.report;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.xssf.streaming.SXSSFRow;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.walrex.domain.model.ReportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Writes a stream of report rows to the HTTP response without materializing the report.
+ *
+ * - JSON and CSV: chunked response; rows are encoded in groups of {@code chunk-rows} and the
+ *   next group is only requested from the database once the previous one was written, so a
+ *   slow client slows the cursor down instead of filling the heap.
+ * - XLSX: POI streaming workbook (only {@code xlsx-window} rows in memory, the rest flushed to a
+ *   temporary file) built on a worker thread, then sent with sendFile and deleted.
+ *
+ * Errors before the first byte become a JSON error (400 for IllegalArgumentException); once the
+ * response has started the connection is reset so the client never takes a truncated file as complete.
+ */
+@Slf4j
+@ApplicationScoped
+public class StreamingReportResponder {
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    @ConfigProperty(name = "walrex.accounting.reports.chunk-rows", defaultValue = "500")
+    int chunkRows;
+
+    @ConfigProperty(name = "walrex.accounting.reports.xlsx-window", defaultValue = "200")
+    int xlsxWindow;
+
+    public <T> Uni<Void> send(RoutingContext rc, Multi<T> rows, List<ReportColumn<T>> columns,
+                              ReportFormat format, String fileName) {
+        Uni<Void> sending = format == ReportFormat.XLSX
+                ? sendXlsx(rc, rows, columns, fileName)
+                : sendChunked(rc, rows, columns, format, fileName);
+        return sending.onFailure().invoke(error -> fail(rc, error))
+                .onFailure().recoverWithNull();
+    }
+
+    // ==================== JSON / CSV ====================
+
+    private <T> Uni<Void> sendChunked(RoutingContext rc, Multi<T> rows, List<ReportColumn<T>> columns,
+                                      ReportFormat format, String fileName) {
+        HttpServerResponse response = rc.response();
+        boolean json = format == ReportFormat.JSON;
+        boolean[] firstRow = {true};
+
+        return rows.group().intoLists().of(chunkRows)
+                .onItem().transformToUniAndConcatenate(batch -> {
+                    Buffer chunk = Buffer.buffer();
+                    if (!response.headWritten()) {
+                        start(response, format, fileName);
+                        chunk.appendBuffer(json ? Buffer.buffer("[") : csvHeader(columns));
+                    }
+                    for (T row : batch) {
+                        if (json) {
+                            chunk.appendString(firstRow[0] ? "" : ",").appendString(toJson(row, columns).encode());
+                        } else {
+                            chunk.appendString(toCsv(row, columns));
+                        }
+                        firstRow[0] = false;
+                    }
+                    return write(response, chunk);
+                })
+                .onItem().ignoreAsUni()
+                .chain(() -> {
+                    Buffer tail = Buffer.buffer();
+                    if (!response.headWritten()) {
+                        start(response, format, fileName);
+                        tail.appendBuffer(json ? Buffer.buffer("[") : csvHeader(columns));
+                    }
+                    if (json) {
+                        tail.appendString("]");
+                    }
+                    return Uni.createFrom().completionStage(() -> response.end(tail).toCompletionStage());
+                });
+    }
+
+    private static void start(HttpServerResponse response, ReportFormat format, String fileName) {
+        response.setStatusCode(HttpResponseStatus.OK.code())
+                .setChunked(true)
+                .putHeader(HttpHeaderNames.CONTENT_TYPE, format.getContentType())
+                .putHeader(HttpHeaderNames.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + fileName + "." + format.getExtension() + "\"");
+    }
+
+    private static Uni<Void> write(HttpServerResponse response, Buffer chunk) {
+        return Uni.createFrom().completionStage(() -> response.write(chunk).toCompletionStage());
+    }
+
+    private static <T> JsonObject toJson(T row, List<ReportColumn<T>> columns) {
+        JsonObject object = new JsonObject();
+        for (ReportColumn<T> column : columns) {
+            Object value = column.value().apply(row);
+            object.put(column.key(), value instanceof LocalDate date ? date.toString() : value);
+        }
+        return object;
+    }
+
+    private static <T> Buffer csvHeader(List<ReportColumn<T>> columns) {
+        StringBuilder line = new StringBuilder();
+        for (ReportColumn<T> column : columns) {
+            appendCsv(line, column.header());
+        }
+        line.setCharAt(line.length() - 1, '\n');
+        // BOM: Excel abre el CSV como UTF-8 (tildes, ñ)
+        return Buffer.buffer(UTF8_BOM).appendString(line.toString());
+    }
+
+    private static <T> String toCsv(T row, List<ReportColumn<T>> columns) {
+        StringBuilder line = new StringBuilder();
+        for (ReportColumn<T> column : columns) {
+            Object value = column.value().apply(row);
+            appendCsv(line, value instanceof BigDecimal amount ? amount.toPlainString()
+                    : value == null ? "" : value.toString());
+        }
+        line.setCharAt(line.length() - 1, '\n');
+        return line.toString();
+    }
+
+    private static void appendCsv(StringBuilder line, String value) {
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0) {
+            line.append('"').append(value.replace("\"", "\"\"")).append('"');
+        } else {
+            line.append(value);
+        }
+        line.append(',');
+    }
+
+    // ==================== XLSX ====================
+
+    private <T> Uni<Void> sendXlsx(RoutingContext rc, Multi<T> rows, List<ReportColumn<T>> columns, String fileName) {
+        return Uni.createFrom().item(() -> new XlsxReport<>(columns, xlsxWindow))
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+                .chain(report -> rows
+                        .emitOn(Infrastructure.getDefaultWorkerPool())
+                        .onItem().invoke(report::append)
+                        .onItem().ignoreAsUni()
+                        .map(ignored -> report.writeToTempFile(fileName))
+                        .eventually(report::close))
+                .chain(path -> {
+                    HttpServerResponse response = rc.response()
+                            .setStatusCode(HttpResponseStatus.OK.code())
+                            .putHeader(HttpHeaderNames.CONTENT_TYPE, ReportFormat.XLSX.getContentType())
+                            .putHeader(HttpHeaderNames.CONTENT_DISPOSITION,
+                                    "attachment; filename=\"" + fileName + "." + ReportFormat.XLSX.getExtension() + "\"");
+                    return Uni.createFrom().completionStage(() -> response.sendFile(path.toString()).toCompletionStage())
+                            .eventually(() -> Uni.createFrom().completionStage(
+                                    () -> rc.vertx().fileSystem().delete(path.toString()).toCompletionStage()));
+                });
+    }
+
+    /**
+     * Hoja XLSX en streaming: SXSSF mantiene {@code window} filas en memoria y baja el resto a disco.
+     */
+    private static final class XlsxReport<T> implements AutoCloseable {
+
+        private final List<ReportColumn<T>> columns;
+        private final SXSSFWorkbook workbook;
+        private final SXSSFSheet sheet;
+        private final CellStyle amountStyle;
+        private final CellStyle dateStyle;
+        private int rowIndex;
+
+        private XlsxReport(List<ReportColumn<T>> columns, int window) {
+            this.columns = columns;
+            this.workbook = new SXSSFWorkbook(window);
+            this.workbook.setCompressTempFiles(true);
+            this.sheet = workbook.createSheet("Reporte");
+
+            amountStyle = workbook.createCellStyle();
+            amountStyle.setDataFormat(workbook.createDataFormat().getFormat("#,##0.00"));
+            dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+
+            CellStyle headerStyle = workbook.createCellStyle();
+            Font bold = workbook.createFont();
+            bold.setBold(true);
+            headerStyle.setFont(bold);
+            SXSSFRow header = sheet.createRow(rowIndex++);
+            for (int i = 0; i < columns.size(); i++) {
+                Cell cell = header.createCell(i);
+                cell.setCellValue(columns.get(i).header());
+                cell.setCellStyle(headerStyle);
+            }
+            sheet.createFreezePane(0, 1);
+        }
+
+        private void append(T row) {
+            SXSSFRow excelRow = sheet.createRow(rowIndex++);
+            for (int i = 0; i < columns.size(); i++) {
+                Object value = columns.get(i).value().apply(row);
+                if (value == null) {
+                    continue;
+                }
+                Cell cell = excelRow.createCell(i);
+                if (value instanceof BigDecimal amount) {
+                    cell.setCellValue(amount.doubleValue());
+                    cell.setCellStyle(amountStyle);
+                } else if (value instanceof Number number) {
+                    cell.setCellValue(number.doubleValue());
+                } else if (value instanceof LocalDate date) {
+                    cell.setCellValue(date);
+                    cell.setCellStyle(dateStyle);
+                } else {
+                    cell.setCellValue(value.toString());
+                }
+            }
+        }
+
+        private Path writeToTempFile(String fileName) {
+            try {
+                Path path = Files.createTempFile("walrex-" + fileName + "-", ".xlsx");
+                try (OutputStream out = Files.newOutputStream(path)) {
+                    workbook.write(out);
+                }
+                log.debug("[Report] {} escrito: {} filas en {}", fileName, rowIndex - 1, path);
+                return path;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                workbook.close();
+            } catch (IOException e) {
+                log.warn("[Report] No se pudo cerrar el libro XLSX: {}", e.getMessage());
+            }
+        }
+    }
+
+    // ==================== Errors ====================
+
+    private static void fail(RoutingContext rc, Throwable error) {
+        HttpServerResponse response = rc.response();
+        if (response.ended() || response.closed()) {
+            log.warn("[Report] Error after the response ended: {}", error.getMessage());
+            return;
+        }
+        if (response.headWritten()) {
+            log.error("[Report] Error while streaming, resetting the connection", error);
+            response.reset();
+            return;
+        }
+        boolean badRequest = error instanceof IllegalArgumentException;
+        if (!badRequest) {
+            log.error("[Report] Error generating report", error);
+        }
+        HttpResponseStatus status = badRequest ? HttpResponseStatus.BAD_REQUEST : HttpResponseStatus.INTERNAL_SERVER_ERROR;
+        response.setStatusCode(status.code())
+                .putHeader(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                .end(new JsonObject()
+                        .put("code", badRequest ? "BAD_REQUEST" : "INTERNAL_ERROR")
+                        .put("message", error.getMessage())
+                        .encode());
+    }
+}
@@ -0,0 +1,87 @@
+package org.walrex.infrastructure.adapter.inbound.rest.resource;
+
+import io.quarkus.hibernate.reactive.panache.common.WithSession;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.walrex.application.dto.response.AccountPeriodBalanceResponse;
+import org.walrex.application.dto.response.ErrorResponse;
+import org.walrex.application.port.input.GetAccountBalanceUseCase;
+import org.walrex.domain.model.AccountPeriodBalance;
+
+/**
+ * Consulta de saldos por cuenta y periodo mensual (lectura directa de account_period_balance)
+ */
+@Path("/api/v1/account-balances")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Saldos contables", description = "Movimientos por cuenta y periodo")
+public class AccountBalanceResource {
+
+    @Inject
+    GetAccountBalanceUseCase getAccountBalanceUseCase;
+
+    @GET
+    @WithSession
+    @Operation(summary = "Saldos del periodo", description = "Movimientos de todas las cuentas con actividad en el mes")
+    @APIResponses({
+            @APIResponse(responseCode = "200", description = "Saldos obtenidos exitosamente"),
+            @APIResponse(responseCode = "400", description = "Periodo inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public Uni<Response> findByPeriod(
+            @Parameter(description = "Año del periodo", required = true) @QueryParam("year") int year,
+            @Parameter(description = "Mes del periodo (1-12)", required = true) @QueryParam("month") int month) {
+        return getAccountBalanceUseCase.findByPeriod(year, month)
+                .map(balances -> Response.ok(balances.stream()
+                        .map(AccountBalanceResource::toResponse)
+                        .toList()).build())
+                .onFailure(IllegalArgumentException.class).recoverWithItem(AccountBalanceResource::badRequest);
+    }
+
+    @GET
+    @Path("/{accountId}")
+    @WithSession
+    @Operation(summary = "Saldo de una cuenta", description = "Movimientos de la cuenta en el mes (cero si no tuvo)")
+    @APIResponses({
+            @APIResponse(responseCode = "200", description = "Saldo obtenido exitosamente",
+                    content = @Content(schema = @Schema(implementation = AccountPeriodBalanceResponse.class))),
+            @APIResponse(responseCode = "400", description = "Periodo inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public Uni<Response> findByAccount(
+            @PathParam("accountId") Integer accountId,
+            @Parameter(description = "Año del periodo", required = true) @QueryParam("year") int year,
+            @Parameter(description = "Mes del periodo (1-12)", required = true) @QueryParam("month") int month) {
+        return getAccountBalanceUseCase.findByAccountAndPeriod(accountId, year, month)
+                .map(balance -> Response.ok(toResponse(balance)).build())
+                .onFailure(IllegalArgumentException.class).recoverWithItem(AccountBalanceResource::badRequest);
+    }
+
+    private static AccountPeriodBalanceResponse toResponse(AccountPeriodBalance balance) {
+        return new AccountPeriodBalanceResponse(
+                balance.accountId(),
+                balance.year(),
+                balance.month(),
+                balance.debit(),
+                balance.credit(),
+                balance.net(),
+                balance.lineCount()
+        );
+    }
+
+    private static Response badRequest(Throwable error) {
+        return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse(400, "Bad Request", error.getMessage()))
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package org.walrex.infrastructure.adapter.inbound.rest.resource;
+
+import io.quarkus.hibernate.reactive.panache.common.WithTransaction;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.walrex.application.dto.response.AccountBalanceRebuildResponse;
+import org.walrex.application.dto.response.ErrorResponse;
+import org.walrex.application.port.input.RebuildAccountBalancesUseCase;
+
+/**
+ * Endpoint administrativo para reconstruir los saldos contables por periodo
+ */
+@Slf4j
+@Path("/api/v1/admin/account-balances")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@ApplicationScoped
+@Tag(name = "Admin - Saldos contables", description = "Mantenimiento de los saldos por periodo")
+public class AdminAccountBalanceResource {
+
+    @Inject
+    RebuildAccountBalancesUseCase rebuildAccountBalancesUseCase;
+
+    @POST
+    @Path("/rebuild")
+    @WithTransaction
+    @Operation(
+            summary = "Reconstruir saldos",
+            description = "Recalcula account_period_balance desde los asientos. Normalmente no hace falta: "
+                    + "los saldos se actualizan al contabilizar; usar tras cargas masivas o correcciones por SQL"
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Saldos reconstruidos exitosamente",
+                    content = @Content(schema = @Schema(implementation = AccountBalanceRebuildResponse.class))
+            ),
+            @APIResponse(
+                    responseCode = "500",
+                    description = "Error al reconstruir; se conservan los saldos anteriores",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public Uni<Response> rebuild(
+            @Parameter(description = "Año a reconstruir; sin valor reconstruye todos") @QueryParam("year") Integer year) {
+        log.info("Admin request: Rebuild account balances for {}", year != null ? year : "all years");
+        long startTime = System.currentTimeMillis();
+
+        return rebuildAccountBalancesUseCase.rebuild(year)
+                .map(rows -> Response.ok(new AccountBalanceRebuildResponse(
+                        year, rows, System.currentTimeMillis() - startTime)).build())
+                .onFailure().recoverWithItem(error -> {
+                    ErrorResponse errorResponse = new ErrorResponse(
+                            500,
+                            "Internal Server Error",
+                            "Error al reconstruir saldos: " + error.getMessage()
+                    );
+                    return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                            .entity(errorResponse)
+                            .build();
+                });
+    }
+}
@@ -0,0 +1,86 @@
+package org.walrex.infrastructure.adapter.inbound.rest.resource;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.walrex.application.dto.response.ErrorResponse;
+import org.walrex.application.dto.response.ReferenceDataRefreshResponse;
+import org.walrex.application.port.output.ReferenceDataCatalogPort;
+
+/**
+ * Endpoint administrativo para el catálogo en memoria de datos de referencia
+ */
+@Slf4j
+@Path("/api/v1/admin/reference-data")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@ApplicationScoped
+@Tag(name = "Admin - Reference Data", description = "Administración del catálogo de datos de referencia")
+public class AdminReferenceDataResource {
+
+    @Inject
+    ReferenceDataCatalogPort referenceDataCatalog;
+
+    @POST
+    @Path("/refresh")
+    @Operation(
+            summary = "Recargar datos de referencia",
+            description = "Recarga desde BD países, monedas, tipos de documento, tipos de comprobante, ocupaciones, "
+                    + "departamentos, provincias e instituciones financieras. "
+                    + "Normalmente no hace falta: los cambios se notifican con LISTEN/NOTIFY"
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Catálogo recargado exitosamente",
+                    content = @Content(schema = @Schema(implementation = ReferenceDataRefreshResponse.class))
+            ),
+            @APIResponse(
+                    responseCode = "500",
+                    description = "Error al recargar el catálogo; se conserva el anterior",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    public Uni<Response> refresh() {
+        log.info("Admin request: Refresh reference data");
+        long startTime = System.currentTimeMillis();
+
+        return referenceDataCatalog.refresh()
+                .map(snapshot -> {
+                    ReferenceDataRefreshResponse response = new ReferenceDataRefreshResponse(
+                            snapshot.countries().size(),
+                            snapshot.currencies().size(),
+                            snapshot.systemDocumentTypes().size(),
+                            snapshot.sunatDocumentTypes().size(),
+                            snapshot.typeComprobants().size(),
+                            snapshot.ocupaciones().size(),
+                            snapshot.departaments().size(),
+                            snapshot.provinces().size(),
+                            snapshot.payoutRailInstitutions().size(),
+                            snapshot.loadedAt(),
+                            System.currentTimeMillis() - startTime
+                    );
+                    return Response.ok(response).build();
+                })
+                .onFailure().recoverWithItem(error -> {
+                    ErrorResponse errorResponse = new ErrorResponse(
+                            500,
+                            "Internal Server Error",
+                            "Error al recargar datos de referencia: " + error.getMessage()
+                    );
+                    return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                            .entity(errorResponse)
+                            .build();
+                });
+    }
+}
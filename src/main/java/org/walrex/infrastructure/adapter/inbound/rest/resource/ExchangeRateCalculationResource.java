@@ -18,9 +18,12 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import org.walrex.application.dto.request.ExchangeRateRequest;
+import org.walrex.application.dto.request.PriceLadderRequest;
 import org.walrex.application.dto.response.ErrorResponse;
 import org.walrex.application.dto.response.ExchangeRateResponse;
+import org.walrex.application.dto.response.PriceLadderResponse;
 import org.walrex.application.port.input.CalculateExchangeRateUseCase;
+import org.walrex.application.port.input.CalculatePriceLadderUseCase;
 import org.walrex.domain.exception.ExchangeRateTimeoutException;
 import org.walrex.infrastructure.adapter.inbound.mapper.ExchangeRateMapper;
 
@@ -40,6 +43,9 @@ public class ExchangeRateCalculationResource {
     @Inject
     CalculateExchangeRateUseCase calculateExchangeRateUseCase;
 
+    @Inject
+    CalculatePriceLadderUseCase calculatePriceLadderUseCase;
+
     @Inject
     ExchangeRateMapper exchangeRateMapper;
 
@@ -102,6 +108,58 @@ public class ExchangeRateCalculationResource {
                 .recoverWithItem(this::mapExceptionToResponse);
     }
 
+    @POST
+    @Path("/ladder")
+    @Operation(
+            summary = "Calcular escalera de precios",
+            description = "Cotiza varios montos de una misma ruta en una sola llamada, filtrando en memoria " +
+                    "los anuncios P2P elegibles para cada monto. Pensado para el slider de montos."
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Cálculo exitoso",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = PriceLadderResponse.class)
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "400",
+                    description = "Datos de entrada inválidos o no existe ruta configurada",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "504",
+                    description = "Tiempo de espera agotado - El cálculo excedió el tiempo máximo permitido",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public Uni<Response> calculatePriceLadder(@Valid PriceLadderRequest request) {
+        log.info("Received price ladder request: {} amounts {} -> {}",
+                request.amounts().size(), request.baseCurrency(), request.quoteCurrency());
+
+        return calculatePriceLadderUseCase.calculatePriceLadder(
+                        request.amounts(),
+                        request.baseCodeCountry(),
+                        request.baseCurrency(),
+                        request.quoteCodeCountry(),
+                        request.quoteCurrency(),
+                        request.margin(),
+                        request.typeRate()
+                )
+                .map(exchangeRateMapper::toLadderResponse)
+                .map(response -> Response.ok(response).build())
+                .onFailure()
+                .recoverWithItem(this::mapExceptionToResponse);
+    }
+
     /**
      * Mapea excepciones a respuestas HTTP apropiadas.
      */
@@ -1,8 +1,10 @@
 package org.walrex.infrastructure.adapter.inbound.rest.resource;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
@@ -20,8 +22,14 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import org.walrex.application.dto.response.ErrorResponse;
 import org.walrex.application.dto.response.ExchangeRateQueryResponse;
 import org.walrex.application.port.input.GetExchangeRateUseCase;
+import org.walrex.application.port.input.StreamExchangeRatesUseCase;
+import org.walrex.domain.model.RateCorridor;
 import org.walrex.infrastructure.adapter.inbound.rest.security.JwtSecurityInterceptor;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 @Slf4j
 @Path("/api/v1/exchange/rate")
 @Produces(MediaType.APPLICATION_JSON)
@@ -32,6 +40,9 @@ public class ExchangeRateQueryResource {
     @Inject
     GetExchangeRateUseCase getExchangeRateUseCase;
 
+    @Inject
+    StreamExchangeRatesUseCase streamExchangeRatesUseCase;
+
     @Inject
     JwtSecurityInterceptor jwtSecurityInterceptor;
 
@@ -103,6 +114,35 @@ public class ExchangeRateQueryResource {
                 .recoverWithItem(this::mapExceptionToResponse);
     }
 
+    @GET
+    @Path("/stream")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    @Operation(
+            summary = "Stream de tasas de cambio",
+            description = "Envia la tasa vigente de cada par pedido y luego cada tasa nueva en cuanto se guarda. " +
+                    "Sin pares se reciben todas las tasas publicadas."
+    )
+    @APIResponses({
+            @APIResponse(responseCode = "200", description = "Stream iniciado", content = @Content(mediaType = MediaType.SERVER_SENT_EVENTS, schema = @Schema(implementation = ExchangeRateQueryResponse.class))),
+            @APIResponse(responseCode = "400", description = "Par con formato invalido", content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public Multi<ExchangeRateQueryResponse> stream(
+            @Parameter(description = "Par a seguir como fromCountry:fromCurrency:toCountry:toCurrency (ej: PE:PEN:VE:VES), repetible")
+            @QueryParam("pair") List<String> pairs) {
+
+        Set<RateCorridor> corridors = new LinkedHashSet<>();
+        try {
+            if (pairs != null) {
+                pairs.forEach(pair -> corridors.add(RateCorridor.parse(pair)));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+
+        log.info("Exchange rate stream opened for {}", corridors.isEmpty() ? "all pairs" : corridors);
+        return streamExchangeRatesUseCase.stream(corridors);
+    }
+
     private Response mapExceptionToResponse(Throwable throwable) {
         log.error("Error querying exchange rate", throwable);
 
@@ -0,0 +1,144 @@
+package org.walrex.infrastructure.adapter.inbound.rest.resource;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.walrex.application.dto.response.ErrorResponse;
+import org.walrex.application.dto.response.MarketCandleResponse;
+import org.walrex.application.port.input.GetMarketCandlesUseCase;
+import org.walrex.domain.model.CandleInterval;
+import org.walrex.infrastructure.adapter.inbound.mapper.MarketCandleMapper;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+@Slf4j
+@Path("/api/v1/market/candles")
+@Produces(MediaType.APPLICATION_JSON)
+@ApplicationScoped
+@Tag(name = "Mercado", description = "Velas OHLC agregadas desde los ticks de mercado")
+public class MarketCandleResource {
+
+    @ConfigProperty(name = "market.candle.max-limit", defaultValue = "1000")
+    int maxLimit;
+
+    @Inject
+    GetMarketCandlesUseCase getMarketCandlesUseCase;
+
+    @Inject
+    MarketCandleMapper marketCandleMapper;
+
+    @GET
+    @Operation(
+            summary = "Consultar velas OHLC",
+            description = "Devuelve las velas OHLC + volumen de un símbolo en el rango [from, to). " +
+                    "La última vela puede estar en curso."
+    )
+    @APIResponses({
+            @APIResponse(
+                    responseCode = "200",
+                    description = "Velas encontradas",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = MarketCandleResponse.class)
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "400",
+                    description = "Parametros invalidos",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @APIResponse(
+                    responseCode = "500",
+                    description = "Error interno del servidor",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public Uni<Response> getCandles(
+            @Parameter(description = "Simbolo del proveedor (ej: OANDA:USD_COP)", required = true)
+            @QueryParam("symbol") String symbol,
+            @Parameter(description = "Intervalo: 1m, 5m, 1h, 1d (por defecto 1m)")
+            @QueryParam("interval") String intervalCode,
+            @Parameter(description = "Inicio ISO-8601 (por defecto to - limit intervalos)")
+            @QueryParam("from") String fromParam,
+            @Parameter(description = "Fin ISO-8601, exclusivo (por defecto ahora)")
+            @QueryParam("to") String toParam,
+            @Parameter(description = "Maximo de velas (por defecto 300)")
+            @QueryParam("limit") Integer limitParam) {
+
+        if (symbol == null || symbol.isBlank()) {
+            return Uni.createFrom().item(badRequest("Query parameter 'symbol' is required"));
+        }
+
+        CandleInterval interval;
+        Instant from;
+        Instant to;
+        int limit = Math.min(limitParam != null && limitParam > 0 ? limitParam : 300, maxLimit);
+        try {
+            interval = CandleInterval.fromCode(intervalCode != null ? intervalCode : "1m");
+            to = toParam != null ? Instant.parse(toParam) : Instant.now();
+            from = fromParam != null
+                    ? Instant.parse(fromParam)
+                    : to.minus(interval.getDuration().multipliedBy(limit));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return Uni.createFrom().item(badRequest(e.getMessage()));
+        }
+
+        if (!from.isBefore(to)) {
+            return Uni.createFrom().item(badRequest("'from' must be before 'to'"));
+        }
+
+        log.debug("Received candle query: {} {} [{} - {}) limit={}", symbol, interval.getCode(), from, to, limit);
+
+        return getMarketCandlesUseCase.getCandles(symbol, interval, from, to, limit)
+                .map(candles -> Response.ok(new MarketCandleResponse(
+                        symbol, interval.getCode(), marketCandleMapper.toBars(candles))).build())
+                .onFailure()
+                .recoverWithItem(this::mapExceptionToResponse);
+    }
+
+    private Response badRequest(String message) {
+        return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse(
+                        Response.Status.BAD_REQUEST.getStatusCode(),
+                        Response.Status.BAD_REQUEST.getReasonPhrase(),
+                        message))
+                .build();
+    }
+
+    private Response mapExceptionToResponse(Throwable throwable) {
+        log.error("Error querying market candles", throwable);
+
+        if (throwable instanceof IllegalArgumentException) {
+            return badRequest(throwable.getMessage());
+        }
+
+        return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                .entity(new ErrorResponse(
+                        Response.Status.INTERNAL_SERVER_ERROR.getStatusCode(),
+                        Response.Status.INTERNAL_SERVER_ERROR.getReasonPhrase(),
+                        "An unexpected error occurred"))
+                .build();
+    }
+}
@@ -0,0 +1,199 @@
+package org.walrex.infrastructure.adapter.inbound.rest.resource;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.inject.Inject;
+import jakarta.validation.Valid;
+import jakarta.ws.rs.*;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.walrex.application.dto.request.PleExportRequest;
+import org.walrex.application.dto.response.ErrorResponse;
+import org.walrex.application.dto.response.PleExportJobResponse;
+import org.walrex.application.port.input.GetPleExportUseCase;
+import org.walrex.application.port.input.RequestPleExportUseCase;
+import org.walrex.domain.exception.PleConfigurationException;
+import org.walrex.domain.exception.PleExportJobNotFoundException;
+import org.walrex.domain.model.PleBook;
+import org.walrex.domain.model.PleExportJob;
+import org.walrex.domain.model.PleExportStatus;
+
+import java.io.File;
+import java.net.URI;
+
+/**
+ * Exportación de libros electrónicos PLE de SUNAT (Libro Diario 5.1 y Libro Mayor 6.1).
+ * La generación corre en segundo plano; aquí se solicita, se consulta el avance y se descarga el ZIP.
+ */
+@Slf4j
+@Path("/api/v1/accounting/ple-exports")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@Tag(name = "Libros electrónicos PLE", description = "Exportación de Libro Diario y Libro Mayor en formato PLE")
+public class PleExportResource {
+
+    private static final String ZIP = "application/zip";
+
+    @Inject
+    RequestPleExportUseCase requestPleExportUseCase;
+
+    @Inject
+    GetPleExportUseCase getPleExportUseCase;
+
+    @Context
+    UriInfo uriInfo;
+
+    @POST
+    @Operation(
+            summary = "Solicitar exportación",
+            description = "Encola la exportación del libro para el periodo. Si ya hay una pendiente o en curso "
+                    + "para el mismo libro y periodo, devuelve esa"
+    )
+    @RequestBody(description = "Libro y periodo", required = true,
+            content = @Content(schema = @Schema(implementation = PleExportRequest.class)))
+    @APIResponses({
+            @APIResponse(responseCode = "202", description = "Exportación encolada",
+                    content = @Content(schema = @Schema(implementation = PleExportJobResponse.class))),
+            @APIResponse(responseCode = "400", description = "Libro o periodo inválido",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @APIResponse(responseCode = "503", description = "RUC no configurado",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public Uni<Response> request(@Valid PleExportRequest request) {
+        log.info("REST request: PLE export {} {}-{}", request.book(), request.year(), request.month());
+
+        return Uni.createFrom().item(() -> PleBook.fromString(request.book()))
+                .chain(book -> requestPleExportUseCase.request(book, request.year(), request.month()))
+                .map(job -> Response.accepted(toResponse(job))
+                        .location(URI.create(jobUrl(job.id())))
+                        .build())
+                .onFailure().recoverWithItem(PleExportResource::toErrorResponse);
+    }
+
+    @GET
+    @Path("/{id}")
+    @Operation(summary = "Estado de la exportación", description = "Estado, avance (líneas escritas / total) y artefacto")
+    @APIResponses({
+            @APIResponse(responseCode = "200", description = "Exportación encontrada",
+                    content = @Content(schema = @Schema(implementation = PleExportJobResponse.class))),
+            @APIResponse(responseCode = "404", description = "Exportación no encontrada",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public Uni<Response> findById(@PathParam("id") Long id) {
+        return getPleExportUseCase.findById(id)
+                .map(job -> Response.ok(toResponse(job)).build())
+                .onFailure().recoverWithItem(PleExportResource::toErrorResponse);
+    }
+
+    @GET
+    @Path("/{id}/download")
+    @Produces({ZIP, MediaType.APPLICATION_JSON})
+    @Operation(summary = "Descargar el libro", description = "ZIP con el TXT del PLE; disponible cuando la exportación está COMPLETED")
+    @APIResponses({
+            @APIResponse(responseCode = "200", description = "Archivo ZIP", content = @Content(mediaType = ZIP)),
+            @APIResponse(responseCode = "404", description = "Exportación no encontrada",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @APIResponse(responseCode = "409", description = "La exportación aún no terminó",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public Uni<Response> download(@PathParam("id") Long id) {
+        return getPleExportUseCase.findById(id)
+                .chain(job -> {
+                    if (job.status() != PleExportStatus.COMPLETED) {
+                        return Uni.createFrom().item(error(Response.Status.CONFLICT,
+                                "PLE export " + id + " is " + job.status() + ", not COMPLETED"));
+                    }
+                    File file = new File(job.filePath());
+                    // exists() toca el disco: se consulta en el worker pool, no en el event loop
+                    return Uni.createFrom().item(() -> file.exists())
+                            .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+                            .map(exists -> exists
+                                    ? Response.ok(file, ZIP)
+                                            .header("Content-Disposition", "attachment; filename=\"" + job.fileName() + ".zip\"")
+                                            .build()
+                                    : error(Response.Status.NOT_FOUND,
+                                            "The artifact of PLE export " + id + " is no longer available"));
+                })
+                .onFailure().recoverWithItem(PleExportResource::toErrorResponse);
+    }
+
+    @POST
+    @Path("/{id}/resume")
+    @Operation(summary = "Reanudar exportación", description = "Vuelve a encolar una exportación FAILED desde su último checkpoint")
+    @APIResponses({
+            @APIResponse(responseCode = "202", description = "Exportación reanudada",
+                    content = @Content(schema = @Schema(implementation = PleExportJobResponse.class))),
+            @APIResponse(responseCode = "404", description = "Exportación no encontrada",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @APIResponse(responseCode = "409", description = "La exportación no está FAILED o hay otra activa del mismo periodo",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public Uni<Response> resume(@PathParam("id") Long id) {
+        log.info("REST request: Resume PLE export {}", id);
+
+        return requestPleExportUseCase.resume(id)
+                .map(job -> Response.accepted(toResponse(job)).build())
+                .onFailure().recoverWithItem(PleExportResource::toErrorResponse);
+    }
+
+    private PleExportJobResponse toResponse(PleExportJob job) {
+        return new PleExportJobResponse(
+                job.id(),
+                job.book().name(),
+                job.book().getFormat(),
+                job.year(),
+                job.month(),
+                job.status().name(),
+                job.rowsTotal(),
+                job.rowsWritten(),
+                job.progress(),
+                job.fileName(),
+                job.fileSize(),
+                job.status() == PleExportStatus.COMPLETED ? jobUrl(job.id()) + "/download" : null,
+                job.attempts(),
+                job.lastError(),
+                job.createdAt(),
+                job.startedAt(),
+                job.finishedAt()
+        );
+    }
+
+    private String jobUrl(Long id) {
+        return uriInfo.getBaseUriBuilder().path("api/v1/accounting/ple-exports").path(String.valueOf(id)).build().toString();
+    }
+
+    private static Response toErrorResponse(Throwable error) {
+        if (error instanceof PleExportJobNotFoundException) {
+            return error(Response.Status.NOT_FOUND, error.getMessage());
+        }
+        if (error instanceof PleConfigurationException) {
+            log.error("PLE exports are not configured: {}", error.getMessage());
+            return error(Response.Status.SERVICE_UNAVAILABLE, error.getMessage());
+        }
+        if (error instanceof IllegalArgumentException) {
+            return error(Response.Status.BAD_REQUEST, error.getMessage());
+        }
+        if (error instanceof IllegalStateException) {
+            return error(Response.Status.CONFLICT, error.getMessage());
+        }
+        log.error("Error handling PLE export request", error);
+        return error(Response.Status.INTERNAL_SERVER_ERROR, "Error en la exportación PLE: " + error.getMessage());
+    }
+
+    private static Response error(Response.Status status, String message) {
+        return Response.status(status)
+                .type(MediaType.APPLICATION_JSON)
+                .entity(new ErrorResponse(status.getStatusCode(), status.getReasonPhrase(), message))
+                .build();
+    }
+}
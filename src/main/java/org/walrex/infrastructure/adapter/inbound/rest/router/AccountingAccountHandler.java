@@ -20,6 +20,7 @@ import org.walrex.application.dto.response.AccountingAccountResponse;
 import org.walrex.application.port.input.*;
 import org.walrex.domain.exception.AccountingAccountNotFoundException;
 import org.walrex.domain.exception.DuplicateAccountingAccountException;
+import org.walrex.domain.exception.InvalidCursorException;
 import org.walrex.domain.model.AccountingAccount;
 import org.walrex.infrastructure.adapter.inbound.mapper.AccountingAccountDtoMapper;
 import org.walrex.infrastructure.adapter.inbound.mapper.AccountingAccountRequestMapper;
@@ -132,6 +133,14 @@ public class AccountingAccountHandler {
             pageRequestBuilder.sortBy(sortBy);
         }
 
+        // Keyset mode: any "cursor" param (empty for the first page) switches from OFFSET to cursor paging;
+        // the total is only counted when explicitly requested
+        String cursor = rc.queryParams().get("cursor");
+        if (cursor != null) {
+            pageRequestBuilder.cursor(cursor)
+                    .includeTotal(Boolean.parseBoolean(rc.queryParams().get("includeTotal")));
+        }
+
         PageRequest pageRequest = pageRequestBuilder.build();
 
         // Execute use case
@@ -404,6 +413,8 @@ public class AccountingAccountHandler {
             handleNotFound(rc, error.getMessage());
         } else if (error instanceof DuplicateAccountingAccountException) {
             handleConflict(rc, error.getMessage());
+        } else if (error instanceof InvalidCursorException) {
+            handleBadRequest(rc, error.getMessage());
         } else {
             JsonObject errorResponse = new JsonObject()
                     .put("error", "Internal Server Error")
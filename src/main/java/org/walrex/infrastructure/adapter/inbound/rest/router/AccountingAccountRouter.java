@@ -127,6 +127,20 @@ public class AccountingAccountRouter {
         schema = @Schema(type = SchemaType.STRING, defaultValue = "asc", enumeration = {"asc", "desc"}),
         example = "asc"
     )
+    @Parameter(
+        name = "cursor",
+        description = "Paginación por cursor: vacío para la primera página, luego el nextCursor de la respuesta. Si se envía, se ignora page",
+        in = ParameterIn.QUERY,
+        schema = @Schema(type = SchemaType.STRING),
+        required = false
+    )
+    @Parameter(
+        name = "includeTotal",
+        description = "Con cursor, calcula también totalElements (COUNT adicional)",
+        in = ParameterIn.QUERY,
+        schema = @Schema(type = SchemaType.BOOLEAN, defaultValue = "false"),
+        required = false
+    )
     @Parameter(
         name = "search",
         description = "Búsqueda general en código y nombre",
@@ -0,0 +1,149 @@
+package org.walrex.infrastructure.adapter.inbound.rest.router;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.json.Json;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.walrex.application.dto.query.AccountingReportQuery;
+import org.walrex.application.port.input.GenerateGeneralLedgerUseCase;
+import org.walrex.application.port.input.GenerateTrialBalanceUseCase;
+import org.walrex.domain.model.ReportFormat;
+import org.walrex.infrastructure.adapter.inbound.rest.report.AccountingReportColumns;
+import org.walrex.infrastructure.adapter.inbound.rest.report.StreamingReportResponder;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Handler for the accounting reports (balance de comprobación y libro mayor).
+ *
+ * No @WithSession: the reports read through a pg cursor on the reactive pool, not through
+ * Hibernate, and the response is streamed by StreamingReportResponder.
+ */
+@Slf4j
+@ApplicationScoped
+public class AccountingReportHandler {
+
+    @Inject
+    GenerateTrialBalanceUseCase generateTrialBalanceUseCase;
+
+    @Inject
+    GenerateGeneralLedgerUseCase generateGeneralLedgerUseCase;
+
+    @Inject
+    StreamingReportResponder streamingReportResponder;
+
+    /**
+     * GET /api/v1/accounting/reports/trial-balance
+     */
+    public Uni<Void> trialBalance(RoutingContext rc) {
+        try {
+            AccountingReportQuery query = parseQuery(rc);
+            ReportFormat format = ReportFormat.fromString(rc.request().getParam("format"));
+            log.debug("Received trial balance request: {} ({})", query, format);
+
+            return streamingReportResponder.send(rc,
+                    generateTrialBalanceUseCase.trialBalance(query),
+                    AccountingReportColumns.TRIAL_BALANCE,
+                    format,
+                    fileName("balance-comprobacion", query));
+        } catch (IllegalArgumentException e) {
+            handleBadRequest(rc, e.getMessage());
+            return Uni.createFrom().voidItem();
+        }
+    }
+
+    /**
+     * GET /api/v1/accounting/reports/general-ledger
+     */
+    public Uni<Void> generalLedger(RoutingContext rc) {
+        try {
+            AccountingReportQuery query = parseQuery(rc);
+            ReportFormat format = ReportFormat.fromString(rc.request().getParam("format"));
+            log.debug("Received general ledger request: {} ({})", query, format);
+
+            return streamingReportResponder.send(rc,
+                    generateGeneralLedgerUseCase.generalLedger(query),
+                    AccountingReportColumns.GENERAL_LEDGER,
+                    format,
+                    fileName("libro-mayor", query));
+        } catch (IllegalArgumentException e) {
+            handleBadRequest(rc, e.getMessage());
+            return Uni.createFrom().voidItem();
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private AccountingReportQuery parseQuery(RoutingContext rc) {
+        String includeDetail = rc.request().getParam("includeDetail");
+        String accountPrefix = rc.request().getParam("accountPrefix");
+
+        return AccountingReportQuery.builder()
+                .dateFrom(parseDateParam(rc, "dateFrom"))
+                .dateTo(parseDateParam(rc, "dateTo"))
+                .accountPrefix(accountPrefix == null || accountPrefix.isBlank() ? null : accountPrefix.trim())
+                .rollupLevels(parseLevels(rc.request().getParam("rollupLevels")))
+                .includeDetail(includeDetail == null || includeDetail.isBlank() || Boolean.parseBoolean(includeDetail))
+                .build();
+    }
+
+    /**
+     * Parses a required ISO date (yyyy-MM-dd) parameter.
+     */
+    private LocalDate parseDateParam(RoutingContext rc, String name) {
+        String value = rc.request().getParam(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(name + " is required (yyyy-MM-dd)");
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    /**
+     * Parses a comma separated list of code prefix lengths, e.g. "2,3".
+     */
+    private SortedSet<Integer> parseLevels(String value) {
+        SortedSet<Integer> levels = new TreeSet<>();
+        if (value == null || value.isBlank()) {
+            return levels;
+        }
+        for (String part : value.split(",")) {
+            try {
+                int level = Integer.parseInt(part.trim());
+                if (level < 1) {
+                    throw new IllegalArgumentException("rollupLevels must be positive: " + value);
+                }
+                levels.add(level);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid rollupLevels: " + value);
+            }
+        }
+        return levels;
+    }
+
+    private String fileName(String report, AccountingReportQuery query) {
+        return report + "_" + query.getDateFrom() + "_" + query.getDateTo();
+    }
+
+    private void handleBadRequest(RoutingContext rc, String message) {
+        log.warn("Invalid accounting report request: {}", message);
+        rc.response()
+                .setStatusCode(HttpResponseStatus.BAD_REQUEST.code())
+                .putHeader("Content-Type", "application/json")
+                .end(Json.encode(new ErrorResponse("BAD_REQUEST", message, null)));
+    }
+
+    // ==================== Helper Classes ====================
+
+    private record ErrorResponse(String code, String message, Object details) {
+    }
+}
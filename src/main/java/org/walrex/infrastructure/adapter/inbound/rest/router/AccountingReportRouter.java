@@ -0,0 +1,106 @@
+package org.walrex.infrastructure.adapter.inbound.rest.router;
+
+import io.quarkus.vertx.web.Route;
+import io.quarkus.vertx.web.RouteBase;
+import io.smallrye.mutiny.Uni;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.enums.ParameterIn;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameters;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+/**
+ * REST Router for the accounting reports (balance de comprobación y libro mayor).
+ * Defines HTTP endpoints and delegates handling to AccountingReportHandler.
+ */
+@ApplicationScoped
+@RouteBase(path = "/api/v1/accounting/reports")
+@Tag(name = "Accounting Reports", description = "Reportes contables en streaming (JSON, CSV, XLSX)")
+public class AccountingReportRouter {
+
+    @Inject
+    AccountingReportHandler accountingReportHandler;
+
+    /**
+     * GET /api/v1/accounting/reports/trial-balance - Balance de comprobación
+     */
+    @Route(path = "/trial-balance", methods = Route.HttpMethod.GET)
+    @Operation(
+            summary = "Balance de comprobación",
+            description = "Saldo inicial, movimientos del periodo y saldo final por cuenta. " +
+                    "Los meses completos se leen de los saldos por periodo; solo los días de meses parciales " +
+                    "se suman desde las líneas de asiento. Opcionalmente agrega subtotales por prefijo de código."
+    )
+    @Parameters({
+            @Parameter(name = "dateFrom", in = ParameterIn.QUERY, required = true,
+                    description = "Fecha inicial (yyyy-MM-dd)", schema = @Schema(type = SchemaType.STRING, format = "date")),
+            @Parameter(name = "dateTo", in = ParameterIn.QUERY, required = true,
+                    description = "Fecha final inclusive (yyyy-MM-dd)", schema = @Schema(type = SchemaType.STRING, format = "date")),
+            @Parameter(name = "accountPrefix", in = ParameterIn.QUERY,
+                    description = "Solo cuentas cuyo código empieza con este prefijo"),
+            @Parameter(name = "rollupLevels", in = ParameterIn.QUERY,
+                    description = "Longitudes de prefijo a subtotalizar, separadas por coma (ej. 2,3)"),
+            @Parameter(name = "includeDetail", in = ParameterIn.QUERY,
+                    description = "Incluir las cuentas además de los subtotales (default true)"),
+            @Parameter(name = "format", in = ParameterIn.QUERY,
+                    description = "json (default), csv o xlsx")
+    })
+    @APIResponses({
+            @APIResponse(responseCode = "200", description = "Reporte generado",
+                    content = {
+                            @Content(mediaType = "application/json"),
+                            @Content(mediaType = "text/csv"),
+                            @Content(mediaType = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
+                    }),
+            @APIResponse(responseCode = "400", description = "Parámetros inválidos",
+                    content = @Content(mediaType = "application/json")),
+            @APIResponse(responseCode = "500", description = "Error interno del servidor",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public Uni<Void> trialBalance(RoutingContext rc) {
+        return accountingReportHandler.trialBalance(rc);
+    }
+
+    /**
+     * GET /api/v1/accounting/reports/general-ledger - Libro mayor
+     */
+    @Route(path = "/general-ledger", methods = Route.HttpMethod.GET)
+    @Operation(
+            summary = "Libro mayor",
+            description = "Movimientos por cuenta con saldo inicial, saldo acumulado por línea y saldo final, " +
+                    "ordenados por código de cuenta, fecha y número de operación."
+    )
+    @Parameters({
+            @Parameter(name = "dateFrom", in = ParameterIn.QUERY, required = true,
+                    description = "Fecha inicial (yyyy-MM-dd)", schema = @Schema(type = SchemaType.STRING, format = "date")),
+            @Parameter(name = "dateTo", in = ParameterIn.QUERY, required = true,
+                    description = "Fecha final inclusive (yyyy-MM-dd)", schema = @Schema(type = SchemaType.STRING, format = "date")),
+            @Parameter(name = "accountPrefix", in = ParameterIn.QUERY,
+                    description = "Solo cuentas cuyo código empieza con este prefijo"),
+            @Parameter(name = "format", in = ParameterIn.QUERY,
+                    description = "json (default), csv o xlsx")
+    })
+    @APIResponses({
+            @APIResponse(responseCode = "200", description = "Reporte generado",
+                    content = {
+                            @Content(mediaType = "application/json"),
+                            @Content(mediaType = "text/csv"),
+                            @Content(mediaType = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
+                    }),
+            @APIResponse(responseCode = "400", description = "Parámetros inválidos",
+                    content = @Content(mediaType = "application/json")),
+            @APIResponse(responseCode = "500", description = "Error interno del servidor",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public Uni<Void> generalLedger(RoutingContext rc) {
+        return accountingReportHandler.generalLedger(rc);
+    }
+}
@@ -18,6 +18,7 @@ import org.walrex.application.dto.request.UpdateCountryRequest;
 import org.walrex.application.dto.response.CountryResponse;
 import org.walrex.application.port.input.*;
 import org.walrex.domain.model.Country;
+import org.walrex.infrastructure.adapter.inbound.rest.CatalogResponseCache;
 import org.walrex.infrastructure.adapter.inbound.mapper.CountryDtoMapper;
 import org.walrex.infrastructure.adapter.inbound.mapper.CountryRequestMapper;
 
@@ -57,6 +58,9 @@ public class CountryHandler {
     @Inject
     ListAllCountryUseCase listAllCountryUseCase;
 
+    @Inject
+    CatalogResponseCache catalogResponses;
+
     /**
      * POST /api/v1/countries - Create new country
      */
@@ -126,6 +130,14 @@ public class CountryHandler {
                 pageRequestBuilder.sortBy(sortBy);
             }
 
+            // Keyset mode: any "cursor" param (empty for the first page) switches from OFFSET to cursor paging;
+            // the total is only counted when explicitly requested
+            String cursor = rc.queryParams().get("cursor");
+            if (cursor != null) {
+                pageRequestBuilder.cursor(cursor)
+                        .includeTotal(Boolean.parseBoolean(rc.queryParams().get("includeTotal")));
+            }
+
             PageRequest pageRequest = pageRequestBuilder.build();
 
             // Execute use case
@@ -142,12 +154,11 @@ public class CountryHandler {
     }
 
     /**
-     * GET /api/v1/countries/all - List all countries without pagination (cached for 12 hours)
+     * GET /api/v1/countries/all - List all countries without pagination (pre-encoded, ETag)
      */
     @WithSession
     public Uni<Void> listAll(RoutingContext rc) {
-        return listAllCountryUseCase.findAll()
-                .onItem().invoke(countries -> sendJson(rc, HttpResponseStatus.OK, countries))
+        return catalogResponses.send(rc, "countries", listAllCountryUseCase::findAll)
                 .onFailure().invoke(error -> handleError(rc, error))
                 .replaceWithVoid();
     }
@@ -127,6 +127,20 @@ public class CountryRouter {
             required = false,
             example = "asc"
     )
+    @Parameter(
+            name = "cursor",
+            description = "Paginación por cursor: vacío para la primera página, luego el nextCursor de la respuesta. Si se envía, se ignora page",
+            in = ParameterIn.QUERY,
+            schema = @Schema(type = SchemaType.STRING),
+            required = false
+    )
+    @Parameter(
+            name = "includeTotal",
+            description = "Con cursor, calcula también totalElements (COUNT adicional)",
+            in = ParameterIn.QUERY,
+            schema = @Schema(type = SchemaType.BOOLEAN, defaultValue = "false"),
+            required = false
+    )
     @Parameter(
             name = "search",
             description = "Búsqueda general en nombre y código alfabético",
@@ -180,14 +194,14 @@ public class CountryRouter {
     }
 
     /**
-     * GET /api/v1/countries/all - List all countries without pagination (cached)
+     * GET /api/v1/countries/all - List all countries without pagination (pre-encoded, ETag)
      */
     @Route(path = "/all", methods = Route.HttpMethod.GET, order = 1)
     @Operation(
             summary = "Listar todos los países sin paginación",
             description = "Obtiene todos los países activos sin paginación. " +
                     "Optimizado para componentes de selección (dropdowns). " +
-                    "Los resultados se cachean en Redis por 12 horas."
+                    "Se sirve desde memoria con ETag: enviar If-None-Match para recibir 304 si no cambió."
     )
     @APIResponses({
             @APIResponse(
@@ -219,6 +233,10 @@ public class CountryRouter {
                             )
                     )
             ),
+            @APIResponse(
+                    responseCode = "304",
+                    description = "Sin cambios respecto al ETag enviado en If-None-Match"
+            ),
             @APIResponse(
                     responseCode = "500",
                     description = "Error interno del servidor",
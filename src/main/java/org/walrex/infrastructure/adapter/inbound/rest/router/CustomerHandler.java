@@ -164,6 +164,14 @@ public class CustomerHandler {
                 pageRequestBuilder.sortBy(sortBy);
             }
 
+            // Keyset mode: any "cursor" param (empty for the first page) switches from OFFSET to cursor paging;
+            // the total is only counted when explicitly requested
+            String cursor = rc.queryParams().get("cursor");
+            if (cursor != null) {
+                pageRequestBuilder.cursor(cursor)
+                        .includeTotal(Boolean.parseBoolean(rc.queryParams().get("includeTotal")));
+            }
+
             PageRequest pageRequest = pageRequestBuilder.build();
 
             // Execute use case
@@ -99,6 +99,8 @@ public class CustomerRouter {
     @Parameter(name = "sortBy", description = "Campo por el cual ordenar", in = ParameterIn.QUERY, required = false, schema = @Schema(type = SchemaType.STRING, defaultValue = "id"), example = "name")
     @Parameter(name = "sortDirection", description = "Dirección del ordenamiento", in = ParameterIn.QUERY, required = false, schema = @Schema(type = SchemaType.STRING, defaultValue = "asc", enumeration = {
             "asc", "desc" }), example = "asc")
+    @Parameter(name = "cursor", description = "Paginación por cursor: vacío para la primera página, luego el nextCursor de la respuesta. Si se envía, se ignora page", in = ParameterIn.QUERY, required = false, schema = @Schema(type = SchemaType.STRING))
+    @Parameter(name = "includeTotal", description = "Con cursor, calcula también totalElements (COUNT adicional)", in = ParameterIn.QUERY, required = false, schema = @Schema(type = SchemaType.BOOLEAN, defaultValue = "false"))
     @Parameter(name = "search", description = "Búsqueda general por nombre, apellido, razon social, numero de documento", in = ParameterIn.QUERY, required = false, schema = @Schema(type = SchemaType.STRING), example = "WALREX")
     @APIResponses({
             @APIResponse(responseCode = "200", description = "Lista de clientes obtenida exitosamente", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PagedResponse.class), examples = @ExampleObject(name = "Respuesta paginada", value = """
@@ -17,6 +17,7 @@ import org.walrex.application.dto.response.JournalEntryResponse;
 import org.walrex.application.port.input.CreateJournalEntryUseCase;
 import org.walrex.application.port.input.SyncHistoricalEntriesUseCase;
 import org.walrex.application.port.output.JournalEntryQueryPort;
+import org.walrex.domain.exception.InvalidCursorException;
 import org.walrex.domain.exception.InvalidJournalEntryException;
 import org.walrex.domain.exception.UnbalancedJournalEntryException;
 import org.walrex.domain.model.JournalEntry;
@@ -204,6 +205,8 @@ public class JournalEntryHandler {
                     error.getMessage(),
                     invalidEx.getField()
             ));
+        } else if (error instanceof InvalidCursorException || error instanceof IllegalArgumentException) {
+            handleBadRequest(rc, error.getMessage());
         } else {
             sendJson(rc, HttpResponseStatus.INTERNAL_SERVER_ERROR, new ErrorResponse(
                     "INTERNAL_ERROR",
@@ -266,12 +269,21 @@ public class JournalEntryHandler {
                     .build();
 
             // Build page request (convert to 0-indexed for backend)
-            var pageRequest = org.walrex.application.dto.query.PageRequest.builder()
+            var pageRequestBuilder = org.walrex.application.dto.query.PageRequest.builder()
                     .page(page - 1) // Convert from 1-indexed to 0-indexed
                     .size(size)
                     .sortBy("entryDate")
-                    .sortDirection(org.walrex.application.dto.query.PageRequest.SortDirection.DESCENDING)
-                    .build();
+                    .sortDirection(org.walrex.application.dto.query.PageRequest.SortDirection.DESCENDING);
+
+            // Keyset mode: any "cursor" param (empty for the first page) switches from OFFSET to cursor paging;
+            // the total is only counted when explicitly requested
+            String cursor = rc.queryParams().get("cursor");
+            if (cursor != null) {
+                pageRequestBuilder.cursor(cursor)
+                        .includeTotal(Boolean.parseBoolean(rc.queryParams().get("includeTotal")));
+            }
+
+            var pageRequest = pageRequestBuilder.build();
 
             // Query journal entries
             return journalEntryQueryPort.findAll(pageRequest, filter)
@@ -282,12 +294,15 @@ public class JournalEntryHandler {
                                 .toList();
 
                         // Create paged response (convert back to 1-indexed for frontend)
-                        var response = org.walrex.application.dto.response.PagedResponse.of(
-                                journalEntryResponses,
-                                page, // Use original 1-indexed page
-                                size,
-                                pagedResult.totalElements()
-                        );
+                        var response = pageRequest.isKeyset()
+                                ? org.walrex.application.dto.response.PagedResponse.keyset(
+                                        journalEntryResponses, pageRequest, pagedResult)
+                                : org.walrex.application.dto.response.PagedResponse.of(
+                                        journalEntryResponses,
+                                        page, // Use original 1-indexed page
+                                        size,
+                                        pagedResult.totalElements()
+                                );
 
                         rc.response()
                                 .setStatusCode(200)
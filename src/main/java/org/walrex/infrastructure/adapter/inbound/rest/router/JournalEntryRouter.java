@@ -7,9 +7,12 @@ import io.vertx.ext.web.RoutingContext;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.enums.ParameterIn;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.ExampleObject;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.parameters.RequestBody;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
@@ -169,6 +172,20 @@ public class JournalEntryRouter {
             description = "Obtiene una lista paginada de asientos contables con filtros opcionales. " +
                     "Soporta filtros por año, mes, tipo de libro y búsqueda en descripción."
     )
+    @Parameter(
+            name = "cursor",
+            description = "Paginación por cursor: vacío para la primera página, luego el nextCursor de la respuesta. Si se envía, se ignora page",
+            in = ParameterIn.QUERY,
+            schema = @Schema(type = SchemaType.STRING),
+            required = false
+    )
+    @Parameter(
+            name = "includeTotal",
+            description = "Con cursor, calcula también totalElements (COUNT adicional)",
+            in = ParameterIn.QUERY,
+            schema = @Schema(type = SchemaType.BOOLEAN, defaultValue = "false"),
+            required = false
+    )
     @APIResponses({
             @APIResponse(
                     responseCode = "200",
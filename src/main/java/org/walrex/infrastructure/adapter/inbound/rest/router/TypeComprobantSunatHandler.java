@@ -3,13 +3,13 @@ package org.walrex.infrastructure.adapter.inbound.rest.router;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.quarkus.hibernate.reactive.panache.common.WithSession;
 import io.smallrye.mutiny.Uni;
-import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
 import org.walrex.application.port.input.GetAllTypeComprobantsSunatUseCase;
+import org.walrex.infrastructure.adapter.inbound.rest.CatalogResponseCache;
 
 @Slf4j
 @ApplicationScoped
@@ -18,6 +18,9 @@ public class TypeComprobantSunatHandler {
     @Inject
     GetAllTypeComprobantsSunatUseCase getAllTypeComprobantsSunatUseCase;
 
+    @Inject
+    CatalogResponseCache catalogResponses;
+
     /**
      * GET /api/v1/typeComprobantsSunat/all - Get all type comprobants SUNAT
      */
@@ -25,10 +28,7 @@ public class TypeComprobantSunatHandler {
     public Uni<Void> getAll(RoutingContext rc) {
         log.info("Handling GET /api/v1/typeComprobantsSunat/all request");
 
-        return getAllTypeComprobantsSunatUseCase.execute()
-                .onItem().invoke(response -> {
-                    sendJson(rc, HttpResponseStatus.OK, response);
-                })
+        return catalogResponses.send(rc, "type-comprobants-sunat", getAllTypeComprobantsSunatUseCase::execute)
                 .onFailure().invoke(error -> {
                     log.error("Error getting all type comprobants SUNAT", error);
                     handleError(rc, error);
@@ -38,13 +38,6 @@ public class TypeComprobantSunatHandler {
 
     // ==================== Helper Methods ====================
 
-    private void sendJson(RoutingContext rc, HttpResponseStatus status, Object body) {
-        rc.response()
-                .setStatusCode(status.code())
-                .putHeader("Content-Type", "application/json")
-                .end(Json.encode(body));
-    }
-
     private void handleError(RoutingContext rc, Throwable error) {
         HttpResponseStatus status = HttpResponseStatus.INTERNAL_SERVER_ERROR;
         String errorName = error.getClass().getSimpleName();
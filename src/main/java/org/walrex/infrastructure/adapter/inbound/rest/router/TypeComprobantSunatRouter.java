@@ -30,7 +30,8 @@ public class TypeComprobantSunatRouter {
     @Operation(
         summary = "Listar todos los tipos de comprobantes SUNAT",
         description = "Obtiene todos los tipos de comprobantes SUNAT ordenados por código SUNAT. " +
-                      "Optimizado para componentes de selección (select, dropdown, autocomplete)."
+                      "Optimizado para componentes de selección (select, dropdown, autocomplete). " +
+                      "Responde con ETag: enviar If-None-Match para recibir 304 si no cambió."
     )
     @APIResponses({
         @APIResponse(
@@ -68,6 +69,7 @@ public class TypeComprobantSunatRouter {
                 )
             )
         ),
+        @APIResponse(responseCode = "304", description = "Sin cambios respecto al ETag enviado en If-None-Match"),
         @APIResponse(responseCode = "500", description = "Error interno del servidor", content = @Content(mediaType = "application/json"))
     })
     public Uni<Void> getAll(RoutingContext rc) {
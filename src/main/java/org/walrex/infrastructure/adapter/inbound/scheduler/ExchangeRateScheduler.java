@@ -8,6 +8,7 @@ import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
 import org.walrex.application.port.input.UpdateAstroPayExchangeRateUseCase;
 import org.walrex.application.port.input.UpdateExchangeRatesUseCase;
+import org.walrex.domain.service.RateRecomputeCoordinator;
 
 import java.time.LocalDateTime;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -30,6 +31,9 @@ public class ExchangeRateScheduler {
     @Inject
     UpdateAstroPayExchangeRateUseCase astroPayService;
 
+    @Inject
+    RateRecomputeCoordinator recomputeCoordinator;
+
     /**
      * Predicado para deshabilitar el scheduler inicial después de la primera ejecución
      */
@@ -77,7 +81,7 @@ public class ExchangeRateScheduler {
      * @return Uni<Void> para que Quarkus Scheduler se suscriba automáticamente
      */
     private Uni<Void> performUpdate(String context) {
-        return exchangeRateService.updateExchangeRates()
+        return recomputeCoordinator.runFullRefresh(context, () -> exchangeRateService.updateExchangeRates()
                 .invoke(update -> {
                     log.info("=== {} Exchange rates updated successfully ===", context);
                     log.info("=== {} Processed {} currency pairs ===", context, update.ratesByPair().size());
@@ -90,6 +94,6 @@ public class ExchangeRateScheduler {
                         .invoke(() -> log.info("=== {} AstroPay rates updated ===", context))
                         .onFailure().invoke(e ->
                                 log.error("=== {} Failed to update AstroPay rates: {} ===", context, e.getMessage()))
-                        .onFailure().recoverWithNull());
+                        .onFailure().recoverWithNull()));
     }
 }
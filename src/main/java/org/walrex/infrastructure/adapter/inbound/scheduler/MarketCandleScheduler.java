@@ -0,0 +1,53 @@
+package org.walrex.infrastructure.adapter.inbound.scheduler;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.walrex.domain.service.CandleAggregationService;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Cierra las velas OHLC vencidas y persiste las cerradas en la tabla de rollup.
+ * Al apagar, persiste también las velas abiertas como parciales. Cada hora purga los
+ * writeId de lotes ya aplicados.
+ */
+@Slf4j
+@ApplicationScoped
+public class MarketCandleScheduler {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    @Inject
+    CandleAggregationService candleAggregationService;
+
+    @Scheduled(every = "${market.candle.flush-every:5s}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public Uni<Void> closeAndFlush() {
+        candleAggregationService.closeExpired(Instant.now());
+        return candleAggregationService.flushClosed();
+    }
+
+    @Scheduled(every = "${market.candle.write-log-purge-every:1h}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public Uni<Void> purgeWriteLog() {
+        return candleAggregationService.purgeWriteLog(Instant.now())
+                .onFailure().invoke(e -> log.warn("[MarketCandleScheduler] Error purgando market_candle_write: {}", e.getMessage()))
+                .onFailure().recoverWithNull();
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        log.info("[MarketCandleScheduler] Apagando — persistiendo velas abiertas");
+        candleAggregationService.closeAll();
+        try {
+            candleAggregationService.flushClosed().await().atMost(SHUTDOWN_TIMEOUT);
+        } catch (Exception e) {
+            log.error("[MarketCandleScheduler] Error persistiendo velas al apagar: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.walrex.infrastructure.adapter.inbound.scheduler;
+
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.walrex.domain.service.MarketPriceTickRetentionService;
+
+import java.time.Instant;
+
+/**
+ * Crea por adelantado las particiones de market_price_tick y aplica la retención.
+ * La primera ejecución ocurre al arrancar, antes de que lleguen ticks a nuevas particiones.
+ */
+@Slf4j
+@ApplicationScoped
+public class MarketPriceTickMaintenanceScheduler {
+
+    @Inject
+    MarketPriceTickRetentionService retentionService;
+
+    @Scheduled(every = "${market.tick.partition.maintenance-every:1h}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public Uni<Void> maintainPartitions() {
+        log.debug("[TickMaintenance] Iniciando mantenimiento de particiones");
+        return retentionService.maintain(Instant.now())
+                .onFailure().invoke(e ->
+                        log.error("[TickMaintenance] Error en mantenimiento de particiones: {}", e.getMessage()))
+                .onFailure().recoverWithNull();
+    }
+}
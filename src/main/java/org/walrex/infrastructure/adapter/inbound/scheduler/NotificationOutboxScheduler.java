@@ -0,0 +1,39 @@
+package org.walrex.infrastructure.adapter.inbound.scheduler;
+
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.walrex.domain.service.NotificationOutboxDispatchService;
+
+/**
+ * Dispatcher en segundo plano de notification_outbox y limpieza de notificaciones terminadas.
+ */
+@Slf4j
+@ApplicationScoped
+public class NotificationOutboxScheduler {
+
+    @Inject
+    NotificationOutboxDispatchService dispatchService;
+
+    @Scheduled(every = "${walrex.notification-outbox.dispatch-every:5s}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public Uni<Void> dispatch() {
+        return dispatchService.dispatchDue()
+                .onFailure().invoke(e ->
+                        log.error("[NotificationOutbox] Error despachando notificaciones: {}", e.getMessage()))
+                .onFailure().recoverWithNull()
+                .replaceWithVoid();
+    }
+
+    @Scheduled(every = "${walrex.notification-outbox.purge-every:6h}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public Uni<Void> purge() {
+        return dispatchService.purgeFinished()
+                .onFailure().invoke(e ->
+                        log.error("[NotificationOutbox] Error purgando notificaciones: {}", e.getMessage()))
+                .onFailure().recoverWithNull()
+                .replaceWithVoid();
+    }
+}
@@ -0,0 +1,29 @@
+package org.walrex.infrastructure.adapter.inbound.scheduler;
+
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.walrex.domain.service.PleExportService;
+
+/**
+ * Worker en segundo plano de las exportaciones PLE: toma un job pendiente por ejecución.
+ * Con SKIP no se solapan en la misma instancia; entre instancias el reclamo usa SKIP LOCKED.
+ */
+@Slf4j
+@ApplicationScoped
+public class PleExportScheduler {
+
+    @Inject
+    PleExportService pleExportService;
+
+    @Scheduled(every = "${walrex.accounting.ple.poll-every:10s}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public Uni<Void> run() {
+        return pleExportService.runPending()
+                .onFailure().invoke(e ->
+                        log.error("[PLE] Error ejecutando exportaciones pendientes: {}", e.getMessage()))
+                .onFailure().recoverWithNull();
+    }
+}
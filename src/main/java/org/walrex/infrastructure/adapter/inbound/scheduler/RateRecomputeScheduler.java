@@ -0,0 +1,31 @@
+package org.walrex.infrastructure.adapter.inbound.scheduler;
+
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.walrex.domain.service.RateRecomputeCoordinator;
+
+import java.time.Instant;
+
+/**
+ * Revisa periódicamente si venció la ventana de debounce del recálculo de tasas
+ * disparado por Finnhub y, en ese caso, lo ejecuta.
+ */
+@Slf4j
+@ApplicationScoped
+public class RateRecomputeScheduler {
+
+    @Inject
+    RateRecomputeCoordinator recomputeCoordinator;
+
+    @Scheduled(every = "${finnhub.recompute.poll-every:1s}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public Uni<Void> runDueRecompute() {
+        return recomputeCoordinator.runDue(Instant.now())
+                .onFailure().invoke(e ->
+                        log.error("[RateRecomputeScheduler] Error en recálculo: {}", e.getMessage()))
+                .onFailure().recoverWithNull();
+    }
+}
@@ -0,0 +1,153 @@
+package org.walrex.infrastructure.adapter.inbound.scheduler;
+
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.pgclient.pubsub.PgSubscriber;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.walrex.application.port.output.ReferenceDataCatalogPort;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Mantiene al día el catálogo en memoria de datos de referencia.
+ *
+ * - Escucha (LISTEN) el canal que notifican los triggers de V25 y V34 cuando cambia country,
+ *   currencies, system_document_types, sunat_document_types, document_types, ocupaciones,
+ *   departament, province, financial_institution, institution_payout_rail o payout_rail.
+ * - Cada aviso marca el catálogo como desactualizado en el acto, así que hasta la recarga las
+ *   búsquedas van a la BD; después los avisos se agrupan durante {@code debounce}: una importación
+ *   masiva produce una sola recarga.
+ * - Cada vez que la conexión de escucha se (re)establece se marca y se recarga, porque los
+ *   avisos emitidos mientras estaba caída se perdieron.
+ * - Como red de seguridad se recarga también cada {@code refresh-every}.
+ *
+ * Las recargas se ejecutan en un contexto Vert.x duplicado y marcado como seguro, que es
+ * lo que exige Hibernate Reactive fuera de una petición HTTP.
+ */
+@Slf4j
+@ApplicationScoped
+public class ReferenceDataChangeListener {
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    ReferenceDataCatalogPort referenceDataCatalog;
+
+    @ConfigProperty(name = "quarkus.datasource.reactive.url")
+    String reactiveUrl;
+
+    @ConfigProperty(name = "quarkus.datasource.username")
+    String username;
+
+    @ConfigProperty(name = "quarkus.datasource.password")
+    String password;
+
+    @ConfigProperty(name = "walrex.reference-data.notify-channel", defaultValue = "reference_data_changed")
+    String channel;
+
+    @ConfigProperty(name = "walrex.reference-data.debounce", defaultValue = "PT1S")
+    Duration debounce;
+
+    @ConfigProperty(name = "walrex.reference-data.reconnect-delay", defaultValue = "PT5S")
+    Duration reconnectDelay;
+
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean(false);
+    private final AtomicBoolean shutdownRequested = new AtomicBoolean(false);
+    private PgSubscriber subscriber;
+
+    void onStart(@Observes StartupEvent event) {
+        PgConnectOptions options = PgConnectOptions.fromUri(reactiveUrl)
+                .setUser(username)
+                .setPassword(password);
+        subscriber = PgSubscriber.subscriber(vertx, options)
+                .reconnectPolicy(retries -> reconnectDelay.toMillis());
+        subscriber.channel(channel)
+                .handler(table -> {
+                    log.debug("[ReferenceData] Cambio notificado en {}", table);
+                    referenceDataCatalog.markChanged();
+                    requestRefresh();
+                })
+                .subscribeHandler(v -> {
+                    log.info("[ReferenceData] Escuchando {}", channel);
+                    referenceDataCatalog.markChanged();
+                    requestRefresh();
+                });
+        subscriber.closeHandler(v -> {
+            if (!shutdownRequested.get()) {
+                log.warn("[ReferenceData] Conexión de escucha en {} cerrada definitivamente, reintentando en {}",
+                        channel, reconnectDelay);
+                scheduleConnect();
+            }
+        });
+        connect();
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        shutdownRequested.set(true);
+        if (subscriber != null) {
+            subscriber.close();
+        }
+    }
+
+    @Scheduled(every = "${walrex.reference-data.refresh-every:1h}",
+               delayed = "${walrex.reference-data.refresh-every:1h}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public Uni<Void> periodicRefresh() {
+        return referenceDataCatalog.refresh()
+                .onFailure().recoverWithNull()
+                .replaceWithVoid();
+    }
+
+    private void connect() {
+        subscriber.connect().onComplete(result -> {
+            if (result.failed()) {
+                log.error("[ReferenceData] No se pudo conectar a {}: {} — reintento en {}",
+                        channel, result.cause().getMessage(), reconnectDelay);
+                // Sin avisos el catálogo se carga igual y queda cubierto por la recarga periódica
+                requestRefresh();
+                scheduleConnect();
+            }
+        });
+    }
+
+    private void scheduleConnect() {
+        if (shutdownRequested.get()) {
+            return;
+        }
+        vertx.setTimer(reconnectDelay.toMillis(), id -> connect());
+    }
+
+    /**
+     * Programa una recarga dentro de la ventana de debounce; los avisos que llegan
+     * mientras hay una programada se agrupan en ella.
+     */
+    private void requestRefresh() {
+        if (shutdownRequested.get() || !refreshScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        vertx.setTimer(Math.max(1, debounce.toMillis()), id -> {
+            Context safeCtx = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+            VertxContextSafetyToggle.setContextSafe(safeCtx, true);
+            safeCtx.runOnContext(v -> {
+                refreshScheduled.set(false);
+                referenceDataCatalog.refresh()
+                        .subscribe().with(
+                                ignored -> { },
+                                error -> { /* ya registrado por el catálogo */ });
+            });
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package org.walrex.infrastructure.adapter.inbound.scheduler;
+
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.walrex.application.port.output.RouteRegistryPort;
+
+/**
+ * Mantiene al día el registro en memoria de rutas y métodos de pago.
+ * La primera ejecución ocurre al arrancar y hace la carga inicial; las siguientes solo
+ * recargan si cambió la configuración en BD.
+ */
+@Slf4j
+@ApplicationScoped
+public class RouteRegistryRefreshScheduler {
+
+    @Inject
+    RouteRegistryPort routeRegistry;
+
+    @Scheduled(every = "${walrex.route-registry.check-every:30s}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    public Uni<Void> refresh() {
+        return routeRegistry.refreshIfChanged()
+                .onFailure().invoke(e ->
+                        log.error("[RouteRegistry] Error verificando cambios de rutas: {}", e.getMessage()))
+                .onFailure().recoverWithNull()
+                .replaceWithVoid();
+    }
+}
@@ -265,7 +265,7 @@ public class FinnhubStreamManager {
                                 state.setLastUpdated(time);
                             }
 
-                            tradeUseCase.onTrade(trade.getSymbol(), trade.getPrice(), time)
+                            tradeUseCase.onTrade(trade.getSymbol(), trade.getPrice(), trade.getVolume(), time)
                                     .subscribe().with(
                                             __ -> {},
                                             e -> log.error("[FinnhubStreamManager] Error procesando trade {}: {}",
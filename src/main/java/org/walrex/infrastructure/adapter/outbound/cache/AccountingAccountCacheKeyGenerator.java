@@ -44,6 +44,8 @@ public class AccountingAccountCacheKeyGenerator {
                 pageRequest.getSize(),
                 pageRequest.getSortBy(),
                 pageRequest.getSortDirection().getValue(),
+                pageRequest.getCursor(),
+                pageRequest.isIncludeTotal(),
                 filter != null ? filter.getSearch() : null,
                 filter != null ? filter.getCode() : null,
                 filter != null ? filter.getName() : null,
@@ -202,6 +204,8 @@ public class AccountingAccountCacheKeyGenerator {
         int size,
         String sortBy,
         String sortDirection,
+        String cursor,
+        boolean includeTotal,
         String search,
         String code,
         String name,
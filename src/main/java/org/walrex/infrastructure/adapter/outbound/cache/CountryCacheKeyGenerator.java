@@ -23,7 +23,6 @@ import java.util.HexFormat;
 public class CountryCacheKeyGenerator {
 
     private static final String CACHE_PREFIX = "country:list:";
-    private static final String ALL_ACTIVE = "country:all:active";
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
@@ -44,6 +43,8 @@ public class CountryCacheKeyGenerator {
                     pageRequest.getSize(),
                     pageRequest.getSortBy(),
                     pageRequest.getSortDirection().getValue(),
+                    pageRequest.getCursor(),
+                    pageRequest.isIncludeTotal(),
                     filter != null ? filter.getSearch() : null,
                     filter != null ? filter.getAlphabeticCode3() : null,
                     filter != null ? filter.getNumericCode() : null,
@@ -64,16 +65,6 @@ public class CountryCacheKeyGenerator {
         }
     }
 
-    /**
-     * Genera una clave de cache para listar todos los países activos.
-     * Usada por el endpoint /all.
-     *
-     * @return Clave de cache para listado completo
-     */
-    public static String generateKeyForAll() {
-        return ALL_ACTIVE;
-    }
-
     /**
      * Genera clave para invalidar todo el patrón de countries.
      *
@@ -132,6 +123,8 @@ public class CountryCacheKeyGenerator {
             int size,
             String sortBy,
             String sortDirection,
+            String cursor,
+            boolean includeTotal,
             String search,
             String alphabeticCode,
             Integer numericCode,
@@ -43,6 +43,8 @@ public class CustomerCacheKeyGenerator {
                     pageRequest.getSize(),
                     pageRequest.getSortBy(),
                     pageRequest.getSortDirection().getValue(),
+                    pageRequest.getCursor(),
+                    pageRequest.isIncludeTotal(),
                     filter != null ? filter.getSearch() : null,
                     filter != null ? filter.getIdTypeDocument() : null,
                     filter != null ? filter.getNumberDocument() : null,
@@ -129,6 +131,8 @@ public class CustomerCacheKeyGenerator {
             int size,
             String sortBy,
             String sortDirection,
+            String cursor,
+            boolean includeTotal,
             String search,
             Integer idTypeDocument,
             String numberDocument,
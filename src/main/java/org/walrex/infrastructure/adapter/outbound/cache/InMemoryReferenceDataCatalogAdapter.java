@@ -0,0 +1,297 @@
+package org.walrex.infrastructure.adapter.outbound.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.walrex.application.port.output.CountryQueryPort;
+import org.walrex.application.port.output.CurrencyQueryPort;
+import org.walrex.application.port.output.DepartamentQueryPort;
+import org.walrex.application.port.output.FinancialInstitutionQueryPort;
+import org.walrex.application.port.output.OcupacionRepositoryPort;
+import org.walrex.application.port.output.ProvinceQueryPort;
+import org.walrex.application.port.output.ReferenceDataCatalogPort;
+import org.walrex.application.port.output.SunatDocumentTypeQueryPort;
+import org.walrex.application.port.output.SystemDocumentTypeQueryPort;
+import org.walrex.application.port.output.TypeComprobantSunatQueryPort;
+import org.walrex.domain.model.Country;
+import org.walrex.domain.model.Currency;
+import org.walrex.domain.model.Departament;
+import org.walrex.domain.model.Ocupacion;
+import org.walrex.domain.model.Province;
+import org.walrex.domain.model.ReferenceDataSnapshot;
+import org.walrex.domain.model.SunatDocumentType;
+import org.walrex.domain.model.SystemDocumentType;
+import org.walrex.domain.model.TypeComprobantSunat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Catálogo en memoria de datos de referencia (países, monedas, tipos de documento,
+ * tipos de comprobante SUNAT, ocupaciones, departamentos, provincias e instituciones
+ * financieras por riel de pago).
+ *
+ * - Carga completa en un snapshot inmutable que se reemplaza atómicamente.
+ * - Frescura: cada aviso de cambio (markChanged, lo llaman los servicios tras escribir y el
+ *   listener al recibir un NOTIFY) incrementa un contador. Cada carga anota el valor que vio al
+ *   empezar; el snapshot está al día solo si su carga empezó después del último aviso. Mientras
+ *   no lo está, lookup() y read() consultan la BD; lookup() también lo hace si el snapshot no
+ *   tiene el registro. Así una escritura se ve enseguida en el nodo que la hizo y, en los demás,
+ *   desde que llega su NOTIFY, sin esperar al debounce ni a la recarga.
+ * - La primera carga se comparte entre las peticiones concurrentes (single-flight).
+ * - Cada recarga lleva un número de secuencia: si dos recargas se solapan, una más antigua
+ *   que termina tarde no pisa a una más nueva. Por eso refresh() no se une a una carga en
+ *   curso, que podría haber leído las tablas antes del cambio que la motivó.
+ * - Si una recarga falla se conserva el snapshot anterior.
+ * - Cada carga abre su propia sesión de Hibernate Reactive en un contexto Vert.x duplicado
+ *   nuevo: la disparan el listener (sin sesión) o peticiones cuya sesión puede cerrarse antes.
+ *
+ * Quién dispara las recargas: ReferenceDataChangeListener (LISTEN reference_data_changed)
+ * y el endpoint de administración.
+ */
+@Slf4j
+@ApplicationScoped
+public class InMemoryReferenceDataCatalogAdapter implements ReferenceDataCatalogPort {
+
+    private static final String LOAD_KEY = "snapshot";
+
+    @Inject
+    CountryQueryPort countryQueryPort;
+
+    @Inject
+    CurrencyQueryPort currencyQueryPort;
+
+    @Inject
+    SystemDocumentTypeQueryPort systemDocumentTypeQueryPort;
+
+    @Inject
+    SunatDocumentTypeQueryPort sunatDocumentTypeQueryPort;
+
+    @Inject
+    TypeComprobantSunatQueryPort typeComprobantSunatQueryPort;
+
+    @Inject
+    OcupacionRepositoryPort ocupacionRepositoryPort;
+
+    @Inject
+    DepartamentQueryPort departamentQueryPort;
+
+    @Inject
+    ProvinceQueryPort provinceQueryPort;
+
+    @Inject
+    FinancialInstitutionQueryPort financialInstitutionQueryPort;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    Vertx vertx;
+
+    private final AtomicReference<ReferenceDataSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong changes = new AtomicLong();
+    private long loadSequence;
+    private long installedSequence;
+    private volatile long installedChanges = -1;
+    private SingleFlight<String, ReferenceDataSnapshot> initialLoads;
+    private Counter reloads;
+    private Counter failedReloads;
+    private Counter databaseReads;
+
+    @PostConstruct
+    void init() {
+        initialLoads = new SingleFlight<>("reference-data", meterRegistry);
+        reloads = Counter.builder("walrex.reference_data.reloads")
+                .description("Recargas del catálogo de datos de referencia")
+                .tag("result", "success")
+                .register(meterRegistry);
+        failedReloads = Counter.builder("walrex.reference_data.reloads")
+                .description("Recargas del catálogo de datos de referencia")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        databaseReads = Counter.builder("walrex.reference_data.database_reads")
+                .description("Consultas resueltas en BD porque el snapshot no estaba al día o no tenía el registro")
+                .register(meterRegistry);
+        Gauge.builder("walrex.reference_data.age.seconds", snapshot,
+                        ref -> ref.get() == null ? -1 : Duration.between(ref.get().loadedAt(), Instant.now()).toSeconds())
+                .description("Antigüedad del snapshot de datos de referencia")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Uni<ReferenceDataSnapshot> snapshot() {
+        ReferenceDataSnapshot loaded = snapshot.get();
+        if (loaded != null) {
+            return Uni.createFrom().item(loaded);
+        }
+        return initialLoads.execute(LOAD_KEY, this::load);
+    }
+
+    @Override
+    public Uni<ReferenceDataSnapshot> refresh() {
+        return load()
+                .onFailure().invoke(e -> {
+                    failedReloads.increment();
+                    log.error("[ReferenceData] Error recargando catálogo, se conserva el snapshot anterior: {}",
+                            e.getMessage());
+                });
+    }
+
+    @Override
+    public void markChanged() {
+        changes.incrementAndGet();
+    }
+
+    @Override
+    public boolean isCurrent() {
+        return installedChanges == changes.get();
+    }
+
+    @Override
+    public <T> Uni<Optional<T>> lookup(Function<ReferenceDataSnapshot, Optional<T>> fromSnapshot,
+                                       Supplier<Uni<Optional<T>>> fromDatabase) {
+        return currentSnapshot().chain(current -> {
+            Optional<T> found = current == null ? Optional.empty() : fromSnapshot.apply(current);
+            if (found.isPresent()) {
+                return Uni.createFrom().item(found);
+            }
+            databaseReads.increment();
+            return fromDatabase.get();
+        });
+    }
+
+    @Override
+    public <T> Uni<T> read(Function<ReferenceDataSnapshot, T> fromSnapshot, Supplier<Uni<T>> fromDatabase) {
+        return currentSnapshot().chain(current -> {
+            if (current != null) {
+                return Uni.createFrom().item(fromSnapshot.apply(current));
+            }
+            databaseReads.increment();
+            return fromDatabase.get();
+        });
+    }
+
+    /**
+     * Snapshot instalado si está al día, o null. Lee la marca antes que el snapshot: install()
+     * los publica en orden inverso, así que nunca se toma por vigente un snapshot anterior.
+     */
+    private Uni<ReferenceDataSnapshot> currentSnapshot() {
+        return snapshot().map(ignored -> isCurrent() ? snapshot.get() : null);
+    }
+
+    private Uni<ReferenceDataSnapshot> load() {
+        LoadStart start = begin();
+        Context caller = Vertx.currentContext();
+        Uni<ReferenceDataSnapshot> loaded = Uni.createFrom().<ReferenceDataSnapshot>emitter(emitter -> {
+            Context loadContext = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+            VertxContextSafetyToggle.setContextSafe(loadContext, true);
+            loadContext.runOnContext(v -> withOwnSession(this::readAll)
+                    .subscribe().with(emitter::complete, emitter::fail));
+        }).map(read -> install(start, read));
+        // El resultado vuelve al contexto del llamador para que su cadena siga ahí
+        return caller == null
+                ? loaded
+                : loaded.emitOn(command -> caller.runOnContext(ignored -> command.run()));
+    }
+
+    /**
+     * Lee todos los catálogos en secuencia: comparten la sesión de la carga, que no admite
+     * consultas concurrentes.
+     */
+    private Uni<ReferenceDataSnapshot> readAll() {
+        Tables tables = new Tables();
+        return countryQueryPort.streamAll().collect().asList()
+                .invoke(rows -> tables.countries = rows)
+                .chain(() -> currencyQueryPort.streamAll().collect().asList())
+                .invoke(rows -> tables.currencies = rows)
+                .chain(() -> systemDocumentTypeQueryPort.streamAll().collect().asList())
+                .invoke(rows -> tables.systemTypes = rows)
+                .chain(() -> sunatDocumentTypeQueryPort.streamAll().collect().asList())
+                .invoke(rows -> tables.sunatTypes = rows)
+                .chain(() -> typeComprobantSunatQueryPort.findAll())
+                .invoke(rows -> tables.comprobants = rows)
+                .chain(() -> ocupacionRepositoryPort.findAllNoPaginated(null))
+                .invoke(rows -> tables.ocupaciones = rows)
+                .chain(() -> departamentQueryPort.streamAll().collect().asList())
+                .invoke(rows -> tables.departaments = rows)
+                .chain(() -> provinceQueryPort.streamAll().collect().asList())
+                .invoke(rows -> tables.provinces = rows)
+                .chain(() -> financialInstitutionQueryPort.streamAll().collect().asList())
+                .map(institutions -> ReferenceDataSnapshot.of(
+                        tables.countries, tables.currencies, tables.systemTypes, tables.sunatTypes,
+                        tables.comprobants, tables.ocupaciones, tables.departaments, tables.provinces,
+                        institutions, Instant.now()));
+    }
+
+    /**
+     * Abre la sesión de Hibernate Reactive de una carga.
+     */
+    Uni<ReferenceDataSnapshot> withOwnSession(Supplier<Uni<ReferenceDataSnapshot>> work) {
+        return Panache.withSession(work::get);
+    }
+
+    /**
+     * Numera la carga y anota los avisos de cambio que ya verá al leer las tablas.
+     */
+    private synchronized LoadStart begin() {
+        return new LoadStart(++loadSequence, changes.get());
+    }
+
+    /**
+     * Publica el snapshot salvo que ya haya uno de una carga posterior.
+     *
+     * @return el snapshot vigente tras la instalación
+     */
+    private synchronized ReferenceDataSnapshot install(LoadStart start, ReferenceDataSnapshot loaded) {
+        long sequence = start.sequence();
+        if (sequence < installedSequence) {
+            log.debug("[ReferenceData] Carga #{} descartada, ya está instalada la #{}", sequence, installedSequence);
+            return snapshot.get();
+        }
+        installedSequence = sequence;
+        snapshot.set(loaded);
+        installedChanges = start.changes();
+        reloads.increment();
+        log.info("[ReferenceData] Snapshot #{} cargado: {} países, {} monedas, {} tipos de documento, "
+                        + "{} tipos SUNAT, {} tipos de comprobante, {} ocupaciones, {} departamentos, "
+                        + "{} provincias, {} instituciones por riel",
+                sequence, loaded.countries().size(), loaded.currencies().size(),
+                loaded.systemDocumentTypes().size(), loaded.sunatDocumentTypes().size(),
+                loaded.typeComprobants().size(), loaded.ocupaciones().size(), loaded.departaments().size(),
+                loaded.provinces().size(), loaded.payoutRailInstitutions().size());
+        return loaded;
+    }
+
+    private record LoadStart(long sequence, long changes) {
+    }
+
+    /**
+     * Filas leídas por una carga hasta construir el snapshot.
+     */
+    private static final class Tables {
+        List<Country> countries;
+        List<Currency> currencies;
+        List<SystemDocumentType> systemTypes;
+        List<SunatDocumentType> sunatTypes;
+        List<TypeComprobantSunat> comprobants;
+        List<Ocupacion> ocupaciones;
+        List<Departament> departaments;
+        List<Province> provinces;
+    }
+}
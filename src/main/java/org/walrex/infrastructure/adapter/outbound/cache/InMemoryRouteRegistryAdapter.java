@@ -0,0 +1,169 @@
+package org.walrex.infrastructure.adapter.outbound.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.walrex.application.port.output.PaymentMethodQueryPort;
+import org.walrex.application.port.output.RemittanceRouteOutputPort;
+import org.walrex.application.port.output.RouteRegistryPort;
+import org.walrex.domain.model.ExchangeRateRouteInfo;
+import org.walrex.domain.model.RouteRegistrySnapshot;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Registro en memoria de rutas de remesas y métodos de pago Binance.
+ *
+ * - Carga completa (rutas activas, rutas por proveedor, métodos de pago) en un snapshot
+ *   inmutable que se reemplaza atómicamente; los lectores nunca consultan la BD.
+ * - Detección de cambios: una consulta barata calcula una huella (conteos y max(updated_at))
+ *   de remittance_routes, remittance_countries, country_currency_payment_methods y
+ *   financial_institution. Solo si la huella cambia se recarga.
+ * - Edad máxima: aunque la huella no cambie se recarga cada max-age-minutes, para cubrir
+ *   cambios hechos sin tocar updated_at.
+ * - Si una recarga falla se conserva el snapshot anterior.
+ */
+@Slf4j
+@ApplicationScoped
+public class InMemoryRouteRegistryAdapter implements RouteRegistryPort {
+
+    private static final String LOAD_KEY = "snapshot";
+
+    private static final String FINGERPRINT_SQL = """
+            SELECT concat_ws('|',
+                (SELECT count(*) || ':' || count(*) FILTER (WHERE is_active = '1') || ':' || coalesce(max(updated_at)::text, '')
+                 FROM remittance_routes),
+                (SELECT count(*) || ':' || count(*) FILTER (WHERE is_active = '1') || ':' || coalesce(max(updated_at)::text, '')
+                 FROM remittance_countries),
+                (SELECT count(*) || ':' || count(*) FILTER (WHERE is_active = '1') || ':' || coalesce(max(updated_at)::text, '')
+                 FROM country_currency_payment_methods),
+                (SELECT count(*) || ':' || count(*) FILTER (WHERE status = '1') || ':' || coalesce(max(updated_at)::text, '')
+                 FROM financial_institution)
+            ) AS fingerprint
+            """;
+
+    @ConfigProperty(name = "walrex.route-registry.providers", defaultValue = "ASTROPAY,BINANCE")
+    List<String> providers;
+
+    @ConfigProperty(name = "walrex.route-registry.max-age-minutes", defaultValue = "60")
+    long maxAgeMinutes;
+
+    @Inject
+    RemittanceRouteOutputPort routeOutputPort;
+
+    @Inject
+    PaymentMethodQueryPort paymentMethodQueryPort;
+
+    @Inject
+    Pool pool;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private final AtomicReference<RouteRegistrySnapshot> snapshot = new AtomicReference<>();
+    private SingleFlight<String, RouteRegistrySnapshot> loads;
+    private Counter reloads;
+
+    @PostConstruct
+    void init() {
+        loads = new SingleFlight<>("route-registry", meterRegistry);
+        reloads = Counter.builder("walrex.route_registry.reloads")
+                .description("Recargas del registro de rutas")
+                .register(meterRegistry);
+        Gauge.builder("walrex.route_registry.routes", snapshot,
+                        ref -> ref.get() == null ? 0 : ref.get().activeRoutes().size())
+                .description("Rutas activas en el registro en memoria")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Uni<RouteRegistrySnapshot> current() {
+        RouteRegistrySnapshot loaded = snapshot.get();
+        if (loaded != null) {
+            return Uni.createFrom().item(loaded);
+        }
+        return fingerprint().chain(this::load);
+    }
+
+    @Override
+    public Uni<Boolean> refreshIfChanged() {
+        return fingerprint().chain(fingerprint -> {
+            RouteRegistrySnapshot loaded = snapshot.get();
+            if (loaded != null && fingerprint.equals(loaded.fingerprint()) && !isExpired(loaded)) {
+                return Uni.createFrom().item(false);
+            }
+            if (loaded != null) {
+                log.info("[RouteRegistry] Cambio detectado en la configuración de rutas, recargando");
+            }
+            return load(fingerprint)
+                    .replaceWith(true)
+                    .onFailure().invoke(e ->
+                            log.error("[RouteRegistry] Error recargando rutas, se conserva el snapshot anterior: {}",
+                                    e.getMessage()))
+                    .onFailure().recoverWithItem(false);
+        });
+    }
+
+    private Uni<RouteRegistrySnapshot> load(String fingerprint) {
+        return loads.execute(LOAD_KEY, () -> loadSnapshot(fingerprint));
+    }
+
+    private Uni<RouteRegistrySnapshot> loadSnapshot(String fingerprint) {
+        // Secuencial: cada consulta usa su propia sesión de Hibernate Reactive
+        return routeOutputPort.findAllActiveExchangeRateRoutes()
+                .chain(activeRoutes -> loadProviderRoutes(activeRoutes)
+                        .chain(byProvider -> paymentMethodQueryPort.findAllActiveBinancePaymentCodes()
+                                .map(paymentCodes -> RouteRegistrySnapshot.of(
+                                        activeRoutes, byProvider, paymentCodes, fingerprint, Instant.now()))))
+                .invoke(loaded -> {
+                    snapshot.set(loaded);
+                    reloads.increment();
+                    log.info("[RouteRegistry] Snapshot cargado: {} rutas activas, proveedores {}, métodos de pago para {} country_currencies",
+                            loaded.activeRoutes().size(), loaded.byProvider().keySet(),
+                            loaded.paymentCodesByCountryCurrency().size());
+                });
+    }
+
+    private Uni<Map<String, List<ExchangeRateRouteInfo>>> loadProviderRoutes(List<ExchangeRateRouteInfo> activeRoutes) {
+        Set<String> allProviders = new LinkedHashSet<>();
+        providers.forEach(provider -> allProviders.add(provider.trim().toUpperCase(Locale.ROOT)));
+        activeRoutes.stream()
+                .map(ExchangeRateRouteInfo::getRateProvider)
+                .filter(Objects::nonNull)
+                .forEach(provider -> allProviders.add(provider.toUpperCase(Locale.ROOT)));
+
+        Map<String, List<ExchangeRateRouteInfo>> byProvider = new LinkedHashMap<>();
+        return Multi.createFrom().iterable(allProviders)
+                .onItem().transformToUniAndConcatenate(provider -> routeOutputPort.findActiveRoutesByProvider(provider)
+                        .invoke(routes -> byProvider.put(provider, routes)))
+                .collect().asList()
+                .replaceWith(byProvider);
+    }
+
+    private Uni<String> fingerprint() {
+        return pool.query(FINGERPRINT_SQL)
+                .execute()
+                .map(rows -> rows.iterator().next().getString("fingerprint"));
+    }
+
+    private boolean isExpired(RouteRegistrySnapshot loaded) {
+        return loaded.loadedAt().isBefore(Instant.now().minus(Duration.ofMinutes(maxAgeMinutes)));
+    }
+}
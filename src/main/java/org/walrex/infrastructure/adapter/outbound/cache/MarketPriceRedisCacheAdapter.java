@@ -1,6 +1,5 @@
 package org.walrex.infrastructure.adapter.outbound.cache;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
@@ -11,7 +10,9 @@ import jakarta.enterprise.context.ApplicationScoped;
 import lombok.extern.slf4j.Slf4j;
 import org.walrex.application.port.output.MarketPriceCachePort;
 import org.walrex.domain.model.MarketPrice;
+import org.walrex.infrastructure.adapter.outbound.cache.codec.CacheCodec;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.Optional;
 
@@ -22,13 +23,14 @@ public class MarketPriceRedisCacheAdapter implements MarketPriceCachePort {
 
     private static final String KEY_PREFIX = "fx:";
 
-    private final ReactiveValueCommands<String, String> valueCommands;
-    private final ObjectMapper objectMapper;
+    private final ReactiveValueCommands<String, byte[]> valueCommands;
+    private final CacheCodec codec;
 
     public MarketPriceRedisCacheAdapter(ReactiveRedisDataSource dataSource) {
-        this.valueCommands = dataSource.value(String.class, String.class);
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+        this.valueCommands = dataSource.value(String.class, byte[].class);
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        this.codec = CacheCodec.forCache("market-price", objectMapper);
     }
 
     @Override
@@ -37,16 +39,16 @@ public class MarketPriceRedisCacheAdapter implements MarketPriceCachePort {
         log.debug("Getting market price from cache: key={}", key);
 
         return valueCommands.get(key)
-                .map(json -> {
-                    if (json == null) {
+                .map(cached -> {
+                    if (cached == null) {
                         log.debug("Cache miss for key={}", key);
                         return Optional.<MarketPrice>empty();
                     }
                     try {
-                        MarketPrice price = objectMapper.readValue(json, MarketPrice.class);
+                        MarketPrice price = codec.decode(cached, MarketPrice.class);
                         log.debug("Cache hit for key={}, price={}", key, price.getPrice());
                         return Optional.of(price);
-                    } catch (JsonProcessingException e) {
+                    } catch (IOException e) {
                         log.error("Error deserializing market price for key={}: {}", key, e.getMessage());
                         return Optional.<MarketPrice>empty();
                     }
@@ -63,16 +65,16 @@ public class MarketPriceRedisCacheAdapter implements MarketPriceCachePort {
         log.debug("Setting market price in cache: key={}, price={}, ttl={}", key, price.getPrice(), ttl);
 
         try {
-            String json = objectMapper.writeValueAsString(price);
+            byte[] encoded = codec.encode(price);
 
-            return valueCommands.setex(key, ttl.getSeconds(), json)
+            return valueCommands.setex(key, ttl.getSeconds(), encoded)
                     .replaceWithVoid()
                     .invoke(() -> log.debug("Cache set successfully: key={}", key))
                     .onFailure().invoke(error ->
                             log.error("Redis error setting key={}: {}", key, error.getMessage())
                     )
                     .onFailure().recoverWithNull();
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             log.error("Error serializing market price for key={}: {}", key, e.getMessage());
             return Uni.createFrom().voidItem();
         }
@@ -10,6 +10,7 @@ import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
 import org.walrex.application.port.output.AzureAnalysisCachePort;
 import org.walrex.domain.model.DocumentAnalysisResult;
+import org.walrex.infrastructure.adapter.outbound.cache.codec.CacheCodec;
 
 import java.time.Duration;
 
@@ -20,16 +21,16 @@ public class RedisAzureAnalysisCacheAdapter implements AzureAnalysisCachePort {
     private static final String KEY_PREFIX = "rag:azure:";
     private static final Duration DEFAULT_TTL = Duration.ofDays(30);
 
-    private final ReactiveValueCommands<String, String> valueCommands;
-    private final ObjectMapper objectMapper;
+    private final ReactiveValueCommands<String, byte[]> valueCommands;
+    private final CacheCodec codec;
 
     @Inject
     public RedisAzureAnalysisCacheAdapter(
             ReactiveRedisDataSource redisDataSource,
             ObjectMapper objectMapper
     ) {
-        this.valueCommands = redisDataSource.value(String.class, String.class);
-        this.objectMapper = objectMapper;
+        this.valueCommands = redisDataSource.value(String.class, byte[].class);
+        this.codec = CacheCodec.forCache("azure-analysis", objectMapper);
     }
 
     @Override
@@ -37,15 +38,15 @@ public class RedisAzureAnalysisCacheAdapter implements AzureAnalysisCachePort {
         String key = KEY_PREFIX + imageHash;
 
         return valueCommands.get(key)
-                .onItem().transform(json -> {
-                    if (json == null) {
+                .onItem().transform(cached -> {
+                    if (cached == null) {
                         log.debug("Azure AI cache miss for key: {}", key);
                         return null;
                     }
 
                     try {
                         DocumentAnalysisResult result =
-                                objectMapper.readValue(json, DocumentAnalysisResult.class);
+                                codec.decode(cached, DocumentAnalysisResult.class);
                         log.debug("Azure AI cache hit for key: {}", key);
                         return result;
                     } catch (Exception e) {
@@ -61,13 +62,13 @@ public class RedisAzureAnalysisCacheAdapter implements AzureAnalysisCachePort {
 
         return Uni.createFrom().item(() -> {
                     try {
-                        return objectMapper.writeValueAsString(result);
+                        return codec.encode(result);
                     } catch (Exception e) {
                         throw new RuntimeException("Failed to serialize Azure AI result", e);
                     }
                 })
-                .chain(json ->
-                        valueCommands.set(key, json, new SetArgs().ex(DEFAULT_TTL))
+                .chain(encoded ->
+                        valueCommands.set(key, encoded, new SetArgs().ex(DEFAULT_TTL))
                 )
                 .invoke(() ->
                         log.debug("Cached Azure AI result for key: {} with TTL: {}", key, DEFAULT_TTL)
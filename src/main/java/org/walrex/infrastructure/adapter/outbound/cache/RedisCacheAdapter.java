@@ -1,17 +1,32 @@
 package org.walrex.infrastructure.adapter.outbound.cache;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.hibernate.reactive.panache.Panache;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
 import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.walrex.application.dto.response.PagedResponse;
 import org.walrex.application.port.output.CachePort;
+import org.walrex.infrastructure.adapter.outbound.cache.codec.CacheCodec;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 /**
  * Implementación genérica de cache usando Redis.
@@ -21,9 +36,13 @@ import java.util.List;
  *
  * Features:
  * - Almacenamiento reactivo con Mutiny
- * - Serialización/deserialización JSON
+ * - Serialización con el codec configurado para la entidad (ver {@link CacheCodec})
  * - TTL configurable
  * - Manejo de errores graceful (si Redis falla, no afecta la app)
+ * - Invalidación por generación: cada clave lleva la generación vigente de la entidad
+ *   ({clave}:g{n}); invalidateAll hace un INCR y las generaciones viejas expiran por TTL
+ * - Protección contra estampidas en getOrLoad: single-flight por clave, expiración temprana
+ *   probabilística y stale-while-revalidate (ver {@link #getOrLoad})
  * - Genérico para cualquier tipo de respuesta
  *
  * @param <T> Tipo de respuesta que se almacenará en caché
@@ -31,12 +50,35 @@ import java.util.List;
 @Slf4j
 public abstract class RedisCacheAdapter<T> implements CachePort<T> {
 
-    protected ReactiveValueCommands<String, String> valueCommands;
+    protected ReactiveValueCommands<String, byte[]> valueCommands;
+    protected ReactiveValueCommands<String, Long> generationCommands;
     protected ReactiveRedisDataSource redisDataSource;
     protected ObjectMapper objectMapper;
+    protected CacheCodec codec;
     protected TypeReference<PagedResponse<T>> typeReference;
     protected String entityName;
 
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @Inject
+    Vertx vertx;
+
+    // Coeficiente de la expiración temprana (XFetch); 0 la desactiva
+    @ConfigProperty(name = "walrex.cache.paged.early-refresh-beta", defaultValue = "1.0")
+    double earlyRefreshBeta;
+
+    // Tiempo que una página vencida se sigue sirviendo mientras se recarga; 0 lo desactiva
+    @ConfigProperty(name = "walrex.cache.paged.stale-while-revalidate", defaultValue = "PT30S")
+    Duration staleWhileRevalidate;
+
+    private static final byte ENTRY_MARKER = 0x01;
+    private static final int ENTRY_HEADER_LENGTH = 1 + Long.BYTES + Integer.BYTES;
+
+    private SingleFlight<String, PagedResponse<T>> loads;
+    private Counter earlyRefreshes;
+    private Counter staleServed;
+
     // Constructor sin argumentos requerido por CDI para proxies
     protected RedisCacheAdapter() {
     }
@@ -47,27 +89,49 @@ public abstract class RedisCacheAdapter<T> implements CachePort<T> {
             TypeReference<PagedResponse<T>> typeReference,
             String entityName) {
         this.redisDataSource = reactiveRedisDataSource;
-        this.valueCommands = reactiveRedisDataSource.value(String.class, String.class);
+        this.valueCommands = reactiveRedisDataSource.value(String.class, byte[].class);
+        this.generationCommands = reactiveRedisDataSource.value(String.class, Long.class);
         this.objectMapper = objectMapper;
+        this.codec = CacheCodec.forCache(entityName, objectMapper);
         this.typeReference = typeReference;
         this.entityName = entityName;
     }
 
+    @PostConstruct
+    void initStampedeProtection() {
+        loads = new SingleFlight<>("cache-" + entityName, meterRegistry);
+        earlyRefreshes = Counter.builder("walrex.cache.paged.refresh")
+                .description("Recargas en segundo plano de páginas cacheadas")
+                .tag("entity", entityName)
+                .tag("reason", "early")
+                .register(meterRegistry);
+        staleServed = Counter.builder("walrex.cache.paged.refresh")
+                .description("Recargas en segundo plano de páginas cacheadas")
+                .tag("entity", entityName)
+                .tag("reason", "stale")
+                .register(meterRegistry);
+    }
+
     @Override
     public Uni<PagedResponse<T>> get(String cacheKey) {
         log.debug("[{}] Attempting to get from cache with key: {}", entityName, cacheKey);
 
-        return valueCommands.get(cacheKey)
-            .onItem().transformToUni(jsonValue -> {
-                if (jsonValue == null) {
+        return currentGeneration()
+            .chain(generation -> valueCommands.get(versionedKey(cacheKey, generation)))
+            .onItem().transformToUni(cachedValue -> {
+                if (cachedValue == null) {
                     log.debug("[{}] Cache miss for key: {}", entityName, cacheKey);
                     return Uni.createFrom().nullItem();
                 }
 
                 try {
-                    PagedResponse<T> result = deserialize(jsonValue);
+                    CachedPage<T> entry = decodeEntry(cachedValue);
+                    if (!entry.isFresh(System.currentTimeMillis())) {
+                        log.debug("[{}] Cache entry expired for key: {}", entityName, cacheKey);
+                        return Uni.createFrom().nullItem();
+                    }
                     log.debug("[{}] Cache hit for key: {}", entityName, cacheKey);
-                    return Uni.createFrom().item(result);
+                    return Uni.createFrom().item(entry.value());
                 } catch (Exception e) {
                     log.warn("[{}] Error deserializing cached value for key: {}. Error: {}", entityName, cacheKey, e.getMessage());
                     // Si falla la deserialización, invalidar la clave corrupta
@@ -85,39 +149,84 @@ public abstract class RedisCacheAdapter<T> implements CachePort<T> {
     public Uni<Void> put(String cacheKey, PagedResponse<T> value, Duration ttl) {
         log.debug("[{}] Caching result with key: {} and TTL: {}", entityName, cacheKey, ttl);
 
-        try {
-            String jsonValue = serialize(value);
+        return currentGeneration()
+            .chain(generation -> store(versionedKey(cacheKey, generation), value, ttl, 0))
+            .onFailure().invoke(error ->
+                log.warn("[{}] Error caching value for key: {}. Error: {}", entityName, cacheKey, error.getMessage())
+            )
+            .onFailure().recoverWithNull(); // Si falla, continuar sin cache
+    }
 
-            return valueCommands.setex(cacheKey, ttl.getSeconds(), jsonValue)
-                .onItem().invoke(() ->
-                    log.debug("[{}] Successfully cached result for key: {}", entityName, cacheKey)
-                )
-                .onFailure().invoke(error ->
-                    log.warn("[{}] Error caching value for key: {}. Error: {}", entityName, cacheKey, error.getMessage())
-                )
-                .onFailure().recoverWithNull() // Si falla, continuar sin cache
-                .replaceWithVoid();
+    /**
+     * Cache-aside con protección contra estampidas:
+     * - Single-flight: en este nodo, los misses concurrentes de una clave comparten una sola carga.
+     * - Expiración temprana probabilística (XFetch): cuanto más cerca del vencimiento y más cara
+     *   fue la carga, más probable que una petición dispare la recarga en segundo plano,
+     *   así la entrada casi nunca llega a vencer bajo tráfico.
+     * - Stale-while-revalidate: una entrada vencida hace menos de stale-while-revalidate se sirve
+     *   tal cual mientras se recarga en segundo plano.
+     *
+     * La generación se lee antes de cargar: si invalidateAll ocurre durante la carga, el resultado
+     * se guarda bajo la generación anterior y nunca se sirve.
+     *
+     * Las recargas en segundo plano no usan el contexto del llamador (su sesión se cierra al
+     * responder): corren en un contexto duplicado nuevo con su propia sesión.
+     */
+    @Override
+    public Uni<PagedResponse<T>> getOrLoad(String cacheKey, Duration ttl, Supplier<Uni<PagedResponse<T>>> loader) {
+        return currentGeneration()
+            .onFailure().invoke(error ->
+                log.warn("[{}] Error reading cache generation. Error: {}", entityName, error.getMessage())
+            )
+            .onFailure().recoverWithNull()
+            .chain(generation -> {
+                if (generation == null) {
+                    return loader.get(); // Si Redis falla, continuar sin cache
+                }
 
-        } catch (Exception e) {
-            log.warn("[{}] Error serializing value for cache key: {}. Error: {}", entityName, cacheKey, e.getMessage());
-            return Uni.createFrom().voidItem();
-        }
+                String key = versionedKey(cacheKey, generation);
+                return valueCommands.get(key)
+                    .onFailure().invoke(error ->
+                        log.warn("[{}] Error accessing cache for key: {}. Error: {}", entityName, cacheKey, error.getMessage())
+                    )
+                    .onFailure().recoverWithNull()
+                    .chain(cachedValue -> {
+                        CachedPage<T> entry = decodeEntryOrNull(cacheKey, cachedValue);
+                        if (entry == null) {
+                            log.debug("[{}] Cache miss for key: {}", entityName, cacheKey);
+                            return load(key, ttl, loader);
+                        }
+
+                        long now = System.currentTimeMillis();
+                        if (!entry.isFresh(now)) {
+                            log.debug("[{}] Serving stale entry for key: {} while refreshing", entityName, cacheKey);
+                            staleServed.increment();
+                            refreshInBackground(key, ttl, loader);
+                        } else if (shouldRefreshEarly(entry, now)) {
+                            log.debug("[{}] Early refresh for key: {}", entityName, cacheKey);
+                            earlyRefreshes.increment();
+                            refreshInBackground(key, ttl, loader);
+                        }
+                        return Uni.createFrom().item(entry.value());
+                    });
+            });
     }
 
     @Override
     public <R> Uni<List<R>> getList(String cacheKey) {
         log.debug("[{}] Attempting to get list from cache with key: {}", entityName, cacheKey);
 
-        return valueCommands.get(cacheKey)
-            .onItem().transformToUni(jsonValue -> {
-                if (jsonValue == null) {
+        return currentGeneration()
+            .chain(generation -> valueCommands.get(versionedKey(cacheKey, generation)))
+            .onItem().transformToUni(cachedValue -> {
+                if (cachedValue == null) {
                     log.debug("[{}] Cache miss for key: {}", entityName, cacheKey);
                     return Uni.createFrom().nullItem();
                 }
 
                 try {
                     // Usar TypeReference genérico para deserializar listas
-                    List<R> result = objectMapper.readValue(jsonValue, new TypeReference<List<R>>() {});
+                    List<R> result = codec.decode(cachedValue, new TypeReference<List<R>>() {});
                     log.debug("[{}] Cache hit for list key: {}", entityName, cacheKey);
                     return Uni.createFrom().item(result);
                 } catch (Exception e) {
@@ -138,9 +247,10 @@ public abstract class RedisCacheAdapter<T> implements CachePort<T> {
         log.debug("[{}] Caching list with key: {} and TTL: {}", entityName, cacheKey, ttl);
 
         try {
-            String jsonValue = objectMapper.writeValueAsString(value);
+            byte[] encoded = codec.encode(value);
 
-            return valueCommands.setex(cacheKey, ttl.getSeconds(), jsonValue)
+            return currentGeneration()
+                .chain(generation -> valueCommands.setex(versionedKey(cacheKey, generation), ttl.getSeconds(), encoded))
                 .onItem().invoke(() ->
                     log.debug("[{}] Successfully cached list for key: {}", entityName, cacheKey)
                 )
@@ -160,7 +270,8 @@ public abstract class RedisCacheAdapter<T> implements CachePort<T> {
     public Uni<Void> invalidate(String cacheKey) {
         log.debug("[{}] Invalidating cache key: {}", entityName, cacheKey);
 
-        return valueCommands.getdel(cacheKey)
+        return currentGeneration()
+            .chain(generation -> redisDataSource.key().del(versionedKey(cacheKey, generation)))
             .onItem().invoke(() ->
                 log.debug("[{}] Successfully invalidated key: {}", entityName, cacheKey)
             )
@@ -174,37 +285,27 @@ public abstract class RedisCacheAdapter<T> implements CachePort<T> {
     /**
      * Método abstracto para obtener el patrón de invalidación.
      * Cada implementación concreta debe proporcionar su propio patrón.
+     * Su prefijo (sin el "*") determina la clave de generación de la entidad.
      *
-     * @return Patrón de claves para invalidar (ej: "currency:*")
+     * @return Patrón de claves de la entidad (ej: "currency:*")
      */
     protected abstract String getInvalidationPattern();
 
+    /**
+     * Invalida todas las entradas de la entidad con un solo INCR de su generación.
+     *
+     * Las claves de generaciones anteriores dejan de leerse y expiran solas por TTL,
+     * así que no se recorre el keyspace (KEYS bloqueaba Redis en cada escritura).
+     */
     @Override
     public Uni<Void> invalidateAll() {
-        String pattern = getInvalidationPattern();
-        log.info("[{}] Invalidating all cache entries with pattern: {}", entityName, pattern);
-
-        // Nota: En producción, considera usar SCAN en lugar de KEYS para mejor rendimiento
-        return redisDataSource
-            .key()
-            .keys(pattern)
-            .onItem().transformToUni(keys -> {
-                if (keys.isEmpty()) {
-                    log.debug("[{}] No cache keys found to invalidate", entityName);
-                    return Uni.createFrom().voidItem();
-                }
-
-                log.debug("[{}] Found {} cache keys to invalidate", entityName, keys.size());
+        String generationKey = generationKey();
+        log.info("[{}] Invalidating all cache entries by bumping {}", entityName, generationKey);
 
-                // Eliminar todas las claves encontradas
-                return redisDataSource
-                    .key()
-                    .del(keys.toArray(new String[0]))
-                    .onItem().invoke(deleted ->
-                        log.info("[{}] Invalidated {} cache entries", entityName, deleted)
-                    )
-                    .replaceWithVoid();
-            })
+        return generationCommands.incr(generationKey)
+            .onItem().invoke(generation ->
+                log.info("[{}] Cache generation is now {}", entityName, generation)
+            )
             .onFailure().invoke(error ->
                 log.warn("[{}] Error invalidating all cache entries. Error: {}", entityName, error.getMessage())
             )
@@ -212,17 +313,147 @@ public abstract class RedisCacheAdapter<T> implements CachePort<T> {
             .replaceWithVoid();
     }
 
+    private Uni<PagedResponse<T>> load(String versionedKey, Duration ttl, Supplier<Uni<PagedResponse<T>>> loader) {
+        return loads.execute(versionedKey, () -> {
+            long start = System.nanoTime();
+            return loader.get()
+                .call(value -> store(versionedKey, value, ttl, Duration.ofNanos(System.nanoTime() - start).toMillis())
+                    .onFailure().invoke(error ->
+                        log.warn("[{}] Error caching value for key: {}. Error: {}", entityName, versionedKey, error.getMessage())
+                    )
+                    .onFailure().recoverWithNull());
+        });
+    }
+
+    private void refreshInBackground(String versionedKey, Duration ttl, Supplier<Uni<PagedResponse<T>>> loader) {
+        Context refreshContext = ((ContextInternal) vertx.getOrCreateContext()).duplicate();
+        VertxContextSafetyToggle.setContextSafe(refreshContext, true);
+        refreshContext.runOnContext(v ->
+            load(versionedKey, ttl, () -> withOwnSession(loader))
+                .subscribe().with(
+                    ignored -> log.debug("[{}] Refreshed cache key: {}", entityName, versionedKey),
+                    error -> log.warn("[{}] Error refreshing cache key: {}. Error: {}", entityName, versionedKey, error.getMessage())
+                ));
+    }
+
+    /**
+     * Abre una sesión de Hibernate Reactive propia para una recarga en segundo plano.
+     */
+    Uni<PagedResponse<T>> withOwnSession(Supplier<Uni<PagedResponse<T>>> loader) {
+        return Panache.withSession(loader::get);
+    }
+
+    private boolean shouldRefreshEarly(CachedPage<T> entry, long now) {
+        return shouldRefreshEarly(entry, now, earlyRefreshBeta, ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * XFetch: recarga si now + loadMillis * beta * -ln(1 - random) alcanza el vencimiento,
+     * con random uniforme en [0, 1).
+     */
+    static boolean shouldRefreshEarly(CachedPage<?> entry, long now, double beta, double random) {
+        if (beta <= 0 || entry.loadMillis() <= 0) {
+            return false;
+        }
+        double gap = entry.loadMillis() * beta * -Math.log(1.0 - random);
+        return now + gap >= entry.freshUntilMillis();
+    }
+
+    /**
+     * Guarda la página con su vencimiento lógico; Redis la conserva stale-while-revalidate más.
+     */
+    private Uni<Void> store(String versionedKey, PagedResponse<T> value, Duration ttl, long loadMillis) {
+        byte[] encoded;
+        try {
+            encoded = encodeEntry(value, ttl, loadMillis);
+        } catch (Exception e) {
+            log.warn("[{}] Error serializing value for cache key: {}. Error: {}", entityName, versionedKey, e.getMessage());
+            return Uni.createFrom().voidItem();
+        }
+        return valueCommands.setex(versionedKey, ttl.plus(staleWhileRevalidate).getSeconds(), encoded)
+            .onItem().invoke(() ->
+                log.debug("[{}] Successfully cached result for key: {}", entityName, versionedKey)
+            )
+            .replaceWithVoid();
+    }
+
+    /**
+     * Página cacheada: [0x01][vence en epoch ms int64][duración de la carga ms int32][valor del codec].
+     */
+    protected byte[] encodeEntry(PagedResponse<T> value, Duration ttl, long loadMillis) throws IOException {
+        byte[] payload = serialize(value);
+        return ByteBuffer.allocate(ENTRY_HEADER_LENGTH + payload.length)
+            .put(ENTRY_MARKER)
+            .putLong(System.currentTimeMillis() + ttl.toMillis())
+            .putInt((int) Math.min(loadMillis, Integer.MAX_VALUE))
+            .put(payload)
+            .array();
+    }
+
+    /**
+     * Lee una página cacheada; las escritas sin cabecera se consideran vigentes hasta su TTL.
+     */
+    protected CachedPage<T> decodeEntry(byte[] cachedValue) throws IOException {
+        if (cachedValue.length >= ENTRY_HEADER_LENGTH && cachedValue[0] == ENTRY_MARKER) {
+            ByteBuffer buffer = ByteBuffer.wrap(cachedValue, 1, ENTRY_HEADER_LENGTH - 1);
+            long freshUntilMillis = buffer.getLong();
+            int loadMillis = buffer.getInt();
+            PagedResponse<T> value = deserialize(Arrays.copyOfRange(cachedValue, ENTRY_HEADER_LENGTH, cachedValue.length));
+            return new CachedPage<>(value, freshUntilMillis, loadMillis);
+        }
+        return new CachedPage<>(deserialize(cachedValue), Long.MAX_VALUE, 0);
+    }
+
+    private CachedPage<T> decodeEntryOrNull(String cacheKey, byte[] cachedValue) {
+        if (cachedValue == null) {
+            return null;
+        }
+        try {
+            return decodeEntry(cachedValue);
+        } catch (Exception e) {
+            log.warn("[{}] Error deserializing cached value for key: {}. Error: {}", entityName, cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    protected record CachedPage<V>(V value, long freshUntilMillis, int loadMillis) {
+        boolean isFresh(long nowMillis) {
+            return nowMillis < freshUntilMillis;
+        }
+    }
+
+    /**
+     * Clave que guarda la generación vigente de la entidad (ej: "currency:generation").
+     */
+    protected String generationKey() {
+        String pattern = getInvalidationPattern();
+        String prefix = pattern.endsWith("*") ? pattern.substring(0, pattern.length() - 1) : pattern + ":";
+        return prefix + "generation";
+    }
+
+    /**
+     * Generación vigente; 0 si nunca se invalidó.
+     */
+    protected Uni<Long> currentGeneration() {
+        return generationCommands.get(generationKey())
+            .map(generation -> generation == null ? 0L : generation);
+    }
+
+    protected String versionedKey(String cacheKey, long generation) {
+        return cacheKey + ":g" + generation;
+    }
+
     /**
-     * Serializa el objeto PagedResponse a JSON.
+     * Serializa el objeto PagedResponse con el codec de la entidad.
      */
-    protected String serialize(PagedResponse<T> value) throws JsonProcessingException {
-        return objectMapper.writeValueAsString(value);
+    protected byte[] serialize(PagedResponse<T> value) throws IOException {
+        return codec.encode(value);
     }
 
     /**
-     * Deserializa JSON a PagedResponse.
+     * Deserializa a PagedResponse (acepta también entradas JSON anteriores al codec).
      */
-    protected PagedResponse<T> deserialize(String json) throws JsonProcessingException {
-        return objectMapper.readValue(json, typeReference);
+    protected PagedResponse<T> deserialize(byte[] cachedValue) throws IOException {
+        return codec.decode(cachedValue, typeReference);
     }
 }
\ No newline at end of file
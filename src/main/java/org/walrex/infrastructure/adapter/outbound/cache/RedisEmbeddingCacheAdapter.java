@@ -11,6 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.walrex.application.port.output.EmbeddingCachePort;
 import org.walrex.domain.model.AccountingBookType;
 import org.walrex.domain.model.CachedEmbedding;
+import org.walrex.infrastructure.adapter.outbound.cache.codec.CacheCodec;
 
 import java.time.Duration;
 
@@ -21,16 +22,16 @@ public class RedisEmbeddingCacheAdapter  implements EmbeddingCachePort {
     private static final String KEY_PREFIX = "rag:embedding:";
     private static final Duration DEFAULT_TTL = Duration.ofDays(30);
 
-    private final ReactiveValueCommands<String, String> valueCommands;
-    private final ObjectMapper objectMapper;
+    private final ReactiveValueCommands<String, byte[]> valueCommands;
+    private final CacheCodec codec;
 
     @Inject
     public RedisEmbeddingCacheAdapter(
             ReactiveRedisDataSource redisDataSource,
             ObjectMapper objectMapper
     ) {
-        this.valueCommands = redisDataSource.value(String.class, String.class);
-        this.objectMapper = objectMapper;
+        this.valueCommands = redisDataSource.value(String.class, byte[].class);
+        this.codec = CacheCodec.forCache("embedding", objectMapper);
     }
 
 
@@ -40,15 +41,15 @@ public class RedisEmbeddingCacheAdapter  implements EmbeddingCachePort {
         String key = buildKey(imageHash, bookType);
 
         return valueCommands.get(key)
-                .onItem().transform(json -> {
-                    if (json == null) {
+                .onItem().transform(cached -> {
+                    if (cached == null) {
                         log.debug("Embedding cache miss for key: {}", key);
                         return null;
                     }
 
                     try {
                         CachedEmbedding result =
-                                objectMapper.readValue(json, CachedEmbedding.class);
+                                codec.decode(cached, CachedEmbedding.class);
                         log.debug("Embedding cache hit for key: {}", key);
                         return result;
                     } catch (Exception e) {
@@ -67,13 +68,13 @@ public class RedisEmbeddingCacheAdapter  implements EmbeddingCachePort {
 
         return Uni.createFrom().item(() -> {
                     try {
-                        return objectMapper.writeValueAsString(cachedEmbedding);
+                        return codec.encode(cachedEmbedding);
                     } catch (Exception e) {
                         throw new RuntimeException("Failed to serialize embedding", e);
                     }
                 })
-                .chain(json ->
-                        valueCommands.set(key, json, new SetArgs().ex(DEFAULT_TTL))
+                .chain(encoded ->
+                        valueCommands.set(key, encoded, new SetArgs().ex(DEFAULT_TTL))
                 )
                 .invoke(() ->
                         log.debug("Cached embedding for key: {} with TTL: {}", key, DEFAULT_TTL)
@@ -1,9 +1,9 @@
 package org.walrex.infrastructure.adapter.outbound.cache;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.value.ReactiveTransactionalValueCommands;
 import io.quarkus.redis.datasource.value.ReactiveValueCommands;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 import io.smallrye.mutiny.Uni;
@@ -11,28 +11,41 @@ import jakarta.enterprise.context.ApplicationScoped;
 import lombok.extern.slf4j.Slf4j;
 import org.walrex.application.port.output.ExchangeRateCachePort;
 import org.walrex.domain.model.ExchangeRateCache;
+import org.walrex.infrastructure.adapter.outbound.cache.codec.CacheCodec;
+import org.walrex.infrastructure.adapter.outbound.cache.qualifier.ExchangeRateRedisCache;
 
+import java.io.IOException;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Adaptador que implementa ExchangeRateCachePort usando Redis.
  *
  * Utiliza el cliente reactivo de Quarkus Redis para operaciones asíncronas
- * y serialización JSON con Jackson.
+ * y el codec configurado en walrex.cache.codec.exchange-rate. Es el nivel L2 de {@link TwoTierExchangeRateCacheAdapter}.
+ *
+ * Las lecturas degradan a miss ante un error de Redis; las escrituras propagan el error para
+ * que el L1 solo se llene con valores que Redis confirmó.
  */
 @Slf4j
 @ApplicationScoped
+@ExchangeRateRedisCache
 @RegisterForReflection
 public class RedisExchangeRateCacheAdapter implements ExchangeRateCachePort {
 
-    private final ReactiveValueCommands<String, String> valueCommands;
-    private final ObjectMapper objectMapper;
+    private final ReactiveRedisDataSource dataSource;
+    private final ReactiveValueCommands<String, byte[]> valueCommands;
+    private final CacheCodec codec;
 
     public RedisExchangeRateCacheAdapter(ReactiveRedisDataSource dataSource) {
-        this.valueCommands = dataSource.value(String.class, String.class);
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+        this.dataSource = dataSource;
+        this.valueCommands = dataSource.value(String.class, byte[].class);
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        this.codec = CacheCodec.forCache("exchange-rate", objectMapper);
     }
 
     @Override
@@ -40,17 +53,17 @@ public class RedisExchangeRateCacheAdapter implements ExchangeRateCachePort {
         log.debug("Getting exchange rate from cache: key={}", key);
 
         return valueCommands.get(key)
-                .map(json -> {
-                    if (json == null) {
+                .map(cached -> {
+                    if (cached == null) {
                         log.debug("Cache miss for key={}", key);
                         return Optional.<ExchangeRateCache>empty();
                     }
 
                     try {
-                        ExchangeRateCache cache = objectMapper.readValue(json, ExchangeRateCache.class);
+                        ExchangeRateCache cache = codec.decode(cached, ExchangeRateCache.class);
                         log.debug("Cache hit for key={}, rate={}", key, cache.getRate());
                         return Optional.of(cache);
-                    } catch (JsonProcessingException e) {
+                    } catch (IOException e) {
                         log.error("Error deserializing cache value for key={}: {}", key, e.getMessage());
                         return Optional.<ExchangeRateCache>empty();
                     }
@@ -67,19 +80,79 @@ public class RedisExchangeRateCacheAdapter implements ExchangeRateCachePort {
                 key, value.getRate(), ttl);
 
         try {
-            String json = objectMapper.writeValueAsString(value);
+            byte[] encoded = codec.encode(value);
 
-            return valueCommands.setex(key, ttl.getSeconds(), json)
+            return valueCommands.setex(key, ttl.getSeconds(), encoded)
                     .replaceWithVoid()
                     .invoke(() -> log.debug("Cache set successfully: key={}", key))
                     .onFailure().invoke(error ->
                             log.error("Redis error setting key={}: {}", key, error.getMessage())
-                    )
-                    .onFailure().recoverWithNull();
-        } catch (JsonProcessingException e) {
+                    );
+        } catch (IOException e) {
             log.error("Error serializing cache value for key={}: {}", key, e.getMessage());
+            return Uni.createFrom().failure(e);
+        }
+    }
+
+    @Override
+    public Uni<Map<String, ExchangeRateCache>> getAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Uni.createFrom().item(Map.of());
+        }
+        log.debug("Getting {} exchange rates from cache", keys.size());
+
+        return valueCommands.mget(keys.toArray(String[]::new))
+                .map(values -> {
+                    Map<String, ExchangeRateCache> found = new LinkedHashMap<>();
+                    values.forEach((key, cached) -> {
+                        if (cached == null) {
+                            return;
+                        }
+                        try {
+                            found.put(key, codec.decode(cached, ExchangeRateCache.class));
+                        } catch (IOException e) {
+                            log.error("Error deserializing cache value for key={}: {}", key, e.getMessage());
+                        }
+                    });
+                    log.debug("Cache mget: {} of {} keys found", found.size(), keys.size());
+                    return found;
+                })
+                .onFailure().invoke(error ->
+                        log.error("Redis error getting {} keys: {}", keys.size(), error.getMessage())
+                )
+                .onFailure().recoverWithItem(Map.of());
+    }
+
+    @Override
+    public Uni<Void> setAll(Map<String, ExchangeRateCache> values, Duration ttl) {
+        if (values.isEmpty()) {
             return Uni.createFrom().voidItem();
         }
+
+        Map<String, byte[]> serialized = new LinkedHashMap<>();
+        for (Map.Entry<String, ExchangeRateCache> entry : values.entrySet()) {
+            try {
+                serialized.put(entry.getKey(), codec.encode(entry.getValue()));
+            } catch (IOException e) {
+                log.error("Error serializing cache value for key={}: {}", entry.getKey(), e.getMessage());
+                return Uni.createFrom().failure(e);
+            }
+        }
+
+        // MULTI/EXEC: los SETEX se encolan y se envían juntos
+        return dataSource.withTransaction(tx -> {
+                    ReactiveTransactionalValueCommands<String, byte[]> txValues = tx.value(String.class, byte[].class);
+                    Uni<Void> queued = Uni.createFrom().voidItem();
+                    for (Map.Entry<String, byte[]> entry : serialized.entrySet()) {
+                        queued = queued.chain(() -> txValues.setex(entry.getKey(), ttl.getSeconds(), entry.getValue()));
+                    }
+                    return queued;
+                })
+                .invoke(result -> log.debug("Cache set successfully for {} keys", serialized.size()))
+                .replaceWithVoid()
+                .onFailure().invoke(error ->
+                        log.error("Redis error setting {} keys: {}", serialized.size(), error.getMessage())
+                );
     }
 
     @Override
@@ -0,0 +1,79 @@
+package org.walrex.infrastructure.adapter.outbound.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Coalescencia de llamadas concurrentes idénticas (single-flight).
+ *
+ * El primer suscriptor para una clave ejecuta el loader; los que llegan mientras esa
+ * llamada sigue en curso comparten el mismo Uni en vez de lanzar otra. Al terminar
+ * (éxito o error) la clave se libera y la siguiente llamada vuelve a ejecutar el loader.
+ *
+ * Los resultados compartidos se re-emiten en el contexto Vert.x de cada llamador para que
+ * su cadena reactiva (p.ej. sesiones de Hibernate Reactive) continúe en su propio contexto.
+ *
+ * Métricas: {@code walrex.singleflight.calls{name, outcome=leader|coalesced}}.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, Uni<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCalls;
+    private final Counter coalescedCalls;
+
+    public SingleFlight(String name, MeterRegistry registry) {
+        this.leaderCalls = Counter.builder("walrex.singleflight.calls")
+                .description("Llamadas ejecutadas o compartidas por single-flight")
+                .tag("name", name)
+                .tag("outcome", "leader")
+                .register(registry);
+        this.coalescedCalls = Counter.builder("walrex.singleflight.calls")
+                .description("Llamadas ejecutadas o compartidas por single-flight")
+                .tag("name", name)
+                .tag("outcome", "coalesced")
+                .register(registry);
+    }
+
+    /**
+     * Ejecuta el loader o se une a la ejecución en curso para la misma clave.
+     */
+    public Uni<V> execute(K key, Supplier<Uni<V>> loader) {
+        return Uni.createFrom().deferred(() -> {
+            AtomicReference<Uni<V>> created = new AtomicReference<>();
+            Uni<V> shared = inFlight.computeIfAbsent(key, k -> {
+                AtomicReference<Uni<V>> self = new AtomicReference<>();
+                Uni<V> uni = Uni.createFrom().deferred(loader::get)
+                        .eventually(() -> inFlight.remove(k, self.get()))
+                        .memoize().indefinitely();
+                self.set(uni);
+                created.set(uni);
+                return uni;
+            });
+
+            if (created.get() == shared) {
+                leaderCalls.increment();
+                return shared;
+            }
+
+            coalescedCalls.increment();
+            Context context = Vertx.currentContext();
+            return context == null
+                    ? shared
+                    : shared.emitOn(command -> context.runOnContext(v -> command.run()));
+        });
+    }
+
+    /**
+     * Número de claves con una llamada en curso.
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,300 @@
+package org.walrex.infrastructure.adapter.outbound.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.walrex.application.port.output.ExchangeRateCachePort;
+import org.walrex.domain.model.ExchangeRateCache;
+import org.walrex.infrastructure.adapter.outbound.cache.qualifier.ExchangeRateRedisCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caché de tasas en dos niveles: L1 en memoria del proceso delante de Redis (L2).
+ *
+ * - Lecturas: se sirven de L1 si la entrada no venció; si no, se leen de Redis y se guardan en L1.
+ * - Escrituras: van a Redis y, solo si Redis las confirmó, se guardan en L1 y se publica la
+ *   lista de claves en un canal pub/sub para que los demás nodos las borren de su L1 (la
+ *   próxima lectura va a Redis). Un error de Redis se registra y no llega al llamador.
+ * - Cada invalidación (recibida o por escritura local) incrementa una época. Lo leído de Redis
+ *   solo entra a L1 si la época no cambió durante la lectura, así una invalidación concurrente
+ *   siempre gana y el L1 no re-inserta el valor anterior.
+ * - L1 es un LRU acotado a l1-max-size entradas, y cada entrada vive como máximo l1-ttl:
+ *   si se pierde un mensaje de invalidación el desfase queda acotado por ese TTL.
+ * - Mientras el nodo no esté suscrito al canal, L1 no se usa para leer.
+ */
+@Slf4j
+@ApplicationScoped
+public class TwoTierExchangeRateCacheAdapter implements ExchangeRateCachePort {
+
+    private static final String SEPARATOR = "\n";
+
+    @Inject
+    @ExchangeRateRedisCache
+    ExchangeRateCachePort redisCache;
+
+    @Inject
+    ReactiveRedisDataSource dataSource;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    @ConfigProperty(name = "walrex.exchange-rate-cache.l1-max-size", defaultValue = "1000")
+    int l1MaxSize;
+
+    @ConfigProperty(name = "walrex.exchange-rate-cache.l1-ttl", defaultValue = "PT5M")
+    Duration l1Ttl;
+
+    @ConfigProperty(name = "walrex.exchange-rate-cache.invalidation-channel", defaultValue = "wx-admon:exchange-rate:invalidate")
+    String invalidationChannel;
+
+    @ConfigProperty(name = "walrex.exchange-rate-cache.resubscribe-delay", defaultValue = "PT5S")
+    Duration resubscribeDelay;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+    private final AtomicBoolean shutdownRequested = new AtomicBoolean(false);
+    private final AtomicLong epoch = new AtomicLong();
+
+    private Map<String, L1Entry> l1;
+    private ReactivePubSubCommands<String> pubSub;
+    private Counter l1Hits;
+    private Counter l1Misses;
+    private Counter invalidationsReceived;
+
+    @PostConstruct
+    void init() {
+        int maxSize = l1MaxSize;
+        l1 = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, L1Entry> eldest) {
+                return size() > maxSize;
+            }
+        });
+        pubSub = dataSource.pubsub(String.class);
+
+        l1Hits = Counter.builder("walrex.exchange_rate.cache.l1")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        l1Misses = Counter.builder("walrex.exchange_rate.cache.l1")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        invalidationsReceived = Counter.builder("walrex.exchange_rate.cache.l1.invalidations")
+                .description("Claves invalidadas por mensajes de otros nodos")
+                .register(meterRegistry);
+        Gauge.builder("walrex.exchange_rate.cache.l1.size", l1, Map::size)
+                .register(meterRegistry);
+    }
+
+    // ── Lifecycle ─────────────────────────────────────────────────────────────
+
+    void onStart(@Observes StartupEvent event) {
+        subscribe();
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        shutdownRequested.set(true);
+    }
+
+    private void subscribe() {
+        pubSub.subscribe(invalidationChannel, this::onInvalidation, this::onSubscriptionLost, this::onSubscriptionError)
+                .subscribe().with(
+                        subscriber -> {
+                            // Lo que llegó a L1 sin suscripción puede estar desfasado
+                            synchronized (l1) {
+                                epoch.incrementAndGet();
+                                l1.clear();
+                            }
+                            subscribed.set(true);
+                            log.info("[RateCache] Suscrito a invalidaciones en {} (node={})", invalidationChannel, nodeId);
+                        },
+                        this::onSubscriptionError);
+    }
+
+    private void onSubscriptionLost() {
+        subscribed.set(false);
+        if (!shutdownRequested.get()) {
+            log.warn("[RateCache] Suscripción a {} terminada, reintentando en {}", invalidationChannel, resubscribeDelay);
+            scheduleResubscribe();
+        }
+    }
+
+    private void onSubscriptionError(Throwable error) {
+        subscribed.set(false);
+        log.error("[RateCache] Error en suscripción a {}: {} — reintento en {}",
+                invalidationChannel, error.getMessage(), resubscribeDelay);
+        scheduleResubscribe();
+    }
+
+    private void scheduleResubscribe() {
+        if (shutdownRequested.get()) {
+            return;
+        }
+        Uni.createFrom().voidItem()
+                .onItem().delayIt().by(resubscribeDelay)
+                .subscribe().with(ignored -> subscribe());
+    }
+
+    private void onInvalidation(String message) {
+        String[] parts = message.split(SEPARATOR);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        invalidateLocal(Arrays.asList(parts).subList(1, parts.length));
+        invalidationsReceived.increment(parts.length - 1);
+        log.debug("[RateCache] {} claves invalidadas por node={}", parts.length - 1, parts[0]);
+    }
+
+    // ── ExchangeRateCachePort ─────────────────────────────────────────────────
+
+    @Override
+    public Uni<Optional<ExchangeRateCache>> get(String key) {
+        ExchangeRateCache local = getLocal(key);
+        if (local != null) {
+            return Uni.createFrom().item(Optional.of(local));
+        }
+        long stamp = epoch.get();
+        return redisCache.get(key)
+                .invoke(found -> found.ifPresent(value -> putLocalIfCurrent(Map.of(key, value), l1Ttl, stamp)));
+    }
+
+    @Override
+    public Uni<Void> set(String key, ExchangeRateCache value, Duration ttl) {
+        return write(Map.of(key, value), ttl, redisCache.set(key, value, ttl));
+    }
+
+    @Override
+    public Uni<Map<String, ExchangeRateCache>> getAll(Collection<String> keys) {
+        Map<String, ExchangeRateCache> found = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String key : keys) {
+            ExchangeRateCache local = getLocal(key);
+            if (local != null) {
+                found.put(key, local);
+            } else {
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return Uni.createFrom().item(found);
+        }
+        long stamp = epoch.get();
+        return redisCache.getAll(missing)
+                .map(remote -> {
+                    putLocalIfCurrent(remote, l1Ttl, stamp);
+                    found.putAll(remote);
+                    return found;
+                });
+    }
+
+    @Override
+    public Uni<Void> setAll(Map<String, ExchangeRateCache> values, Duration ttl) {
+        if (values.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return write(values, ttl, redisCache.setAll(values, ttl));
+    }
+
+    @Override
+    public Uni<Boolean> delete(String key) {
+        invalidateLocal(List.of(key));
+        return redisCache.delete(key)
+                .call(() -> publishInvalidation(List.of(key)));
+    }
+
+    /**
+     * L1 y el aviso a los demás nodos solo después de que Redis confirmó la escritura.
+     * Si otro nodo invalidó alguna clave mientras se escribía, el valor no entra a L1.
+     */
+    private Uni<Void> write(Map<String, ExchangeRateCache> values, Duration ttl, Uni<Void> redisWrite) {
+        long stamp = epoch.get();
+        return redisWrite
+                .invoke(() -> {
+                    putLocalIfCurrent(values, ttl, stamp);
+                    // Lecturas de Redis que empezaron antes de esta escritura no deben llenar L1
+                    epoch.incrementAndGet();
+                })
+                .chain(() -> publishInvalidation(values.keySet()))
+                .onFailure().invoke(error -> {
+                    invalidateLocal(values.keySet());
+                    log.error("[RateCache] Error escribiendo {} claves en Redis; L1 no se actualiza: {}",
+                            values.size(), error.getMessage());
+                })
+                .onFailure().recoverWithNull();
+    }
+
+    // ── L1 ────────────────────────────────────────────────────────────────────
+
+    private ExchangeRateCache getLocal(String key) {
+        if (!subscribed.get()) {
+            return null;
+        }
+        L1Entry entry = l1.get(key);
+        if (entry == null || entry.isExpired()) {
+            if (entry != null) {
+                l1.remove(key);
+            }
+            l1Misses.increment();
+            return null;
+        }
+        l1Hits.increment();
+        return entry.value();
+    }
+
+    private void putLocalIfCurrent(Map<String, ExchangeRateCache> values, Duration ttl, long stamp) {
+        Duration effective = ttl.compareTo(l1Ttl) < 0 ? ttl : l1Ttl;
+        long expiresAt = System.nanoTime() + effective.toNanos();
+        synchronized (l1) {
+            if (epoch.get() != stamp) {
+                return;
+            }
+            values.forEach((key, value) -> l1.put(key, new L1Entry(value, expiresAt)));
+        }
+    }
+
+    private void invalidateLocal(Collection<String> keys) {
+        synchronized (l1) {
+            epoch.incrementAndGet();
+            keys.forEach(l1::remove);
+        }
+    }
+
+    /**
+     * Avisa a los demás nodos; si falla, sus L1 se corrigen al vencer l1-ttl.
+     */
+    private Uni<Void> publishInvalidation(Collection<String> keys) {
+        String message = nodeId + SEPARATOR + String.join(SEPARATOR, keys);
+        return pubSub.publish(invalidationChannel, message)
+                .onFailure().invoke(error ->
+                        log.error("[RateCache] Error publicando invalidación de {} claves: {}", keys.size(), error.getMessage()))
+                .onFailure().recoverWithNull();
+    }
+
+    private record L1Entry(ExchangeRateCache value, long expiresAtNanos) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.walrex.infrastructure.adapter.outbound.cache.codec;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Codificación de los valores que los adaptadores guardan en Redis.
+ *
+ * Cada adaptador obtiene su codec con {@link #forCache(String, ObjectMapper)}, que lee
+ * walrex.cache.codec.&lt;cache&gt;.* y, si no está definido, walrex.cache.codec.default.*:
+ * - format: json | smile
+ * - compress-over-bytes: comprime (Deflate) los valores que superen ese tamaño; -1 desactiva
+ *
+ * Los valores se leen siempre, sin importar con qué configuración se escribieron.
+ */
+public interface CacheCodec {
+
+    String CONFIG_PREFIX = "walrex.cache.codec.";
+
+    byte[] encode(Object value) throws IOException;
+
+    <T> T decode(byte[] bytes, Class<T> type) throws IOException;
+
+    <T> T decode(byte[] bytes, TypeReference<T> type) throws IOException;
+
+    /**
+     * Crea el codec configurado para una caché.
+     *
+     * @param cacheName Nombre de la caché en la configuración (ej: exchange-rate)
+     * @param objectMapper Mapper base; el formato binario hereda sus módulos y features
+     */
+    static CacheCodec forCache(String cacheName, ObjectMapper objectMapper) {
+        Config config = ConfigProvider.getConfig();
+        String name = cacheName.toLowerCase(Locale.ROOT);
+
+        String format = config.getOptionalValue(CONFIG_PREFIX + name + ".format", String.class)
+                .or(() -> config.getOptionalValue(CONFIG_PREFIX + "default.format", String.class))
+                .orElse("json");
+        int compressOverBytes = config.getOptionalValue(CONFIG_PREFIX + name + ".compress-over-bytes", Integer.class)
+                .or(() -> config.getOptionalValue(CONFIG_PREFIX + "default.compress-over-bytes", Integer.class))
+                .orElse(-1);
+
+        return new JacksonCacheCodec(objectMapper,
+                JacksonCacheCodec.Format.valueOf(format.toUpperCase(Locale.ROOT)),
+                compressOverBytes);
+    }
+}
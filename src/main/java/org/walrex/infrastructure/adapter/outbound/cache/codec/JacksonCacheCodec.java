@@ -0,0 +1,176 @@
+package org.walrex.infrastructure.adapter.outbound.cache.codec;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Codec Jackson con formato JSON o Smile (JSON binario) y compresión Deflate opcional.
+ *
+ * Formato de un valor con cabecera:
+ * <pre>
+ *   [0x00][versión][formato][compresión][payload]
+ *   payload comprimido = [tamaño original int32][bytes Deflate]
+ * </pre>
+ * Un texto JSON nunca empieza con 0x00, así que los valores sin cabecera (los escritos antes
+ * de este codec, o con format=json sin compresión) se leen como JSON plano. Escribir JSON sin
+ * cabecera permite volver atrás o desplegar de forma gradual sin invalidar la caché.
+ *
+ * Un valor corrupto o con cabecera desconocida siempre termina en {@link IOException}, que los
+ * adaptadores tratan como cache miss; nunca en una excepción no comprobada.
+ */
+public final class JacksonCacheCodec implements CacheCodec {
+
+    public enum Format {
+        JSON((byte) 1),
+        SMILE((byte) 2);
+
+        private final byte id;
+
+        Format(byte id) {
+            this.id = id;
+        }
+    }
+
+    private static final byte MAGIC = 0x00;
+    private static final byte VERSION = 1;
+    private static final byte UNCOMPRESSED = 0;
+    private static final byte DEFLATE = 1;
+    private static final int HEADER_LENGTH = 4;
+    /** Deflate no comprime más de ~1032:1; un tamaño original mayor indica un valor corrupto. */
+    private static final int MAX_DEFLATE_RATIO = 1032;
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final Format format;
+    private final int compressOverBytes;
+
+    public JacksonCacheCodec(ObjectMapper objectMapper, Format format, int compressOverBytes) {
+        this.jsonMapper = objectMapper;
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.format = format;
+        this.compressOverBytes = compressOverBytes;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        byte[] payload = mapperFor(format).writeValueAsBytes(value);
+        boolean compress = compressOverBytes >= 0 && payload.length > compressOverBytes;
+
+        if (format == Format.JSON && !compress) {
+            return payload;
+        }
+
+        byte[] body = compress ? deflate(payload) : payload;
+        byte[] encoded = new byte[HEADER_LENGTH + body.length];
+        encoded[0] = MAGIC;
+        encoded[1] = VERSION;
+        encoded[2] = format.id;
+        encoded[3] = compress ? DEFLATE : UNCOMPRESSED;
+        System.arraycopy(body, 0, encoded, HEADER_LENGTH, body.length);
+        return encoded;
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, Class<T> type) throws IOException {
+        return decode(bytes, jsonMapper.getTypeFactory().constructType(type));
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, TypeReference<T> type) throws IOException {
+        return decode(bytes, jsonMapper.getTypeFactory().constructType(type));
+    }
+
+    private <T> T decode(byte[] bytes, JavaType type) throws IOException {
+        try {
+            return decodeChecked(bytes, type);
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt cache value", e);
+        }
+    }
+
+    private <T> T decodeChecked(byte[] bytes, JavaType type) throws IOException {
+        if (bytes.length == 0 || bytes[0] != MAGIC) {
+            return jsonMapper.readValue(bytes, type);
+        }
+        if (bytes.length < HEADER_LENGTH || bytes[1] != VERSION) {
+            throw new IOException("Unsupported cache value header");
+        }
+
+        ObjectMapper mapper = switch (bytes[2]) {
+            case 1 -> jsonMapper;
+            case 2 -> smileMapper;
+            default -> throw new IOException("Unknown cache value format: " + bytes[2]);
+        };
+        byte[] body = Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length);
+        byte[] payload = switch (bytes[3]) {
+            case UNCOMPRESSED -> body;
+            case DEFLATE -> inflate(body);
+            default -> throw new IOException("Unknown cache value compression: " + bytes[3]);
+        };
+        return mapper.readValue(payload, type);
+    }
+
+    private ObjectMapper mapperFor(Format format) {
+        return format == Format.SMILE ? smileMapper : jsonMapper;
+    }
+
+    private static byte[] deflate(byte[] payload) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(payload);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 2 + 8);
+            out.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(payload.length).array());
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(buffer);
+                out.write(buffer, 0, written);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] body) throws IOException {
+        if (body.length < Integer.BYTES) {
+            throw new IOException("Truncated compressed cache value");
+        }
+        int originalLength = ByteBuffer.wrap(body, 0, Integer.BYTES).getInt();
+        long maxLength = (long) (body.length - Integer.BYTES) * MAX_DEFLATE_RATIO + 64;
+        if (originalLength < 0 || originalLength > maxLength) {
+            throw new IOException("Corrupt compressed cache value length: " + originalLength);
+        }
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(body, Integer.BYTES, body.length - Integer.BYTES);
+            byte[] payload = new byte[originalLength];
+            int read = 0;
+            while (read < originalLength) {
+                int n = inflater.inflate(payload, read, originalLength - read);
+                if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != originalLength) {
+                throw new IOException("Corrupt compressed cache value");
+            }
+            return payload;
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt compressed cache value", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.walrex.infrastructure.adapter.outbound.cache.qualifier;
+
+import jakarta.inject.Qualifier;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Calificador para el nivel Redis (L2) de ExchangeRateCachePort.
+ * Sin calificador se inyecta la caché de dos niveles.
+ */
+@Qualifier
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER})
+public @interface ExchangeRateRedisCache {
+}
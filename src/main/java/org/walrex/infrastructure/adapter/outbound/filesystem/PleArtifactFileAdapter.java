@@ -0,0 +1,192 @@
+package org.walrex.infrastructure.adapter.outbound.filesystem;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.walrex.application.port.output.PleArtifactPort;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Files of the PLE exports in the local filesystem, one folder per attempt:
+ * /ple-exports/{jobId}/attempt-{n}/export.part while running and
+ * /ple-exports/{jobId}/attempt-{n}/{PLE file name}.zip when finished. An attempt only writes
+ * inside its own folder (it starts by copying the checkpointed part of the previous one), so a
+ * stale worker never truncates or overwrites the files of a newer attempt.
+ *
+ * Records are written in ISO-8859-1 with CRLF line endings, as the PLE validator expects.
+ * All the I/O runs on the worker pool.
+ */
+@Slf4j
+@ApplicationScoped
+public class PleArtifactFileAdapter implements PleArtifactPort {
+
+    private static final String PLE_FOLDER = "ple-exports";
+    private static final String PART_FILE = "export.part";
+    private static final byte[] LINE_END = {'\r', '\n'};
+
+    @ConfigProperty(name = "file.storage.base-path", defaultValue = "./uploads")
+    String basePath;
+
+    @Override
+    public Uni<Long> adopt(Long jobId, Integer fromAttempt, int attempt, long bytes) {
+        return Uni.createFrom().item(() -> {
+                    Path target = part(jobId, attempt);
+                    // Exports checkpointed before per-attempt folders kept a single part per job
+                    Path source = fromAttempt == null ? directory(jobId).resolve(PART_FILE) : part(jobId, fromAttempt);
+                    if (source.equals(target)) {
+                        throw new IllegalStateException("Attempt " + attempt + " of PLE export " + jobId + " ran twice");
+                    }
+                    try {
+                        Files.createDirectories(target.getParent());
+                        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                            long copied = 0;
+                            if (bytes > 0 && Files.exists(source)) {
+                                try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+                                    long limit = Math.min(bytes, in.size());
+                                    while (copied < limit) {
+                                        long transferred = in.transferTo(copied, limit - copied, out);
+                                        if (transferred <= 0) {
+                                            break;
+                                        }
+                                        copied += transferred;
+                                    }
+                                }
+                            }
+                            out.force(false);
+                            log.debug("PLE export {} attempt {} continues from {} bytes of {}", jobId, attempt, copied, source);
+                            return copied;
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to copy the partial file of PLE export " + jobId, e);
+                    }
+                })
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+    }
+
+    @Override
+    public Uni<Long> append(Long jobId, int attempt, long offset, List<String> records) {
+        return Uni.createFrom().item(() -> {
+                    Path part = part(jobId, attempt);
+                    try {
+                        Files.createDirectories(part.getParent());
+                        try (FileChannel channel = FileChannel.open(part,
+                                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                            // Drop whatever was written after the last checkpoint
+                            channel.truncate(offset);
+                            channel.position(offset);
+                            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+                            for (String record : records) {
+                                out.write(record.getBytes(StandardCharsets.ISO_8859_1));
+                                out.write(LINE_END);
+                            }
+                            out.flush();
+                            channel.force(false);
+                            return channel.size();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to write PLE export " + jobId, e);
+                    }
+                })
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+    }
+
+    @Override
+    public Uni<Artifact> seal(Long jobId, int attempt, String fileName) {
+        return Uni.createFrom().item(() -> {
+                    Path part = part(jobId, attempt);
+                    Path directory = part.getParent();
+                    Path zip = directory.resolve(fileName + ".zip");
+                    Path tmp = directory.resolve(fileName + ".zip.tmp");
+                    try {
+                        Files.createDirectories(directory);
+                        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(tmp))) {
+                            out.putNextEntry(new ZipEntry(fileName + ".txt"));
+                            if (Files.exists(part)) {
+                                Files.copy(part, out);
+                            }
+                            out.closeEntry();
+                        }
+                        Files.move(tmp, zip, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+                        long size = Files.size(zip);
+                        log.info("PLE export {} sealed by attempt {}: {} ({} bytes)", jobId, attempt, zip, size);
+                        return new Artifact(zip.toString(), size);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to zip PLE export " + jobId, e);
+                    }
+                })
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+    }
+
+    @Override
+    public Uni<Void> discardPart(Long jobId, int attempt) {
+        return delete(part(jobId, attempt));
+    }
+
+    @Override
+    public Uni<Void> discardParts(Long jobId) {
+        return Uni.createFrom().item(() -> {
+                    Path directory = directory(jobId);
+                    try {
+                        Files.deleteIfExists(directory.resolve(PART_FILE));
+                        if (Files.isDirectory(directory)) {
+                            try (DirectoryStream<Path> attempts = Files.newDirectoryStream(directory, "attempt-*")) {
+                                for (Path attempt : attempts) {
+                                    Files.deleteIfExists(attempt.resolve(PART_FILE));
+                                }
+                            }
+                        }
+                        return null;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to delete the partial files of PLE export " + jobId, e);
+                    }
+                })
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+                .replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Void> discard(Artifact artifact) {
+        return delete(Paths.get(artifact.filePath()));
+    }
+
+    private Uni<Void> delete(Path file) {
+        return Uni.createFrom().item(() -> {
+                    try {
+                        Files.deleteIfExists(file);
+                        return null;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to delete " + file, e);
+                    }
+                })
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+                .replaceWithVoid();
+    }
+
+    private Path directory(Long jobId) {
+        return Paths.get(basePath, PLE_FOLDER, String.valueOf(jobId));
+    }
+
+    private Path part(Long jobId, int attempt) {
+        return directory(jobId).resolve("attempt-" + attempt).resolve(PART_FILE);
+    }
+}
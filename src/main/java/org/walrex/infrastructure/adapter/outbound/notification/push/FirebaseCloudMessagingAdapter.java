@@ -10,6 +10,7 @@ import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.MessagingErrorCode;
 import com.google.firebase.messaging.MulticastMessage;
 import com.google.firebase.messaging.SendResponse;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 import jakarta.annotation.PostConstruct;
@@ -19,23 +20,32 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.walrex.application.port.output.DeviceTokenRepositoryPort;
 import org.walrex.application.port.output.PushNotificationPort;
+import org.walrex.domain.model.BroadcastResult;
+import org.walrex.domain.model.DeviceToken;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @ApplicationScoped
 public class FirebaseCloudMessagingAdapter implements PushNotificationPort {
 
+    // Máximo de tokens por multicast en FCM
+    private static final int MULTICAST_BATCH_SIZE = 500;
+
     @ConfigProperty(name = "fcm.enabled", defaultValue = "false")
     boolean fcmEnabled;
 
     @ConfigProperty(name = "fcm.credentials-file", defaultValue = "firebase-service-account.json")
     String credentialsFile;
 
+    @ConfigProperty(name = "fcm.broadcast-parallelism", defaultValue = "4")
+    int broadcastParallelism;
+
     @Inject
     DeviceTokenRepositoryPort deviceTokenRepositoryPort;
 
@@ -93,74 +103,125 @@ public class FirebaseCloudMessagingAdapter implements PushNotificationPort {
         }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
     }
 
+    /**
+     * Broadcast paginado: los tokens se leen por keyset en páginas del tamaño de un multicast
+     * (500) y cada página se envía en el worker pool con hasta {@code broadcastParallelism}
+     * envíos simultáneos. Solo hay en memoria las páginas en vuelo, y los tokens inválidos
+     * de cada página se desactivan con un solo UPDATE.
+     */
     @Override
-    public Uni<Void> sendToAllActiveDevices(Map<String, String> data) {
+    public Uni<BroadcastResult> sendToAllActiveDevices(Map<String, String> data) {
         if (!fcmEnabled || firebaseMessaging == null) {
             log.warn("FCM is not available. Skipping broadcast push.");
-            return Uni.createFrom().voidItem();
+            return Uni.createFrom().item(BroadcastResult.EMPTY);
         }
 
-        return deviceTokenRepositoryPort.findAllActive()
-                .onItem().transformToUni(tokens -> {
-                    if (tokens.isEmpty()) {
+        AtomicReference<Integer> lastId = new AtomicReference<>(0);
+        AtomicReference<BroadcastResult> total = new AtomicReference<>(BroadcastResult.EMPTY);
+
+        return Multi.createBy().repeating()
+                .uni(() -> deviceTokenRepositoryPort.findActivePage(lastId.get(), MULTICAST_BATCH_SIZE)
+                        .invoke(page -> {
+                            if (!page.isEmpty()) {
+                                lastId.set(page.get(page.size() - 1).getId());
+                            }
+                        }))
+                .whilst(page -> page.size() == MULTICAST_BATCH_SIZE)
+                .select().where(page -> !page.isEmpty())
+                .onItem().transformToUni(page -> {
+                    List<String> tokens = page.stream().map(DeviceToken::getToken).toList();
+                    return sendMulticast(tokens, data)
+                            .invoke(batch -> total.accumulateAndGet(batch, BroadcastResult::plus));
+                }).merge(broadcastParallelism)
+                .collect().last()
+                .map(ignored -> total.get())
+                .invoke(result -> {
+                    if (result.devices() == 0) {
                         log.info("No active device tokens found. Skipping FCM broadcast.");
-                        return Uni.createFrom().voidItem();
+                    } else if (result.failedEntirely()) {
+                        log.error("FCM broadcast failed for all {} active devices", result.devices());
+                    } else {
+                        log.info("FCM broadcast sent to {} of {} active devices ({} failures)",
+                                result.sent(), result.devices(), result.failed());
                     }
-
-                    List<String> tokenStrings = tokens.stream()
-                            .map(dt -> dt.getToken())
-                            .toList();
-
-                    log.info("Sending FCM multicast to {} active devices", tokenStrings.size());
-                    return sendMulticast(tokenStrings, data);
                 });
     }
 
-    private Uni<Void> sendMulticast(List<String> tokens, Map<String, String> data) {
-        int batchSize = 500;
-        List<List<String>> batches = new ArrayList<>();
-        for (int i = 0; i < tokens.size(); i += batchSize) {
-            batches.add(tokens.subList(i, Math.min(i + batchSize, tokens.size())));
-        }
-
-        return Uni.createFrom().<Void>emitter(em -> {
-            for (List<String> batch : batches) {
-                try {
-                    MulticastMessage message = MulticastMessage.builder()
-                            .addAllTokens(batch)
-                            .putAllData(data)
-                            .build();
-
-                    BatchResponse response = firebaseMessaging.sendEachForMulticast(message);
-                    log.info("FCM multicast batch: {} success, {} failures",
-                            response.getSuccessCount(), response.getFailureCount());
-
-                    if (response.getFailureCount() > 0) {
-                        processMulticastErrors(batch, response);
+    /**
+     * Envía un multicast (máx. 500 tokens) y desactiva en bloque los tokens inválidos.
+     * Si FCM rechaza el lote completo, todos sus tokens cuentan como fallidos.
+     *
+     * @return Uni con los envíos aceptados y fallidos del lote
+     */
+    private Uni<BroadcastResult> sendMulticast(List<String> tokens, Map<String, String> data) {
+        return Uni.createFrom().item(() -> {
+                    try {
+                        MulticastMessage message = MulticastMessage.builder()
+                                .addAllTokens(tokens)
+                                .putAllData(data)
+                                .build();
+
+                        BatchResponse response = firebaseMessaging.sendEachForMulticast(message);
+                        log.debug("FCM multicast batch: {} success, {} failures",
+                                response.getSuccessCount(), response.getFailureCount());
+                        return response;
+                    } catch (FirebaseMessagingException e) {
+                        log.error("FCM multicast batch failed: {}", e.getMessage());
+                        return null;
                     }
-                } catch (FirebaseMessagingException e) {
-                    log.error("FCM multicast batch failed: {}", e.getMessage());
-                }
-            }
-            em.complete(null);
-        }).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+                })
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool())
+                .chain(response -> {
+                    if (response == null) {
+                        return Uni.createFrom().item(new BroadcastResult(tokens.size(), 0, tokens.size()));
+                    }
+                    BroadcastResult batch = new BroadcastResult(
+                            tokens.size(), response.getSuccessCount(), response.getFailureCount());
+                    if (response.getFailureCount() == 0) {
+                        return Uni.createFrom().item(batch);
+                    }
+                    return deactivateInvalid(invalidTokens(tokens, response))
+                            .replaceWith(batch);
+                });
     }
 
-    private void processMulticastErrors(List<String> tokens, BatchResponse response) {
+    private List<String> invalidTokens(List<String> tokens, BatchResponse response) {
+        List<String> invalid = new ArrayList<>();
         List<SendResponse> responses = response.getResponses();
         for (int i = 0; i < responses.size(); i++) {
             if (!responses.get(i).isSuccessful()) {
                 FirebaseMessagingException ex = responses.get(i).getException();
-                if (ex != null) {
-                    handleMessagingError(tokens.get(i), ex);
+                if (ex != null && isInvalidToken(ex)) {
+                    invalid.add(tokens.get(i));
+                } else if (ex != null) {
+                    log.error("FCM send failed for token {}: {} (code: {})",
+                            tokens.get(i), ex.getMessage(), ex.getMessagingErrorCode());
                 }
             }
         }
+        return invalid;
+    }
+
+    private Uni<Void> deactivateInvalid(List<String> invalid) {
+        if (invalid.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        return deviceTokenRepositoryPort.deactivateAll(invalid)
+                .invoke(count -> log.warn("Deactivated {} invalid or unregistered FCM tokens", count))
+                .onFailure().invoke(err -> log.error("Failed to deactivate {} FCM tokens: {}",
+                        invalid.size(), err.getMessage()))
+                .onFailure().recoverWithNull()
+                .replaceWithVoid();
+    }
+
+    private boolean isInvalidToken(FirebaseMessagingException e) {
+        MessagingErrorCode errorCode = e.getMessagingErrorCode();
+        return errorCode == MessagingErrorCode.UNREGISTERED || errorCode == MessagingErrorCode.INVALID_ARGUMENT;
     }
 
     private void handleMessagingError(String deviceToken, FirebaseMessagingException e) {
         MessagingErrorCode errorCode = e.getMessagingErrorCode();
-        if (errorCode == MessagingErrorCode.UNREGISTERED || errorCode == MessagingErrorCode.INVALID_ARGUMENT) {
+        if (isInvalidToken(e)) {
             log.warn("FCM token invalid or unregistered. Deactivating token: {}", deviceToken);
             deviceTokenRepositoryPort.deactivate(deviceToken)
                     .subscribe().with(
@@ -0,0 +1,57 @@
+package org.walrex.infrastructure.adapter.outbound.notification.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import io.smallrye.mutiny.operators.multi.processors.SerializedProcessor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.walrex.application.port.output.ExchangeRateBroadcastPort;
+import org.walrex.domain.model.ExchangeRateEvent;
+
+/**
+ * Difusor en memoria de tasas publicadas, uno por nodo.
+ *
+ * Un solo {@link BroadcastProcessor} (serializado, porque publican varios hilos) reparte cada
+ * evento a todas las conexiones SSE del nodo. Cada suscriptor descarta eventos si no da abasto,
+ * así un cliente lento nunca frena la actualización de tasas.
+ */
+@Slf4j
+@ApplicationScoped
+public class InMemoryExchangeRateBroadcaster implements ExchangeRateBroadcastPort {
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private SerializedProcessor<ExchangeRateEvent, ExchangeRateEvent> processor;
+    private Counter published;
+
+    @PostConstruct
+    void init() {
+        processor = BroadcastProcessor.<ExchangeRateEvent>create().serialized();
+        published = Counter.builder("walrex.exchange_rate.stream.published")
+                .description("Tasas difundidas a clientes en vivo")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        processor.onComplete();
+    }
+
+    @Override
+    public void publish(ExchangeRateEvent event) {
+        processor.onNext(event);
+        published.increment();
+        log.debug("[RateStream] Publicada {} = {}", event.corridor(), event.rate());
+    }
+
+    @Override
+    public Multi<ExchangeRateEvent> events() {
+        return processor.onOverflow().drop();
+    }
+}
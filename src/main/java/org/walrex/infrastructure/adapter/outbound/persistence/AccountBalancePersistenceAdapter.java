@@ -0,0 +1,97 @@
+package org.walrex.infrastructure.adapter.outbound.persistence;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.walrex.application.port.output.AccountBalancePort;
+import org.walrex.domain.model.AccountPeriodBalance;
+import org.walrex.domain.model.JournalEntry;
+import org.walrex.domain.model.JournalEntryLine;
+import org.walrex.infrastructure.adapter.outbound.persistence.repository.AccountBalanceRepository;
+import org.walrex.infrastructure.adapter.outbound.persistence.repository.AccountBalanceRepository.Movement;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Persistence adapter for account_period_balance.
+ *
+ * Collapses the lines of an entry into one signed movement per account (an entry may hit
+ * the same account several times) and upserts them in a single statement.
+ */
+@Slf4j
+@ApplicationScoped
+public class AccountBalancePersistenceAdapter implements AccountBalancePort {
+
+    @Inject
+    AccountBalanceRepository repository;
+
+    @Override
+    public Uni<Void> post(JournalEntry journalEntry) {
+        return apply(journalEntry, 1);
+    }
+
+    @Override
+    public Uni<Void> reverse(JournalEntry journalEntry) {
+        return apply(journalEntry, -1);
+    }
+
+    @Override
+    public Uni<Optional<AccountPeriodBalance>> findByAccountAndPeriod(Integer accountId, int year, int month) {
+        return repository.findByAccountAndPeriod(accountId, year, month)
+                .map(row -> Optional.ofNullable(row).map(AccountBalancePersistenceAdapter::toDomain));
+    }
+
+    @Override
+    public Uni<List<AccountPeriodBalance>> findByPeriod(int year, int month) {
+        return repository.findByPeriod(year, month)
+                .map(rows -> rows.stream().map(AccountBalancePersistenceAdapter::toDomain).toList());
+    }
+
+    @Override
+    public Uni<Integer> rebuild(Integer year) {
+        return repository.rebuild(year)
+                .invoke(rows -> log.info("Account balances rebuilt for {}: {} rows",
+                        year != null ? year : "all years", rows));
+    }
+
+    private Uni<Void> apply(JournalEntry journalEntry, int sign) {
+        if (journalEntry.getLines() == null || journalEntry.getLines().isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+
+        // TreeMap: accounts are locked in ascending order by every posting
+        Map<Integer, Movement> byAccount = new TreeMap<>();
+        BigDecimal factor = BigDecimal.valueOf(sign);
+        for (JournalEntryLine line : journalEntry.getLines()) {
+            BigDecimal debit = line.getDebit() != null ? line.getDebit().multiply(factor) : BigDecimal.ZERO;
+            BigDecimal credit = line.getCredit() != null ? line.getCredit().multiply(factor) : BigDecimal.ZERO;
+            byAccount.merge(line.getAccountId(), new Movement(line.getAccountId(), debit, credit, sign),
+                    (a, b) -> new Movement(a.accountId(), a.debit().add(b.debit()), a.credit().add(b.credit()),
+                            a.lineCount() + b.lineCount()));
+        }
+
+        int year = journalEntry.getEntryDate().getYear();
+        int month = journalEntry.getEntryDate().getMonthValue();
+        return repository.addMovements(year, month, new ArrayList<>(byAccount.values()))
+                .invoke(rows -> log.debug("Journal entry {} {} on {} account balance(s) of {}-{}",
+                        journalEntry.getId(), sign > 0 ? "posted" : "reversed", rows, year, month))
+                .replaceWithVoid();
+    }
+
+    private static AccountPeriodBalance toDomain(Object[] row) {
+        return new AccountPeriodBalance(
+                ((Number) row[0]).intValue(),
+                ((Number) row[1]).intValue(),
+                ((Number) row[2]).intValue(),
+                (BigDecimal) row[3],
+                (BigDecimal) row[4],
+                ((Number) row[5]).intValue()
+        );
+    }
+}
@@ -134,6 +134,10 @@ public class AccountingAccountPersistenceAdapter implements AccountingAccountRep
 
     @Override
     public Uni<PagedResult<AccountingAccount>> findAll(PageRequest pageRequest, AccountingAccountFilter filter) {
+        if (pageRequest.isKeyset()) {
+            return findKeyset(pageRequest, filter);
+        }
+
         // Ejecutar ambas queries en paralelo para mejor performance
         Uni<List<AccountingAccount>> dataUni = repository.findWithFilters(pageRequest, filter)
                 .onItem().transform(mapper::toDomain)
@@ -152,6 +156,24 @@ public class AccountingAccountPersistenceAdapter implements AccountingAccountRep
                 ));
     }
 
+    /**
+     * Página keyset: sin OFFSET y con COUNT solo si se pidió el total.
+     * Las consultas van en secuencia porque comparten la sesión reactiva.
+     */
+    private Uni<PagedResult<AccountingAccount>> findKeyset(PageRequest pageRequest, AccountingAccountFilter filter) {
+        return repository.findKeyset(pageRequest, filter)
+                .chain(slice -> {
+                    List<AccountingAccount> content = slice.content().stream()
+                            .map(mapper::toDomain)
+                            .toList();
+                    Uni<Long> total = pageRequest.isIncludeTotal()
+                            ? repository.countWithFilters(filter)
+                            : Uni.createFrom().item(-1L);
+                    return total.map(count -> PagedResult.keyset(
+                            content, pageRequest.getSize(), slice.nextCursor(), count));
+                });
+    }
+
     @Override
     public Uni<Long> count(AccountingAccountFilter filter) {
         return repository.countWithFilters(filter);
@@ -0,0 +1,214 @@
+package org.walrex.infrastructure.adapter.outbound.persistence;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.walrex.application.port.output.AccountingReportQueryPort;
+import org.walrex.domain.model.LedgerRow;
+import org.walrex.domain.model.TrialBalanceRow;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Streaming queries for the trial balance and general ledger.
+ *
+ * Opening balances and whole months are read from account_period_balance (one row per account
+ * and month); journal_entry_lines is only scanned for the days of a partial month at either
+ * edge of the range, and for the ledger detail itself.
+ */
+@Slf4j
+@ApplicationScoped
+public class AccountingReportPersistenceAdapter implements AccountingReportQueryPort {
+
+    /**
+     * $1 first day of the month of "from", $2 from, $3..$4 whole months [start, end), $5 to, $6 code pattern.
+     */
+    private static final String TRIAL_BALANCE_SQL = """
+            WITH src AS (
+                SELECT account_id, debit - credit AS opening, 0::NUMERIC AS debit, 0::NUMERIC AS credit
+                FROM account_period_balance
+                WHERE make_date(period_year, period_month, 1) < $1
+                UNION ALL
+                SELECT jel.account_id, jel.debit - jel.credit, 0, 0
+                FROM journal_entries je
+                JOIN journal_entry_lines jel ON jel.journal_entry_id = je.id
+                WHERE je.status = 'ACTIVE' AND je.deleted_at IS NULL
+                  AND je.entry_date >= $1 AND je.entry_date < $2
+                UNION ALL
+                SELECT account_id, 0, debit, credit
+                FROM account_period_balance
+                WHERE make_date(period_year, period_month, 1) >= $3
+                  AND make_date(period_year, period_month, 1) < $4
+                UNION ALL
+                SELECT jel.account_id, 0, jel.debit, jel.credit
+                FROM journal_entries je
+                JOIN journal_entry_lines jel ON jel.journal_entry_id = je.id
+                WHERE je.status = 'ACTIVE' AND je.deleted_at IS NULL
+                  AND je.entry_date >= $2 AND je.entry_date <= $5
+                  AND (je.entry_date < $3 OR je.entry_date >= $4)
+            )
+            SELECT a.id, a.code, a.name, SUM(s.opening) AS opening, SUM(s.debit) AS debit, SUM(s.credit) AS credit
+            FROM src s
+            JOIN accounts a ON a.id = s.account_id
+            WHERE a.code LIKE $6
+            GROUP BY a.id, a.code, a.name
+            ORDER BY a.code
+            """;
+
+    /**
+     * $1 from, $2 to, $3 code pattern. Accounts with no lines in the range come as a single row
+     * with NULL amounts, so one that only carries an opening balance still reaches the ledger.
+     */
+    private static final String LEDGER_SQL = """
+            SELECT id, code, name, entry_date, operation_number, book_correlative, book_type, description,
+                   debit, credit
+            FROM (
+                SELECT a.id, a.code, a.name, je.entry_date, je.operation_number, je.book_correlative,
+                       je.book_type::TEXT AS book_type, COALESCE(jel.description, je.description) AS description,
+                       jel.debit, jel.credit, jel.id AS line_id
+                FROM journal_entry_lines jel
+                JOIN journal_entries je ON je.id = jel.journal_entry_id
+                JOIN accounts a ON a.id = jel.account_id
+                WHERE je.status = 'ACTIVE' AND je.deleted_at IS NULL
+                  AND je.entry_date >= $1 AND je.entry_date <= $2
+                  AND a.code LIKE $3
+                UNION ALL
+                SELECT a.id, a.code, a.name, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL
+                FROM accounts a
+                WHERE a.code LIKE $3
+                  AND NOT EXISTS (
+                      SELECT 1
+                      FROM journal_entry_lines jel
+                      JOIN journal_entries je ON je.id = jel.journal_entry_id
+                      WHERE jel.account_id = a.id
+                        AND je.status = 'ACTIVE' AND je.deleted_at IS NULL
+                        AND je.entry_date >= $1 AND je.entry_date <= $2)
+            ) l
+            ORDER BY code, entry_date, operation_number, line_id
+            """;
+
+    /**
+     * $1 first day of the month of "from", $2 from, $3 code pattern.
+     */
+    private static final String OPENING_SQL = """
+            SELECT s.account_id, SUM(s.net) AS opening
+            FROM (
+                SELECT account_id, debit - credit AS net
+                FROM account_period_balance
+                WHERE make_date(period_year, period_month, 1) < $1
+                UNION ALL
+                SELECT jel.account_id, jel.debit - jel.credit
+                FROM journal_entries je
+                JOIN journal_entry_lines jel ON jel.journal_entry_id = je.id
+                WHERE je.status = 'ACTIVE' AND je.deleted_at IS NULL
+                  AND je.entry_date >= $1 AND je.entry_date < $2
+            ) s
+            JOIN accounts a ON a.id = s.account_id
+            WHERE a.code LIKE $3
+            GROUP BY s.account_id
+            """;
+
+    private static final String ACCOUNT_NAMES_SQL = "SELECT code, name FROM accounts WHERE deleted_at IS NULL";
+
+    @Inject
+    Pool pool;
+
+    @ConfigProperty(name = "walrex.accounting.reports.fetch-size", defaultValue = "1000")
+    int fetchSize;
+
+    @Override
+    public Multi<TrialBalanceRow> streamTrialBalance(LocalDate from, LocalDate to, String accountPrefix) {
+        LocalDate fromMonth = from.withDayOfMonth(1);
+        LocalDate fullStart = from.getDayOfMonth() == 1 ? from : fromMonth.plusMonths(1);
+        LocalDate afterTo = to.plusDays(1);
+        LocalDate fullEnd = afterTo.getDayOfMonth() == 1 ? afterTo : to.withDayOfMonth(1);
+        if (!fullStart.isBefore(fullEnd)) {
+            // No whole month inside the range: every day comes from the journal lines
+            fullStart = from;
+            fullEnd = from;
+        }
+        log.debug("Trial balance {}..{}: whole months [{}, {})", from, to, fullStart, fullEnd);
+
+        Tuple args = Tuple.tuple()
+                .addLocalDate(fromMonth)
+                .addLocalDate(from)
+                .addLocalDate(fullStart)
+                .addLocalDate(fullEnd)
+                .addLocalDate(to)
+                .addString(PgCursorStreams.prefixPattern(accountPrefix));
+
+        return PgCursorStreams.stream(pool, TRIAL_BALANCE_SQL, args, fetchSize)
+                .map(row -> new TrialBalanceRow(
+                        row.getInteger("id"),
+                        row.getString("code"),
+                        row.getString("name"),
+                        false,
+                        row.getBigDecimal("opening"),
+                        row.getBigDecimal("debit"),
+                        row.getBigDecimal("credit")));
+    }
+
+    @Override
+    public Multi<LedgerRow> streamLedgerMovements(LocalDate from, LocalDate to, String accountPrefix) {
+        Tuple args = Tuple.of(from, to, PgCursorStreams.prefixPattern(accountPrefix));
+
+        return PgCursorStreams.stream(pool, LEDGER_SQL, args, fetchSize)
+                .map(row -> row.getLocalDate("entry_date") == null
+                        ? LedgerRow.opening(row.getInteger("id"), row.getString("code"), row.getString("name"), null, null)
+                        : toMovement(row));
+    }
+
+    @Override
+    public Uni<Map<Integer, BigDecimal>> findOpeningBalances(LocalDate from, String accountPrefix) {
+        Tuple args = Tuple.of(from.withDayOfMonth(1), from, PgCursorStreams.prefixPattern(accountPrefix));
+
+        return pool.preparedQuery(OPENING_SQL)
+                .execute(args)
+                .map(rows -> {
+                    Map<Integer, BigDecimal> openings = new HashMap<>();
+                    for (Row row : rows) {
+                        openings.put(row.getInteger("account_id"), row.getBigDecimal("opening"));
+                    }
+                    log.debug("Loaded opening balances for {} accounts before {}", openings.size(), from);
+                    return openings;
+                });
+    }
+
+    @Override
+    public Uni<Map<String, String>> findAccountNames() {
+        return pool.query(ACCOUNT_NAMES_SQL)
+                .execute()
+                .map(rows -> {
+                    Map<String, String> names = new HashMap<>();
+                    for (Row row : rows) {
+                        names.put(row.getString("code"), row.getString("name"));
+                    }
+                    return names;
+                });
+    }
+
+    private static LedgerRow toMovement(Row row) {
+        return new LedgerRow(
+                LedgerRow.Kind.MOVEMENT,
+                row.getInteger("id"),
+                row.getString("code"),
+                row.getString("name"),
+                row.getLocalDate("entry_date"),
+                row.getInteger("operation_number"),
+                row.getInteger("book_correlative"),
+                row.getString("book_type"),
+                row.getString("description"),
+                row.getBigDecimal("debit"),
+                row.getBigDecimal("credit"),
+                null);
+    }
+}
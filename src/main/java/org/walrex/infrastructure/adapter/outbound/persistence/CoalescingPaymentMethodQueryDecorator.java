@@ -0,0 +1,44 @@
+package org.walrex.infrastructure.adapter.outbound.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.inject.Inject;
+import org.walrex.application.port.output.PaymentMethodQueryPort;
+import org.walrex.infrastructure.adapter.outbound.cache.SingleFlight;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decorador CDI que coalesce consultas concurrentes de métodos de pago
+ * para el mismo country_currency en una sola query a BD.
+ */
+@Decorator
+@Priority(10)
+public class CoalescingPaymentMethodQueryDecorator implements PaymentMethodQueryPort {
+
+    private final PaymentMethodQueryPort delegate;
+    private final SingleFlight<Long, List<String>> singleFlight;
+
+    @Inject
+    public CoalescingPaymentMethodQueryDecorator(
+            @Delegate PaymentMethodQueryPort delegate,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.singleFlight = new SingleFlight<>("payment-method-query", meterRegistry);
+    }
+
+    @Override
+    public Uni<List<String>> findBinancePaymentCodesByCountryCurrency(Long countryCurrencyId) {
+        return singleFlight.execute(countryCurrencyId, () ->
+                delegate.findBinancePaymentCodesByCountryCurrency(countryCurrencyId));
+    }
+
+    @Override
+    public Uni<Map<Long, List<String>>> findAllActiveBinancePaymentCodes() {
+        return delegate.findAllActiveBinancePaymentCodes();
+    }
+}
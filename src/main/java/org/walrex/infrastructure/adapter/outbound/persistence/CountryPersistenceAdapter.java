@@ -153,6 +153,10 @@ public class CountryPersistenceAdapter implements CountryRepositoryPort, Country
 
     @Override
     public Uni<PagedResult<Country>> findAll(PageRequest pageRequest, CountryFilter filter) {
+        if (pageRequest.isKeyset()) {
+            return findKeyset(pageRequest, filter);
+        }
+
         // Ejecutar ambas queries en paralelo para mejor performance
         Uni<List<Country>> dataUni = countryRepository.findWithFilters(pageRequest, filter)
                 .onItem().transform(countryMapper::toDomain)
@@ -171,6 +175,24 @@ public class CountryPersistenceAdapter implements CountryRepositoryPort, Country
                 ));
     }
 
+    /**
+     * Página keyset: sin OFFSET y con COUNT solo si se pidió el total.
+     * Las consultas van en secuencia porque comparten la sesión reactiva.
+     */
+    private Uni<PagedResult<Country>> findKeyset(PageRequest pageRequest, CountryFilter filter) {
+        return countryRepository.findKeyset(pageRequest, filter)
+                .chain(slice -> {
+                    List<Country> content = slice.content().stream()
+                            .map(countryMapper::toDomain)
+                            .toList();
+                    Uni<Long> total = pageRequest.isIncludeTotal()
+                            ? countryRepository.countWithFilters(filter)
+                            : Uni.createFrom().item(-1L);
+                    return total.map(count -> PagedResult.keyset(
+                            content, pageRequest.getSize(), slice.nextCursor(), count));
+                });
+    }
+
     @Override
     public Uni<Long> count(CountryFilter filter) {
         return countryRepository.countWithFilters(filter);
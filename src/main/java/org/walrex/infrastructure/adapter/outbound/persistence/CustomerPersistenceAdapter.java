@@ -143,6 +143,10 @@ public class CustomerPersistenceAdapter implements CustomerRepositoryPort, Custo
 
     @Override
     public Uni<PagedResult<Customer>> findAll(PageRequest pageRequest, CustomerFilter filter) {
+        if (pageRequest.isKeyset()) {
+            return findKeyset(pageRequest, filter);
+        }
+
         // Ejecutar ambas queries en paralelo para mejor performance
         Uni<List<Customer>> dataUni = repository.findWithFilters(pageRequest, filter)
                 .onItem().transform(mapper::toDomain)
@@ -161,6 +165,24 @@ public class CustomerPersistenceAdapter implements CustomerRepositoryPort, Custo
                 ));
     }
 
+    /**
+     * Página keyset: sin OFFSET y con COUNT solo si se pidió el total.
+     * Las consultas van en secuencia porque comparten la sesión reactiva.
+     */
+    private Uni<PagedResult<Customer>> findKeyset(PageRequest pageRequest, CustomerFilter filter) {
+        return repository.findKeyset(pageRequest, filter)
+                .chain(slice -> {
+                    List<Customer> content = slice.content().stream()
+                            .map(mapper::toDomain)
+                            .toList();
+                    Uni<Long> total = pageRequest.isIncludeTotal()
+                            ? repository.countWithFilters(filter)
+                            : Uni.createFrom().item(-1L);
+                    return total.map(count -> PagedResult.keyset(
+                            content, pageRequest.getSize(), slice.nextCursor(), count));
+                });
+    }
+
     @Override
     public Uni<Long> count(CustomerFilter filter) {
         return repository.countWithFilters(filter);
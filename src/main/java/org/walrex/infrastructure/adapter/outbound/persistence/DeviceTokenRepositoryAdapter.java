@@ -2,6 +2,9 @@ package org.walrex.infrastructure.adapter.outbound.persistence;
 
 import io.quarkus.hibernate.reactive.panache.Panache;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.walrex.application.port.output.DeviceTokenRepositoryPort;
@@ -10,11 +13,29 @@ import org.walrex.infrastructure.adapter.outbound.persistence.entity.DeviceToken
 import org.walrex.infrastructure.adapter.outbound.persistence.mapper.DeviceTokenEntityMapper;
 import org.walrex.infrastructure.adapter.outbound.persistence.repository.DeviceTokenRepository;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @ApplicationScoped
 public class DeviceTokenRepositoryAdapter implements DeviceTokenRepositoryPort {
 
+    // Paginación y desactivación masiva van por el pool SQL reactivo: no dependen de una
+    // sesión de Hibernate Reactive y se pueden llamar desde el worker pool del broadcast FCM
+    private static final String ACTIVE_PAGE_SQL = """
+            SELECT id, token FROM user_device_token
+            WHERE active = true AND id > $1
+            ORDER BY id
+            LIMIT $2
+            """;
+
+    private static final String DEACTIVATE_ALL_SQL = """
+            UPDATE user_device_token SET active = false, updated_at = CURRENT_TIMESTAMP
+            WHERE active = true AND token = ANY($1)
+            """;
+
+    @Inject
+    Pool pool;
+
     @Inject
     DeviceTokenRepository repository;
 
@@ -51,6 +72,22 @@ public class DeviceTokenRepositoryAdapter implements DeviceTokenRepositoryPort {
         ).map(mapper::toDomainList);
     }
 
+    @Override
+    public Uni<List<DeviceToken>> findActivePage(Integer afterId, int limit) {
+        return pool.preparedQuery(ACTIVE_PAGE_SQL)
+                .execute(Tuple.of(afterId == null ? 0 : afterId, limit))
+                .map(rows -> {
+                    List<DeviceToken> page = new ArrayList<>(rows.size());
+                    for (Row row : rows) {
+                        page.add(DeviceToken.builder()
+                                .id(row.getInteger("id"))
+                                .token(row.getString("token"))
+                                .build());
+                    }
+                    return page;
+                });
+    }
+
     @Override
     public Uni<Void> deactivate(String token) {
         return Panache.withTransaction(() ->
@@ -59,4 +96,14 @@ public class DeviceTokenRepositoryAdapter implements DeviceTokenRepositoryPort {
                         .replaceWithVoid()
         );
     }
+
+    @Override
+    public Uni<Integer> deactivateAll(List<String> tokens) {
+        if (tokens.isEmpty()) {
+            return Uni.createFrom().item(0);
+        }
+        return pool.preparedQuery(DEACTIVATE_ALL_SQL)
+                .execute(Tuple.of(tokens.toArray(String[]::new)))
+                .map(rows -> rows.rowCount());
+    }
 }
@@ -1,9 +1,11 @@
 package org.walrex.infrastructure.adapter.outbound.persistence;
 
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.walrex.application.port.output.FinancialInstitutionQueryPort;
+import org.walrex.domain.model.PayoutRailInstitution;
 import org.walrex.infrastructure.adapter.outbound.persistence.entity.InstitutionPayoutRailEntity;
 import org.walrex.infrastructure.adapter.outbound.persistence.repository.InstitutionPayoutRailRepository;
 
@@ -16,7 +18,27 @@ public class FinancialInstitutionPersistenceAdapter implements FinancialInstitut
     InstitutionPayoutRailRepository repository;
 
     @Override
-    public Uni<List<InstitutionPayoutRailEntity>> findByRailCodeAndCountryIso2(String methodType, String countryIso2) {
-        return repository.findByRailCodeAndCountryIso2(methodType, countryIso2);
+    public Uni<List<PayoutRailInstitution>> findByRailCodeAndCountryIso2(String methodType, String countryIso2) {
+        return repository.findByRailCodeAndCountryIso2(methodType, countryIso2)
+                .map(entities -> entities.stream()
+                        .map(entity -> toDomain(entity, countryIso2))
+                        .toList());
+    }
+
+    @Override
+    public Multi<PayoutRailInstitution> streamAll() {
+        return repository.findAllActiveWithCountryIso2()
+                .onItem().transformToMulti(rows -> Multi.createFrom().iterable(rows))
+                .map(row -> toDomain((InstitutionPayoutRailEntity) row[0], (String) row[1]));
+    }
+
+    private static PayoutRailInstitution toDomain(InstitutionPayoutRailEntity entity, String countryIso2) {
+        return new PayoutRailInstitution(
+                entity.getPayoutRail().getCode(),
+                countryIso2,
+                entity.getBank().getId(),
+                entity.getBank().getDetName(),
+                entity.getBank().getSigla(),
+                entity.getRequiredFields());
     }
 }
@@ -4,9 +4,18 @@ import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
+import org.walrex.application.dto.query.JournalEntryFilter;
+import org.walrex.application.dto.query.PageRequest;
+import org.walrex.application.port.output.JournalCorrelativePort;
 import org.walrex.application.port.output.JournalEntryQueryPort;
 import org.walrex.application.port.output.JournalEntryRepositoryPort;
+import org.walrex.domain.model.AccountingBookType;
+import org.walrex.domain.model.CorrelativeRange;
+import org.walrex.domain.model.EntryStatus;
 import org.walrex.domain.model.JournalEntry;
+import org.walrex.domain.model.JournalEntryDocument;
+import org.walrex.domain.model.JournalEntryLine;
+import org.walrex.domain.model.PagedResult;
 import org.walrex.infrastructure.adapter.outbound.persistence.entity.JournalEntryDocumentEntity;
 import org.walrex.infrastructure.adapter.outbound.persistence.entity.JournalEntryEntity;
 import org.walrex.infrastructure.adapter.outbound.persistence.entity.JournalEntryLineEntity;
@@ -14,21 +23,33 @@ import org.walrex.infrastructure.adapter.outbound.persistence.mapper.JournalEntr
 import org.walrex.infrastructure.adapter.outbound.persistence.repository.JournalEntryQueryRepository;
 import org.walrex.infrastructure.adapter.outbound.persistence.repository.JournalEntryRepository;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Persistence adapter that implements output ports for JournalEntry.
  *
  * Following the hexagonal pattern (Ports & Adapters), this adapter:
- * - Implements port interfaces (JournalEntryRepositoryPort, JournalEntryQueryPort)
+ * - Implements port interfaces (JournalEntryRepositoryPort, JournalEntryQueryPort, JournalCorrelativePort)
  * - Translates between domain model (JournalEntry) and persistence layer (JournalEntryEntity)
  * - Uses mapper for transformations
  * - Delegates persistence operations to Panache repositories
  */
 @Slf4j
 @ApplicationScoped
-public class JournalEntryPersistenceAdapter implements JournalEntryRepositoryPort, JournalEntryQueryPort {
+public class JournalEntryPersistenceAdapter implements JournalEntryRepositoryPort, JournalEntryQueryPort,
+        JournalCorrelativePort {
+
+    private static final String OPERATION_SCOPE = "OPERATION";
 
     @Inject
     JournalEntryRepository repository;
@@ -93,11 +114,9 @@ public class JournalEntryPersistenceAdapter implements JournalEntryRepositoryPor
     }
 
     @Override
-    public Uni<Boolean> softDelete(Integer id) {
-        // TODO: Implement when needed
-        return Uni.createFrom().failure(
-                new UnsupportedOperationException("Soft delete not implemented yet")
-        );
+    public Uni<Optional<EntryStatus>> softDelete(Integer id) {
+        log.debug("Soft deleting journal entry: {}", id);
+        return repository.softDelete(id).map(Optional::ofNullable);
     }
 
     @Override
@@ -109,19 +128,15 @@ public class JournalEntryPersistenceAdapter implements JournalEntryRepositoryPor
     }
 
     @Override
-    public Uni<Boolean> restore(Integer id) {
-        // TODO: Implement when needed
-        return Uni.createFrom().failure(
-                new UnsupportedOperationException("Restore not implemented yet")
-        );
+    public Uni<Optional<EntryStatus>> restore(Integer id) {
+        log.debug("Restoring journal entry: {}", id);
+        return repository.restore(id).map(Optional::ofNullable);
     }
 
     @Override
     public Uni<Boolean> voidEntry(Integer id) {
-        // TODO: Implement when needed
-        return Uni.createFrom().failure(
-                new UnsupportedOperationException("Void entry not implemented yet")
-        );
+        log.debug("Voiding journal entry: {}", id);
+        return repository.voidEntry(id);
     }
 
     // ==================== JournalEntryQueryPort - Read Operations ====================
@@ -173,63 +188,148 @@ public class JournalEntryPersistenceAdapter implements JournalEntryRepositoryPor
     }
 
     @Override
-    public Uni<org.walrex.domain.model.PagedResult<JournalEntry>> findAll(
-            org.walrex.application.dto.query.PageRequest pageRequest,
-            org.walrex.application.dto.query.JournalEntryFilter filter) {
+    public Uni<PagedResult<JournalEntry>> findAll(PageRequest pageRequest, JournalEntryFilter filter) {
+        if (pageRequest.isKeyset()) {
+            return findKeyset(pageRequest, filter);
+        }
         log.debug("Finding all journal entries with pagination: page={}, size={}", pageRequest.getPage(), pageRequest.getSize());
 
-        // Execute native SQL query and count in parallel
-        Uni<java.util.List<Object[]>> entriesUni = queryRepository.findEntriesWithDetailsNative(
-                filter,
-                pageRequest.getPage(),
-                pageRequest.getSize()
-        );
-
-        Uni<Long> countUni = queryRepository.countAll(filter);
-
-        return Uni.combine().all().unis(entriesUni, countUni)
-                .asTuple()
-                .map(tuple -> {
-                    java.util.List<Object[]> rows = tuple.getItem1();
-                    Long totalElements = tuple.getItem2();
-
-                    // Map SQL results to domain models
-                    java.util.List<JournalEntry> journalEntries = rows.stream()
-                            .map(this::mapRowToJournalEntry)
-                            .toList();
-
-                    return org.walrex.domain.model.PagedResult.of(
-                            journalEntries,
-                            pageRequest.getPage(),
-                            pageRequest.getSize(),
-                            totalElements
-                    );
-                })
+        // Sequential: every query runs on the same reactive session
+        return queryRepository.findHeaders(filter, pageRequest.getPage(), pageRequest.getSize())
+                .chain(this::withDetails)
+                .chain(journalEntries -> queryRepository.countAll(filter)
+                        .map(totalElements -> PagedResult.of(
+                                journalEntries,
+                                pageRequest.getPage(),
+                                pageRequest.getSize(),
+                                totalElements
+                        )))
                 .invoke(result -> log.debug("Found {} journal entries out of {} total",
                         result.content().size(), result.totalElements()));
     }
 
     /**
-     * Maps a SQL result row to JournalEntry domain model.
-     * Row format: [id, entry_date, description, operation_number, book_correlative, book_type, status, created_at, updated_at, lines_json]
+     * Keyset page: no OFFSET, and COUNT only when the total was requested.
+     */
+    private Uni<PagedResult<JournalEntry>> findKeyset(PageRequest pageRequest, JournalEntryFilter filter) {
+        return queryRepository.findHeadersKeyset(filter, pageRequest)
+                .chain(slice -> withDetails(slice.content())
+                        .chain(journalEntries -> {
+                            Uni<Long> total = pageRequest.isIncludeTotal()
+                                    ? queryRepository.countAll(filter)
+                                    : Uni.createFrom().item(-1L);
+                            return total.map(count -> PagedResult.keyset(
+                                    journalEntries, pageRequest.getSize(), slice.nextCursor(), count));
+                        }));
+    }
+
+    /**
+     * Loads the lines and documents of a page of headers with one query each and assembles
+     * the domain models, keeping the order of the headers.
+     */
+    private Uni<List<JournalEntry>> withDetails(List<Object[]> headers) {
+        if (headers.isEmpty()) {
+            return Uni.createFrom().item(List.of());
+        }
+        List<Integer> entryIds = headers.stream().map(row -> (Integer) row[0]).toList();
+
+        return queryRepository.findLinesByEntryIds(entryIds)
+                .chain(lineRows -> queryRepository.findDocumentsByEntryIds(entryIds)
+                        .map(documentRows -> {
+                            Map<Integer, List<JournalEntryDocument>> documentsByLine = new HashMap<>();
+                            for (Object[] row : documentRows) {
+                                JournalEntryDocument document = mapRowToDocument(row);
+                                documentsByLine.computeIfAbsent(document.getJournalEntryLineId(), id -> new ArrayList<>())
+                                        .add(document);
+                            }
+
+                            Map<Integer, List<JournalEntryLine>> linesByEntry = new HashMap<>();
+                            for (Object[] row : lineRows) {
+                                JournalEntryLine line = mapRowToLine(row);
+                                line.setDocuments(documentsByLine.getOrDefault(line.getId(), new ArrayList<>()));
+                                linesByEntry.computeIfAbsent(line.getJournalEntryId(), id -> new ArrayList<>())
+                                        .add(line);
+                            }
+
+                            return headers.stream()
+                                    .map(row -> mapRowToJournalEntry(row,
+                                            linesByEntry.getOrDefault((Integer) row[0], new ArrayList<>())))
+                                    .toList();
+                        }));
+    }
+
+    /**
+     * Maps a header row to JournalEntry domain model.
+     * Row format: [id, entry_date, description, operation_number, book_correlative, book_type, status, created_at, updated_at]
      */
-    private JournalEntry mapRowToJournalEntry(Object[] row) {
-        // Note: This is a simplified mapping - you'll need to parse the JSON and create proper domain objects
-        // For now, return null lines - we'll implement full JSON parsing if needed
+    private JournalEntry mapRowToJournalEntry(Object[] row, List<JournalEntryLine> lines) {
         return JournalEntry.builder()
                 .id((Integer) row[0])
-                .entryDate((java.time.LocalDate) row[1])
+                .entryDate(toLocalDate(row[1]))
                 .description((String) row[2])
                 .operationNumber((Integer) row[3])
                 .bookCorrelative((Integer) row[4])
-                .bookType(org.walrex.domain.model.AccountingBookType.valueOf((String) row[5]))
-                .status(org.walrex.domain.model.EntryStatus.valueOf((String) row[6]))
-                .createdAt(row[7] != null ? ((java.sql.Timestamp) row[7]).toLocalDateTime().atOffset(java.time.ZoneOffset.UTC) : null)
-                .updatedAt(row[8] != null ? ((java.sql.Timestamp) row[8]).toLocalDateTime().atOffset(java.time.ZoneOffset.UTC) : null)
-                .lines(java.util.List.of()) // TODO: Parse JSON from row[9]
+                .bookType(AccountingBookType.valueOf((String) row[5]))
+                .status(EntryStatus.valueOf((String) row[6]))
+                .createdAt(toOffsetDateTime(row[7]))
+                .updatedAt(toOffsetDateTime(row[8]))
+                .lines(lines)
+                .build();
+    }
+
+    /**
+     * Row format: [id, journal_entry_id, account_id, debit, credit, description]
+     */
+    private JournalEntryLine mapRowToLine(Object[] row) {
+        return JournalEntryLine.builder()
+                .id((Integer) row[0])
+                .journalEntryId((Integer) row[1])
+                .accountId((Integer) row[2])
+                .debit((BigDecimal) row[3])
+                .credit((BigDecimal) row[4])
+                .description((String) row[5])
+                .build();
+    }
+
+    /**
+     * Row format: [id, journal_entry_line_id, original_filename, stored_filename, file_path, mime_type, file_size, uploaded_at]
+     */
+    private JournalEntryDocument mapRowToDocument(Object[] row) {
+        return JournalEntryDocument.builder()
+                .id((Integer) row[0])
+                .journalEntryLineId((Integer) row[1])
+                .originalFilename((String) row[2])
+                .storedFilename((String) row[3])
+                .filePath((String) row[4])
+                .mimeType((String) row[5])
+                .fileSize(row[6] != null ? ((Number) row[6]).longValue() : null)
+                .uploadedAt(toOffsetDateTime(row[7]))
                 .build();
     }
 
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+
+    private static OffsetDateTime toOffsetDateTime(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime;
+        }
+        if (value instanceof Instant instant) {
+            return instant.atOffset(ZoneOffset.UTC);
+        }
+        if (value instanceof java.sql.Timestamp timestamp) {
+            return timestamp.toInstant().atOffset(ZoneOffset.UTC);
+        }
+        return ((LocalDateTime) value).atOffset(ZoneOffset.UTC);
+    }
+
     @Override
     public Uni<Long> count(org.walrex.application.dto.query.JournalEntryFilter filter) {
         log.debug("Counting journal entries with filter: {}", filter);
@@ -256,14 +356,14 @@ public class JournalEntryPersistenceAdapter implements JournalEntryRepositoryPor
     // ==================== Correlative Generation ====================
 
     @Override
-    public Uni<Integer> getNextBookCorrelative(String bookType, Integer year) {
-        log.debug("Getting next book correlative for {} ({})", bookType, year);
-        return queryRepository.getNextBookCorrelative(bookType, year);
+    public Uni<CorrelativeRange> reserveOperationNumbers(int year, int count) {
+        return queryRepository.allocateCorrelatives(OPERATION_SCOPE, year, count)
+                .map(last -> CorrelativeRange.endingAt(last, count));
     }
 
     @Override
-    public Uni<Integer> getNextOperationNumber(Integer year) {
-        log.debug("Getting next operation number for year {}", year);
-        return queryRepository.getNextOperationNumber(year);
+    public Uni<CorrelativeRange> reserveBookCorrelatives(AccountingBookType bookType, int year, int count) {
+        return queryRepository.allocateCorrelatives(bookType.name(), year, count)
+                .map(last -> CorrelativeRange.endingAt(last, count));
     }
 }
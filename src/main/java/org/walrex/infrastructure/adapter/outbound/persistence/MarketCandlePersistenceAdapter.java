@@ -0,0 +1,167 @@
+package org.walrex.infrastructure.adapter.outbound.persistence;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import io.vertx.sqlclient.data.Numeric;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.walrex.application.port.output.MarketCandlePort;
+import org.walrex.domain.model.CandleInterval;
+import org.walrex.domain.model.MarketCandle;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adapter de persistencia para la tabla de rollup market_candle.
+ *
+ * El upsert usa UNNEST de arrays (un solo statement por lote) y fusiona con la fila
+ * existente usando first_trade_at / last_trade_at, igual que {@link MarketCandle#mergeWith}.
+ *
+ * Volumen y trade_count se suman, así que cada lote registra su writeId en
+ * market_candle_write dentro del mismo statement: si ya estaba, el lote es una repetición
+ * y no se aplica.
+ */
+@Slf4j
+@ApplicationScoped
+public class MarketCandlePersistenceAdapter implements MarketCandlePort {
+
+    private static final String UPSERT_SQL = """
+            WITH claimed AS (
+                INSERT INTO market_candle_write (write_id) VALUES ($12)
+                ON CONFLICT (write_id) DO NOTHING
+                RETURNING write_id
+            )
+            INSERT INTO market_candle
+                (symbol, interval_code, open_time, open_price, high_price, low_price, close_price,
+                 volume, trade_count, first_trade_at, last_trade_at)
+            SELECT u.* FROM UNNEST(
+                $1::varchar[], $2::varchar[], $3::timestamptz[], $4::numeric[], $5::numeric[],
+                $6::numeric[], $7::numeric[], $8::numeric[], $9::bigint[], $10::timestamptz[], $11::timestamptz[]) AS u
+            WHERE EXISTS (SELECT 1 FROM claimed)
+            ON CONFLICT (symbol, interval_code, open_time) DO UPDATE SET
+                open_price     = CASE WHEN EXCLUDED.first_trade_at < market_candle.first_trade_at
+                                      THEN EXCLUDED.open_price ELSE market_candle.open_price END,
+                high_price     = GREATEST(market_candle.high_price, EXCLUDED.high_price),
+                low_price      = LEAST(market_candle.low_price, EXCLUDED.low_price),
+                close_price    = CASE WHEN EXCLUDED.last_trade_at >= market_candle.last_trade_at
+                                      THEN EXCLUDED.close_price ELSE market_candle.close_price END,
+                volume         = market_candle.volume + EXCLUDED.volume,
+                trade_count    = market_candle.trade_count + EXCLUDED.trade_count,
+                first_trade_at = LEAST(market_candle.first_trade_at, EXCLUDED.first_trade_at),
+                last_trade_at  = GREATEST(market_candle.last_trade_at, EXCLUDED.last_trade_at),
+                updated_at     = CURRENT_TIMESTAMP
+            """;
+
+    private static final String FIND_SQL = """
+            SELECT symbol, interval_code, open_time, open_price, high_price, low_price, close_price,
+                   volume, trade_count, first_trade_at, last_trade_at
+            FROM market_candle
+            WHERE symbol = $1 AND interval_code = $2 AND open_time >= $3 AND open_time < $4
+            ORDER BY open_time DESC
+            LIMIT $5
+            """;
+
+    private static final String PURGE_WRITE_LOG_SQL = "DELETE FROM market_candle_write WHERE written_at < $1";
+
+    @Inject
+    Pool pool;
+
+    @Override
+    public Uni<Void> upsertAll(UUID writeId, List<MarketCandle> candles) {
+        if (candles.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+
+        int size = candles.size();
+        String[] symbols = new String[size];
+        String[] intervals = new String[size];
+        OffsetDateTime[] openTimes = new OffsetDateTime[size];
+        Numeric[] opens = new Numeric[size];
+        Numeric[] highs = new Numeric[size];
+        Numeric[] lows = new Numeric[size];
+        Numeric[] closes = new Numeric[size];
+        Numeric[] volumes = new Numeric[size];
+        Long[] tradeCounts = new Long[size];
+        OffsetDateTime[] firstTrades = new OffsetDateTime[size];
+        OffsetDateTime[] lastTrades = new OffsetDateTime[size];
+
+        for (int i = 0; i < size; i++) {
+            MarketCandle candle = candles.get(i);
+            symbols[i] = candle.symbol();
+            intervals[i] = candle.interval().getCode();
+            openTimes[i] = toUtc(candle.openTime());
+            opens[i] = Numeric.create(candle.open());
+            highs[i] = Numeric.create(candle.high());
+            lows[i] = Numeric.create(candle.low());
+            closes[i] = Numeric.create(candle.close());
+            volumes[i] = Numeric.create(candle.volume());
+            tradeCounts[i] = candle.tradeCount();
+            firstTrades[i] = toUtc(candle.firstTradeAt());
+            lastTrades[i] = toUtc(candle.lastTradeAt());
+        }
+
+        Tuple params = Tuple.tuple(List.of(symbols, intervals, openTimes, opens, highs, lows, closes,
+                volumes, tradeCounts, firstTrades, lastTrades, writeId));
+
+        return pool.preparedQuery(UPSERT_SQL)
+                .execute(params)
+                .invoke(rows -> {
+                    if (rows.rowCount() == 0) {
+                        log.info("[MarketCandle] Lote {} ya aplicado — se omite", writeId);
+                    } else {
+                        log.debug("[MarketCandle] Upsert de {} velas (lote {})", rows.rowCount(), writeId);
+                    }
+                })
+                .replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Integer> purgeWriteLog(Instant before) {
+        return pool.preparedQuery(PURGE_WRITE_LOG_SQL)
+                .execute(Tuple.of(toUtc(before)))
+                .map(rows -> rows.rowCount());
+    }
+
+    @Override
+    public Uni<List<MarketCandle>> findCandles(String symbol, CandleInterval interval,
+                                               Instant from, Instant to, int limit) {
+        return pool.preparedQuery(FIND_SQL)
+                .execute(Tuple.of(symbol, interval.getCode(), toUtc(from), toUtc(to), limit))
+                .map(rows -> {
+                    List<MarketCandle> candles = new ArrayList<>();
+                    for (Row row : rows) {
+                        candles.add(toDomain(row, interval));
+                    }
+                    Collections.reverse(candles);
+                    return candles;
+                });
+    }
+
+    private MarketCandle toDomain(Row row, CandleInterval interval) {
+        return new MarketCandle(
+                row.getString("symbol"),
+                interval,
+                row.getOffsetDateTime("open_time").toInstant(),
+                row.getBigDecimal("open_price"),
+                row.getBigDecimal("high_price"),
+                row.getBigDecimal("low_price"),
+                row.getBigDecimal("close_price"),
+                row.getBigDecimal("volume"),
+                row.getLong("trade_count"),
+                row.getOffsetDateTime("first_trade_at").toInstant(),
+                row.getOffsetDateTime("last_trade_at").toInstant());
+    }
+
+    private OffsetDateTime toUtc(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,253 @@
+package org.walrex.infrastructure.adapter.outbound.persistence;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.SqlConnection;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.walrex.application.port.output.MarketPriceTickPartitionPort;
+import org.walrex.domain.model.CandleInterval;
+import org.walrex.domain.model.TickPartition;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+/**
+ * Adapter de mantenimiento de particiones de market_price_tick (DDL + rollup a market_candle).
+ *
+ * Los límites de cada partición se leen del catálogo (pg_inherits / relpartbound), así que
+ * la partición legacy (FROM MINVALUE) se trata igual que las diarias o mensuales.
+ *
+ * La partición DEFAULT (V35) recibe los ticks que no caen en ninguna partición de rango.
+ * Crear una partición de rango toma primero un bloqueo sobre market_price_tick (antes que
+ * sobre DEFAULT, en el mismo orden que los INSERT) y mueve a la nueva partición los ticks
+ * de DEFAULT de su rango; Postgres no permite crearla mientras DEFAULT los tenga.
+ *
+ * Métricas:
+ * - walrex.market_tick.partition.headroom.seconds: tiempo hasta el final de la última
+ *   partición de rango conocida. Se calcula al consultarla, así que baja aunque el
+ *   mantenimiento se detenga; al llegar a 0 los ticks nuevos van a DEFAULT.
+ * - walrex.market_tick.partition.default.rows: ticks en DEFAULT en la última revisión.
+ */
+@Slf4j
+@ApplicationScoped
+public class MarketPriceTickPartitionAdapter implements MarketPriceTickPartitionPort {
+
+    private static final Pattern SAFE_IDENTIFIER = Pattern.compile("^[a-z0-9_]+$");
+
+    private static final String LIST_PARTITIONS_SQL = """
+            SELECT name, lower_bound::timestamptz AS lower_bound, upper_bound::timestamptz AS upper_bound
+            FROM (
+                SELECT c.relname AS name,
+                       substring(pg_get_expr(c.relpartbound, c.oid) FROM 'FROM \\(''([^'']+)''\\)') AS lower_bound,
+                       substring(pg_get_expr(c.relpartbound, c.oid) FROM 'TO \\(''([^'']+)''\\)') AS upper_bound
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'market_price_tick'::regclass
+            ) bounds
+            WHERE upper_bound IS NOT NULL
+            ORDER BY upper_bound::timestamptz
+            """;
+
+    private static final String ROLLUP_SQL = """
+            INSERT INTO market_candle
+                (symbol, interval_code, open_time, open_price, high_price, low_price, close_price,
+                 volume, trade_count, first_trade_at, last_trade_at)
+            SELECT symbol,
+                   $1::varchar,
+                   to_timestamp((floor(extract(epoch FROM recorded_at) / $2::bigint) * $2::bigint)::double precision) AS bucket,
+                   (array_agg(price ORDER BY recorded_at, id))[1],
+                   max(price),
+                   min(price),
+                   (array_agg(price ORDER BY recorded_at DESC, id DESC))[1],
+                   0,
+                   count(*),
+                   min(recorded_at),
+                   max(recorded_at)
+            FROM %s
+            GROUP BY symbol, bucket
+            ON CONFLICT (symbol, interval_code, open_time) DO UPDATE SET
+                open_price     = EXCLUDED.open_price,
+                high_price     = EXCLUDED.high_price,
+                low_price      = EXCLUDED.low_price,
+                close_price    = EXCLUDED.close_price,
+                trade_count    = EXCLUDED.trade_count,
+                first_trade_at = EXCLUDED.first_trade_at,
+                last_trade_at  = EXCLUDED.last_trade_at,
+                updated_at     = CURRENT_TIMESTAMP
+            WHERE EXCLUDED.trade_count > market_candle.trade_count
+            """;
+
+    private static final String DEFAULT_PARTITION = "market_price_tick_default";
+
+    private static final String LOCK_SQL = "LOCK TABLE market_price_tick IN SHARE ROW EXCLUSIVE MODE";
+
+    private static final String COUNT_DEFAULT_RANGE_SQL =
+            "SELECT count(*) FROM " + DEFAULT_PARTITION + " WHERE recorded_at >= $1 AND recorded_at < $2";
+
+    private static final String MOVE_FROM_DEFAULT_SQL = """
+            WITH moved AS (
+                DELETE FROM market_price_tick_default
+                WHERE recorded_at >= $1 AND recorded_at < $2
+                RETURNING *
+            )
+            INSERT INTO %s SELECT * FROM moved
+            """;
+
+    @Inject
+    Pool pool;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private final AtomicReference<Instant> lastUpperBound = new AtomicReference<>();
+    private final AtomicLong defaultRows = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("walrex.market_tick.partition.headroom.seconds", lastUpperBound,
+                        ref -> ref.get() == null
+                                ? Double.NaN
+                                : Duration.between(Instant.now(), ref.get()).toSeconds())
+                .description("Tiempo hasta el final de la última partición de rango de market_price_tick")
+                .register(meterRegistry);
+        Gauge.builder("walrex.market_tick.partition.default.rows", defaultRows, AtomicLong::get)
+                .description("Ticks en la partición DEFAULT de market_price_tick")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Uni<List<TickPartition>> listPartitions() {
+        return pool.query(LIST_PARTITIONS_SQL)
+                .execute()
+                .map(rows -> {
+                    List<TickPartition> partitions = new ArrayList<>();
+                    for (Row row : rows) {
+                        OffsetDateTime lower = row.getOffsetDateTime("lower_bound");
+                        partitions.add(new TickPartition(
+                                row.getString("name"),
+                                lower != null ? lower.toInstant() : null,
+                                row.getOffsetDateTime("upper_bound").toInstant()));
+                    }
+                    if (!partitions.isEmpty()) {
+                        noteUpperBound(partitions.get(partitions.size() - 1).to());
+                    }
+                    return partitions;
+                });
+    }
+
+    @Override
+    public Uni<Long> createPartition(String name, Instant from, Instant to) {
+        String table = safeIdentifier(name);
+        Tuple range = Tuple.of(utc(from), utc(to));
+
+        return pool.withTransaction(conn -> conn.query(LOCK_SQL).execute()
+                        .chain(() -> conn.preparedQuery(COUNT_DEFAULT_RANGE_SQL).execute(range))
+                        .map(rows -> rows.iterator().next().getLong(0))
+                        .chain(pending -> pending == 0
+                                ? conn.query(String.format(
+                                                "CREATE TABLE IF NOT EXISTS %s PARTITION OF market_price_tick "
+                                                        + "FOR VALUES FROM ('%s') TO ('%s')", table, from, to))
+                                        .execute()
+                                        .replaceWith(0L)
+                                : moveFromDefault(conn, table, from, to, range)))
+                .invoke(moved -> {
+                    noteUpperBound(to);
+                    if (moved > 0) {
+                        log.warn("[TickPartition] Partición {} creada [{} - {}) con {} ticks movidos desde DEFAULT",
+                                name, from, to, moved);
+                    } else {
+                        log.info("[TickPartition] Partición {} creada [{} - {})", name, from, to);
+                    }
+                });
+    }
+
+    /**
+     * Crea la partición como tabla suelta, le pasa los ticks de DEFAULT de su rango y la adjunta.
+     */
+    private Uni<Long> moveFromDefault(SqlConnection conn, String table, Instant from, Instant to, Tuple range) {
+        return conn.query(String.format(
+                        "CREATE TABLE %s (LIKE market_price_tick INCLUDING DEFAULTS INCLUDING CONSTRAINTS)", table))
+                .execute()
+                .chain(() -> conn.preparedQuery(String.format(MOVE_FROM_DEFAULT_SQL, table)).execute(range))
+                .map(rows -> (long) rows.rowCount())
+                .call(() -> conn.query(String.format(
+                                "ALTER TABLE market_price_tick ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s')",
+                                table, from, to))
+                        .execute());
+    }
+
+    @Override
+    public Uni<Long> countDefaultRows() {
+        return pool.query("SELECT count(*) FROM " + DEFAULT_PARTITION)
+                .execute()
+                .map(rows -> rows.iterator().next().getLong(0))
+                .invoke(defaultRows::set);
+    }
+
+    @Override
+    public Uni<Long> rollupAndPurgeDefault(Instant before, List<CandleInterval> rollupIntervals) {
+        String rollupSql = String.format(ROLLUP_SQL, DEFAULT_PARTITION + " WHERE recorded_at < $3");
+        OffsetDateTime cutoff = utc(before);
+
+        return pool.withTransaction(conn -> {
+            Uni<Long> rolledUp = Uni.createFrom().item(0L);
+            for (CandleInterval interval : rollupIntervals) {
+                rolledUp = rolledUp.chain(total -> conn.preparedQuery(rollupSql)
+                        .execute(Tuple.of(interval.getCode(), interval.getDuration().toSeconds(), cutoff))
+                        .map(rows -> total + rows.rowCount()));
+            }
+            return rolledUp.chain(() -> conn
+                    .preparedQuery("DELETE FROM " + DEFAULT_PARTITION + " WHERE recorded_at < $1")
+                    .execute(Tuple.of(cutoff))
+                    .map(rows -> (long) rows.rowCount()));
+        });
+    }
+
+    @Override
+    public Uni<Long> rollupAndDrop(TickPartition partition, List<CandleInterval> rollupIntervals) {
+        String table = safeIdentifier(partition.name());
+        String rollupSql = String.format(ROLLUP_SQL, table);
+
+        return pool.withTransaction(conn -> {
+            Uni<Long> rolledUp = Uni.createFrom().item(0L);
+            for (CandleInterval interval : rollupIntervals) {
+                rolledUp = rolledUp.chain(total -> conn.preparedQuery(rollupSql)
+                        .execute(Tuple.of(interval.getCode(), interval.getDuration().toSeconds()))
+                        .map(rows -> total + rows.rowCount()));
+            }
+            return rolledUp.chain(total -> conn.query("DROP TABLE " + table)
+                    .execute()
+                    .replaceWith(total));
+        });
+    }
+
+    private void noteUpperBound(Instant to) {
+        lastUpperBound.accumulateAndGet(to, (current, candidate) ->
+                current == null || candidate.isAfter(current) ? candidate : current);
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private String safeIdentifier(String name) {
+        if (name == null || !SAFE_IDENTIFIER.matcher(name).matches()) {
+            throw new IllegalArgumentException("Nombre de partición inválido: " + name);
+        }
+        return name;
+    }
+}
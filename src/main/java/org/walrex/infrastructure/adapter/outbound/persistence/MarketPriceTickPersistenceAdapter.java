@@ -1,46 +1,287 @@
 package org.walrex.infrastructure.adapter.outbound.persistence;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.scheduler.Scheduled;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Tuple;
+import io.vertx.sqlclient.data.Numeric;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
-import org.hibernate.reactive.mutiny.Mutiny;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.walrex.application.port.output.MarketPriceTickPort;
 import org.walrex.domain.model.MarketPriceTick;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Escritor micro-batch de market_price_tick.
+ *
+ * {@link #record(MarketPriceTick)} solo encola el tick en un buffer acotado y retorna de inmediato.
+ * El buffer se vacía por tamaño (batch-size) o por tiempo (flush-interval) con un único
+ * INSERT multi-fila (UNNEST de arrays) por lote, sin abrir una transacción por trade.
+ *
+ * Backpressure: hay como máximo un flush en curso; si la BD va lenta el buffer crece hasta
+ * capacity y se aplica la política de overflow (DROP_OLDEST conserva los ticks más recientes,
+ * DROP_NEWEST descarta los entrantes). Un lote que falla se reintenta en los siguientes flushes
+ * hasta max-retries veces y luego se descarta (walrex.market_tick.failed), para que un lote
+ * que la BD rechaza siempre no bloquee los ticks posteriores. Los ticks sin precio se
+ * rechazan al encolar. Al apagar la aplicación se espera el flush en curso y se vacía lo pendiente.
+ */
 @Slf4j
 @ApplicationScoped
 public class MarketPriceTickPersistenceAdapter implements MarketPriceTickPort {
 
+    private static final String INSERT_BATCH_SQL = """
+            INSERT INTO market_price_tick
+                (provider, symbol, currency_base, currency_quote, price, event_type, change_pct, recorded_at)
+            SELECT * FROM UNNEST(
+                $1::varchar[], $2::varchar[], $3::varchar[], $4::varchar[],
+                $5::numeric[], $6::varchar[], $7::numeric[], $8::timestamptz[])
+            """;
+
+    public enum OverflowPolicy { DROP_OLDEST, DROP_NEWEST }
+
+    @ConfigProperty(name = "market.tick.batch.capacity", defaultValue = "10000")
+    int capacity;
+
+    @ConfigProperty(name = "market.tick.batch.size", defaultValue = "500")
+    int batchSize;
+
+    @ConfigProperty(name = "market.tick.batch.overflow-policy", defaultValue = "DROP_OLDEST")
+    OverflowPolicy overflowPolicy;
+
+    @ConfigProperty(name = "market.tick.batch.max-retries", defaultValue = "3")
+    int maxRetries;
+
+    @ConfigProperty(name = "market.tick.batch.shutdown-timeout-seconds", defaultValue = "10")
+    long shutdownTimeoutSeconds;
+
+    @Inject
+    Pool pool;
+
     @Inject
-    Mutiny.SessionFactory sessionFactory;
+    MeterRegistry meterRegistry;
+
+    private final Deque<MarketPriceTick> buffer = new ArrayDeque<>();
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+
+    /**
+     * Lote que falló y se reintenta antes que el buffer; solo lo toca el flush en curso.
+     */
+    private volatile List<MarketPriceTick> retryBatch = List.of();
+    private int retryAttempts;
+
+    private Counter writtenTicks;
+    private Counter droppedTicks;
+    private Counter failedTicks;
+    private Counter rejectedTicks;
+
+    @PostConstruct
+    void init() {
+        writtenTicks = Counter.builder("walrex.market_tick.written")
+                .description("Ticks persistidos por el escritor micro-batch")
+                .register(meterRegistry);
+        droppedTicks = Counter.builder("walrex.market_tick.dropped")
+                .description("Ticks descartados por overflow del buffer")
+                .tag("policy", overflowPolicy.name())
+                .register(meterRegistry);
+        failedTicks = Counter.builder("walrex.market_tick.failed")
+                .description("Ticks descartados tras agotar los reintentos de su lote")
+                .register(meterRegistry);
+        rejectedTicks = Counter.builder("walrex.market_tick.rejected")
+                .description("Ticks sin precio o sin símbolo, no encolados")
+                .register(meterRegistry);
+        Gauge.builder("walrex.market_tick.buffer.size", this, MarketPriceTickPersistenceAdapter::pendingCount)
+                .description("Ticks pendientes de persistir")
+                .register(meterRegistry);
+    }
 
     @Override
     public Uni<Void> record(MarketPriceTick tick) {
-        OffsetDateTime recordedAt = tick.getRecordedAt() != null
-                ? OffsetDateTime.ofInstant(tick.getRecordedAt(), ZoneOffset.UTC)
-                : OffsetDateTime.now(ZoneOffset.UTC);
-
-        return sessionFactory.withTransaction((session, tx) ->
-            session.createNativeQuery(
-                "INSERT INTO market_price_tick " +
-                "(provider, symbol, currency_base, currency_quote, price, event_type, change_pct, recorded_at) " +
-                "VALUES (:provider, :symbol, :base, :quote, :price, :eventType, :changePct, :recordedAt)")
-                .setParameter("provider",   tick.getProvider())
-                .setParameter("symbol",     tick.getSymbol())
-                .setParameter("base",       tick.getCurrencyBase())
-                .setParameter("quote",      tick.getCurrencyQuote())
-                .setParameter("price",      tick.getPrice())
-                .setParameter("eventType",  tick.getEventType())
-                .setParameter("changePct",  tick.getChangePct())
-                .setParameter("recordedAt", recordedAt)
-                .executeUpdate()
-                .replaceWithVoid()
-        ).onFailure().invoke(e ->
-                log.error("[MarketPriceTick] Error recording tick for {}: {}", tick.getSymbol(), e.getMessage())
-        );
+        if (tick.getPrice() == null || tick.getSymbol() == null) {
+            rejectedTicks.increment();
+            log.warn("[MarketPriceTick] Tick inválido descartado (symbol={}, price={})", tick.getSymbol(), tick.getPrice());
+            return Uni.createFrom().voidItem();
+        }
+        boolean batchReady;
+        synchronized (buffer) {
+            if (buffer.size() >= capacity) {
+                droppedTicks.increment();
+                if (overflowPolicy == OverflowPolicy.DROP_NEWEST) {
+                    log.debug("[MarketPriceTick] Buffer lleno — descartando tick entrante de {}", tick.getSymbol());
+                    return Uni.createFrom().voidItem();
+                }
+                buffer.pollFirst();
+            }
+            buffer.addLast(tick);
+            batchReady = buffer.size() >= batchSize;
+        }
+
+        if (batchReady) {
+            flush().subscribe().with(
+                    v -> { },
+                    e -> log.error("[MarketPriceTick] Error en flush por tamaño: {}", e.getMessage()));
+        }
+        return Uni.createFrom().voidItem();
+    }
+
+    /**
+     * Flush por tiempo: persiste lo acumulado aunque no se haya llegado a batch-size.
+     */
+    @Scheduled(every = "${market.tick.batch.flush-interval:1s}",
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> scheduledFlush() {
+        return flush();
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(shutdownTimeoutSeconds).toNanos();
+        // Esperar a que termine el flush en curso antes de vaciar lo que quede
+        while (!flushing.compareAndSet(false, true)) {
+            if (System.nanoTime() >= deadline) {
+                log.error("[MarketPriceTick] Flush en curso no terminó al apagar; {} ticks sin persistir", pendingCount());
+                return;
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        try {
+            int pending = pendingCount();
+            if (pending == 0) {
+                return;
+            }
+            log.info("[MarketPriceTick] Apagando — persistiendo {} ticks pendientes", pending);
+            writeBatches().await().atMost(Duration.ofNanos(Math.max(1, deadline - System.nanoTime())));
+        } catch (Exception e) {
+            log.error("[MarketPriceTick] No se pudieron persistir {} ticks al apagar: {}",
+                    pendingCount(), e.getMessage());
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    /**
+     * Vacía el buffer en lotes. Si ya hay un flush en curso no hace nada.
+     */
+    Uni<Void> flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return Uni.createFrom().voidItem();
+        }
+        // deferred: una excepción síncrona también pasa por eventually y libera el flag
+        return Uni.createFrom().deferred(this::writeBatches)
+                .eventually(() -> flushing.set(false));
+    }
+
+    /**
+     * Persiste lotes hasta vaciar el buffer o hasta que un lote falle.
+     */
+    private Uni<Void> writeBatches() {
+        List<MarketPriceTick> batch = drain();
+        if (batch.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+
+        return Uni.createFrom().deferred(() -> insertBatch(batch))
+                .map(v -> {
+                    writtenTicks.increment(batch.size());
+                    retryBatch = List.of();
+                    retryAttempts = 0;
+                    return true;
+                })
+                .onFailure().recoverWithItem(e -> {
+                    retryLater(batch, e);
+                    return false;
+                })
+                .chain(written -> written ? writeBatches() : Uni.createFrom().voidItem());
+    }
+
+    private Uni<Void> insertBatch(List<MarketPriceTick> batch) {
+        int size = batch.size();
+        String[] providers = new String[size];
+        String[] symbols = new String[size];
+        String[] bases = new String[size];
+        String[] quotes = new String[size];
+        Numeric[] prices = new Numeric[size];
+        String[] eventTypes = new String[size];
+        Numeric[] changePcts = new Numeric[size];
+        OffsetDateTime[] recordedAts = new OffsetDateTime[size];
+
+        for (int i = 0; i < size; i++) {
+            MarketPriceTick tick = batch.get(i);
+            providers[i] = tick.getProvider();
+            symbols[i] = tick.getSymbol();
+            bases[i] = tick.getCurrencyBase();
+            quotes[i] = tick.getCurrencyQuote();
+            prices[i] = Numeric.create(tick.getPrice());
+            eventTypes[i] = tick.getEventType() != null ? tick.getEventType() : "TICK";
+            changePcts[i] = tick.getChangePct() != null ? Numeric.create(tick.getChangePct()) : null;
+            recordedAts[i] = tick.getRecordedAt() != null
+                    ? OffsetDateTime.ofInstant(tick.getRecordedAt(), ZoneOffset.UTC)
+                    : OffsetDateTime.now(ZoneOffset.UTC);
+        }
+
+        Tuple params = Tuple.tuple(List.of(
+                providers, symbols, bases, quotes, prices, eventTypes, changePcts, recordedAts));
+
+        return pool.preparedQuery(INSERT_BATCH_SQL)
+                .execute(params)
+                .invoke(rows -> log.debug("[MarketPriceTick] Lote persistido: {} ticks", rows.rowCount()))
+                .replaceWithVoid();
+    }
+
+    private List<MarketPriceTick> drain() {
+        if (!retryBatch.isEmpty()) {
+            return retryBatch;
+        }
+        synchronized (buffer) {
+            int count = Math.min(batchSize, buffer.size());
+            List<MarketPriceTick> batch = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                batch.add(buffer.pollFirst());
+            }
+            return batch;
+        }
+    }
+
+    /**
+     * Guarda el lote fallido para el siguiente flush, o lo descarta si ya agotó los reintentos.
+     */
+    private void retryLater(List<MarketPriceTick> batch, Throwable error) {
+        retryAttempts = retryBatch == batch ? retryAttempts + 1 : 1;
+        if (retryAttempts > maxRetries) {
+            log.error("[MarketPriceTick] Lote de {} ticks descartado tras {} intentos: {}",
+                    batch.size(), retryAttempts, error.getMessage());
+            failedTicks.increment(batch.size());
+            retryBatch = List.of();
+            retryAttempts = 0;
+            return;
+        }
+        log.error("[MarketPriceTick] Error persistiendo lote de {} ticks (intento {}/{}): {}",
+                batch.size(), retryAttempts, maxRetries + 1, error.getMessage());
+        retryBatch = batch;
+    }
+
+    int pendingCount() {
+        synchronized (buffer) {
+            return buffer.size() + retryBatch.size();
+        }
     }
 }
@@ -0,0 +1,187 @@
+package org.walrex.infrastructure.adapter.outbound.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.walrex.application.port.output.NotificationOutboxPort;
+import org.walrex.domain.model.OutboxNotification;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adapter de persistencia para notification_outbox.
+ *
+ * - El encolado es un solo INSERT ... ON CONFLICT sobre el índice único parcial de las
+ *   pendientes: si la clave ya tiene una PENDING se reemplaza el payload (el último gana).
+ * - Una notificación nueva sale de inmediato si no hubo envío de la misma clave en la
+ *   ventana; si lo hubo, espera hasta último envío + ventana.
+ * - El reclamo usa FOR UPDATE SKIP LOCKED y pasa las filas a SENDING, lo que libera la
+ *   clave para que nuevos eventos abran otra pendiente mientras se envía.
+ */
+@Slf4j
+@ApplicationScoped
+public class NotificationOutboxPersistenceAdapter implements NotificationOutboxPort {
+
+    private static final TypeReference<Map<String, String>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    private static final String ENQUEUE_SQL = """
+            INSERT INTO notification_outbox (coalesce_key, payload, status, not_before)
+            SELECT t.coalesce_key, t.payload::jsonb, 'PENDING',
+                   GREATEST(CURRENT_TIMESTAMP, last_sent.at + make_interval(secs => $3))
+            FROM UNNEST($1::varchar[], $2::text[]) AS t(coalesce_key, payload)
+            LEFT JOIN LATERAL (
+                SELECT max(coalesce(o.sent_at, o.updated_at)) AS at
+                FROM notification_outbox o
+                WHERE o.coalesce_key = t.coalesce_key AND o.status IN ('SENT', 'SENDING')
+            ) last_sent ON true
+            ON CONFLICT (coalesce_key) WHERE status = 'PENDING'
+            DO UPDATE SET payload = EXCLUDED.payload, updated_at = CURRENT_TIMESTAMP
+            """;
+
+    private static final String CLAIM_SQL = """
+            UPDATE notification_outbox o
+            SET status = 'SENDING', attempts = o.attempts + 1, updated_at = CURRENT_TIMESTAMP
+            WHERE o.id IN (
+                SELECT id FROM notification_outbox
+                WHERE status = 'PENDING' AND not_before <= CURRENT_TIMESTAMP
+                ORDER BY not_before
+                LIMIT $1
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING o.id, o.coalesce_key, o.payload::text AS payload, o.attempts
+            """;
+
+    private static final String MARK_SENT_SQL = """
+            UPDATE notification_outbox
+            SET status = 'SENT', sent_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP, last_error = NULL
+            WHERE id = $1
+            """;
+
+    // SUPERSEDED si después se encoló otra con la misma clave; FAILED si agotó los intentos
+    private static final String RETRY_STATUS = """
+            CASE
+                WHEN EXISTS (SELECT 1 FROM notification_outbox n
+                             WHERE n.coalesce_key = o.coalesce_key
+                               AND n.status IN ('PENDING', 'SENDING') AND n.id > o.id) THEN 'SUPERSEDED'
+                WHEN o.attempts >= $2 THEN 'FAILED'
+                ELSE 'PENDING'
+            END
+            """;
+
+    private static final String MARK_FAILED_SQL = """
+            UPDATE notification_outbox o
+            SET status = %s,
+                not_before = CURRENT_TIMESTAMP + make_interval(secs => $3),
+                last_error = left($4, 500),
+                updated_at = CURRENT_TIMESTAMP
+            WHERE o.id = $1 AND o.status = 'SENDING'
+            """.formatted(RETRY_STATUS);
+
+    private static final String REQUEUE_STUCK_SQL = """
+            UPDATE notification_outbox o
+            SET status = %s,
+                not_before = CURRENT_TIMESTAMP,
+                last_error = 'stuck in SENDING',
+                updated_at = CURRENT_TIMESTAMP
+            WHERE o.status = 'SENDING' AND o.updated_at < CURRENT_TIMESTAMP - make_interval(secs => $1)
+            """.formatted(RETRY_STATUS);
+
+    private static final String PURGE_SQL = """
+            DELETE FROM notification_outbox
+            WHERE status IN ('SENT', 'SUPERSEDED', 'FAILED')
+              AND updated_at < CURRENT_TIMESTAMP - make_interval(secs => $1)
+            """;
+
+    @Inject
+    Pool pool;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Override
+    public Uni<Void> enqueue(List<OutboxNotification> notifications, Duration window) {
+        if (notifications.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+
+        List<String> keys = new ArrayList<>();
+        List<String> payloads = new ArrayList<>();
+        for (OutboxNotification notification : notifications) {
+            try {
+                payloads.add(objectMapper.writeValueAsString(notification.data()));
+                keys.add(notification.coalesceKey());
+            } catch (JsonProcessingException e) {
+                log.error("[NotificationOutbox] Error serializando payload de {}: {}",
+                        notification.coalesceKey(), e.getMessage());
+            }
+        }
+
+        return pool.preparedQuery(ENQUEUE_SQL)
+                .execute(Tuple.of(keys.toArray(String[]::new), payloads.toArray(String[]::new),
+                        (double) window.toSeconds()))
+                .invoke(rows -> log.debug("[NotificationOutbox] Encoladas {} notificaciones", rows.rowCount()))
+                .replaceWithVoid();
+    }
+
+    @Override
+    public Uni<List<OutboxNotification>> claimDue(int limit) {
+        return pool.preparedQuery(CLAIM_SQL)
+                .execute(Tuple.of(limit))
+                .map(rows -> {
+                    List<OutboxNotification> claimed = new ArrayList<>();
+                    for (Row row : rows) {
+                        claimed.add(toDomain(row));
+                    }
+                    return claimed;
+                });
+    }
+
+    @Override
+    public Uni<Void> markSent(Long id) {
+        return pool.preparedQuery(MARK_SENT_SQL)
+                .execute(Tuple.of(id))
+                .replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Void> markFailed(Long id, String error, Duration retryAfter, int maxAttempts) {
+        return pool.preparedQuery(MARK_FAILED_SQL)
+                .execute(Tuple.of(id, maxAttempts, (double) retryAfter.toSeconds(), String.valueOf(error)))
+                .replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Integer> requeueStuck(Duration stuckAfter, int maxAttempts) {
+        return pool.preparedQuery(REQUEUE_STUCK_SQL)
+                .execute(Tuple.of((double) stuckAfter.toSeconds(), maxAttempts))
+                .map(rows -> rows.rowCount());
+    }
+
+    @Override
+    public Uni<Integer> purge(Duration olderThan) {
+        return pool.preparedQuery(PURGE_SQL)
+                .execute(Tuple.of((double) olderThan.toSeconds()))
+                .map(rows -> rows.rowCount());
+    }
+
+    private OutboxNotification toDomain(Row row) {
+        Map<String, String> data;
+        try {
+            data = objectMapper.readValue(row.getString("payload"), PAYLOAD_TYPE);
+        } catch (JsonProcessingException e) {
+            log.error("[NotificationOutbox] Payload inválido en id {}: {}", row.getLong("id"), e.getMessage());
+            data = Map.of();
+        }
+        return new OutboxNotification(row.getLong("id"), row.getString("coalesce_key"), data, row.getInteger("attempts"));
+    }
+}
@@ -9,7 +9,9 @@ import org.walrex.application.port.output.PaymentMethodQueryPort;
 import org.walrex.infrastructure.adapter.outbound.persistence.repository.CountryCurrencyPaymentMethodRepository;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -38,4 +40,20 @@ public class PaymentMethodPersistenceAdapter implements PaymentMethodQueryPort {
                 )
                 .onFailure().recoverWithItem(Collections.emptyList());
     }
+
+    @Override
+    @WithSession
+    public Uni<Map<Long, List<String>>> findAllActiveBinancePaymentCodes() {
+        return repository.findAllActiveCodesWithCountryCurrency()
+                .onItem().transform(rows -> {
+                    Map<Long, List<String>> byCountryCurrency = rows.stream()
+                            .collect(Collectors.groupingBy(
+                                    row -> (Long) row[0],
+                                    LinkedHashMap::new,
+                                    Collectors.mapping(row -> (String) row[1], Collectors.toList())));
+                    log.info("Loaded {} payment methods for {} country_currencies",
+                            rows.size(), byCountryCurrency.size());
+                    return byCountryCurrency;
+                });
+    }
 }
@@ -0,0 +1,39 @@
+package org.walrex.infrastructure.adapter.outbound.persistence;
+
+import io.smallrye.mutiny.Multi;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+
+/**
+ * Streams query results through a PostgreSQL cursor.
+ *
+ * The rows are fetched {@code fetchSize} at a time as the subscriber requests them, so a
+ * result of millions of rows never sits in memory at once. A cursor needs its own connection
+ * and transaction; both are released when the stream completes, fails or is cancelled
+ * (closing a connection with an open transaction rolls it back).
+ */
+final class PgCursorStreams {
+
+    private PgCursorStreams() {
+    }
+
+    static Multi<Row> stream(Pool pool, String sql, Tuple args, int fetchSize) {
+        return pool.getConnection()
+                .onItem().transformToMulti(connection -> connection.begin()
+                        .onItem().transformToMulti(transaction -> connection.prepare(sql)
+                                .onItem().transformToMulti(statement -> statement.createStream(fetchSize, args).toMulti())
+                                .onCompletion().call(transaction::commit))
+                        .onTermination().call(connection::close));
+    }
+
+    /**
+     * LIKE pattern for a code prefix; null matches every code.
+     */
+    static String prefixPattern(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return "%";
+        }
+        return prefix.trim().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
@@ -0,0 +1,119 @@
+package org.walrex.infrastructure.adapter.outbound.persistence;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.walrex.application.port.output.PleBookQueryPort;
+import org.walrex.domain.model.PleBook;
+import org.walrex.domain.model.PleCursor;
+import org.walrex.domain.model.PleLine;
+
+import java.time.LocalDate;
+
+/**
+ * Reads the journal lines of a period for the PLE books through a pg cursor.
+ *
+ * Libro Diario is ordered by (entry, line) and Libro Mayor by (account code, entry, line); a
+ * resumed export continues with a keyset condition on that same order. The line number within
+ * its entry is computed over the whole entry before the keyset filter, so it does not change
+ * when an export resumes in the middle of an entry.
+ */
+@Slf4j
+@ApplicationScoped
+public class PleBookPersistenceAdapter implements PleBookQueryPort {
+
+    /**
+     * $1 first day of the period, $2 first day of the next period; %s extra condition on the entries, %s keyset, %s order.
+     */
+    private static final String LINES_SQL = """
+            SELECT *
+            FROM (
+                SELECT a.code, jel.journal_entry_id, jel.id AS line_id,
+                       ROW_NUMBER() OVER (PARTITION BY jel.journal_entry_id ORDER BY jel.id) AS line_number,
+                       je.operation_number, je.entry_date,
+                       COALESCE(jel.description, je.description) AS description,
+                       jel.debit, jel.credit
+                FROM journal_entries je
+                JOIN journal_entry_lines jel ON jel.journal_entry_id = je.id
+                JOIN accounts a ON a.id = jel.account_id
+                WHERE je.status = 'ACTIVE' AND je.deleted_at IS NULL
+                  AND je.entry_date >= $1 AND je.entry_date < $2
+                  %s
+            ) l
+            %s
+            ORDER BY %s
+            """;
+
+    private static final String COUNT_SQL = """
+            SELECT COUNT(*) AS total
+            FROM journal_entries je
+            JOIN journal_entry_lines jel ON jel.journal_entry_id = je.id
+            JOIN accounts a ON a.id = jel.account_id
+            WHERE je.status = 'ACTIVE' AND je.deleted_at IS NULL
+              AND je.entry_date >= $1 AND je.entry_date < $2
+            """;
+
+    @Inject
+    Pool pool;
+
+    @ConfigProperty(name = "walrex.accounting.reports.fetch-size", defaultValue = "1000")
+    int fetchSize;
+
+    @Override
+    public Uni<Long> countLines(int year, int month) {
+        LocalDate from = LocalDate.of(year, month, 1);
+        return pool.preparedQuery(COUNT_SQL)
+                .execute(Tuple.of(from, from.plusMonths(1)))
+                .map(rows -> rows.iterator().next().getLong("total"))
+                .invoke(total -> log.debug("[PLE] {} lines in {}-{}", total, year, month));
+    }
+
+    @Override
+    public Multi<PleLine> streamLines(PleBook book, int year, int month, PleCursor after) {
+        LocalDate from = LocalDate.of(year, month, 1);
+        Tuple args = Tuple.of(from, from.plusMonths(1));
+        String sql;
+
+        if (book == PleBook.LIBRO_MAYOR) {
+            String keyset = "";
+            if (after != null) {
+                keyset = "WHERE (l.code, l.journal_entry_id, l.line_id) > ($3, $4, $5)";
+                args.addString(after.accountCode()).addInteger(after.entryId()).addInteger(after.lineId());
+            }
+            sql = LINES_SQL.formatted("", keyset, "l.code, l.journal_entry_id, l.line_id");
+        } else {
+            String entries = "";
+            String keyset = "";
+            if (after != null) {
+                // Whole entries from the last one on, so the line numbers are not affected
+                entries = "AND jel.journal_entry_id >= $3";
+                keyset = "WHERE (l.journal_entry_id, l.line_id) > ($3, $4)";
+                args.addInteger(after.entryId()).addInteger(after.lineId());
+            }
+            sql = LINES_SQL.formatted(entries, keyset, "l.journal_entry_id, l.line_id");
+        }
+        log.debug("[PLE] Streaming {} lines of {}-{} after {}", book.getFormat(), year, month, after);
+
+        return PgCursorStreams.stream(pool, sql, args, fetchSize)
+                .map(PleBookPersistenceAdapter::toLine);
+    }
+
+    private static PleLine toLine(Row row) {
+        return new PleLine(
+                row.getString("code"),
+                row.getInteger("journal_entry_id"),
+                row.getInteger("line_id"),
+                row.getLong("line_number"),
+                row.getInteger("operation_number"),
+                row.getLocalDate("entry_date"),
+                row.getString("description"),
+                row.getBigDecimal("debit"),
+                row.getBigDecimal("credit"));
+    }
+}
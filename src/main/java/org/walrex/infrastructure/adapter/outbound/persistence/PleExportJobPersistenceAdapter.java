@@ -0,0 +1,219 @@
+package org.walrex.infrastructure.adapter.outbound.persistence;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.walrex.application.port.output.PleExportJobPort;
+import org.walrex.domain.model.PleBook;
+import org.walrex.domain.model.PleCursor;
+import org.walrex.domain.model.PleExportJob;
+import org.walrex.domain.model.PleExportStatus;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Persistence adapter for ple_export_job.
+ *
+ * - Enqueue is one INSERT ... ON CONFLICT on the partial unique index of the active jobs,
+ *   so concurrent requests for the same book and period share a job.
+ * - The claim uses FOR UPDATE SKIP LOCKED and increments attempts; every later update of the
+ *   worker is guarded by that attempt number. attempts never goes back, so the number is unique
+ *   per claim; max-attempts is checked against retries, which resume resets.
+ * - Checkpoints refresh updated_at, which is what requeueStuck looks at.
+ */
+@Slf4j
+@ApplicationScoped
+public class PleExportJobPersistenceAdapter implements PleExportJobPort {
+
+    private static final String COLUMNS = """
+            id, book, period_year, period_month, status, rows_total, rows_written,
+            last_account_code, last_entry_id, last_line_id, part_bytes, part_attempt, file_name, file_path, file_size,
+            attempts, last_error, created_at, started_at, finished_at
+            """;
+
+    private static final String ENQUEUE_SQL = """
+            WITH inserted AS (
+                INSERT INTO ple_export_job (book, period_year, period_month)
+                VALUES ($1, $2, $3)
+                ON CONFLICT (book, period_year, period_month) WHERE status IN ('PENDING', 'RUNNING')
+                DO NOTHING
+                RETURNING %1$s
+            )
+            SELECT %1$s FROM inserted
+            UNION ALL
+            SELECT %1$s FROM ple_export_job
+            WHERE book = $1 AND period_year = $2 AND period_month = $3 AND status IN ('PENDING', 'RUNNING')
+            LIMIT 1
+            """.formatted(COLUMNS);
+
+    private static final String FIND_SQL = "SELECT " + COLUMNS + " FROM ple_export_job WHERE id = $1";
+
+    private static final String CLAIM_SQL = """
+            UPDATE ple_export_job j
+            SET status = 'RUNNING', attempts = j.attempts + 1, retries = j.retries + 1,
+                started_at = COALESCE(j.started_at, CURRENT_TIMESTAMP), updated_at = CURRENT_TIMESTAMP
+            WHERE j.id = (
+                SELECT id FROM ple_export_job
+                WHERE status = 'PENDING'
+                ORDER BY created_at
+                LIMIT 1
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING %s
+            """.formatted(COLUMNS);
+
+    private static final String REQUEUE_STUCK_SQL = """
+            UPDATE ple_export_job
+            SET status = CASE WHEN retries >= $2 THEN 'FAILED' ELSE 'PENDING' END,
+                last_error = 'stuck in RUNNING',
+                updated_at = CURRENT_TIMESTAMP
+            WHERE status = 'RUNNING' AND updated_at < CURRENT_TIMESTAMP - make_interval(secs => $1)
+            """;
+
+    private static final String START_SQL = """
+            UPDATE ple_export_job
+            SET rows_total = $3, updated_at = CURRENT_TIMESTAMP
+            WHERE id = $1 AND attempts = $2 AND status = 'RUNNING'
+            """;
+
+    private static final String CHECKPOINT_SQL = """
+            UPDATE ple_export_job
+            SET rows_written = $3, last_account_code = $4, last_entry_id = $5, last_line_id = $6,
+                part_bytes = $7, part_attempt = $2, updated_at = CURRENT_TIMESTAMP
+            WHERE id = $1 AND attempts = $2 AND status = 'RUNNING'
+            """;
+
+    private static final String COMPLETE_SQL = """
+            UPDATE ple_export_job
+            SET status = 'COMPLETED', file_name = $3, file_path = $4, file_size = $5, last_error = NULL,
+                finished_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP
+            WHERE id = $1 AND attempts = $2 AND status = 'RUNNING'
+            """;
+
+    private static final String FAIL_SQL = """
+            UPDATE ple_export_job
+            SET status = CASE WHEN retries >= $4 THEN 'FAILED' ELSE 'PENDING' END,
+                last_error = left($3, 500),
+                finished_at = CASE WHEN retries >= $4 THEN CURRENT_TIMESTAMP END,
+                updated_at = CURRENT_TIMESTAMP
+            WHERE id = $1 AND attempts = $2 AND status = 'RUNNING'
+            """;
+
+    private static final String RESUME_SQL = """
+            UPDATE ple_export_job j
+            SET status = 'PENDING', retries = 0, finished_at = NULL, updated_at = CURRENT_TIMESTAMP
+            WHERE j.id = $1 AND j.status = 'FAILED'
+              AND NOT EXISTS (SELECT 1 FROM ple_export_job o
+                              WHERE o.book = j.book AND o.period_year = j.period_year
+                                AND o.period_month = j.period_month AND o.status IN ('PENDING', 'RUNNING'))
+            """;
+
+    @Inject
+    Pool pool;
+
+    @Override
+    public Uni<PleExportJob> enqueue(PleBook book, int year, int month) {
+        return pool.preparedQuery(ENQUEUE_SQL)
+                .execute(Tuple.of(book.name(), year, month))
+                // Empty only if a concurrent request inserted the job after our snapshot: read it again
+                .chain(rows -> rows.rowCount() > 0
+                        ? Uni.createFrom().item(toDomain(rows.iterator().next()))
+                        : enqueue(book, year, month));
+    }
+
+    @Override
+    public Uni<Optional<PleExportJob>> findById(Long id) {
+        return pool.preparedQuery(FIND_SQL)
+                .execute(Tuple.of(id))
+                .map(PleExportJobPersistenceAdapter::first);
+    }
+
+    @Override
+    public Uni<Optional<PleExportJob>> claimNext() {
+        return pool.preparedQuery(CLAIM_SQL)
+                .execute()
+                .map(PleExportJobPersistenceAdapter::first);
+    }
+
+    @Override
+    public Uni<Integer> requeueStuck(Duration stuckAfter, int maxAttempts) {
+        return pool.preparedQuery(REQUEUE_STUCK_SQL)
+                .execute(Tuple.of((double) stuckAfter.toSeconds(), maxAttempts))
+                .map(RowSet::rowCount);
+    }
+
+    @Override
+    public Uni<Void> start(Long id, int attempt, long rowsTotal) {
+        return pool.preparedQuery(START_SQL)
+                .execute(Tuple.of(id, attempt, rowsTotal))
+                .replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Boolean> checkpoint(Long id, int attempt, long rowsWritten, PleCursor cursor, long partBytes) {
+        Tuple args = Tuple.of(id, attempt, rowsWritten)
+                .addString(cursor.accountCode())
+                .addInteger(cursor.entryId())
+                .addInteger(cursor.lineId())
+                .addLong(partBytes);
+        return pool.preparedQuery(CHECKPOINT_SQL)
+                .execute(args)
+                .map(rows -> rows.rowCount() == 1)
+                .invoke(owned -> log.debug("[PLE] Export {} checkpoint: {} lines, {} bytes", id, rowsWritten, partBytes));
+    }
+
+    @Override
+    public Uni<Boolean> complete(Long id, int attempt, String fileName, String filePath, long fileSize) {
+        return pool.preparedQuery(COMPLETE_SQL)
+                .execute(Tuple.of(id, attempt, fileName, filePath, fileSize))
+                .map(rows -> rows.rowCount() == 1);
+    }
+
+    @Override
+    public Uni<Void> fail(Long id, int attempt, String error, int maxAttempts) {
+        return pool.preparedQuery(FAIL_SQL)
+                .execute(Tuple.of(id, attempt, error, maxAttempts))
+                .replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Boolean> resume(Long id) {
+        return pool.preparedQuery(RESUME_SQL)
+                .execute(Tuple.of(id))
+                .map(rows -> rows.rowCount() == 1);
+    }
+
+    private static Optional<PleExportJob> first(RowSet<Row> rows) {
+        return rows.rowCount() == 0 ? Optional.empty() : Optional.of(toDomain(rows.iterator().next()));
+    }
+
+    private static PleExportJob toDomain(Row row) {
+        Integer lastLineId = row.getInteger("last_line_id");
+        return new PleExportJob(
+                row.getLong("id"),
+                PleBook.valueOf(row.getString("book")),
+                row.getInteger("period_year"),
+                row.getInteger("period_month"),
+                PleExportStatus.valueOf(row.getString("status")),
+                row.getLong("rows_total"),
+                row.getLong("rows_written"),
+                lastLineId == null ? null : new PleCursor(
+                        row.getString("last_account_code"), row.getInteger("last_entry_id"), lastLineId),
+                row.getLong("part_bytes"),
+                row.getInteger("part_attempt"),
+                row.getString("file_name"),
+                row.getString("file_path"),
+                row.getLong("file_size"),
+                row.getInteger("attempts"),
+                row.getString("last_error"),
+                row.getOffsetDateTime("created_at"),
+                row.getOffsetDateTime("started_at"),
+                row.getOffsetDateTime("finished_at"));
+    }
+}
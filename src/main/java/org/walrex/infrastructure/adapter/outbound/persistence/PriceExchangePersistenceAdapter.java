@@ -5,15 +5,20 @@ import io.smallrye.mutiny.Uni;
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
 import io.vertx.core.impl.ContextInternal;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Tuple;
+import io.vertx.sqlclient.data.Numeric;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.walrex.application.port.output.PriceExchangeOutputPort;
+import org.walrex.domain.model.PriceExchangeUpsert;
 import org.walrex.infrastructure.adapter.outbound.persistence.repository.PriceExchangeRepository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,6 +30,26 @@ public class PriceExchangePersistenceAdapter implements PriceExchangeOutputPort
 
     private static final String TYPE_OPERATION_REMESAS = "3";
 
+    /**
+     * Upsert por lote: un solo statement desactiva las tasas activas del día de todos los
+     * pares recibidos (UNNEST de arrays) e inserta las nuevas. No comparte sesión de
+     * Hibernate Reactive, así que puede correr junto a otras escrituras.
+     */
+    private static final String BULK_UPSERT_SQL = """
+            WITH input AS (
+                SELECT * FROM UNNEST($1::bigint[], $2::bigint[], $3::numeric[]) AS t(base, quote, price)
+            ), deactivated AS (
+                UPDATE price_exchange p SET is_active = '0'
+                FROM input i
+                WHERE p.date_exchange = $4 AND p.id_currency_base = i.base
+                  AND p.id_currency_quote = i.quote AND p.type_operation = $5 AND p.is_active = '1'
+                RETURNING p.id
+            )
+            INSERT INTO price_exchange
+                (type_operation, id_currency_base, id_currency_quote, amount_price, date_exchange, is_active, created_at)
+            SELECT $5, base, quote, price, $4, '1', NOW() FROM input
+            """;
+
     @Inject
     PriceExchangeRepository priceExchangeRepository;
 
@@ -34,6 +59,9 @@ public class PriceExchangePersistenceAdapter implements PriceExchangeOutputPort
     @Inject
     Vertx vertx;
 
+    @Inject
+    Pool pool;
+
     @Override
     public Uni<Integer> saveAverageRate(
             String currencyBaseCode,
@@ -106,6 +134,33 @@ public class PriceExchangePersistenceAdapter implements PriceExchangeOutputPort
         });
     }
 
+    @Override
+    public Uni<Integer> upsertRates(List<PriceExchangeUpsert> rates, LocalDate exchangeDate) {
+        if (rates.isEmpty()) {
+            return Uni.createFrom().item(0);
+        }
+
+        int size = rates.size();
+        Long[] bases = new Long[size];
+        Long[] quotes = new Long[size];
+        Numeric[] prices = new Numeric[size];
+        for (int i = 0; i < size; i++) {
+            PriceExchangeUpsert rate = rates.get(i);
+            bases[i] = rate.currencyBaseId().longValue();
+            quotes[i] = rate.currencyQuoteId().longValue();
+            prices[i] = Numeric.create(rate.price());
+        }
+
+        return pool.preparedQuery(BULK_UPSERT_SQL)
+                .execute(Tuple.of(bases, quotes, prices, exchangeDate, TYPE_OPERATION_REMESAS))
+                .map(rows -> rows.rowCount())
+                .invoke(count -> log.info("=== [BULK UPSERT] Inserted {} rates | date: {} ===", count, exchangeDate))
+                .onFailure().invoke(error ->
+                        log.error("=== [BULK UPSERT ERROR] {} rates | date: {} | error: {} ===",
+                                size, exchangeDate, error.getMessage(), error)
+                );
+    }
+
     @Override
     public Uni<Optional<BigDecimal>> findActiveRateByCountriesAndCurrencies(
             String fromCountryCode, String fromCurrencyCode,
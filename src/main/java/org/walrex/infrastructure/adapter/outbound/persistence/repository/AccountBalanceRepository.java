@@ -0,0 +1,138 @@
+package org.walrex.infrastructure.adapter.outbound.persistence.repository;
+
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repository for the account_period_balance materialization.
+ * Uses native SQL: the table has no entity, it is only read and upserted.
+ */
+@Slf4j
+@ApplicationScoped
+public class AccountBalanceRepository {
+
+    private static final String SELECT_COLUMNS = """
+            SELECT account_id, period_year, period_month, debit, credit, line_count
+            FROM account_period_balance
+            """;
+
+    /**
+     * Adds signed movements to the balances of a period in a single statement.
+     * Rows are locked in the given order; callers pass them sorted by account so that
+     * concurrent postings touching the same accounts cannot deadlock.
+     *
+     * @param year Period year
+     * @param month Period month
+     * @param movements Movements per account (already signed)
+     * @return Uni with the number of rows inserted or updated
+     */
+    public Uni<Integer> addMovements(int year, int month, List<Movement> movements) {
+        if (movements.isEmpty()) {
+            return Uni.createFrom().item(0);
+        }
+        log.debug("Applying {} balance movement(s) to {}-{}", movements.size(), year, month);
+
+        StringBuilder sql = new StringBuilder("""
+            INSERT INTO account_period_balance AS b
+                (account_id, period_year, period_month, debit, credit, line_count, updated_at)
+            VALUES
+            """);
+        Map<String, Object> params = new HashMap<>();
+        params.put("year", year);
+        params.put("month", month);
+
+        for (int i = 0; i < movements.size(); i++) {
+            Movement movement = movements.get(i);
+            if (i > 0) {
+                sql.append(",\n");
+            }
+            sql.append("(CAST(:account").append(i).append(" AS INTEGER), CAST(:year AS INTEGER), CAST(:month AS SMALLINT), ")
+                    .append("CAST(:debit").append(i).append(" AS NUMERIC), CAST(:credit").append(i).append(" AS NUMERIC), ")
+                    .append("CAST(:lines").append(i).append(" AS INTEGER), CURRENT_TIMESTAMP)");
+            params.put("account" + i, movement.accountId());
+            params.put("debit" + i, movement.debit());
+            params.put("credit" + i, movement.credit());
+            params.put("lines" + i, movement.lineCount());
+        }
+
+        sql.append("""
+
+            ON CONFLICT (account_id, period_year, period_month) DO UPDATE
+                SET debit      = b.debit + EXCLUDED.debit,
+                    credit     = b.credit + EXCLUDED.credit,
+                    line_count = b.line_count + EXCLUDED.line_count,
+                    updated_at = CURRENT_TIMESTAMP
+            """);
+
+        return Panache.getSession()
+                .chain(session -> {
+                    var query = session.createNativeQuery(sql.toString());
+                    params.forEach(query::setParameter);
+                    return query.executeUpdate();
+                });
+    }
+
+    /**
+     * Finds the balance row of an account in a period.
+     *
+     * @return Uni with the row, or null if the account had no movements in the period
+     */
+    public Uni<Object[]> findByAccountAndPeriod(Integer accountId, int year, int month) {
+        String sql = SELECT_COLUMNS + " WHERE account_id = ?1 AND period_year = ?2 AND period_month = ?3";
+
+        return Panache.getSession()
+                .chain(session -> session.createNativeQuery(sql, Object[].class)
+                        .setParameter(1, accountId)
+                        .setParameter(2, year)
+                        .setParameter(3, month)
+                        .getResultList())
+                .map(rows -> rows.isEmpty() ? null : rows.get(0));
+    }
+
+    /**
+     * Finds every balance row of a period, ordered by account.
+     */
+    public Uni<List<Object[]>> findByPeriod(int year, int month) {
+        String sql = SELECT_COLUMNS + " WHERE period_year = ?1 AND period_month = ?2 ORDER BY account_id";
+
+        return Panache.getSession()
+                .chain(session -> session.createNativeQuery(sql, Object[].class)
+                        .setParameter(1, year)
+                        .setParameter(2, month)
+                        .getResultList())
+                .invoke(rows -> log.debug("Found {} account balances for {}-{}", rows.size(), year, month));
+    }
+
+    /**
+     * Recomputes the balances from the journal (see rebuild_account_period_balance in V27).
+     *
+     * @param year Year to rebuild, or null for all years
+     * @return Uni with the number of rows written
+     */
+    public Uni<Integer> rebuild(Integer year) {
+        log.info("Rebuilding account balances for {}", year != null ? year : "all years");
+
+        if (year == null) {
+            return Panache.getSession()
+                    .chain(session -> session.createNativeQuery("SELECT rebuild_account_period_balance(NULL)", Integer.class)
+                            .getSingleResult());
+        }
+        return Panache.getSession()
+                .chain(session -> session.createNativeQuery("SELECT rebuild_account_period_balance(?1)", Integer.class)
+                        .setParameter(1, year)
+                        .getSingleResult());
+    }
+
+    /**
+     * Signed movement of one account.
+     */
+    public record Movement(Integer accountId, BigDecimal debit, BigDecimal credit, int lineCount) {
+    }
+}
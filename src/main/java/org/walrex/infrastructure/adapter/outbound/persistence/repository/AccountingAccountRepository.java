@@ -10,6 +10,7 @@ import org.walrex.application.dto.query.AccountingAccountFilter;
 import org.walrex.application.dto.query.PageRequest;
 import org.walrex.infrastructure.adapter.outbound.persistence.entity.AccountingAccountEntity;
 
+import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +26,15 @@ import java.util.Map;
 @ApplicationScoped
 public class AccountingAccountRepository implements PanacheRepositoryBase<AccountingAccountEntity, Integer> {
 
+    /**
+     * Campos admitidos como clave de orden en paginación keyset (ya normalizados).
+     */
+    private static final KeysetSpec<AccountingAccountEntity> KEYSET =
+            KeysetSpec.<AccountingAccountEntity>byId(AccountingAccountEntity::getId, Integer::valueOf)
+                    .sortable("code", AccountingAccountEntity::getCode, value -> value)
+                    .sortable("name", AccountingAccountEntity::getName, value -> value)
+                    .sortableNullable("createdAt", AccountingAccountEntity::getCreatedAt, OffsetDateTime::parse);
+
     /**
      * Busca cuenta activa (no eliminada) por ID.
      */
@@ -138,6 +148,25 @@ public class AccountingAccountRepository implements PanacheRepositoryBase<Accoun
         return count(query.toString(), params);
     }
 
+    /**
+     * Lista cuentas con paginación keyset (cursor) y los mismos filtros que findWithFilters.
+     * El COUNT no se ejecuta aquí; lo decide el adaptador según pageRequest.includeTotal.
+     */
+    public Uni<KeysetSpec.Slice<AccountingAccountEntity>> findKeyset(PageRequest pageRequest, AccountingAccountFilter filter) {
+        StringBuilder query = new StringBuilder("1=1");
+        Map<String, Object> params = new HashMap<>();
+
+        applyFilters(query, params, filter);
+
+        KeysetSpec<AccountingAccountEntity>.Plan plan = KEYSET.plan(pageRequest, validateAndNormalizeSortField(pageRequest.getSortBy()));
+        plan.appendWhere(query, params);
+
+        return find(query.toString(), plan.sort(), params)
+                .page(Page.ofSize(plan.fetchSize()))
+                .list()
+                .map(plan::slice);
+    }
+
     /**
      * Stream de todas las cuentas activas.
      */
@@ -54,4 +54,23 @@ public class CountryCurrencyPaymentMethodRepository
                 .project(String.class)
                 .list();
     }
+
+    /**
+     * Find all active Binance payment codes with their country_currency ID
+     *
+     * @return Uni with rows of [countryCurrencyId (Long), namePayBinance (String)]
+     */
+    public Uni<List<Object[]>> findAllActiveCodesWithCountryCurrency() {
+        return getSession()
+                .chain(session -> session.createSelectionQuery(
+                                "select ccpm.countryCurrency.id, b.namePayBinance " +
+                                "from CountryCurrencyPaymentMethodEntity ccpm " +
+                                "join ccpm.bank b " +
+                                "where ccpm.isActive = '1' " +
+                                "and b.status = '1' " +
+                                "and b.namePayBinance is not null " +
+                                "order by ccpm.countryCurrency.id, ccpm.id",
+                                Object[].class)
+                        .getResultList());
+    }
 }
@@ -10,6 +10,7 @@ import org.walrex.application.dto.query.CountryFilter;
 import org.walrex.application.dto.query.PageRequest;
 import org.walrex.infrastructure.adapter.outbound.persistence.entity.CountryEntity;
 
+import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,6 +18,15 @@ import java.util.Map;
 @ApplicationScoped
 public class CountryRepository implements PanacheRepositoryBase<CountryEntity, Integer> {
 
+    /**
+     * Campos admitidos como clave de orden en paginación keyset.
+     */
+    private static final KeysetSpec<CountryEntity> KEYSET = KeysetSpec.<CountryEntity>byId(CountryEntity::getId, Integer::valueOf)
+            .sortable("name", CountryEntity::getName, value -> value)
+            .sortable("alphabeticCode3", CountryEntity::getAlphabeticCode3, value -> value)
+            .sortable("numericCode", CountryEntity::getNumericCode, Integer::valueOf)
+            .sortableNullable("createdAt", CountryEntity::getCreatedAt, OffsetDateTime::parse);
+
     public Uni<CountryEntity> findActiveById(Integer id){
         return find("id = ?1 and status='1'", id).firstResult();
     }
@@ -145,6 +155,25 @@ public class CountryRepository implements PanacheRepositoryBase<CountryEntity, I
         return count(query.toString(), params);
     }
 
+    /**
+     * Lista países con paginación keyset (cursor) y los mismos filtros que findWithFilters.
+     * El COUNT no se ejecuta aquí; lo decide el adaptador según pageRequest.includeTotal.
+     */
+    public Uni<KeysetSpec.Slice<CountryEntity>> findKeyset(PageRequest pageRequest, CountryFilter filter) {
+        StringBuilder query = new StringBuilder("1=1");
+        Map<String, Object> params = new HashMap<>();
+
+        applyFilters(query, params, filter);
+
+        KeysetSpec<CountryEntity>.Plan plan = KEYSET.plan(pageRequest);
+        plan.appendWhere(query, params);
+
+        return find(query.toString(), plan.sort(), params)
+                .page(Page.ofSize(plan.fetchSize()))
+                .list()
+                .map(plan::slice);
+    }
+
     // ==================== Streaming ====================
 
     /**
@@ -10,6 +10,7 @@ import org.walrex.application.dto.query.CustomerFilter;
 import org.walrex.application.dto.query.PageRequest;
 import org.walrex.infrastructure.adapter.outbound.persistence.entity.CustomerEntity;
 
+import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +26,15 @@ import java.util.Map;
 @ApplicationScoped
 public class CustomerRepository implements PanacheRepositoryBase<CustomerEntity, Integer> {
 
+    /**
+     * Campos admitidos como clave de orden en paginación keyset.
+     */
+    private static final KeysetSpec<CustomerEntity> KEYSET = KeysetSpec.<CustomerEntity>byId(CustomerEntity::getId, Integer::valueOf)
+            .sortableNullable("lastName", CustomerEntity::getLastName, value -> value)
+            .sortableNullable("firstName", CustomerEntity::getFirstName, value -> value)
+            .sortableNullable("numberDocument", CustomerEntity::getNumberDocument, value -> value)
+            .sortableNullable("createdAt", CustomerEntity::getCreatedAt, OffsetDateTime::parse);
+
     /**
      * Busca cliente activo (no eliminado) por ID.
      */
@@ -125,6 +135,25 @@ public class CustomerRepository implements PanacheRepositoryBase<CustomerEntity,
         return count(query.toString(), params);
     }
 
+    /**
+     * Lista clientes con paginación keyset (cursor) y los mismos filtros que findWithFilters.
+     * El COUNT no se ejecuta aquí; lo decide el adaptador según pageRequest.includeTotal.
+     */
+    public Uni<KeysetSpec.Slice<CustomerEntity>> findKeyset(PageRequest pageRequest, CustomerFilter filter) {
+        StringBuilder query = new StringBuilder("1=1");
+        Map<String, Object> params = new HashMap<>();
+
+        applyFilters(query, params, filter);
+
+        KeysetSpec<CustomerEntity>.Plan plan = KEYSET.plan(pageRequest);
+        plan.appendWhere(query, params);
+
+        return find(query.toString(), plan.sort(), params)
+                .page(Page.ofSize(plan.fetchSize()))
+                .list()
+                .map(plan::slice);
+    }
+
     // ==================== Streaming ====================
 
     /**
@@ -18,4 +18,22 @@ public class InstitutionPayoutRailRepository implements PanacheRepositoryBase<In
                 "WHERE pr.code = ?1 AND c.alphabeticCode2 = ?2 AND ipr.status = '1'", 
                 railCode, countryIso2).list();
     }
+
+    /**
+     * Todas las filas activas con el código ISO alfa-2 del país de su institución.
+     *
+     * @return Uni con filas [InstitutionPayoutRailEntity, alphabeticCode2 (String)]
+     */
+    public Uni<List<Object[]>> findAllActiveWithCountryIso2() {
+        return getSession()
+                .chain(session -> session.createSelectionQuery(
+                                "SELECT ipr, c.alphabeticCode2 FROM InstitutionPayoutRailEntity ipr " +
+                                "JOIN FETCH ipr.bank b " +
+                                "JOIN FETCH ipr.payoutRail pr " +
+                                "JOIN CountryEntity c ON b.idCountry = c.id " +
+                                "WHERE ipr.status = '1' " +
+                                "ORDER BY ipr.id",
+                                Object[].class)
+                        .getResultList());
+    }
 }
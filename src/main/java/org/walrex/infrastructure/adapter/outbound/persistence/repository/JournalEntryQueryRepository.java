@@ -5,7 +5,11 @@ import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import lombok.extern.slf4j.Slf4j;
 import org.walrex.application.dto.query.JournalEntryFilter;
+import org.walrex.application.dto.query.PageRequest;
+import org.walrex.domain.model.AccountingBookType;
+import org.walrex.domain.model.EntryStatus;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,187 +17,139 @@ import java.util.Map;
 /**
  * Repository for JournalEntry query operations.
  * Handles read operations and correlative generation.
+ *
+ * The listing reads the page of headers first and then the lines and documents of the whole
+ * page with one query each (WHERE journal_entry_id = ANY(:ids)), instead of aggregating them
+ * per row under the pagination.
  */
 @Slf4j
 @ApplicationScoped
 public class JournalEntryQueryRepository {
 
-    /**
-     * Gets the next available book correlative for a specific book type and year.
-     * Book correlatives are sequential numbers per book type (DIARIO, VENTAS, COMPRAS) per year.
-     *
-     * @param bookType Type of accounting book (DIARIO, VENTAS, COMPRAS)
-     * @param year Year for the correlative
-     * @return Uni with the next correlative number
-     */
-    public Uni<Integer> getNextBookCorrelative(String bookType, Integer year) {
-        log.debug("Getting next book correlative for bookType: {}, year: {}", bookType, year);
-
-        String sql = """
-            SELECT COALESCE(MAX(book_correlative), 0) + 1
+    private static final String HEADER_SELECT = """
+            SELECT id, entry_date, description, operation_number, book_correlative,
+                   book_type::TEXT, status::TEXT, created_at, updated_at
             FROM journal_entries
-            WHERE book_type = ?1
-            AND EXTRACT(YEAR FROM entry_date) = ?2
+            WHERE 1=1
             """;
 
-        return Panache.getSession()
-                .chain(session -> session.createNativeQuery(sql, Integer.class)
-                        .setParameter(1, bookType)
-                        .setParameter(2, year)
-                        .getSingleResult())
-                .invoke(correlative -> log.debug("Next book correlative for {} ({}): {}",
-                        bookType, year, correlative));
-    }
+    /**
+     * Keyset keys for the listing: entry_date (default) or id, with id as tie-breaker.
+     */
+    private static final KeysetSpec<Object[]> KEYSET = KeysetSpec.<Object[]>byId(row -> row[0], Integer::valueOf)
+            .sortable("entry_date", row -> row[1], LocalDate::parse);
 
     /**
-     * Gets the next available operation number for a specific year.
-     * Operation numbers are global sequential numbers per year across all book types.
+     * Reserves {@code count} consecutive correlatives from the counter of (scope, year).
+     * Scope is "OPERATION" for operation numbers or the book type for book correlatives.
+     *
+     * The counter row stays locked until the surrounding transaction ends, so concurrent
+     * postings are serialized on it instead of reading the same MAX(...) + 1.
      *
-     * @param year Year for the operation number
-     * @return Uni with the next operation number
+     * @param scope Counter scope
+     * @param year Year for the correlatives
+     * @param count How many numbers to reserve
+     * @return Uni with the last reserved number
      */
-    public Uni<Integer> getNextOperationNumber(Integer year) {
-        log.debug("Getting next operation number for year: {}", year);
+    public Uni<Integer> allocateCorrelatives(String scope, Integer year, int count) {
+        log.debug("Allocating {} correlative(s) for scope: {}, year: {}", count, scope, year);
 
-        String sql = """
-            SELECT COALESCE(MAX(operation_number), 0) + 1
-            FROM journal_entries
-            WHERE EXTRACT(YEAR FROM entry_date) = ?1
-            """;
+        String sql = "SELECT allocate_journal_correlative(?1, ?2, ?3)";
 
         return Panache.getSession()
                 .chain(session -> session.createNativeQuery(sql, Integer.class)
-                        .setParameter(1, year)
+                        .setParameter(1, scope)
+                        .setParameter(2, year)
+                        .setParameter(3, count)
                         .getSingleResult())
-                .invoke(operationNumber -> log.debug("Next operation number for {}: {}",
-                        year, operationNumber));
+                .invoke(last -> log.debug("Allocated correlatives for {} ({}): up to {}",
+                        scope, year, last));
     }
 
     /**
-     * Finds journal entries with pagination and filtering.
+     * Finds a page of journal entry headers (no lines) with LIMIT/OFFSET.
+     * Row format: [id, entry_date, description, operation_number, book_correlative, book_type, status, created_at, updated_at]
      *
      * @param filter Filter criteria
      * @param page Page number (0-indexed)
      * @param size Page size
-     * @return Uni with list of JournalEntryEntity
+     * @return Uni with the header rows, newest first
      */
-    /**
-     * Finds journal entries with pagination using native SQL.
-     * Returns complete data aggregated in JSON to avoid Hibernate EAGER issues.
-     */
-    public Uni<List<Object[]>> findEntriesWithDetailsNative(JournalEntryFilter filter, int page, int size) {
-        log.debug("Finding journal entries with native SQL: page={}, size={}", page, size);
-
-        StringBuilder sql = new StringBuilder("""
-            SELECT
-                je.id, je.entry_date, je.description, je.operation_number,
-                je.book_correlative, je.book_type, je.status,
-                je.created_at, je.updated_at,
-                COALESCE(json_agg(
-                    json_build_object(
-                        'id', jel.id,
-                        'accountId', jel.account_id,
-                        'debit', jel.debit,
-                        'credit', jel.credit,
-                        'description', jel.description,
-                        'documents', COALESCE((
-                            SELECT json_agg(
-                                json_build_object(
-                                    'id', doc.id,
-                                    'originalFilename', doc.original_filename,
-                                    'storedFilename', doc.stored_filename,
-                                    'filePath', doc.file_path,
-                                    'mimeType', doc.mime_type,
-                                    'fileSize', doc.file_size,
-                                    'uploadedAt', doc.uploaded_at
-                                )
-                            )
-                            FROM journal_entry_documents doc
-                            WHERE doc.journal_entry_line_id = jel.id
-                        ), '[]'::json)
-                    ) ORDER BY jel.id
-                ) FILTER (WHERE jel.id IS NOT NULL), '[]'::json) as lines
-            FROM journal_entries je
-            LEFT JOIN journal_entry_lines jel ON jel.journal_entry_id = je.id
-            WHERE 1=1
-            """);
+    public Uni<List<Object[]>> findHeaders(JournalEntryFilter filter, int page, int size) {
+        log.debug("Finding journal entry headers: page={}, size={}", page, size);
 
+        StringBuilder sql = new StringBuilder(HEADER_SELECT);
         Map<String, Object> params = new HashMap<>();
         appendNativeFilters(sql, params, filter);
 
-        sql.append("""
-             GROUP BY je.id, je.entry_date, je.description, je.operation_number,
-                      je.book_correlative, je.book_type, je.status,
-                      je.created_at, je.updated_at
-             ORDER BY je.entry_date DESC, je.id DESC
-             LIMIT :limit OFFSET :offset
-            """);
-
+        sql.append(" ORDER BY entry_date DESC, id DESC LIMIT :limit OFFSET :offset");
         params.put("limit", size);
         params.put("offset", page * size);
 
-        return Panache.getSession()
-                .chain(session -> {
-                    var query = session.createNativeQuery(sql.toString(), Object[].class);
-                    params.forEach(query::setParameter);
-                    return query.getResultList();
-                })
-                .invoke(results -> log.debug("Found {} journal entries via native SQL", results.size()));
+        return nativeList(sql.toString(), params)
+                .invoke(rows -> log.debug("Found {} journal entry headers", rows.size()));
     }
 
     /**
-     * Appends filter conditions to native SQL query.
+     * Finds a page of journal entry headers with keyset pagination (cursor) and the same filters.
+     * Cost does not depend on the depth of the page: the cursor condition seeks on (entry_date, id).
+     * The COUNT is not executed here; the adapter decides based on pageRequest.includeTotal.
      */
-    private void appendNativeFilters(StringBuilder sql, Map<String, Object> params, JournalEntryFilter filter) {
-        if (filter == null) {
-            return;
-        }
-
-        // Filter by year
-        if (filter.getYear() != null) {
-            sql.append(" AND EXTRACT(YEAR FROM entry_date) = :year");
-            params.put("year", filter.getYear());
-        }
+    public Uni<KeysetSpec.Slice<Object[]>> findHeadersKeyset(JournalEntryFilter filter, PageRequest pageRequest) {
+        StringBuilder sql = new StringBuilder(HEADER_SELECT);
+        Map<String, Object> params = new HashMap<>();
+        appendNativeFilters(sql, params, filter);
 
-        // Filter by month
-        if (filter.getMonth() != null) {
-            sql.append(" AND EXTRACT(MONTH FROM entry_date) = :month");
-            params.put("month", filter.getMonth());
-        }
+        KeysetSpec<Object[]>.Plan plan = KEYSET.plan(pageRequest, keysetField(pageRequest.getSortBy()));
+        plan.appendWhere(sql, params);
 
-        // Filter by date range
-        if (filter.getDateFrom() != null) {
-            sql.append(" AND entry_date >= :dateFrom");
-            params.put("dateFrom", java.sql.Date.valueOf(filter.getDateFrom()));
-        }
+        sql.append(" ORDER BY ").append(plan.orderBy()).append(" LIMIT :limit");
+        params.put("limit", plan.fetchSize());
 
-        if (filter.getDateTo() != null) {
-            sql.append(" AND entry_date <= :dateTo");
-            params.put("dateTo", java.sql.Date.valueOf(filter.getDateTo()));
-        }
+        return nativeList(sql.toString(), params)
+                .map(plan::slice)
+                .invoke(slice -> log.debug("Found {} journal entry headers (keyset, more: {})",
+                        slice.content().size(), slice.nextCursor() != null));
+    }
 
-        // Filter by book type
-        if (filter.getBookType() != null && !filter.getBookType().isBlank()) {
-            sql.append(" AND book_type = :bookType");
-            params.put("bookType", filter.getBookType());
-        }
+    /**
+     * Finds the lines of several journal entries in one query.
+     * Row format: [id, journal_entry_id, account_id, debit, credit, description]
+     *
+     * @param entryIds Journal entry ids
+     * @return Uni with the lines ordered by entry and id
+     */
+    public Uni<List<Object[]>> findLinesByEntryIds(List<Integer> entryIds) {
+        String sql = """
+            SELECT id, journal_entry_id, account_id, debit, credit, description
+            FROM journal_entry_lines
+            WHERE journal_entry_id = ANY(:ids)
+            ORDER BY journal_entry_id, id
+            """;
 
-        // Filter by status
-        if (filter.getStatus() != null && !filter.getStatus().isBlank()) {
-            sql.append(" AND status = :status");
-            params.put("status", filter.getStatus());
-        }
+        return nativeList(sql, Map.of("ids", entryIds.toArray(Integer[]::new)))
+                .invoke(rows -> log.debug("Found {} lines for {} journal entries", rows.size(), entryIds.size()));
+    }
 
-        // Filter by search (description)
-        if (filter.getSearch() != null && !filter.getSearch().isBlank()) {
-            sql.append(" AND LOWER(description) LIKE :search");
-            params.put("search", "%" + filter.getSearch().toLowerCase() + "%");
-        }
+    /**
+     * Finds the documents attached to the lines of several journal entries in one query.
+     * Row format: [id, journal_entry_line_id, original_filename, stored_filename, file_path, mime_type, file_size, uploaded_at]
+     *
+     * @param entryIds Journal entry ids
+     * @return Uni with the documents ordered by line and id
+     */
+    public Uni<List<Object[]>> findDocumentsByEntryIds(List<Integer> entryIds) {
+        String sql = """
+            SELECT doc.id, doc.journal_entry_line_id, doc.original_filename, doc.stored_filename,
+                   doc.file_path, doc.mime_type, doc.file_size, doc.uploaded_at
+            FROM journal_entry_documents doc
+            JOIN journal_entry_lines jel ON jel.id = doc.journal_entry_line_id
+            WHERE jel.journal_entry_id = ANY(:ids)
+            ORDER BY doc.journal_entry_line_id, doc.id
+            """;
 
-        // Exclude soft-deleted by default
-        if (!"1".equals(filter.getIncludeDeleted())) {
-            sql.append(" AND deleted_at IS NULL");
-        }
+        return nativeList(sql, Map.of("ids", entryIds.toArray(Integer[]::new)))
+                .invoke(rows -> log.debug("Found {} documents for {} journal entries", rows.size(), entryIds.size()));
     }
 
     /**
@@ -205,72 +161,93 @@ public class JournalEntryQueryRepository {
     public Uni<Long> countAll(JournalEntryFilter filter) {
         log.debug("Counting journal entries with filter: {}", filter);
 
-        StringBuilder hql = new StringBuilder("SELECT COUNT(e) FROM JournalEntryEntity e WHERE 1=1");
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM journal_entries WHERE 1=1");
         Map<String, Object> params = new HashMap<>();
-
-        appendFilters(hql, params, filter);
+        appendNativeFilters(sql, params, filter);
 
         return Panache.getSession()
                 .chain(session -> {
-                    var query = session.createQuery(hql.toString(), Long.class);
+                    var query = session.createNativeQuery(sql.toString(), Long.class);
                     params.forEach(query::setParameter);
                     return query.getSingleResult();
                 })
                 .invoke(count -> log.debug("Total journal entries: {}", count));
     }
 
+    private Uni<List<Object[]>> nativeList(String sql, Map<String, Object> params) {
+        return Panache.getSession()
+                .chain(session -> {
+                    var query = session.createNativeQuery(sql, Object[].class);
+                    params.forEach(query::setParameter);
+                    return query.getResultList();
+                });
+    }
+
+    /**
+     * Maps the sortBy of the request to the column used as keyset key.
+     */
+    private static String keysetField(String sortBy) {
+        if (sortBy == null || sortBy.isBlank() || "entryDate".equalsIgnoreCase(sortBy)) {
+            return "entry_date";
+        }
+        return sortBy;
+    }
+
     /**
-     * Appends filter conditions to HQL query.
+     * Appends filter conditions to native SQL query.
+     * Year and month become a date range when possible, so an index on entry_date can be used.
      */
-    private void appendFilters(StringBuilder hql, Map<String, Object> params, JournalEntryFilter filter) {
+    private void appendNativeFilters(StringBuilder sql, Map<String, Object> params, JournalEntryFilter filter) {
         if (filter == null) {
             return;
         }
 
-        // Filter by year
+        // Filter by year / month
         if (filter.getYear() != null) {
-            hql.append(" AND EXTRACT(YEAR FROM e.entryDate) = :year");
-            params.put("year", filter.getYear());
-        }
-
-        // Filter by month
-        if (filter.getMonth() != null) {
-            hql.append(" AND EXTRACT(MONTH FROM e.entryDate) = :month");
+            LocalDate start = filter.getMonth() != null
+                    ? LocalDate.of(filter.getYear(), filter.getMonth(), 1)
+                    : LocalDate.of(filter.getYear(), 1, 1);
+            LocalDate end = filter.getMonth() != null ? start.plusMonths(1) : start.plusYears(1);
+            sql.append(" AND entry_date >= :periodStart AND entry_date < :periodEnd");
+            params.put("periodStart", start);
+            params.put("periodEnd", end);
+        } else if (filter.getMonth() != null) {
+            sql.append(" AND EXTRACT(MONTH FROM entry_date) = :month");
             params.put("month", filter.getMonth());
         }
 
         // Filter by date range
         if (filter.getDateFrom() != null) {
-            hql.append(" AND e.entryDate >= :dateFrom");
-            params.put("dateFrom", java.sql.Date.valueOf(filter.getDateFrom()));
+            sql.append(" AND entry_date >= :dateFrom");
+            params.put("dateFrom", filter.getDateFrom());
         }
 
         if (filter.getDateTo() != null) {
-            hql.append(" AND e.entryDate <= :dateTo");
-            params.put("dateTo", java.sql.Date.valueOf(filter.getDateTo()));
+            sql.append(" AND entry_date <= :dateTo");
+            params.put("dateTo", filter.getDateTo());
         }
 
         // Filter by book type
         if (filter.getBookType() != null && !filter.getBookType().isBlank()) {
-            hql.append(" AND e.bookType = :bookType");
-            params.put("bookType", org.walrex.domain.model.AccountingBookType.valueOf(filter.getBookType()));
+            sql.append(" AND book_type = CAST(:bookType AS accounting_book_type)");
+            params.put("bookType", AccountingBookType.valueOf(filter.getBookType()).name());
         }
 
         // Filter by status
         if (filter.getStatus() != null && !filter.getStatus().isBlank()) {
-            hql.append(" AND e.status = :status");
-            params.put("status", org.walrex.domain.model.EntryStatus.valueOf(filter.getStatus()));
+            sql.append(" AND status = CAST(:status AS entry_status)");
+            params.put("status", EntryStatus.valueOf(filter.getStatus()).name());
         }
 
         // Filter by search (description)
         if (filter.getSearch() != null && !filter.getSearch().isBlank()) {
-            hql.append(" AND LOWER(e.description) LIKE :search");
+            sql.append(" AND LOWER(description) LIKE :search");
             params.put("search", "%" + filter.getSearch().toLowerCase() + "%");
         }
 
         // Exclude soft-deleted by default
         if (!"1".equals(filter.getIncludeDeleted())) {
-            hql.append(" AND e.deletedAt IS NULL");
+            sql.append(" AND deleted_at IS NULL");
         }
     }
 }
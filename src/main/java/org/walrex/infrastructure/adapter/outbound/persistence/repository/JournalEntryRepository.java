@@ -1,14 +1,18 @@
 package org.walrex.infrastructure.adapter.outbound.persistence.repository;
 
+import io.quarkus.hibernate.reactive.panache.Panache;
 import io.quarkus.hibernate.reactive.panache.PanacheRepositoryBase;
 import io.smallrye.mutiny.Uni;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
+import org.walrex.domain.model.EntryStatus;
 import org.walrex.infrastructure.adapter.outbound.persistence.entity.JournalEntryEntity;
 import org.walrex.infrastructure.adapter.outbound.persistence.entity.JournalEntryLineEntity;
 import org.walrex.infrastructure.adapter.outbound.persistence.mapper.JournalEntryMapper;
 
+import java.time.OffsetDateTime;
+
 /**
  * Repository for JournalEntry persistence operations.
  *
@@ -45,4 +49,55 @@ public class JournalEntryRepository implements PanacheRepositoryBase<JournalEntr
         return persist(entity)
                 .invoke(saved -> log.debug("Journal entry persisted with id: {}", saved.getId()));
     }
+
+    /**
+     * Marks an active, non-deleted entry as VOIDED.
+     *
+     * @param id Journal entry ID
+     * @return Uni with true if the entry changed state
+     */
+    public Uni<Boolean> voidEntry(Integer id) {
+        return update("status = ?1, updatedAt = ?2 where id = ?3 and status = ?4 and deletedAt is null",
+                EntryStatus.VOIDED, OffsetDateTime.now(), id, EntryStatus.ACTIVE)
+                .map(updated -> updated > 0);
+    }
+
+    /**
+     * Sets deletedAt on a non-deleted entry.
+     *
+     * The status is returned by the same UPDATE, so it is the one the row had when this
+     * statement got its lock: a void committed just before is seen here, not missed.
+     *
+     * @param id Journal entry ID
+     * @return Uni with the status of the deleted entry, or null if nothing was deleted
+     */
+    public Uni<EntryStatus> softDelete(Integer id) {
+        return updateReturningStatus("""
+                UPDATE journal_entries SET deleted_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP
+                WHERE id = ?1 AND deleted_at IS NULL
+                RETURNING CAST(status AS TEXT)
+                """, id);
+    }
+
+    /**
+     * Clears deletedAt on a deleted entry.
+     *
+     * @param id Journal entry ID
+     * @return Uni with the status of the restored entry, or null if nothing was restored
+     */
+    public Uni<EntryStatus> restore(Integer id) {
+        return updateReturningStatus("""
+                UPDATE journal_entries SET deleted_at = NULL, updated_at = CURRENT_TIMESTAMP
+                WHERE id = ?1 AND deleted_at IS NOT NULL
+                RETURNING CAST(status AS TEXT)
+                """, id);
+    }
+
+    private Uni<EntryStatus> updateReturningStatus(String sql, Integer id) {
+        return Panache.getSession()
+                .chain(session -> session.createNativeQuery(sql, String.class)
+                        .setParameter(1, id)
+                        .getResultList())
+                .map(rows -> rows.isEmpty() ? null : EntryStatus.fromString(rows.get(0)));
+    }
 }
@@ -0,0 +1,287 @@
+package org.walrex.infrastructure.adapter.outbound.persistence.repository;
+
+import io.quarkus.panache.common.Sort;
+import org.walrex.application.dto.query.PageRequest;
+import org.walrex.domain.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Paginación keyset (por cursor) para repositorios Panache.
+ *
+ * En vez de OFFSET, cada página continúa después de la última fila de la anterior
+ * usando la clave de orden más el id como desempate:
+ * <pre>
+ *   ASC:  campo >= :v AND (campo > :v OR id > :id)   ORDER BY campo, id
+ *   DESC: campo <= :v AND (campo < :v OR id < :id)   ORDER BY campo DESC, id DESC
+ * </pre>
+ * La forma con el rango explícito deja usar un índice (campo, id) a cualquier profundidad.
+ * Para columnas que admiten NULL se usa una condición equivalente que respeta el orden de
+ * PostgreSQL (NULLS LAST en ASC, NULLS FIRST en DESC).
+ *
+ * Cada repositorio declara qué campos se pueden usar como clave; el cursor es opaco para
+ * el cliente (Base64 URL) e incluye el campo y la dirección, así que no se puede reutilizar
+ * con otro orden. Dentro del cursor cada campo va con su longitud delante ({@code 5:Pérez},
+ * {@code -} para NULL), así que un valor puede contener cualquier carácter.
+ *
+ * @param <E> Entidad del repositorio
+ */
+public final class KeysetSpec<E> {
+
+    private static final String VERSION = "k2";
+    private static final int CURSOR_FIELDS = 5;
+    private static final char NULL_FIELD = '-';
+    private static final char LENGTH_SEPARATOR = ':';
+
+    private final String idField;
+    private final Function<E, Object> idOf;
+    private final Function<String, Object> idParser;
+    private final Map<String, Key<E>> keys = new LinkedHashMap<>();
+
+    private KeysetSpec(String idField, Function<E, Object> idOf, Function<String, Object> idParser) {
+        this.idField = idField;
+        this.idOf = idOf;
+        this.idParser = idParser;
+    }
+
+    /**
+     * Crea la definición con el id como desempate (y como clave de orden por defecto).
+     */
+    public static <E> KeysetSpec<E> byId(Function<E, Object> idOf, Function<String, Object> idParser) {
+        return new KeysetSpec<>("id", idOf, idParser);
+    }
+
+    /**
+     * Registra un campo ordenable NOT NULL.
+     */
+    public KeysetSpec<E> sortable(String field, Function<E, Object> valueOf, Function<String, Object> parser) {
+        keys.put(field.toLowerCase(Locale.ROOT), new Key<>(field, valueOf, parser, false));
+        return this;
+    }
+
+    /**
+     * Registra un campo ordenable que admite NULL.
+     */
+    public KeysetSpec<E> sortableNullable(String field, Function<E, Object> valueOf, Function<String, Object> parser) {
+        keys.put(field.toLowerCase(Locale.ROOT), new Key<>(field, valueOf, parser, true));
+        return this;
+    }
+
+    /**
+     * Resuelve el orden pedido y decodifica el cursor.
+     *
+     * @throws InvalidCursorException si el campo no admite keyset o el cursor no es válido para este orden
+     */
+    public Plan plan(PageRequest pageRequest) {
+        return plan(pageRequest, pageRequest.getSortBy());
+    }
+
+    /**
+     * Igual que {@link #plan(PageRequest)} con el campo de orden ya normalizado por el repositorio.
+     */
+    public Plan plan(PageRequest pageRequest, String sortField) {
+        String sortBy = sortField == null || sortField.isBlank() ? idField : sortField;
+        boolean descending = pageRequest.getSortDirection() == PageRequest.SortDirection.DESCENDING;
+
+        Key<E> key = null;
+        if (!sortBy.equalsIgnoreCase(idField)) {
+            key = keys.get(sortBy.toLowerCase(Locale.ROOT));
+            if (key == null) {
+                throw new InvalidCursorException("sortBy '" + sortBy + "' is not supported with cursor pagination; use one of "
+                        + allowedFields());
+            }
+        }
+
+        Position position = decode(pageRequest.getCursor(), key, descending);
+        return new Plan(key, descending, position, Math.max(1, pageRequest.getSize()));
+    }
+
+    private List<String> allowedFields() {
+        List<String> fields = new ArrayList<>();
+        fields.add(idField);
+        keys.values().forEach(key -> fields.add(key.field()));
+        return fields;
+    }
+
+    private Position decode(String cursor, Key<E> key, boolean descending) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        List<String> parts;
+        try {
+            parts = readFields(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+        String field = key == null ? idField : key.field();
+        if (parts.size() != CURSOR_FIELDS || !VERSION.equals(parts.get(0)) || !field.equals(parts.get(1))
+                || !(descending ? "d" : "a").equals(parts.get(2))) {
+            throw new InvalidCursorException("Cursor does not match the requested sort; start again without cursor");
+        }
+        try {
+            Object value = key == null || parts.get(3) == null ? null : key.parser().apply(parts.get(3));
+            return new Position(value, idParser.apply(parts.get(4)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+
+    private String encode(Key<E> key, boolean descending, E last) {
+        Object value = key == null ? null : key.valueOf().apply(last);
+        StringBuilder raw = new StringBuilder();
+        writeField(raw, VERSION);
+        writeField(raw, key == null ? idField : key.field());
+        writeField(raw, descending ? "d" : "a");
+        writeField(raw, value == null ? null : value.toString());
+        writeField(raw, String.valueOf(idOf.apply(last)));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeField(StringBuilder raw, String value) {
+        if (value == null) {
+            raw.append(NULL_FIELD);
+            return;
+        }
+        raw.append(value.length()).append(LENGTH_SEPARATOR).append(value);
+    }
+
+    /**
+     * Lee los campos {@code longitud:valor} (o {@code -} para NULL) de un cursor decodificado.
+     *
+     * @throws IllegalArgumentException si el texto no tiene ese formato
+     */
+    private static List<String> readFields(String raw) {
+        List<String> fields = new ArrayList<>();
+        int position = 0;
+        while (position < raw.length() && fields.size() <= CURSOR_FIELDS) {
+            if (raw.charAt(position) == NULL_FIELD) {
+                fields.add(null);
+                position++;
+                continue;
+            }
+            int separator = raw.indexOf(LENGTH_SEPARATOR, position);
+            if (separator <= position || separator - position > 9) {
+                throw new IllegalArgumentException("Malformed cursor field");
+            }
+            int length = Integer.parseInt(raw, position, separator, 10);
+            int end = separator + 1 + length;
+            if (length < 0 || end > raw.length()) {
+                throw new IllegalArgumentException("Malformed cursor field");
+            }
+            fields.add(raw.substring(separator + 1, end));
+            position = end;
+        }
+        return fields;
+    }
+
+    private record Key<E>(String field, Function<E, Object> valueOf, Function<String, Object> parser, boolean nullable) {
+    }
+
+    private record Position(Object value, Object id) {
+    }
+
+    /**
+     * Consulta keyset resuelta para una petición concreta.
+     */
+    public final class Plan {
+
+        private final Key<E> key;
+        private final boolean descending;
+        private final Position after;
+        private final int size;
+
+        private Plan(Key<E> key, boolean descending, Position after, int size) {
+            this.key = key;
+            this.descending = descending;
+            this.after = after;
+            this.size = size;
+        }
+
+        /**
+         * Añade la condición "después del cursor" a una consulta Panache que ya tiene sus filtros.
+         */
+        public void appendWhere(StringBuilder query, Map<String, Object> params) {
+            if (after == null) {
+                return;
+            }
+            String idOp = descending ? "<" : ">";
+            params.put("keysetId", after.id());
+
+            if (key == null) {
+                query.append(" and ").append(idField).append(' ').append(idOp).append(" :keysetId");
+                return;
+            }
+
+            String field = key.field();
+            if (after.value() == null) {
+                // Solo ocurre con columnas nullable: los NULL van al final en ASC y al principio en DESC
+                query.append(descending
+                        ? " and (" + field + " is not null or " + idField + " < :keysetId)"
+                        : " and (" + field + " is null and " + idField + " > :keysetId)");
+                return;
+            }
+
+            params.put("keysetValue", after.value());
+            String rangeOp = descending ? "<=" : ">=";
+            String strictOp = descending ? "<" : ">";
+            String condition = "(" + field + " " + rangeOp + " :keysetValue and (" + field + " " + strictOp
+                    + " :keysetValue or " + idField + " " + idOp + " :keysetId))";
+            if (key.nullable() && !descending) {
+                condition = "(" + condition + " or " + field + " is null)";
+            }
+            query.append(" and ").append(condition);
+        }
+
+        public Sort sort() {
+            Sort.Direction direction = descending ? Sort.Direction.Descending : Sort.Direction.Ascending;
+            if (key == null) {
+                return Sort.by(idField, direction);
+            }
+            return Sort.by(key.field(), direction).and(idField, direction);
+        }
+
+        /**
+         * Igual que {@link #sort()} como cláusula ORDER BY, para consultas SQL nativas
+         * (los campos registrados deben ser entonces nombres de columna).
+         */
+        public String orderBy() {
+            String direction = descending ? " DESC" : " ASC";
+            if (key == null) {
+                return idField + direction;
+            }
+            String nulls = key.nullable() ? (descending ? " NULLS FIRST" : " NULLS LAST") : "";
+            return key.field() + direction + nulls + ", " + idField + direction;
+        }
+
+        /**
+         * Filas a pedir: una más que el tamaño de página para saber si hay siguiente.
+         */
+        public int fetchSize() {
+            return size + 1;
+        }
+
+        /**
+         * Recorta la fila extra y calcula el cursor de la página siguiente.
+         */
+        public Slice<E> slice(List<E> rows) {
+            if (rows.size() <= size) {
+                return new Slice<>(rows, null);
+            }
+            List<E> page = rows.subList(0, size);
+            return new Slice<>(List.copyOf(page), encode(key, descending, page.get(size - 1)));
+        }
+    }
+
+    /**
+     * Página keyset: filas y cursor de la siguiente (null si es la última).
+     */
+    public record Slice<E>(List<E> content, String nextCursor) {
+    }
+}
@@ -25,6 +25,9 @@ import java.util.stream.Collectors;
 @RegisterForReflection
 public class BinanceExchangeRateAdapter implements ExchangeRateProviderPort {
 
+    private static final int DEFAULT_PAGE = 1;
+    private static final int DEFAULT_ROWS = 10;
+
     @RestClient
     BinanceP2PRestClient binanceClient;
 
@@ -39,49 +42,7 @@ public class BinanceExchangeRateAdapter implements ExchangeRateProviderPort {
         log.info("Fetching exchange rates from Binance P2P: asset={}, fiat={}, tradeType={}",
                 asset, fiat, tradeType);
 
-        BinanceP2PRequest request = BinanceP2PRequest.builder()
-                .additionalKycVerifyFilter(0)
-                .asset(asset)
-                .classifies(List.of("mass", "profession", "fiat_trade"))
-                .countries(Collections.emptyList())
-                .fiat(fiat)
-                .filterType("all")
-                .page(1)
-                .payTypes(payTypes != null ? payTypes : Collections.emptyList())
-                .periods(Collections.emptyList())
-                .proMerchantAds(false)
-                .publisherType(null)
-                .rows(10)
-                .shieldMerchantAds(false)
-                .tradeType(tradeType)
-                .transAmount(transAmount)
-                .build();
-
-        // Headers para evitar compresión gzip que causa problemas de parsing
-        return binanceClient.searchP2POrders(
-                "identity",  // No gzip, solo identidad
-                "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36",  // User agent
-                "application/json",  // Accept
-                request
-        ).map(response -> {
-                    if (response == null || response.getData() == null) {
-                        log.warn("Empty response from Binance P2P API");
-                        return Collections.<ExchangeRate>emptyList();
-                    }
-
-                    // Filtrar y transformar los datos
-                    List<ExchangeRate> rates = response.getData().stream()
-                            .filter(this::isValidP2PData)
-                            .map(data -> mapToExchangeRate(data, asset, fiat, tradeType))
-                            .collect(Collectors.toList());
-
-                    log.info("Fetched {} exchange rates from Binance P2P", rates.size());
-                    return rates;
-                })
-                .onFailure().invoke(error ->
-                        log.error("Error fetching rates from Binance P2P: {}", error.getMessage(), error)
-                )
-                .onFailure().recoverWithItem(Collections.emptyList());
+        return search(asset, fiat, tradeType, payTypes, transAmount, null, DEFAULT_PAGE, DEFAULT_ROWS);
     }
 
     @Override
@@ -96,6 +57,38 @@ public class BinanceExchangeRateAdapter implements ExchangeRateProviderPort {
         log.info("Fetching exchange rates from Binance P2P: asset={}, fiat={}, tradeType={}, transCryptoAmount={}",
                 asset, fiat, tradeType, transCryptoAmount);
 
+        return search(asset, fiat, tradeType, payTypes, transAmount, transCryptoAmount, DEFAULT_PAGE, DEFAULT_ROWS);
+    }
+
+    @Override
+    public Uni<List<ExchangeRate>> fetchOrderBookPage(
+            String asset,
+            String fiat,
+            String tradeType,
+            List<String> payTypes,
+            int page,
+            int rows) {
+
+        log.info("Fetching order book page from Binance P2P: asset={}, fiat={}, tradeType={}, page={}, rows={}",
+                asset, fiat, tradeType, page, rows);
+
+        return search(asset, fiat, tradeType, payTypes, null, null, page, rows);
+    }
+
+    /**
+     * Ejecuta la búsqueda de anuncios en Binance P2P y mapea el resultado al dominio.
+     * Ante cualquier error devuelve lista vacía.
+     */
+    private Uni<List<ExchangeRate>> search(
+            String asset,
+            String fiat,
+            String tradeType,
+            List<String> payTypes,
+            BigDecimal transAmount,
+            BigDecimal transCryptoAmount,
+            int page,
+            int rows) {
+
         BinanceP2PRequest request = BinanceP2PRequest.builder()
                 .additionalKycVerifyFilter(0)
                 .asset(asset)
@@ -103,12 +96,12 @@ public class BinanceExchangeRateAdapter implements ExchangeRateProviderPort {
                 .countries(Collections.emptyList())
                 .fiat(fiat)
                 .filterType("all")
-                .page(1)
+                .page(page)
                 .payTypes(payTypes != null ? payTypes : Collections.emptyList())
                 .periods(Collections.emptyList())
                 .proMerchantAds(false)
                 .publisherType(null)
-                .rows(10)
+                .rows(rows)
                 .shieldMerchantAds(false)
                 .tradeType(tradeType)
                 .transAmount(transAmount)
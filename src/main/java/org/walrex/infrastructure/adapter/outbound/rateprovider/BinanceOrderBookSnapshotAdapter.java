@@ -0,0 +1,209 @@
+package org.walrex.infrastructure.adapter.outbound.rateprovider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.scheduler.Scheduled;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.walrex.application.port.output.ExchangeRateProviderPort;
+import org.walrex.application.port.output.OrderBookSnapshotPort;
+import org.walrex.domain.model.ExchangeRate;
+import org.walrex.domain.model.LiquidityLadder;
+import org.walrex.infrastructure.adapter.outbound.cache.SingleFlight;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Snapshot store en memoria del order book de Binance P2P.
+ *
+ * Cada clave (asset, fiat, tradeType, payTypes) guarda una {@link LiquidityLadder} construida
+ * con varias páginas del order book sin filtro de monto, de modo que cualquier monto se
+ * resuelve localmente. Lecturas:
+ * - Snapshot fresco (edad <= fresh-seconds) → se sirve directo.
+ * - Snapshot stale (edad <= max-stale-seconds) → se sirve y se dispara un refresco en segundo plano.
+ * - Sin snapshot o demasiado viejo → se espera un fetch a Binance.
+ *
+ * Un scheduler refresca todas las claves activas con cadencia configurable, de modo que
+ * la latencia de cotización no dependa de la red. Si Binance falla (el adapter devuelve
+ * lista vacía) se conserva el snapshot anterior.
+ */
+@Slf4j
+@ApplicationScoped
+public class BinanceOrderBookSnapshotAdapter implements OrderBookSnapshotPort {
+
+    @ConfigProperty(name = "binance.p2p.snapshot.fresh-seconds", defaultValue = "20")
+    long freshSeconds;
+
+    @ConfigProperty(name = "binance.p2p.snapshot.max-stale-seconds", defaultValue = "300")
+    long maxStaleSeconds;
+
+    @ConfigProperty(name = "binance.p2p.snapshot.idle-eviction-minutes", defaultValue = "30")
+    long idleEvictionMinutes;
+
+    @ConfigProperty(name = "binance.p2p.snapshot.pages", defaultValue = "3")
+    int pages;
+
+    @ConfigProperty(name = "binance.p2p.snapshot.rows-per-page", defaultValue = "20")
+    int rowsPerPage;
+
+    @Inject
+    ExchangeRateProviderPort exchangeRateProvider;
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<SnapshotKey, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<SnapshotKey, Instant> lastAccess = new ConcurrentHashMap<>();
+    private SingleFlight<SnapshotKey, LiquidityLadder> refreshes;
+
+    @PostConstruct
+    void init() {
+        this.refreshes = new SingleFlight<>("p2p-snapshot-refresh", meterRegistry);
+    }
+
+    @Override
+    public Uni<LiquidityLadder> getLadder(String asset, String fiat, String tradeType, List<String> payTypes) {
+        SnapshotKey key = SnapshotKey.of(asset, fiat, tradeType, payTypes);
+        Instant now = Instant.now();
+        lastAccess.put(key, now);
+
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null) {
+            Duration age = Duration.between(snapshot.fetchedAt(), now);
+            if (age.compareTo(Duration.ofSeconds(freshSeconds)) <= 0) {
+                return Uni.createFrom().item(snapshot.ladder());
+            }
+            if (age.compareTo(Duration.ofSeconds(maxStaleSeconds)) <= 0) {
+                log.debug("[P2PSnapshot] {} stale ({}s) — sirviendo y refrescando en segundo plano",
+                        key, age.toSeconds());
+                refresh(key).subscribe().with(
+                        ladder -> { },
+                        e -> log.warn("[P2PSnapshot] Error refrescando {}: {}", key, e.getMessage()));
+                return Uni.createFrom().item(snapshot.ladder());
+            }
+        }
+
+        log.debug("[P2PSnapshot] {} sin snapshot utilizable — esperando fetch", key);
+        return refresh(key);
+    }
+
+    /**
+     * Refresca todas las claves consultadas recientemente y descarta las inactivas.
+     */
+    @Scheduled(every = "${binance.p2p.snapshot.refresh-every:15s}",
+               delay = 15, delayUnit = java.util.concurrent.TimeUnit.SECONDS,
+               concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    Uni<Void> refreshAll() {
+        evictIdle();
+
+        if (lastAccess.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+
+        List<Uni<LiquidityLadder>> pending = lastAccess.keySet().stream()
+                .map(key -> refresh(key)
+                        .onFailure().invoke(e ->
+                                log.warn("[P2PSnapshot] Error refrescando {}: {}", key, e.getMessage()))
+                        .onFailure().recoverWithItem(LiquidityLadder.empty(key.tradeType())))
+                .toList();
+
+        return Uni.combine().all().unis(pending).discardItems()
+                .invoke(() -> log.debug("[P2PSnapshot] Refrescadas {} claves", pending.size()));
+    }
+
+    /**
+     * Lanza (o reutiliza) el fetch en curso para la clave. Nunca hay dos fetches
+     * simultáneos para la misma clave.
+     */
+    private Uni<LiquidityLadder> refresh(SnapshotKey key) {
+        return refreshes.execute(key, () -> fetchOrderBook(key).map(ads -> store(key, ads)));
+    }
+
+    /**
+     * Consulta en paralelo las primeras páginas del order book y las une sin duplicados.
+     * Un anuncio que cambia de página entre consultas se detecta por su advNo; los que
+     * llegan sin advNo no se pueden comparar y se conservan todos.
+     */
+    private Uni<List<ExchangeRate>> fetchOrderBook(SnapshotKey key) {
+        List<Uni<List<ExchangeRate>>> pageFetches = IntStream.rangeClosed(1, Math.max(1, pages))
+                .mapToObj(page -> exchangeRateProvider.fetchOrderBookPage(
+                        key.asset(), key.fiat(), key.tradeType(), key.payTypes(), page, rowsPerPage))
+                .toList();
+
+        return Uni.combine().all().unis(pageFetches).with(results -> {
+            Set<String> seenAdvNos = new HashSet<>();
+            List<ExchangeRate> ads = new ArrayList<>();
+            for (Object result : results) {
+                @SuppressWarnings("unchecked")
+                List<ExchangeRate> pageAds = (List<ExchangeRate>) result;
+                for (ExchangeRate ad : pageAds) {
+                    if (ad.advNo() == null || seenAdvNos.add(ad.advNo())) {
+                        ads.add(ad);
+                    }
+                }
+            }
+            return List.copyOf(ads);
+        });
+    }
+
+    /**
+     * Guarda el resultado del fetch. Una lista vacía se interpreta como fallo del proveedor
+     * y conserva el snapshot anterior mientras no supere max-stale-seconds.
+     */
+    private LiquidityLadder store(SnapshotKey key, List<ExchangeRate> ads) {
+        if (ads != null && !ads.isEmpty()) {
+            LiquidityLadder ladder = LiquidityLadder.of(key.tradeType(), ads);
+            snapshots.put(key, new Snapshot(ladder, Instant.now()));
+            return ladder;
+        }
+
+        Snapshot previous = snapshots.get(key);
+        if (previous != null
+                && Duration.between(previous.fetchedAt(), Instant.now())
+                        .compareTo(Duration.ofSeconds(maxStaleSeconds)) <= 0) {
+            log.warn("[P2PSnapshot] {} fetch vacío — conservando snapshot de {}", key, previous.fetchedAt());
+            return previous.ladder();
+        }
+        return LiquidityLadder.empty(key.tradeType());
+    }
+
+    private void evictIdle() {
+        Instant threshold = Instant.now().minus(Duration.ofMinutes(idleEvictionMinutes));
+        lastAccess.entrySet().removeIf(entry -> {
+            if (entry.getValue().isBefore(threshold)) {
+                snapshots.remove(entry.getKey());
+                log.debug("[P2PSnapshot] Clave inactiva descartada: {}", entry.getKey());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private record Snapshot(LiquidityLadder ladder, Instant fetchedAt) {
+    }
+
+    private record SnapshotKey(String asset, String fiat, String tradeType, List<String> payTypes) {
+
+        static SnapshotKey of(String asset, String fiat, String tradeType, List<String> payTypes) {
+            List<String> normalizedPayTypes = payTypes == null
+                    ? List.of()
+                    : payTypes.stream().sorted().toList();
+            return new SnapshotKey(
+                    asset.toUpperCase(Locale.ROOT),
+                    fiat.toUpperCase(Locale.ROOT),
+                    tradeType.toUpperCase(Locale.ROOT),
+                    normalizedPayTypes);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.walrex.infrastructure.adapter.outbound.rateprovider;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Uni;
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.walrex.application.port.output.ExchangeRateProviderPort;
+import org.walrex.domain.model.ExchangeRate;
+import org.walrex.infrastructure.adapter.outbound.cache.SingleFlight;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Decorador CDI que coalesce consultas idénticas concurrentes a {@link ExchangeRateProviderPort}.
+ *
+ * Dos llamadas comparten el mismo fetch en curso si coinciden en asset, fiat, tradeType,
+ * payTypes y en el bucket del monto (el monto redondeado a N dígitos significativos).
+ * El fetch compartido usa el monto exacto del primer llamador, así que cada llamador vuelve a
+ * filtrar el resultado por su propio monto: con buckets de 1000, una consulta por 1049 no
+ * debe recibir anuncios cuyo máximo sea 1000.
+ *
+ * Las páginas del order book no se coalescen aquí: el snapshot P2P ya garantiza un único
+ * refresco en curso por clave.
+ */
+@Decorator
+@Priority(10)
+public class CoalescingExchangeRateProviderDecorator implements ExchangeRateProviderPort {
+
+    private final ExchangeRateProviderPort delegate;
+    private final SingleFlight<RequestKey, List<ExchangeRate>> singleFlight;
+    private final MathContext amountBucket;
+
+    @Inject
+    public CoalescingExchangeRateProviderDecorator(
+            @Delegate ExchangeRateProviderPort delegate,
+            MeterRegistry meterRegistry,
+            @ConfigProperty(name = "binance.p2p.coalescing.amount-bucket-digits", defaultValue = "2")
+            int amountBucketDigits) {
+        this.delegate = delegate;
+        this.singleFlight = new SingleFlight<>("exchange-rate-provider", meterRegistry);
+        this.amountBucket = new MathContext(amountBucketDigits, RoundingMode.HALF_UP);
+    }
+
+    @Override
+    public Uni<List<ExchangeRate>> fetchExchangeRates(
+            String asset,
+            String fiat,
+            String tradeType,
+            List<String> payTypes,
+            BigDecimal transAmount) {
+
+        RequestKey key = RequestKey.of(asset, fiat, tradeType, payTypes,
+                bucket(transAmount), null);
+        return singleFlight.execute(key, () ->
+                        delegate.fetchExchangeRates(asset, fiat, tradeType, payTypes, transAmount))
+                .map(ads -> acceptedFor(ads, transAmount, null));
+    }
+
+    @Override
+    public Uni<List<ExchangeRate>> fetchExchangeRates(
+            String asset,
+            String fiat,
+            String tradeType,
+            List<String> payTypes,
+            BigDecimal transAmount,
+            BigDecimal transCryptoAmount) {
+
+        RequestKey key = RequestKey.of(asset, fiat, tradeType, payTypes,
+                bucket(transAmount), bucket(transCryptoAmount));
+        return singleFlight.execute(key, () ->
+                        delegate.fetchExchangeRates(asset, fiat, tradeType, payTypes, transAmount, transCryptoAmount))
+                .map(ads -> acceptedFor(ads, transAmount, transCryptoAmount));
+    }
+
+    @Override
+    public Uni<List<ExchangeRate>> fetchOrderBookPage(
+            String asset,
+            String fiat,
+            String tradeType,
+            List<String> payTypes,
+            int page,
+            int rows) {
+
+        return delegate.fetchOrderBookPage(asset, fiat, tradeType, payTypes, page, rows);
+    }
+
+    private BigDecimal bucket(BigDecimal amount) {
+        return amount == null ? null : amount.round(amountBucket).stripTrailingZeros();
+    }
+
+    /**
+     * Anuncios del resultado compartido que aceptan el monto exacto de este llamador.
+     * El rango de cada anuncio está en fiat; el monto en crypto se convierte con su precio.
+     */
+    static List<ExchangeRate> acceptedFor(List<ExchangeRate> ads, BigDecimal fiatAmount, BigDecimal cryptoAmount) {
+        if (ads == null || (fiatAmount == null && cryptoAmount == null)) {
+            return ads;
+        }
+        return ads.stream()
+                .filter(ad -> fiatAmount == null || accepts(ad, fiatAmount))
+                .filter(ad -> cryptoAmount == null || ad.price() == null || accepts(ad, cryptoAmount.multiply(ad.price())))
+                .toList();
+    }
+
+    private static boolean accepts(ExchangeRate ad, BigDecimal fiatAmount) {
+        return (ad.minAmount() == null || fiatAmount.compareTo(ad.minAmount()) >= 0)
+                && (ad.maxAmount() == null || fiatAmount.compareTo(ad.maxAmount()) <= 0);
+    }
+
+    private record RequestKey(
+            String asset,
+            String fiat,
+            String tradeType,
+            List<String> payTypes,
+            BigDecimal fiatBucket,
+            BigDecimal cryptoBucket) {
+
+        static RequestKey of(String asset, String fiat, String tradeType, List<String> payTypes,
+                             BigDecimal fiatBucket, BigDecimal cryptoBucket) {
+            return new RequestKey(
+                    asset == null ? null : asset.toUpperCase(Locale.ROOT),
+                    fiat == null ? null : fiat.toUpperCase(Locale.ROOT),
+                    tradeType == null ? null : tradeType.toUpperCase(Locale.ROOT),
+                    payTypes == null ? List.of() : payTypes.stream().sorted().toList(),
+                    fiatBucket,
+                    cryptoBucket);
+        }
+    }
+}
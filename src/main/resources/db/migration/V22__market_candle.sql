@@ -0,0 +1,19 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- market_candle  (rollup OHLC + volumen construido en memoria desde market_price_tick)
+-- ─────────────────────────────────────────────────────────────────────────────
+CREATE TABLE IF NOT EXISTS market_candle (
+    symbol         VARCHAR(50)   NOT NULL,
+    interval_code  VARCHAR(5)    NOT NULL,
+    open_time      TIMESTAMPTZ   NOT NULL,
+    open_price     DECIMAL(20,8) NOT NULL,
+    high_price     DECIMAL(20,8) NOT NULL,
+    low_price      DECIMAL(20,8) NOT NULL,
+    close_price    DECIMAL(20,8) NOT NULL,
+    volume         DECIMAL(28,8) NOT NULL DEFAULT 0,
+    trade_count    BIGINT        NOT NULL DEFAULT 0,
+    first_trade_at TIMESTAMPTZ   NOT NULL,
+    last_trade_at  TIMESTAMPTZ   NOT NULL,
+    created_at     TIMESTAMPTZ   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at     TIMESTAMPTZ   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_market_candle PRIMARY KEY (symbol, interval_code, open_time)
+);
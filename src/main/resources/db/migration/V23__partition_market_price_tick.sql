@@ -0,0 +1,53 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- market_price_tick  →  tabla particionada por rango de recorded_at
+--
+-- La tabla existente se conserva como partición "legacy" que cubre todo lo anterior
+-- a mañana 00:00 UTC. Las particiones siguientes (diarias o mensuales) las crea por
+-- adelantado MarketPriceTickMaintenanceScheduler, que además aplica la retención
+-- haciendo rollup a market_candle antes de DROP de la partición.
+--
+-- Una partición debe tener la misma clave primaria que la tabla padre, que en una
+-- tabla particionada tiene que incluir la columna de partición: la PK (id) heredada
+-- de V1 se reemplaza por (id, recorded_at) antes del ATTACH. recorded_at ya es
+-- NOT NULL desde V1; SET NOT NULL solo lo garantiza.
+--
+-- Validación antes de desplegar: restaurar un dump de producción en una base
+-- desechable y ejecutar "flyway migrate"; luego comprobar que
+--   SELECT count(*) FROM market_price_tick            (igual al conteo previo)
+--   SELECT pg_get_constraintdef(oid) FROM pg_constraint
+--    WHERE conrelid = 'market_price_tick_legacy'::regclass AND contype = 'p'
+-- devuelve PRIMARY KEY (id, recorded_at). El ATTACH recorre la tabla legacy una vez
+-- para validar el rango (bloqueo ACCESS EXCLUSIVE durante ese recorrido).
+-- ─────────────────────────────────────────────────────────────────────────────
+ALTER TABLE market_price_tick RENAME TO market_price_tick_legacy;
+ALTER TABLE market_price_tick_legacy DROP CONSTRAINT market_price_tick_pkey;
+ALTER TABLE market_price_tick_legacy ALTER COLUMN recorded_at SET NOT NULL;
+ALTER TABLE market_price_tick_legacy
+    ADD CONSTRAINT market_price_tick_legacy_pkey PRIMARY KEY (id, recorded_at);
+ALTER INDEX idx_mpt_symbol_time   RENAME TO idx_mpt_legacy_symbol_time;
+ALTER INDEX idx_mpt_provider_time RENAME TO idx_mpt_legacy_provider_time;
+
+CREATE TABLE market_price_tick (
+    id             BIGINT        NOT NULL DEFAULT nextval('market_price_tick_id_seq'),
+    provider       VARCHAR(20)   NOT NULL,
+    symbol         VARCHAR(50)   NOT NULL,
+    currency_base  VARCHAR(10)   NOT NULL,
+    currency_quote VARCHAR(10)   NOT NULL,
+    price          DECIMAL(20,8) NOT NULL,
+    event_type     VARCHAR(20)   NOT NULL DEFAULT 'TICK',
+    change_pct     DECIMAL(10,6),
+    recorded_at    TIMESTAMPTZ   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT market_price_tick_pkey PRIMARY KEY (id, recorded_at)
+) PARTITION BY RANGE (recorded_at);
+
+ALTER SEQUENCE market_price_tick_id_seq OWNED BY market_price_tick.id;
+
+CREATE INDEX IF NOT EXISTS idx_mpt_symbol_time   ON market_price_tick (symbol,   recorded_at DESC);
+CREATE INDEX IF NOT EXISTS idx_mpt_provider_time ON market_price_tick (provider, recorded_at DESC);
+
+DO $$
+BEGIN
+    EXECUTE format(
+        'ALTER TABLE market_price_tick ATTACH PARTITION market_price_tick_legacy FOR VALUES FROM (MINVALUE) TO (%L)',
+        date_trunc('day', now() AT TIME ZONE 'UTC') AT TIME ZONE 'UTC' + INTERVAL '1 day');
+END $$;
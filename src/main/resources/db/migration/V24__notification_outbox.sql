@@ -0,0 +1,25 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- notification_outbox  (push pendientes; un solo PENDING por coalesce_key, el último gana)
+-- ─────────────────────────────────────────────────────────────────────────────
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    id            BIGSERIAL     PRIMARY KEY,
+    coalesce_key  VARCHAR(150)  NOT NULL,
+    payload       JSONB         NOT NULL,
+    status        VARCHAR(12)   NOT NULL DEFAULT 'PENDING',
+    not_before    TIMESTAMPTZ   NOT NULL,
+    attempts      INTEGER       NOT NULL DEFAULT 0,
+    last_error    VARCHAR(500),
+    sent_at       TIMESTAMPTZ,
+    created_at    TIMESTAMPTZ   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at    TIMESTAMPTZ   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_notification_outbox_status
+        CHECK (status IN ('PENDING', 'SENDING', 'SENT', 'SUPERSEDED', 'FAILED'))
+);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_notification_outbox_pending_key
+    ON notification_outbox (coalesce_key) WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_due
+    ON notification_outbox (not_before) WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_key_sent
+    ON notification_outbox (coalesce_key, sent_at) WHERE status IN ('SENT', 'SENDING');
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_status_updated
+    ON notification_outbox (status, updated_at);
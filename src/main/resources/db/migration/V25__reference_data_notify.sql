@@ -0,0 +1,42 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- reference_data_changed  (NOTIFY al cambiar un catálogo de referencia)
+-- El payload es el nombre de la tabla; los nodos recargan su catálogo en memoria.
+-- Triggers por sentencia: un UPDATE masivo genera un solo aviso, y pg_notify
+-- agrupa los avisos idénticos de una misma transacción.
+-- ─────────────────────────────────────────────────────────────────────────────
+CREATE OR REPLACE FUNCTION notify_reference_data_changed() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('reference_data_changed', TG_TABLE_NAME);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_country_reference_data_changed ON country;
+CREATE TRIGGER trg_country_reference_data_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON country
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_reference_data_changed();
+
+DROP TRIGGER IF EXISTS trg_currencies_reference_data_changed ON currencies;
+CREATE TRIGGER trg_currencies_reference_data_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON currencies
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_reference_data_changed();
+
+DROP TRIGGER IF EXISTS trg_system_document_types_reference_data_changed ON system_document_types;
+CREATE TRIGGER trg_system_document_types_reference_data_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON system_document_types
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_reference_data_changed();
+
+DROP TRIGGER IF EXISTS trg_sunat_document_types_reference_data_changed ON sunat_document_types;
+CREATE TRIGGER trg_sunat_document_types_reference_data_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON sunat_document_types
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_reference_data_changed();
+
+DROP TRIGGER IF EXISTS trg_document_types_reference_data_changed ON document_types;
+CREATE TRIGGER trg_document_types_reference_data_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON document_types
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_reference_data_changed();
+
+DROP TRIGGER IF EXISTS trg_ocupaciones_reference_data_changed ON ocupaciones;
+CREATE TRIGGER trg_ocupaciones_reference_data_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON ocupaciones
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_reference_data_changed();
@@ -0,0 +1,48 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- journal_correlative_sequences  (contadores de correlativos contables)
+-- scope = 'OPERATION' para el número de operación, o el accounting_book_type
+-- para el correlativo del libro. Reemplaza los MAX(...) + 1 sobre journal_entries.
+-- ─────────────────────────────────────────────────────────────────────────────
+CREATE TABLE IF NOT EXISTS journal_correlative_sequences (
+    scope       VARCHAR(20)  NOT NULL,
+    year        INTEGER      NOT NULL,
+    last_value  INTEGER      NOT NULL,
+    updated_at  TIMESTAMPTZ  NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_journal_correlative_sequences PRIMARY KEY (scope, year),
+    CONSTRAINT chk_journal_correlative_sequences_last_value CHECK (last_value >= 0)
+);
+
+-- Punto de partida: los números ya emitidos (incluye asientos anulados, igual que el MAX anterior)
+INSERT INTO journal_correlative_sequences (scope, year, last_value)
+SELECT 'OPERATION', EXTRACT(YEAR FROM entry_date)::INTEGER, COALESCE(MAX(operation_number), 0)
+FROM journal_entries
+GROUP BY EXTRACT(YEAR FROM entry_date)::INTEGER
+ON CONFLICT (scope, year) DO NOTHING;
+
+INSERT INTO journal_correlative_sequences (scope, year, last_value)
+SELECT book_type::TEXT, EXTRACT(YEAR FROM entry_date)::INTEGER, COALESCE(MAX(book_correlative), 0)
+FROM journal_entries
+GROUP BY book_type, EXTRACT(YEAR FROM entry_date)::INTEGER
+ON CONFLICT (scope, year) DO NOTHING;
+
+-- Reserva p_count números y devuelve el último. El UPSERT bloquea la fila hasta el
+-- commit: las transacciones concurrentes esperan y un rollback devuelve los números.
+CREATE OR REPLACE FUNCTION allocate_journal_correlative(p_scope VARCHAR, p_year INTEGER, p_count INTEGER)
+    RETURNS INTEGER AS $$
+DECLARE
+    v_last INTEGER;
+BEGIN
+    IF p_count IS NULL OR p_count < 1 THEN
+        RAISE EXCEPTION 'p_count must be >= 1, got %', p_count;
+    END IF;
+
+    INSERT INTO journal_correlative_sequences AS s (scope, year, last_value, updated_at)
+    VALUES (p_scope, p_year, p_count, CURRENT_TIMESTAMP)
+    ON CONFLICT (scope, year) DO UPDATE
+        SET last_value = s.last_value + EXCLUDED.last_value,
+            updated_at = CURRENT_TIMESTAMP
+    RETURNING last_value INTO v_last;
+
+    RETURN v_last;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,52 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- account_period_balance  (movimientos por cuenta y mes, mantenidos al contabilizar)
+-- Solo cuentan los asientos ACTIVE no eliminados. La aplicación los actualiza en la
+-- misma transacción que el asiento; rebuild_account_period_balance() los recalcula.
+-- ─────────────────────────────────────────────────────────────────────────────
+CREATE TABLE IF NOT EXISTS account_period_balance (
+    account_id    INTEGER        NOT NULL,
+    period_year   INTEGER        NOT NULL,
+    period_month  SMALLINT       NOT NULL,
+    debit         NUMERIC(18,2)  NOT NULL DEFAULT 0,
+    credit        NUMERIC(18,2)  NOT NULL DEFAULT 0,
+    line_count    INTEGER        NOT NULL DEFAULT 0,
+    updated_at    TIMESTAMPTZ    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_account_period_balance PRIMARY KEY (account_id, period_year, period_month),
+    CONSTRAINT chk_account_period_balance_month CHECK (period_month BETWEEN 1 AND 12)
+);
+CREATE INDEX IF NOT EXISTS idx_account_period_balance_period
+    ON account_period_balance (period_year, period_month);
+
+-- Recalcula un año (o todo si p_year es NULL). El LOCK espera a que terminen las
+-- contabilizaciones en curso y las bloquea hasta el commit, así ninguna se pierde ni se cuenta dos veces.
+CREATE OR REPLACE FUNCTION rebuild_account_period_balance(p_year INTEGER)
+    RETURNS INTEGER AS $$
+DECLARE
+    v_rows INTEGER;
+BEGIN
+    LOCK TABLE account_period_balance IN EXCLUSIVE MODE;
+
+    DELETE FROM account_period_balance
+    WHERE p_year IS NULL OR period_year = p_year;
+
+    INSERT INTO account_period_balance (account_id, period_year, period_month, debit, credit, line_count, updated_at)
+    SELECT jel.account_id,
+           EXTRACT(YEAR FROM je.entry_date)::INTEGER,
+           EXTRACT(MONTH FROM je.entry_date)::SMALLINT,
+           SUM(jel.debit),
+           SUM(jel.credit),
+           COUNT(*),
+           CURRENT_TIMESTAMP
+    FROM journal_entries je
+    JOIN journal_entry_lines jel ON jel.journal_entry_id = je.id
+    WHERE je.status = 'ACTIVE'
+      AND je.deleted_at IS NULL
+      AND (p_year IS NULL OR (je.entry_date >= make_date(p_year, 1, 1) AND je.entry_date < make_date(p_year + 1, 1, 1)))
+    GROUP BY jel.account_id, EXTRACT(YEAR FROM je.entry_date), EXTRACT(MONTH FROM je.entry_date);
+
+    GET DIAGNOSTICS v_rows = ROW_COUNT;
+    RETURN v_rows;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT rebuild_account_period_balance(NULL);
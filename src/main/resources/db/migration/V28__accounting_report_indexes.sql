@@ -0,0 +1,14 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- Índices para el balance de comprobación y el libro mayor en streaming.
+-- Los reportes filtran asientos vigentes por rango de fecha y unen sus líneas;
+-- el libro mayor además recorre las líneas por cuenta.
+-- ─────────────────────────────────────────────────────────────────────────────
+CREATE INDEX IF NOT EXISTS idx_journal_entries_entry_date_active
+    ON journal_entries (entry_date)
+    WHERE deleted_at IS NULL AND status = 'ACTIVE';
+
+CREATE INDEX IF NOT EXISTS idx_journal_entry_lines_entry
+    ON journal_entry_lines (journal_entry_id);
+
+CREATE INDEX IF NOT EXISTS idx_journal_entry_lines_account
+    ON journal_entry_lines (account_id);
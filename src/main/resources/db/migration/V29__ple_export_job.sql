@@ -0,0 +1,35 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- ple_export_job  (exportación de libros electrónicos PLE en segundo plano)
+-- Un solo job PENDING/RUNNING por libro y periodo. El worker guarda cada checkpoint
+-- (última línea escrita y tamaño del TXT parcial) para retomar tras una caída o un
+-- reintento sin volver a leer el periodo completo.
+-- ─────────────────────────────────────────────────────────────────────────────
+CREATE TABLE IF NOT EXISTS ple_export_job (
+    id                 BIGSERIAL     PRIMARY KEY,
+    book               VARCHAR(20)   NOT NULL,
+    period_year        INTEGER       NOT NULL,
+    period_month       SMALLINT      NOT NULL,
+    status             VARCHAR(12)   NOT NULL DEFAULT 'PENDING',
+    rows_total         BIGINT,
+    rows_written       BIGINT        NOT NULL DEFAULT 0,
+    last_account_code  VARCHAR(20),
+    last_entry_id      INTEGER,
+    last_line_id       INTEGER,
+    part_bytes         BIGINT        NOT NULL DEFAULT 0,
+    file_name          VARCHAR(60),
+    file_path          VARCHAR(500),
+    file_size          BIGINT,
+    attempts           INTEGER       NOT NULL DEFAULT 0,
+    last_error         VARCHAR(500),
+    created_at         TIMESTAMPTZ   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at         TIMESTAMPTZ,
+    finished_at        TIMESTAMPTZ,
+    updated_at         TIMESTAMPTZ   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_ple_export_job_status
+        CHECK (status IN ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED')),
+    CONSTRAINT chk_ple_export_job_month CHECK (period_month BETWEEN 1 AND 12)
+);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_ple_export_job_active
+    ON ple_export_job (book, period_year, period_month) WHERE status IN ('PENDING', 'RUNNING');
+CREATE INDEX IF NOT EXISTS idx_ple_export_job_status_updated
+    ON ple_export_job (status, updated_at);
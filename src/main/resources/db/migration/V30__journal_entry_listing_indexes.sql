@@ -0,0 +1,11 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- Índices para el listado de asientos contables.
+-- El listado pagina las cabeceras por (entry_date DESC, id DESC), con offset o
+-- por cursor, y luego carga líneas y documentos de la página con ANY(:ids).
+-- ─────────────────────────────────────────────────────────────────────────────
+CREATE INDEX IF NOT EXISTS idx_journal_entries_listing
+    ON journal_entries (entry_date DESC, id DESC)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_journal_entry_documents_line
+    ON journal_entry_documents (journal_entry_line_id);
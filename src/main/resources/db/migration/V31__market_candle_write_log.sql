@@ -0,0 +1,13 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- market_candle_write  (lotes de velas ya aplicados)
+-- El upsert de market_candle suma volume y trade_count; registrar el id de cada
+-- lote en el mismo statement hace que un reintento del mismo lote no sume dos veces.
+-- ─────────────────────────────────────────────────────────────────────────────
+CREATE TABLE IF NOT EXISTS market_candle_write (
+    write_id   UUID        NOT NULL,
+    written_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_market_candle_write PRIMARY KEY (write_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_market_candle_write_written_at
+    ON market_candle_write (written_at);
@@ -0,0 +1,10 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- ple_export_job.retries  (intentos que cuentan para max-attempts)
+-- attempts es el token de fencing de los workers y solo crece; reanudar un job
+-- FAILED reinicia retries, de modo que un worker viejo que siga corriendo nunca
+-- coincide con el número de intento de uno nuevo.
+-- ─────────────────────────────────────────────────────────────────────────────
+ALTER TABLE ple_export_job
+    ADD COLUMN IF NOT EXISTS retries INTEGER NOT NULL DEFAULT 0;
+
+UPDATE ple_export_job SET retries = attempts;
@@ -0,0 +1,8 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- ple_export_job.part_attempt  (intento dueño del TXT parcial del checkpoint)
+-- Cada intento escribe su propio TXT parcial; el que reclama el job copia el del
+-- intento que hizo el último checkpoint hasta part_bytes. NULL: el TXT es el
+-- export.part común de antes de este cambio.
+-- ─────────────────────────────────────────────────────────────────────────────
+ALTER TABLE ple_export_job
+    ADD COLUMN IF NOT EXISTS part_attempt INTEGER;
@@ -0,0 +1,29 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- reference_data_changed para departamentos, provincias e instituciones
+-- financieras por riel de pago, que ahora también están en el catálogo en memoria.
+-- Reutiliza notify_reference_data_changed() de V25.
+-- ─────────────────────────────────────────────────────────────────────────────
+DROP TRIGGER IF EXISTS trg_departament_reference_data_changed ON departament;
+CREATE TRIGGER trg_departament_reference_data_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON departament
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_reference_data_changed();
+
+DROP TRIGGER IF EXISTS trg_province_reference_data_changed ON province;
+CREATE TRIGGER trg_province_reference_data_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON province
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_reference_data_changed();
+
+DROP TRIGGER IF EXISTS trg_financial_institution_reference_data_changed ON financial_institution;
+CREATE TRIGGER trg_financial_institution_reference_data_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON financial_institution
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_reference_data_changed();
+
+DROP TRIGGER IF EXISTS trg_institution_payout_rail_reference_data_changed ON institution_payout_rail;
+CREATE TRIGGER trg_institution_payout_rail_reference_data_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON institution_payout_rail
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_reference_data_changed();
+
+DROP TRIGGER IF EXISTS trg_payout_rail_reference_data_changed ON payout_rail;
+CREATE TRIGGER trg_payout_rail_reference_data_changed
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON payout_rail
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_reference_data_changed();
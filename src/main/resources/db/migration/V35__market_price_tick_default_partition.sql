@@ -0,0 +1,15 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- market_price_tick_default  (partición DEFAULT de market_price_tick)
+--
+-- Sin ella, un tick cuyo recorded_at no cae en ninguna partición de rango hace fallar
+-- el INSERT: basta con que el mantenimiento se detenga más de "premake" periodos.
+-- Con ella el tick se guarda y MarketPriceTickMaintenanceScheduler lo mueve a su
+-- partición de rango al crearla (Postgres no permite crear una partición que cubra
+-- filas presentes en DEFAULT), o lo agrega a market_candle y lo elimina cuando ya
+-- está fuera de la retención. Las filas en DEFAULT se publican en la métrica
+-- walrex.market_tick.partition.default.rows y se registran como error.
+--
+-- Con DEFAULT presente, crear una partición de rango recorre DEFAULT para validarla;
+-- mientras el mantenimiento funcione está vacía y el recorrido es inmediato.
+-- ─────────────────────────────────────────────────────────────────────────────
+CREATE TABLE IF NOT EXISTS market_price_tick_default PARTITION OF market_price_tick DEFAULT;
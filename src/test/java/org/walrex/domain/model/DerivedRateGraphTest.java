@@ -0,0 +1,60 @@
+package org.walrex.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitario puro para DerivedRateGraph
+ */
+class DerivedRateGraphTest {
+
+    @Test
+    void evaluatesProductAndInverseTerms() {
+        DerivedRateGraph graph = DerivedRateGraph.parse(List.of(
+                "EUR/VES = PEN/VES * EUR/PEN",
+                "VES/EUR = inv(EUR/VES)"));
+
+        Map<String, BigDecimal> rates = Map.of(
+                "PEN/VES", new BigDecimal("14"),
+                "EUR/PEN", new BigDecimal("3.8"),
+                "EUR/VES", new BigDecimal("53.2"));
+
+        DerivedRateGraph.Node eurVes = graph.nodes().get(0);
+        DerivedRateGraph.Node vesEur = graph.nodes().get(1);
+        assertEquals(0, new BigDecimal("53.2").compareTo(
+                eurVes.evaluate(pair -> Optional.ofNullable(rates.get(pair))).orElseThrow()));
+        assertEquals(0, new BigDecimal("0.0187969925").compareTo(
+                vesEur.evaluate(pair -> Optional.ofNullable(rates.get(pair))).orElseThrow()));
+        assertTrue(eurVes.evaluate(pair -> Optional.empty()).isEmpty());
+    }
+
+    @Test
+    void affectedNodesIncludeTransitiveDependentsInTopologicalOrder() {
+        DerivedRateGraph graph = DerivedRateGraph.parse(List.of(
+                "VES/EUR = inv(EUR/VES)",
+                "EUR/VES = PEN/VES * EUR/PEN",
+                "COP/PEN = inv(PEN/COP)"));
+
+        List<String> affected = graph.affectedBy(Set.of("ves")).stream()
+                .map(DerivedRateGraph.Node::target)
+                .toList();
+
+        assertEquals(List.of("EUR/VES", "VES/EUR"), affected);
+        assertEquals(List.of("COP/PEN"), graph.affectedBy(Set.of("COP")).stream()
+                .map(DerivedRateGraph.Node::target).toList());
+    }
+
+    @Test
+    void rejectsCycles() {
+        assertThrows(IllegalStateException.class, () -> DerivedRateGraph.parse(List.of(
+                "A/B = B/C * C/D",
+                "B/C = A/B")));
+    }
+}
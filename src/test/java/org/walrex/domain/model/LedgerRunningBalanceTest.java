@@ -0,0 +1,115 @@
+package org.walrex.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitario puro para LedgerRunningBalance
+ */
+class LedgerRunningBalanceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 3, 31);
+
+    @Test
+    void runningBalanceStartsFromOpeningAndClosesEachAccount() {
+        LedgerRunningBalance ledger = new LedgerRunningBalance(Map.of(1, bd("100")), FROM, TO);
+
+        List<LedgerRow> rows = run(ledger,
+                movement(1, "1011", "10", "0"),
+                movement(1, "1011", "0", "30"),
+                movement(2, "4011", "0", "50"));
+
+        assertEquals(List.of(LedgerRow.Kind.OPENING, LedgerRow.Kind.MOVEMENT, LedgerRow.Kind.MOVEMENT,
+                        LedgerRow.Kind.CLOSING, LedgerRow.Kind.OPENING, LedgerRow.Kind.MOVEMENT, LedgerRow.Kind.CLOSING),
+                rows.stream().map(LedgerRow::kind).toList());
+
+        assertAmount("100", rows.get(0).balance());
+        assertEquals(FROM, rows.get(0).entryDate());
+        assertAmount("110", rows.get(1).balance());
+        assertAmount("80", rows.get(2).balance());
+
+        LedgerRow closing = rows.get(3);
+        assertEquals(TO, closing.entryDate());
+        assertAmount("10", closing.debit());
+        assertAmount("30", closing.credit());
+        assertAmount("80", closing.balance());
+
+        // Sin saldo inicial la cuenta arranca en cero
+        assertAmount("0", rows.get(4).balance());
+        assertAmount("-50", rows.get(6).balance());
+    }
+
+    @Test
+    void accountWithOnlyOpeningBalanceGetsOpeningAndClosingRows() {
+        LedgerRunningBalance ledger = new LedgerRunningBalance(Map.of(1, bd("100"), 3, bd("-25")), FROM, TO);
+
+        List<LedgerRow> rows = run(ledger,
+                movement(1, "1011", "10", "0"),
+                accountWithoutMovements(3, "1211"),
+                movement(4, "4011", "0", "5"));
+
+        assertEquals(List.of("1011", "1011", "1011", "1211", "1211", "4011", "4011", "4011"),
+                rows.stream().map(LedgerRow::accountCode).toList());
+
+        LedgerRow opening = rows.get(3);
+        LedgerRow closing = rows.get(4);
+        assertEquals(LedgerRow.Kind.OPENING, opening.kind());
+        assertEquals(FROM, opening.entryDate());
+        assertAmount("-25", opening.balance());
+        assertEquals(LedgerRow.Kind.CLOSING, closing.kind());
+        assertEquals(TO, closing.entryDate());
+        assertAmount("0", closing.debit());
+        assertAmount("0", closing.credit());
+        assertAmount("-25", closing.balance());
+    }
+
+    @Test
+    void accountWithoutMovementsOrBalanceIsOmitted() {
+        LedgerRunningBalance ledger = new LedgerRunningBalance(Map.of(5, BigDecimal.ZERO), FROM, TO);
+
+        List<LedgerRow> rows = run(ledger,
+                accountWithoutMovements(5, "1011"),
+                accountWithoutMovements(6, "1211"));
+
+        assertTrue(rows.isEmpty());
+    }
+
+    @Test
+    void emptyRangeProducesNothing() {
+        assertTrue(new LedgerRunningBalance(Map.of(1, bd("100")), FROM, TO).finish().isEmpty());
+    }
+
+    private static List<LedgerRow> run(LedgerRunningBalance ledger, LedgerRow... input) {
+        List<LedgerRow> out = new ArrayList<>();
+        for (LedgerRow row : input) {
+            out.addAll(ledger.accept(row));
+        }
+        out.addAll(ledger.finish());
+        return out;
+    }
+
+    private static LedgerRow movement(int accountId, String code, String debit, String credit) {
+        return new LedgerRow(LedgerRow.Kind.MOVEMENT, accountId, code, "Cuenta " + code, FROM.plusDays(4),
+                1, 1, "DIARIO", "Asiento", bd(debit), bd(credit), null);
+    }
+
+    private static LedgerRow accountWithoutMovements(int accountId, String code) {
+        return LedgerRow.opening(accountId, code, "Cuenta " + code, null, null);
+    }
+
+    private static void assertAmount(String expected, BigDecimal actual) {
+        assertEquals(0, bd(expected).compareTo(actual), () -> "expected " + expected + " but was " + actual);
+    }
+
+    private static BigDecimal bd(String value) {
+        return new BigDecimal(value);
+    }
+}
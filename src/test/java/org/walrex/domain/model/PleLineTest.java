@@ -0,0 +1,79 @@
+package org.walrex.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitario puro para PleLine y PleBook
+ */
+class PleLineTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 5);
+
+    @Test
+    void recordHas21PipeTerminatedFields() {
+        PleLine line = new PleLine("1011", 40, 401, 2, 1234, DATE, "Cobro factura F001-15",
+                new BigDecimal("150.5"), null);
+
+        String record = line.toRecord(2026, 3);
+
+        assertEquals("20260300|1234|M000000002|1011|||PEN||||||05/03/2026||05/03/2026|Cobro factura F001-15||150.50|0.00||1|",
+                record);
+        assertEquals(21, record.split("\\|", -1).length - 1);
+    }
+
+    @Test
+    void missingOperationNumberFallsBackToEntryId() {
+        PleLine line = new PleLine("4011", 40, 402, 1, null, DATE, "IGV", BigDecimal.ZERO, new BigDecimal("27.0"));
+
+        String[] fields = line.toRecord(2026, 3).split("\\|", -1);
+
+        assertEquals("40", fields[1]);
+        assertEquals("0.00", fields[17]);
+        assertEquals("27.00", fields[18]);
+    }
+
+    @Test
+    void amountsAreRoundedHalfUpToTwoDecimals() {
+        PleLine line = new PleLine("1011", 1, 1, 1, 1, DATE, "x", new BigDecimal("10.005"), new BigDecimal("0.004"));
+
+        String[] fields = line.toRecord(2026, 3).split("\\|", -1);
+
+        assertEquals("10.01", fields[17]);
+        assertEquals("0.00", fields[18]);
+    }
+
+    @Test
+    void glosaIsCleanedAndTruncated() {
+        assertEquals("-", glosaOf(" "));
+        assertEquals("-", glosaOf(null));
+        assertEquals("Pago a proveedor", glosaOf("Pago |a\n proveedor "));
+        assertEquals(200, glosaOf("x".repeat(250)).length());
+    }
+
+    @Test
+    void fileNameFollowsPleNomenclature() {
+        assertEquals("LE2012345678920260300050100001111",
+                PleBook.LIBRO_DIARIO.fileName("20123456789", 2026, 3, true));
+        assertEquals("LE2012345678920261200060100001011",
+                PleBook.LIBRO_MAYOR.fileName("20123456789", 2026, 12, false));
+        assertEquals(33, PleBook.LIBRO_MAYOR.fileName("20123456789", 2026, 1, true).length());
+    }
+
+    @Test
+    void bookIsParsedFromNameOrFormat() {
+        assertEquals(PleBook.LIBRO_DIARIO, PleBook.fromString("5.1"));
+        assertEquals(PleBook.LIBRO_MAYOR, PleBook.fromString(" libro_mayor "));
+        assertThrows(IllegalArgumentException.class, () -> PleBook.fromString("8.1"));
+        assertThrows(IllegalArgumentException.class, () -> PleBook.fromString(null));
+    }
+
+    private static String glosaOf(String description) {
+        PleLine line = new PleLine("1011", 1, 1, 1, 1, DATE, description, BigDecimal.ONE, BigDecimal.ZERO);
+        return line.toRecord(2026, 3).split("\\|", -1)[15];
+    }
+}
@@ -0,0 +1,130 @@
+package org.walrex.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitario puro para ReferenceDataSnapshot
+ */
+class ReferenceDataSnapshotTest {
+
+    private static final Country PERU = Country.builder()
+            .id(1).alphabeticCode3("PER").numericCode(604).name("Perú").status("1").build();
+    private static final Country VENEZUELA_INACTIVE = Country.builder()
+            .id(2).alphabeticCode3("VEN").numericCode(862).name("Venezuela").status("0").build();
+    private static final Country PERU_DUPLICATE = Country.builder()
+            .id(3).alphabeticCode3("PER").numericCode(604).name("Perú duplicado").status("1").build();
+
+    private static final Currency SOL = Currency.builder()
+            .id(10).alphabeticCode("PEN").numericCode(604).name("Sol").build();
+    private static final Currency BOLIVAR = Currency.builder()
+            .id(11).alphabeticCode("VES").numericCode(928).name("Bolívar").build();
+
+    private static final SystemDocumentType DNI = SystemDocumentType.builder()
+            .id(100L).code("DNI").name("DNI").build();
+    private static final SunatDocumentType SUNAT_RUC = SunatDocumentType.builder()
+            .id(6).code("6").name("RUC").active(true).build();
+
+    private static final Ocupacion INGENIERO = Ocupacion.builder().id(1L).codigo("01").nombre("Ingeniero").build();
+    private static final Ocupacion MEDICO = Ocupacion.builder().id(2L).codigo("02").nombre("Médico").build();
+
+    private static final Departament LIMA_DEP = Departament.builder().id(15).code("15").name("Lima").status(true).build();
+    private static final Province LIMA = Province.builder()
+            .id(1501).departament(LIMA_DEP).code("1501").name("Lima").status(true).build();
+    private static final Province HUAURA = Province.builder()
+            .id(1508).departament(LIMA_DEP).code("1508").name("Huaura").status(true).build();
+
+    private static final PayoutRailInstitution BCP = new PayoutRailInstitution("BANK", "PE", 1L, "Banco de Crédito", "BCP", null);
+    private static final PayoutRailInstitution INTERBANK = new PayoutRailInstitution("BANK", "PE", 2L, "Interbank", "IBK", "{}");
+    private static final PayoutRailInstitution BANESCO = new PayoutRailInstitution("PAGO_MOVIL", "VE", 3L, "Banesco", "BNC", null);
+
+    private final ReferenceDataSnapshot snapshot = ReferenceDataSnapshot.of(
+            List.of(PERU, VENEZUELA_INACTIVE, PERU_DUPLICATE),
+            List.of(SOL, BOLIVAR),
+            List.of(DNI),
+            List.of(SUNAT_RUC),
+            List.of(),
+            List.of(INGENIERO, MEDICO),
+            List.of(LIMA_DEP),
+            List.of(LIMA, HUAURA),
+            List.of(BCP, BANESCO, INTERBANK),
+            Instant.parse("2026-01-01T00:00:00Z"));
+
+    @Test
+    void countryByIdOnlyFindsActiveCountries() {
+        assertEquals(PERU, snapshot.findCountryById(1).orElseThrow());
+        assertTrue(snapshot.findCountryById(2).isEmpty());
+        assertTrue(snapshot.findCountryById(null).isEmpty());
+    }
+
+    @Test
+    void countryByCodeIgnoresStatusCaseAndWhitespace() {
+        assertEquals(VENEZUELA_INACTIVE, snapshot.findCountryByAlphabeticCode3(" ven ").orElseThrow());
+        assertEquals(VENEZUELA_INACTIVE, snapshot.findCountryByNumericCode("862").orElseThrow());
+        assertTrue(snapshot.findCountryByNumericCode("abc").isEmpty());
+        assertTrue(snapshot.findCountryByNumericCode(null).isEmpty());
+        assertTrue(snapshot.findCountryByAlphabeticCode3(null).isEmpty());
+    }
+
+    @Test
+    void duplicateKeysKeepTheFirstRowInQueryOrder() {
+        assertEquals(PERU, snapshot.findCountryByAlphabeticCode3("PER").orElseThrow());
+        assertEquals(PERU, snapshot.findCountryByNumericCode(" 604 ").orElseThrow());
+        assertEquals(3, snapshot.countries().size());
+    }
+
+    @Test
+    void currencyLookups() {
+        assertEquals(SOL, snapshot.findCurrencyById(10).orElseThrow());
+        assertEquals(BOLIVAR, snapshot.findCurrencyByAlphabeticCode("ves").orElseThrow());
+        assertEquals(BOLIVAR, snapshot.findCurrencyByNumericCode("928").orElseThrow());
+        assertTrue(snapshot.findCurrencyById(99).isEmpty());
+    }
+
+    @Test
+    void documentTypeLookups() {
+        assertEquals(DNI, snapshot.findSystemDocumentTypeById(100L).orElseThrow());
+        assertEquals(DNI, snapshot.findSystemDocumentTypeByCode("dni").orElseThrow());
+        assertEquals(SUNAT_RUC, snapshot.findSunatDocumentTypeById(6).orElseThrow());
+        assertEquals(SUNAT_RUC, snapshot.findSunatDocumentTypeByCode("6").orElseThrow());
+        assertTrue(snapshot.findSunatDocumentTypeByCode("1").isEmpty());
+    }
+
+    @Test
+    void ocupacionesFilterByNameIgnoringCase() {
+        assertEquals(List.of(INGENIERO, MEDICO), snapshot.ocupaciones(null));
+        assertEquals(List.of(MEDICO), snapshot.ocupaciones("MÉD"));
+        assertTrue(snapshot.ocupaciones("abogado").isEmpty());
+    }
+
+    @Test
+    void ubigeoLookups() {
+        assertEquals(LIMA_DEP, snapshot.findDepartamentById(15).orElseThrow());
+        assertEquals(HUAURA, snapshot.findProvinceById(1508).orElseThrow());
+        assertEquals(HUAURA, snapshot.findProvinceByCode(" 1508 ").orElseThrow());
+        assertEquals(HUAURA, snapshot.findProvinceByName("AUR").orElseThrow());
+        assertEquals(LIMA, snapshot.findProvinceByName("a").orElseThrow());
+        assertTrue(snapshot.findProvinceByName("Cusco").isEmpty());
+        assertTrue(snapshot.findDepartamentById(null).isEmpty());
+    }
+
+    @Test
+    void institutionsByRailAndCountryKeepQueryOrder() {
+        assertEquals(List.of(BCP, INTERBANK), snapshot.payoutRailInstitutions("BANK", "PE"));
+        assertEquals(List.of(BANESCO), snapshot.payoutRailInstitutions("PAGO_MOVIL", "VE"));
+        assertTrue(snapshot.payoutRailInstitutions("BANK", "VE").isEmpty());
+        assertTrue(snapshot.payoutRailInstitutions("bank", "pe").isEmpty());
+    }
+
+    @Test
+    void snapshotIsImmutable() {
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.countries().add(PERU));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.currenciesById().put(99, SOL));
+        assertThrows(UnsupportedOperationException.class,
+                () -> snapshot.payoutRailInstitutions("BANK", "PE").add(BANESCO));
+    }
+}
@@ -0,0 +1,107 @@
+package org.walrex.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitario puro para TrialBalanceRollup
+ */
+class TrialBalanceRollupTest {
+
+    private static final Map<String, String> NAMES = Map.of(
+            "10", "Efectivo y equivalentes",
+            "101", "Caja",
+            "104", "Cuentas corrientes",
+            "40", "Tributos");
+
+    @Test
+    void subtotalsFollowTheirLastAccount() {
+        TrialBalanceRollup rollup = new TrialBalanceRollup(new TreeSet<>(List.of(2, 3)), NAMES, true);
+
+        List<TrialBalanceRow> rows = run(rollup,
+                account("1011", "100", "10", "0"),
+                account("1012", "0", "5", "1"),
+                account("1041", "50", "0", "20"),
+                account("4011", "-30", "0", "7"));
+
+        assertEquals(List.of("1011", "1012", "101", "1041", "104", "10", "4011", "401", "40"),
+                rows.stream().map(TrialBalanceRow::code).toList());
+
+        TrialBalanceRow caja = rows.get(2);
+        assertTrue(caja.rollup());
+        assertNull(caja.accountId());
+        assertEquals("Caja", caja.name());
+        assertAmount("100", caja.opening());
+        assertAmount("15", caja.debit());
+        assertAmount("1", caja.credit());
+        assertAmount("114", caja.closing());
+
+        TrialBalanceRow efectivo = rows.get(5);
+        assertAmount("150", efectivo.opening());
+        assertAmount("15", efectivo.debit());
+        assertAmount("21", efectivo.credit());
+        assertAmount("144", efectivo.debitBalance());
+        assertAmount("0", efectivo.creditBalance());
+
+        // Prefijo sin nombre en el plan
+        assertEquals("", rows.get(7).name());
+        assertAmount("37", rows.get(8).creditBalance());
+    }
+
+    @Test
+    void withoutDetailOnlySubtotalsAreEmitted() {
+        TrialBalanceRollup rollup = new TrialBalanceRollup(new TreeSet<>(List.of(2)), NAMES, false);
+
+        List<TrialBalanceRow> rows = run(rollup,
+                account("1011", "100", "0", "0"),
+                account("1041", "50", "0", "0"),
+                account("4011", "-30", "0", "0"));
+
+        assertEquals(List.of("10", "40"), rows.stream().map(TrialBalanceRow::code).toList());
+        assertTrue(rows.stream().allMatch(TrialBalanceRow::rollup));
+        assertAmount("150", rows.get(0).opening());
+    }
+
+    @Test
+    void codesShorterThanALevelAreOnlyRolledUpToTheLevelsTheyReach() {
+        TrialBalanceRollup rollup = new TrialBalanceRollup(new TreeSet<>(List.of(2, 5)), NAMES, true);
+
+        List<TrialBalanceRow> rows = run(rollup, account("104", "50", "0", "0"));
+
+        assertEquals(List.of("104", "10"), rows.stream().map(TrialBalanceRow::code).toList());
+    }
+
+    @Test
+    void emptyInputProducesNothing() {
+        assertTrue(new TrialBalanceRollup(new TreeSet<>(List.of(2)), NAMES, true).finish().isEmpty());
+    }
+
+    private static List<TrialBalanceRow> run(TrialBalanceRollup rollup, TrialBalanceRow... input) {
+        List<TrialBalanceRow> out = new ArrayList<>();
+        for (TrialBalanceRow row : input) {
+            out.addAll(rollup.accept(row));
+        }
+        out.addAll(rollup.finish());
+        return out;
+    }
+
+    private static TrialBalanceRow account(String code, String opening, String debit, String credit) {
+        return new TrialBalanceRow(Integer.valueOf(code), code, "Cuenta " + code, false,
+                bd(opening), bd(debit), bd(credit));
+    }
+
+    private static void assertAmount(String expected, BigDecimal actual) {
+        assertEquals(0, bd(expected).compareTo(actual), () -> "expected " + expected + " but was " + actual);
+    }
+
+    private static BigDecimal bd(String value) {
+        return new BigDecimal(value);
+    }
+}
@@ -0,0 +1,155 @@
+package org.walrex.domain.service;
+
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.walrex.application.port.output.MarketCandlePort;
+import org.walrex.domain.model.CandleInterval;
+import org.walrex.domain.model.MarketCandle;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+
+/**
+ * Test unitario puro para CandleAggregationService sin levantar contexto de Quarkus
+ */
+@ExtendWith(MockitoExtension.class)
+class CandleAggregationServiceTest {
+
+    private static final String SYMBOL = "OANDA:USD_COP";
+    private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Mock
+    MarketCandlePort candlePort;
+
+    @InjectMocks
+    CandleAggregationService service;
+
+    @BeforeEach
+    void setUp() {
+        service.intervalCodes = List.of("1m");
+        service.closeGraceSeconds = 2;
+        service.maxPending = 100;
+        service.init();
+
+        Mockito.lenient().when(candlePort.upsertAll(any(), anyList()))
+                .thenReturn(Uni.createFrom().voidItem());
+    }
+
+    @Test
+    void tickInNextBucketClosesPreviousCandle() {
+        service.onTick(SYMBOL, bd("4000"), BigDecimal.ONE, T0.plusSeconds(1));
+        service.onTick(SYMBOL, bd("4010"), BigDecimal.ONE, T0.plusSeconds(20));
+        service.onTick(SYMBOL, bd("3990"), BigDecimal.ONE, T0.plusSeconds(40));
+        service.onTick(SYMBOL, bd("4005"), BigDecimal.ONE, T0.plusSeconds(50));
+        service.onTick(SYMBOL, bd("4020"), BigDecimal.ONE, T0.plusSeconds(61));
+
+        service.flushClosed().await().indefinitely();
+
+        MarketCandle closed = captureSingleUpsert();
+        assertEquals(T0, closed.openTime());
+        assertEquals(0, bd("4000").compareTo(closed.open()));
+        assertEquals(0, bd("4010").compareTo(closed.high()));
+        assertEquals(0, bd("3990").compareTo(closed.low()));
+        assertEquals(0, bd("4005").compareTo(closed.close()));
+        assertEquals(0, bd("4").compareTo(closed.volume()));
+        assertEquals(4, closed.tradeCount());
+    }
+
+    @Test
+    void expiredCandleIsClosedWithoutNewTicks() {
+        service.onTick(SYMBOL, bd("4000"), BigDecimal.ONE, T0.plusSeconds(5));
+
+        service.closeExpired(T0.plusSeconds(61));
+        service.flushClosed().await().indefinitely();
+        Mockito.verify(candlePort, Mockito.never()).upsertAll(any(), anyList());
+
+        service.closeExpired(T0.plusSeconds(62));
+        service.flushClosed().await().indefinitely();
+        assertEquals(T0, captureSingleUpsert().openTime());
+    }
+
+    @Test
+    void lateTickIsMergedIntoClosedBucketWithoutReopeningIt() {
+        service.onTick(SYMBOL, bd("4000"), BigDecimal.ONE, T0.plusSeconds(10));
+        service.onTick(SYMBOL, bd("4020"), BigDecimal.ONE, T0.plusSeconds(70));
+        service.onTick(SYMBOL, bd("3950"), BigDecimal.ONE, T0.plusSeconds(30));
+
+        service.flushClosed().await().indefinitely();
+
+        MarketCandle corrected = captureSingleUpsert();
+        assertEquals(T0, corrected.openTime());
+        assertEquals(0, bd("4000").compareTo(corrected.open()));
+        assertEquals(0, bd("3950").compareTo(corrected.low()));
+        assertEquals(0, bd("3950").compareTo(corrected.close()));
+        assertEquals(2, corrected.tradeCount());
+    }
+
+    @Test
+    void getCandlesMergesOpenCandleWithPersistedOnes() {
+        MarketCandle persisted = MarketCandle.open(SYMBOL, CandleInterval.M1, bd("3980"), BigDecimal.ONE, T0.plusSeconds(5));
+        Mockito.when(candlePort.findCandles(eq(SYMBOL), eq(CandleInterval.M1), any(), any(), anyInt()))
+                .thenReturn(Uni.createFrom().item(List.of(persisted)));
+
+        service.onTick(SYMBOL, bd("4000"), BigDecimal.ONE, T0.plusSeconds(30));
+        service.onTick(SYMBOL, bd("4100"), BigDecimal.ONE, T0.plusSeconds(65));
+
+        List<MarketCandle> candles = service.getCandles(
+                SYMBOL, CandleInterval.M1, T0, T0.plusSeconds(120), 10).await().indefinitely();
+
+        assertEquals(2, candles.size());
+        assertEquals(0, bd("3980").compareTo(candles.get(0).open()));
+        assertEquals(0, bd("4000").compareTo(candles.get(0).close()));
+        assertEquals(2, candles.get(0).tradeCount());
+        assertEquals(0, bd("4100").compareTo(candles.get(1).close()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void failedBatchIsRetriedWithSameWriteIdBeforeNewCandles() {
+        Mockito.when(candlePort.upsertAll(any(), anyList()))
+                .thenReturn(Uni.createFrom().failure(new IllegalStateException("timeout")))
+                .thenReturn(Uni.createFrom().voidItem());
+
+        service.onTick(SYMBOL, bd("4000"), BigDecimal.ONE, T0.plusSeconds(10));
+        service.onTick(SYMBOL, bd("4010"), BigDecimal.ONE, T0.plusSeconds(70));
+        service.flushClosed().await().indefinitely();
+
+        // Nueva vela cerrada mientras el lote anterior está pendiente de reintento
+        service.onTick(SYMBOL, bd("4020"), BigDecimal.ONE, T0.plusSeconds(130));
+        service.flushClosed().await().indefinitely();
+
+        ArgumentCaptor<UUID> writeIds = ArgumentCaptor.forClass(UUID.class);
+        ArgumentCaptor<List<MarketCandle>> batches = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(candlePort, Mockito.times(3)).upsertAll(writeIds.capture(), batches.capture());
+
+        assertEquals(writeIds.getAllValues().get(0), writeIds.getAllValues().get(1));
+        assertEquals(batches.getAllValues().get(0), batches.getAllValues().get(1));
+        assertNotEquals(writeIds.getAllValues().get(1), writeIds.getAllValues().get(2));
+        assertEquals(T0, batches.getAllValues().get(1).get(0).openTime());
+        assertEquals(T0.plusSeconds(60), batches.getAllValues().get(2).get(0).openTime());
+    }
+
+    @SuppressWarnings("unchecked")
+    private MarketCandle captureSingleUpsert() {
+        ArgumentCaptor<List<MarketCandle>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(candlePort).upsertAll(any(), captor.capture());
+        assertEquals(1, captor.getValue().size());
+        return captor.getValue().get(0);
+    }
+
+    private static BigDecimal bd(String value) {
+        return new BigDecimal(value);
+    }
+}
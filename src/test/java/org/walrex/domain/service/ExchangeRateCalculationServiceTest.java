@@ -7,19 +7,26 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.walrex.application.port.output.ExchangeRateProviderPort;
-import org.walrex.application.port.output.PaymentMethodQueryPort;
-import org.walrex.application.port.output.RemittanceRouteOutputPort;
+import org.walrex.application.port.output.OrderBookSnapshotPort;
+import org.walrex.application.port.output.RouteRegistryPort;
 import org.walrex.domain.model.ExchangeCalculation;
 import org.walrex.domain.model.ExchangeRate;
 import org.walrex.domain.model.ExchangeRateRouteInfo;
+import org.walrex.domain.model.LiquidityLadder;
+import org.walrex.domain.model.PriceLadder;
+import org.walrex.domain.model.RouteRegistrySnapshot;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -29,13 +36,13 @@ import static org.mockito.Mockito.when;
 class ExchangeRateCalculationServiceTest {
 
     @Mock
-    RemittanceRouteOutputPort remittanceRoutePort;
+    RouteRegistryPort routeRegistry;
 
     @Mock
-    PaymentMethodQueryPort paymentMethodPort;
+    ExchangeRateProviderPort exchangeRateProvider;
 
     @Mock
-    ExchangeRateProviderPort exchangeRateProvider;
+    OrderBookSnapshotPort orderBookSnapshotPort;
 
     @InjectMocks
     ExchangeRateCalculationService service;
@@ -86,12 +93,11 @@ class ExchangeRateCalculationServiceTest {
                 createMockRate("36.52")
         );
 
-        when(remittanceRoutePort.findAllActiveExchangeRateRoutes()).thenReturn(Uni.createFrom().item(routes));
-        when(paymentMethodPort.findBinancePaymentCodesByCountryCurrency(1L))
-                .thenReturn(Uni.createFrom().item(penPaymentMethods));
-        when(paymentMethodPort.findBinancePaymentCodesByCountryCurrency(2L))
-                .thenReturn(Uni.createFrom().item(vesPaymentMethods));
-        
+        when(routeRegistry.current())
+                .thenReturn(Uni.createFrom().item(registryOf(routes, Map.of(1L, penPaymentMethods, 2L, vesPaymentMethods))));
+        when(orderBookSnapshotPort.getLadder(any(), any(), any(), any()))
+                .thenAnswer(inv -> Uni.createFrom().item(LiquidityLadder.empty(inv.getArgument(2))));
+
         // Mock buy rates (BUY USDT/PEN with amount)
         when(exchangeRateProvider.fetchExchangeRates(
                 eq("USDT"), eq("PEN"), eq("BUY"), eq(penPaymentMethods), eq(amount), isNull()))
@@ -151,8 +157,8 @@ class ExchangeRateCalculationServiceTest {
         String quoteCurrency = "VES";
         BigDecimal margin = BigDecimal.valueOf(5.0);
 
-        when(remittanceRoutePort.findAllActiveExchangeRateRoutes())
-                .thenReturn(Uni.createFrom().item(Collections.emptyList()));
+        when(routeRegistry.current())
+                .thenReturn(Uni.createFrom().item(registryOf(Collections.emptyList(), Map.of())));
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
@@ -175,20 +181,21 @@ class ExchangeRateCalculationServiceTest {
         String quoteCurrency = "VES";
         BigDecimal margin = BigDecimal.valueOf(5.0);
 
-        when(remittanceRoutePort.findAllActiveExchangeRateRoutes())
-                .thenReturn(Uni.createFrom().item(List.of(ExchangeRateRouteInfo.builder()
-                        .countryCurrencyFromId(1L)
-                        .currencyFromId(1)
-                        .countryFromCode("PE")
-                        .currencyFromCode("PEN")
-                        .countryCurrencyToId(2L)
-                        .currencyToId(2)
-                        .countryToCode("VES")
-                        .currencyToCode("VES")
-                        .intermediaryAsset("USDT")
-                        .build())));
-        when(paymentMethodPort.findBinancePaymentCodesByCountryCurrency(anyLong()))
-                .thenReturn(Uni.createFrom().item(List.of("Yape")));
+        ExchangeRateRouteInfo route = ExchangeRateRouteInfo.builder()
+                .countryCurrencyFromId(1L)
+                .currencyFromId(1)
+                .countryFromCode("PE")
+                .currencyFromCode("PEN")
+                .countryCurrencyToId(2L)
+                .currencyToId(2)
+                .countryToCode("VES")
+                .currencyToCode("VES")
+                .intermediaryAsset("USDT")
+                .build();
+        when(routeRegistry.current())
+                .thenReturn(Uni.createFrom().item(registryOf(List.of(route), Map.of(1L, List.of("Yape"), 2L, List.of("Yape")))));
+        when(orderBookSnapshotPort.getLadder(any(), any(), any(), any()))
+                .thenAnswer(inv -> Uni.createFrom().item(LiquidityLadder.empty(inv.getArgument(2))));
         when(exchangeRateProvider.fetchExchangeRates(any(), any(), any(), any(), any(), any()))
                 .thenReturn(Uni.createFrom().item(Collections.emptyList()));
 
@@ -231,9 +238,10 @@ class ExchangeRateCalculationServiceTest {
         BigDecimal expectedBuyPrice = new BigDecimal("3.78");
         BigDecimal expectedUsdtReceived = amount.divide(expectedBuyPrice, 8, java.math.RoundingMode.HALF_UP);
 
-        when(remittanceRoutePort.findAllActiveExchangeRateRoutes()).thenReturn(Uni.createFrom().item(List.of(route)));
-        when(paymentMethodPort.findBinancePaymentCodesByCountryCurrency(1L)).thenReturn(Uni.createFrom().item(penPaymentMethods));
-        when(paymentMethodPort.findBinancePaymentCodesByCountryCurrency(2L)).thenReturn(Uni.createFrom().item(vesPaymentMethods));
+        when(routeRegistry.current())
+                .thenReturn(Uni.createFrom().item(registryOf(List.of(route), Map.of(1L, penPaymentMethods, 2L, vesPaymentMethods))));
+        when(orderBookSnapshotPort.getLadder(any(), any(), any(), any()))
+                .thenAnswer(inv -> Uni.createFrom().item(LiquidityLadder.empty(inv.getArgument(2))));
         when(exchangeRateProvider.fetchExchangeRates(eq("USDT"), eq("PEN"), eq("BUY"), eq(penPaymentMethods), eq(amount), isNull()))
                 .thenReturn(Uni.createFrom().item(buyRates));
         when(exchangeRateProvider.fetchExchangeRates(eq("USDT"), eq("VES"), eq("SELL"), eq(vesPaymentMethods), isNull(), eq(expectedUsdtReceived)))
@@ -280,9 +288,10 @@ class ExchangeRateCalculationServiceTest {
         BigDecimal expectedBuyPrice = new BigDecimal("3.82");
         BigDecimal expectedUsdtReceived = amount.divide(expectedBuyPrice, 8, java.math.RoundingMode.HALF_UP);
 
-        when(remittanceRoutePort.findAllActiveExchangeRateRoutes()).thenReturn(Uni.createFrom().item(List.of(route)));
-        when(paymentMethodPort.findBinancePaymentCodesByCountryCurrency(1L)).thenReturn(Uni.createFrom().item(penPaymentMethods));
-        when(paymentMethodPort.findBinancePaymentCodesByCountryCurrency(2L)).thenReturn(Uni.createFrom().item(vesPaymentMethods));
+        when(routeRegistry.current())
+                .thenReturn(Uni.createFrom().item(registryOf(List.of(route), Map.of(1L, penPaymentMethods, 2L, vesPaymentMethods))));
+        when(orderBookSnapshotPort.getLadder(any(), any(), any(), any()))
+                .thenAnswer(inv -> Uni.createFrom().item(LiquidityLadder.empty(inv.getArgument(2))));
         when(exchangeRateProvider.fetchExchangeRates(eq("USDT"), eq("PEN"), eq("BUY"), eq(penPaymentMethods), eq(amount), isNull()))
                 .thenReturn(Uni.createFrom().item(buyRates));
         when(exchangeRateProvider.fetchExchangeRates(eq("USDT"), eq("VES"), eq("SELL"), eq(vesPaymentMethods), isNull(), eq(expectedUsdtReceived)))
@@ -300,18 +309,113 @@ class ExchangeRateCalculationServiceTest {
         assertEquals(0, result.usdtReceived().compareTo(expectedUsdtReceived));
     }
 
+    @Test
+    void shouldServeFromLadderWithoutLiveProviderCall() {
+        // Arrange
+        BigDecimal amount = BigDecimal.valueOf(100.00);
+        BigDecimal margin = BigDecimal.valueOf(5.0);
+
+        ExchangeRateRouteInfo route = ExchangeRateRouteInfo.builder()
+                .countryCurrencyFromId(1L).currencyFromId(1)
+                .countryFromCode("PE").currencyFromCode("PEN")
+                .countryCurrencyToId(2L).currencyToId(2)
+                .countryToCode("VE").currencyToCode("VES")
+                .intermediaryAsset("USDT").build();
+
+        List<String> penPaymentMethods = List.of("Yape");
+        List<String> vesPaymentMethods = List.of("PagoMovil");
+
+        // El anuncio de 3.70 exige mínimo 500 PEN: no es elegible para 100 PEN
+        List<ExchangeRate> buySnapshot = List.of(
+                createMockRate("3.70", "500", "10000"),
+                createMockRate("3.80"), createMockRate("3.80")
+        );
+        List<ExchangeRate> sellSnapshot = List.of(
+                createMockRate("36.50"), createMockRate("36.50")
+        );
+
+        when(routeRegistry.current())
+                .thenReturn(Uni.createFrom().item(registryOf(List.of(route), Map.of(1L, penPaymentMethods, 2L, vesPaymentMethods))));
+        when(orderBookSnapshotPort.getLadder("USDT", "PEN", "BUY", penPaymentMethods))
+                .thenReturn(Uni.createFrom().item(LiquidityLadder.of("BUY", buySnapshot)));
+        when(orderBookSnapshotPort.getLadder("USDT", "VES", "SELL", vesPaymentMethods))
+                .thenReturn(Uni.createFrom().item(LiquidityLadder.of("SELL", sellSnapshot)));
+
+        // Act
+        ExchangeCalculation result = service
+                .calculateExchangeRate(amount, "PE", "PEN", "VE", "VES", margin, "PROMEDIO")
+                .await().indefinitely();
+
+        // Assert: solo se promedian los anuncios elegibles y no hubo consulta en vivo
+        assertEquals(0, result.averageBuyPrice().compareTo(new BigDecimal("3.80")));
+        assertEquals(0, result.averageSellPrice().compareTo(new BigDecimal("36.50")));
+        assertEquals(2, result.advPriceBuy().size());
+        verify(exchangeRateProvider, never()).fetchExchangeRates(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldCalculatePriceLadderInMemoryForManyAmounts() {
+        // Arrange
+        BigDecimal margin = BigDecimal.ZERO;
+
+        ExchangeRateRouteInfo route = ExchangeRateRouteInfo.builder()
+                .countryCurrencyFromId(1L).currencyFromId(1)
+                .countryFromCode("PE").currencyFromCode("PEN")
+                .countryCurrencyToId(2L).currencyToId(2)
+                .countryToCode("VE").currencyToCode("VES")
+                .intermediaryAsset("USDT").build();
+
+        // 3.70 solo acepta montos grandes; 3.80 solo montos pequeños
+        List<ExchangeRate> buyAds = List.of(
+                createMockRate("3.70", "1000", "50000"),
+                createMockRate("3.80", "50", "999")
+        );
+        List<ExchangeRate> sellAds = List.of(createMockRate("37.00", "10", "1000000"));
+
+        when(routeRegistry.current()).thenReturn(Uni.createFrom().item(registryOf(List.of(route), Map.of())));
+        when(orderBookSnapshotPort.getLadder(eq("USDT"), eq("PEN"), eq("BUY"), any()))
+                .thenReturn(Uni.createFrom().item(LiquidityLadder.of("BUY", buyAds)));
+        when(orderBookSnapshotPort.getLadder(eq("USDT"), eq("VES"), eq("SELL"), any()))
+                .thenReturn(Uni.createFrom().item(LiquidityLadder.of("SELL", sellAds)));
+
+        // Act
+        PriceLadder ladder = service
+                .calculatePriceLadder(List.of(BigDecimal.valueOf(10), BigDecimal.valueOf(100), BigDecimal.valueOf(2000)),
+                        "PE", "PEN", "VE", "VES", margin, "PROMEDIO")
+                .await().indefinitely();
+
+        // Assert
+        assertEquals(3, ladder.points().size());
+        assertFalse(ladder.points().get(0).available());
+        assertEquals(0, ladder.points().get(1).averageBuyPrice().compareTo(new BigDecimal("3.80")));
+        assertEquals(0, ladder.points().get(2).averageBuyPrice().compareTo(new BigDecimal("3.70")));
+        assertTrue(ladder.points().get(2).exchangeRate().compareTo(ladder.points().get(1).exchangeRate()) > 0);
+        verify(exchangeRateProvider, never()).fetchExchangeRates(any(), any(), any(), any(), any(), any());
+    }
+
+    /**
+     * Helper para crear el registro de rutas con las rutas y métodos de pago indicados.
+     */
+    private RouteRegistrySnapshot registryOf(List<ExchangeRateRouteInfo> routes, Map<Long, List<String>> paymentCodes) {
+        return RouteRegistrySnapshot.of(routes, Map.of(), paymentCodes, "test", Instant.now());
+    }
+
     /**
      * Helper para crear un ExchangeRate de prueba.
      */
     private ExchangeRate createMockRate(String price) {
+        return createMockRate(price, "100", "10000");
+    }
+
+    private ExchangeRate createMockRate(String price, String minAmount, String maxAmount) {
         return new ExchangeRate(
                 "ADV001",
                 "USDT",
                 "PEN",
                 "BUY",
                 new BigDecimal(price),
-                BigDecimal.valueOf(100),
-                BigDecimal.valueOf(10000),
+                new BigDecimal(minAmount),
+                new BigDecimal(maxAmount),
                 15,
                 Collections.emptyList(),
                 "TestMerchant",
@@ -4,21 +4,30 @@ import io.smallrye.mutiny.Uni;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.walrex.application.port.output.ExchangeRateProviderPort;
 import org.walrex.domain.model.ExchangeRate;
+import org.walrex.domain.model.ExchangeRateCache;
 import org.walrex.domain.model.ExchangeRateRouteInfo;
 import org.walrex.domain.model.ExchangeRateUpdate;
+import org.walrex.domain.model.OutboxNotification;
+import org.walrex.domain.model.PriceExchangeUpsert;
 import org.walrex.domain.model.RemittanceRoute;
 import org.walrex.domain.model.RouteRates;
+import org.walrex.domain.model.RouteRegistrySnapshot;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -36,16 +45,19 @@ class ExchangeRateServiceTest {
     org.walrex.application.port.output.PriceExchangeOutputPort priceExchangePort;
 
     @Mock
-    org.walrex.application.port.output.RemittanceRouteOutputPort remittanceRoutePort;
+    org.walrex.application.port.output.RouteRegistryPort routeRegistry;
 
     @Mock
-    org.walrex.application.port.output.PaymentMethodQueryPort paymentMethodQueryPort;
+    org.walrex.application.port.output.ExchangeRateCachePort cachePort;
 
     @Mock
-    org.walrex.application.port.output.ExchangeRateCachePort cachePort;
+    org.walrex.application.port.output.NotificationOutboxPort notificationOutboxPort;
 
     @Mock
-    org.walrex.application.port.output.PushNotificationPort pushNotificationPort;
+    org.walrex.application.port.output.ExchangeRateBroadcastPort broadcastPort;
+
+    @Mock
+    LatestRateStore latestRateStore;
 
     @InjectMocks
     ExchangeRateService exchangeRateService;
@@ -53,21 +65,17 @@ class ExchangeRateServiceTest {
     @BeforeEach
     void setUp() {
         // Setup para el mock de persistencia (lenient porque no todos los tests lo usan)
-        Mockito.lenient().when(priceExchangePort.upsertRate(anyInt(), anyInt(), any(), any()))
-                .thenReturn(Uni.createFrom().item(1));
-
-        // Setup para payment methods (retornar lista vacía por defecto)
-        Mockito.lenient().when(paymentMethodQueryPort.findBinancePaymentCodesByCountryCurrency(anyLong()))
-                .thenReturn(Uni.createFrom().item(Collections.emptyList()));
+        Mockito.lenient().when(priceExchangePort.upsertRates(anyList(), any()))
+                .thenAnswer(inv -> Uni.createFrom().item(((List<?>) inv.getArgument(0)).size()));
 
         // Setup para cache (retornar vacío por defecto)
-        Mockito.lenient().when(cachePort.get(anyString()))
-                .thenReturn(Uni.createFrom().item(java.util.Optional.empty()));
-        Mockito.lenient().when(cachePort.set(anyString(), any(), any()))
+        Mockito.lenient().when(cachePort.getAll(any()))
+                .thenReturn(Uni.createFrom().item(Map.of()));
+        Mockito.lenient().when(cachePort.setAll(any(), any()))
                 .thenReturn(Uni.createFrom().voidItem());
 
-        // Setup para push notifications (fire-and-forget)
-        Mockito.lenient().when(pushNotificationPort.sendToAllActiveDevices(any()))
+        // Setup para el outbox de push notifications
+        Mockito.lenient().when(notificationOutboxPort.enqueue(anyList(), any()))
                 .thenReturn(Uni.createFrom().voidItem());
     }
 
@@ -103,8 +111,8 @@ class ExchangeRateServiceTest {
                         .build()
         );
 
-        Mockito.when(remittanceRoutePort.findAllActiveExchangeRateRoutes())
-                .thenReturn(Uni.createFrom().item(routes));
+        Mockito.when(routeRegistry.current())
+                .thenReturn(Uni.createFrom().item(registryOf(routes)));
 
         // Mock tasas para PEN
         List<ExchangeRate> mockPenRates = List.of(
@@ -177,8 +185,8 @@ class ExchangeRateServiceTest {
                         .build()
         );
 
-        Mockito.when(remittanceRoutePort.findAllActiveExchangeRateRoutes())
-                .thenReturn(Uni.createFrom().item(routes));
+        Mockito.when(routeRegistry.current())
+                .thenReturn(Uni.createFrom().item(registryOf(routes)));
 
         // Simular que el proveedor falla y se recupera devolviendo lista vacía
         Mockito.when(exchangeRateProvider.fetchExchangeRates(anyString(), anyString(), anyString(), any(), any()))
@@ -206,8 +214,8 @@ class ExchangeRateServiceTest {
     @Test
     void shouldHandleNoRoutesConfigured() {
         // Arrange - No hay rutas configuradas
-        Mockito.when(remittanceRoutePort.findAllActiveExchangeRateRoutes())
-                .thenReturn(Uni.createFrom().item(Collections.emptyList()));
+        Mockito.when(routeRegistry.current())
+                .thenReturn(Uni.createFrom().item(registryOf(Collections.emptyList())));
 
         // Act
         ExchangeRateUpdate result = exchangeRateService
@@ -224,6 +232,65 @@ class ExchangeRateServiceTest {
                 .fetchExchangeRates(anyString(), anyString(), anyString(), any(), any());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldPersistChangedRatesInOneBatch() {
+        // Arrange - PEN->VES no está en caché, USD->VES está dentro del umbral
+        ExchangeRateRouteInfo penVes = ExchangeRateRouteInfo.builder()
+                .countryCurrencyFromId(1L)
+                .countryFromCode("PE")
+                .currencyFromCode("PEN")
+                .countryCurrencyToId(2L)
+                .countryToCode("VE")
+                .currencyToCode("VES")
+                .build();
+        ExchangeRateRouteInfo usdVes = ExchangeRateRouteInfo.builder()
+                .countryCurrencyFromId(3L)
+                .countryFromCode("US")
+                .currencyFromCode("USD")
+                .countryCurrencyToId(2L)
+                .countryToCode("VE")
+                .currencyToCode("VES")
+                .build();
+
+        String usdVesKey = ExchangeRateCache.generateCacheKey("US", "USD", "VE", "VES", LocalDate.now());
+        Mockito.when(cachePort.getAll(any()))
+                .thenReturn(Uni.createFrom().item(Map.of(usdVesKey,
+                        ExchangeRateCache.builder().rate(new BigDecimal("40.00")).build())));
+
+        Map<ExchangeRateRouteInfo, BigDecimal> crossRates = new LinkedHashMap<>();
+        crossRates.put(penVes, new BigDecimal("10.50"));
+        crossRates.put(usdVes, new BigDecimal("40.10"));
+
+        // Act
+        exchangeRateService.saveRatesForRoutes(crossRates).await().indefinitely();
+
+        // Assert - un solo upsert con la tasa nueva, un solo pipeline con ambas claves y un push encolado
+        ArgumentCaptor<List<PriceExchangeUpsert>> upserts = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(priceExchangePort).upsertRates(upserts.capture(), eq(LocalDate.now()));
+        assertEquals(List.of(new PriceExchangeUpsert(1, 2, new BigDecimal("10.50"))), upserts.getValue());
+
+        ArgumentCaptor<Map<String, ExchangeRateCache>> cached = ArgumentCaptor.forClass(Map.class);
+        Mockito.verify(cachePort).setAll(cached.capture(), any());
+        assertEquals(2, cached.getValue().size());
+
+        ArgumentCaptor<List<OutboxNotification>> notifications = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(notificationOutboxPort).enqueue(notifications.capture(), any());
+        assertEquals(1, notifications.getValue().size());
+        assertEquals("exchange-rate:PEN/VES", notifications.getValue().get(0).coalesceKey());
+        assertEquals("EXCHANGE_RATE_NEW", notifications.getValue().get(0).data().get("type"));
+
+        // Ambas tasas quedaron en caché, así que ambas se difunden a los clientes en vivo
+        Mockito.verify(broadcastPort, Mockito.times(2)).publish(any());
+    }
+
+    /**
+     * Registro de rutas sin métodos de pago configurados (se consultan con lista vacía).
+     */
+    private RouteRegistrySnapshot registryOf(List<ExchangeRateRouteInfo> routes) {
+        return RouteRegistrySnapshot.of(routes, Map.of(), Map.of(), "test", Instant.now());
+    }
+
     private ExchangeRate createMockRate(String advNo, String base, String quote, String type, String price) {
         return new ExchangeRate(
                 advNo,
@@ -0,0 +1,107 @@
+package org.walrex.domain.service;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+import io.smallrye.mutiny.operators.multi.processors.BroadcastProcessor;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.walrex.application.dto.response.ExchangeRateQueryResponse;
+import org.walrex.application.port.input.GetExchangeRateUseCase;
+import org.walrex.application.port.output.ExchangeRateBroadcastPort;
+import org.walrex.domain.model.ExchangeRateEvent;
+import org.walrex.domain.model.RateCorridor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitario para ExchangeRateStreamService sin levantar contexto de Quarkus
+ */
+class ExchangeRateStreamServiceTest {
+
+    private static final RateCorridor PE_VE = new RateCorridor("PE", "PEN", "VE", "VES");
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 1);
+
+    private BroadcastProcessor<ExchangeRateEvent> broadcaster;
+    private GetExchangeRateUseCase getExchangeRateUseCase;
+    private ExchangeRateStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = BroadcastProcessor.create();
+        getExchangeRateUseCase = Mockito.mock(GetExchangeRateUseCase.class);
+
+        service = new ExchangeRateStreamService();
+        service.getExchangeRateUseCase = getExchangeRateUseCase;
+        service.broadcastPort = new ExchangeRateBroadcastPort() {
+            @Override
+            public void publish(ExchangeRateEvent event) {
+                broadcaster.onNext(event);
+            }
+
+            @Override
+            public Multi<ExchangeRateEvent> events() {
+                return broadcaster;
+            }
+        };
+    }
+
+    @Test
+    void ratePublishedDuringInitialReadIsEmittedAfterInitialRate() {
+        AtomicReference<UniEmitter<? super ExchangeRateQueryResponse>> initialRead = new AtomicReference<>();
+        Mockito.when(getExchangeRateUseCase.getRate("PE", "PEN", "VE", "VES"))
+                .thenReturn(Uni.createFrom().emitter(initialRead::set));
+
+        AssertSubscriber<ExchangeRateQueryResponse> subscriber = service.stream(Set.of(PE_VE))
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+
+        // Publicada mientras la lectura inicial sigue en curso
+        service.broadcastPort.publish(new ExchangeRateEvent(PE_VE, new BigDecimal("10.50"), TODAY));
+        assertTrue(subscriber.getItems().isEmpty());
+
+        initialRead.get().complete(response("10.40"));
+        service.broadcastPort.publish(new ExchangeRateEvent(PE_VE, new BigDecimal("10.60"), TODAY));
+
+        assertEquals(3, subscriber.getItems().size());
+        assertEquals(0, new BigDecimal("10.40").compareTo(subscriber.getItems().get(0).rate()));
+        assertEquals(0, new BigDecimal("10.50").compareTo(subscriber.getItems().get(1).rate()));
+        assertEquals(0, new BigDecimal("10.60").compareTo(subscriber.getItems().get(2).rate()));
+    }
+
+    @Test
+    void otherCorridorsAreFilteredOut() {
+        Mockito.when(getExchangeRateUseCase.getRate("PE", "PEN", "VE", "VES"))
+                .thenReturn(Uni.createFrom().item(response("10.40")));
+
+        AssertSubscriber<ExchangeRateQueryResponse> subscriber = service.stream(Set.of(PE_VE))
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+        service.broadcastPort.publish(new ExchangeRateEvent(
+                new RateCorridor("PE", "PEN", "CO", "COP"), new BigDecimal("1000"), TODAY));
+
+        assertEquals(1, subscriber.getItems().size());
+    }
+
+    @Test
+    void cancellingStopsListeningToBroadcaster() {
+        Mockito.when(getExchangeRateUseCase.getRate("PE", "PEN", "VE", "VES"))
+                .thenReturn(Uni.createFrom().item(response("10.40")));
+
+        AssertSubscriber<ExchangeRateQueryResponse> subscriber = service.stream(Set.of(PE_VE))
+                .subscribe().withSubscriber(AssertSubscriber.create(10));
+        subscriber.cancel();
+        service.broadcastPort.publish(new ExchangeRateEvent(PE_VE, new BigDecimal("10.70"), TODAY));
+
+        assertEquals(1, subscriber.getItems().size());
+    }
+
+    private static ExchangeRateQueryResponse response(String rate) {
+        return new ExchangeRateQueryResponse("PE", "PEN", "VE", "VES", new BigDecimal(rate), TODAY);
+    }
+}
@@ -0,0 +1,155 @@
+package org.walrex.domain.service;
+
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.walrex.application.port.output.AccountBalancePort;
+import org.walrex.application.port.output.JournalEntryQueryPort;
+import org.walrex.application.port.output.JournalEntryRepositoryPort;
+import org.walrex.domain.model.EntryStatus;
+import org.walrex.domain.model.JournalEntry;
+import org.walrex.domain.model.JournalEntryLine;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * Test unitario de las transiciones de JournalEntryService que mueven los saldos por período.
+ */
+@ExtendWith(MockitoExtension.class)
+class JournalEntryServiceTest {
+
+    private static final Integer ID = 7;
+
+    @Mock
+    JournalEntryRepositoryPort journalEntryRepositoryPort;
+
+    @Mock
+    JournalEntryQueryPort journalEntryQueryPort;
+
+    @Mock
+    AccountBalancePort accountBalancePort;
+
+    @InjectMocks
+    JournalEntryService service;
+
+    @Test
+    void voidReversesActiveEntry() {
+        JournalEntry entry = givenEntry(EntryStatus.ACTIVE);
+        Mockito.when(journalEntryRepositoryPort.voidEntry(ID)).thenReturn(Uni.createFrom().item(true));
+        Mockito.when(accountBalancePort.reverse(entry)).thenReturn(Uni.createFrom().voidItem());
+
+        assertTrue(service.voidEntry(ID).await().indefinitely());
+
+        Mockito.verify(accountBalancePort).reverse(entry);
+    }
+
+    @Test
+    void voidThatDidNotChangeStateLeavesBalances() {
+        givenEntry(EntryStatus.VOIDED);
+        Mockito.when(journalEntryRepositoryPort.voidEntry(ID)).thenReturn(Uni.createFrom().item(false));
+
+        assertFalse(service.voidEntry(ID).await().indefinitely());
+
+        Mockito.verifyNoInteractions(accountBalancePort);
+    }
+
+    @Test
+    void deleteReversesEntryThatWasActiveWhenDeleted() {
+        JournalEntry entry = givenEntry(EntryStatus.ACTIVE);
+        Mockito.when(journalEntryRepositoryPort.softDelete(ID))
+                .thenReturn(Uni.createFrom().item(Optional.of(EntryStatus.ACTIVE)));
+        Mockito.when(accountBalancePort.reverse(entry)).thenReturn(Uni.createFrom().voidItem());
+
+        assertTrue(service.execute(ID).await().indefinitely());
+
+        Mockito.verify(accountBalancePort).reverse(entry);
+    }
+
+    @Test
+    void deleteAfterConcurrentVoidDoesNotReverseTwice() {
+        // Leída como ACTIVE, pero un void concurrente confirmó antes del UPDATE del delete
+        givenEntry(EntryStatus.ACTIVE);
+        Mockito.when(journalEntryRepositoryPort.softDelete(ID))
+                .thenReturn(Uni.createFrom().item(Optional.of(EntryStatus.VOIDED)));
+
+        assertTrue(service.execute(ID).await().indefinitely());
+
+        Mockito.verifyNoInteractions(accountBalancePort);
+    }
+
+    @Test
+    void deleteThatLostTheRaceLeavesBalances() {
+        givenEntry(EntryStatus.ACTIVE);
+        Mockito.when(journalEntryRepositoryPort.softDelete(ID)).thenReturn(Uni.createFrom().item(Optional.empty()));
+
+        assertFalse(service.execute(ID).await().indefinitely());
+
+        Mockito.verifyNoInteractions(accountBalancePort);
+    }
+
+    @Test
+    void restoreRepostsActiveEntry() {
+        JournalEntry entry = entry(EntryStatus.ACTIVE);
+        entry.setDeletedAt(OffsetDateTime.now());
+        Mockito.when(journalEntryQueryPort.findByIdIncludingDeleted(ID)).thenReturn(Uni.createFrom().item(Optional.of(entry)));
+        Mockito.when(journalEntryRepositoryPort.restore(ID))
+                .thenReturn(Uni.createFrom().item(Optional.of(EntryStatus.ACTIVE)));
+        Mockito.when(accountBalancePort.post(entry)).thenReturn(Uni.createFrom().voidItem());
+
+        assertTrue(service.restore(ID).await().indefinitely());
+
+        Mockito.verify(accountBalancePort).post(entry);
+    }
+
+    @Test
+    void restoreOfVoidedEntryLeavesBalances() {
+        JournalEntry entry = entry(EntryStatus.VOIDED);
+        entry.setDeletedAt(OffsetDateTime.now());
+        Mockito.when(journalEntryQueryPort.findByIdIncludingDeleted(ID)).thenReturn(Uni.createFrom().item(Optional.of(entry)));
+        Mockito.when(journalEntryRepositoryPort.restore(ID))
+                .thenReturn(Uni.createFrom().item(Optional.of(EntryStatus.VOIDED)));
+
+        assertTrue(service.restore(ID).await().indefinitely());
+
+        Mockito.verify(accountBalancePort, Mockito.never()).post(any());
+    }
+
+    @Test
+    void restoreOfEntryThatIsNotDeletedLeavesBalances() {
+        Mockito.when(journalEntryQueryPort.findByIdIncludingDeleted(ID))
+                .thenReturn(Uni.createFrom().item(Optional.of(entry(EntryStatus.ACTIVE))));
+        Mockito.when(journalEntryRepositoryPort.restore(ID)).thenReturn(Uni.createFrom().item(Optional.empty()));
+
+        assertFalse(service.restore(ID).await().indefinitely());
+
+        Mockito.verifyNoInteractions(accountBalancePort);
+    }
+
+    private JournalEntry givenEntry(EntryStatus status) {
+        JournalEntry entry = entry(status);
+        Mockito.when(journalEntryQueryPort.findById(ID)).thenReturn(Uni.createFrom().item(Optional.of(entry)));
+        return entry;
+    }
+
+    private static JournalEntry entry(EntryStatus status) {
+        return JournalEntry.builder()
+                .id(ID)
+                .entryDate(LocalDate.of(2026, 3, 15))
+                .status(status)
+                .lines(List.of(
+                        JournalEntryLine.builder().accountId(10).debit(new BigDecimal("100.00")).credit(BigDecimal.ZERO).build(),
+                        JournalEntryLine.builder().accountId(20).debit(BigDecimal.ZERO).credit(new BigDecimal("100.00")).build()))
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package org.walrex.domain.service;
+
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.walrex.application.port.output.MarketPriceTickPartitionPort;
+import org.walrex.domain.model.CandleInterval;
+import org.walrex.domain.model.TickPartition;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+
+/**
+ * Test unitario puro para MarketPriceTickRetentionService sin levantar contexto de Quarkus
+ */
+@ExtendWith(MockitoExtension.class)
+class MarketPriceTickRetentionServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T05:30:00Z");
+
+    @Mock
+    MarketPriceTickPartitionPort partitionPort;
+
+    @InjectMocks
+    MarketPriceTickRetentionService service;
+
+    @BeforeEach
+    void setUp() {
+        service.granularity = MarketPriceTickRetentionService.Granularity.DAILY;
+        service.premake = 7;
+        service.retentionDays = 90;
+        service.rollupIntervalCodes = List.of("1h", "1d");
+        service.init();
+
+        Mockito.lenient().when(partitionPort.createPartition(anyString(), any(), any()))
+                .thenReturn(Uni.createFrom().item(0L));
+        Mockito.lenient().when(partitionPort.rollupAndPurgeDefault(any(), anyList()))
+                .thenReturn(Uni.createFrom().item(0L));
+        Mockito.lenient().when(partitionPort.countDefaultRows())
+                .thenReturn(Uni.createFrom().item(0L));
+    }
+
+    @Test
+    void stalledSchedulerCreatesRangesFromTheLastPartitionAndMovesDefaultRows() {
+        Mockito.when(partitionPort.listPartitions()).thenReturn(Uni.createFrom().item(List.of(
+                partition("2026-03-01", "2026-03-02"))));
+        Mockito.when(partitionPort.createPartition(eq("market_price_tick_p20260302"), any(), any()))
+                .thenReturn(Uni.createFrom().item(120L));
+
+        service.maintain(NOW).await().indefinitely();
+
+        ArgumentCaptor<String> names = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(partitionPort, Mockito.times(16)).createPartition(names.capture(), any(), any());
+        assertEquals("market_price_tick_p20260302", names.getAllValues().get(0));
+        assertEquals("market_price_tick_p20260317", names.getAllValues().get(15));
+        Mockito.verify(partitionPort).createPartition("market_price_tick_p20260302",
+                Instant.parse("2026-03-02T00:00:00Z"), Instant.parse("2026-03-03T00:00:00Z"));
+        Mockito.verify(partitionPort).countDefaultRows();
+    }
+
+    @Test
+    void expiredDefaultRowsArePurgedAtThePeriodBoundary() {
+        Mockito.when(partitionPort.listPartitions()).thenReturn(Uni.createFrom().item(List.of(
+                partition("2026-03-17", "2026-03-18"))));
+
+        service.maintain(NOW).await().indefinitely();
+
+        Mockito.verify(partitionPort, Mockito.never()).createPartition(anyString(), any(), any());
+        Mockito.verify(partitionPort).rollupAndPurgeDefault(Instant.parse("2025-12-10T00:00:00Z"),
+                List.of(CandleInterval.fromCode("1h"), CandleInterval.fromCode("1d")));
+    }
+
+    @Test
+    void defaultPurgeFailureDoesNotFailMaintenance() {
+        Mockito.when(partitionPort.listPartitions()).thenReturn(Uni.createFrom().item(List.of(
+                partition("2026-03-17", "2026-03-18"))));
+        Mockito.when(partitionPort.rollupAndPurgeDefault(any(), anyList()))
+                .thenReturn(Uni.createFrom().failure(new IllegalStateException("lock timeout")));
+        Mockito.when(partitionPort.countDefaultRows()).thenReturn(Uni.createFrom().item(5L));
+
+        assertDoesNotThrow(() -> service.maintain(NOW).await().indefinitely());
+
+        Mockito.verify(partitionPort).countDefaultRows();
+    }
+
+    private static TickPartition partition(String from, String to) {
+        return new TickPartition("market_price_tick_p" + from.replace("-", ""),
+                Instant.parse(from + "T00:00:00Z"), Instant.parse(to + "T00:00:00Z"));
+    }
+}
@@ -0,0 +1,225 @@
+package org.walrex.domain.service;
+
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.walrex.application.port.output.NotificationOutboxPort;
+import org.walrex.application.port.output.PushNotificationPort;
+import org.walrex.domain.model.BroadcastResult;
+import org.walrex.domain.model.OutboxNotification;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+
+/**
+ * Test unitario puro para NotificationOutboxDispatchService con un outbox en memoria
+ * que aplica las mismas transiciones que el adaptador SQL.
+ */
+class NotificationOutboxDispatchServiceTest {
+
+    private static final Map<String, String> PAYLOAD = Map.of("pair", "PEN/VES");
+
+    private InMemoryOutbox outbox;
+    private PushNotificationPort pushNotificationPort;
+    private NotificationOutboxDispatchService service;
+
+    @BeforeEach
+    void setUp() {
+        outbox = new InMemoryOutbox();
+        pushNotificationPort = Mockito.mock(PushNotificationPort.class);
+
+        service = new NotificationOutboxDispatchService();
+        service.outboxPort = outbox;
+        service.pushNotificationPort = pushNotificationPort;
+        service.batchSize = 50;
+        service.maxAttempts = 3;
+        service.retryAfter = Duration.ZERO;
+        service.stuckAfter = Duration.ofMinutes(10);
+        service.retention = Duration.ofDays(7);
+    }
+
+    @Test
+    void deliveredBroadcastIsMarkedSent() {
+        outbox.add(1L, PAYLOAD);
+        givenBroadcast(new BroadcastResult(3, 3, 0));
+
+        assertEquals(1, service.dispatchDue().await().indefinitely());
+
+        assertEquals("SENT", outbox.status(1L));
+    }
+
+    @Test
+    void partiallyDeliveredBroadcastIsNotRetried() {
+        outbox.add(1L, PAYLOAD);
+        givenBroadcast(new BroadcastResult(3, 1, 2));
+
+        service.dispatchDue().await().indefinitely();
+
+        assertEquals("SENT", outbox.status(1L));
+    }
+
+    @Test
+    void broadcastWithoutDevicesIsMarkedSent() {
+        outbox.add(1L, PAYLOAD);
+        givenBroadcast(BroadcastResult.EMPTY);
+
+        service.dispatchDue().await().indefinitely();
+
+        assertEquals("SENT", outbox.status(1L));
+    }
+
+    @Test
+    void totalFailureGoesBackToPending() {
+        outbox.add(1L, PAYLOAD);
+        givenBroadcast(new BroadcastResult(3, 0, 3));
+
+        service.dispatchDue().await().indefinitely();
+
+        assertEquals("PENDING", outbox.status(1L));
+        assertEquals(1, outbox.attempts(1L));
+        assertTrue(outbox.lastError(1L).contains("3 failures"));
+    }
+
+    @Test
+    void failedSubscriptionGoesBackToPending() {
+        outbox.add(1L, PAYLOAD);
+        Mockito.when(pushNotificationPort.sendToAllActiveDevices(anyMap()))
+                .thenReturn(Uni.createFrom().failure(new IllegalStateException("pool cerrado")));
+
+        service.dispatchDue().await().indefinitely();
+
+        assertEquals("PENDING", outbox.status(1L));
+        assertEquals("pool cerrado", outbox.lastError(1L));
+    }
+
+    @Test
+    void totalFailureOnEveryAttemptEndsFailed() {
+        outbox.add(1L, PAYLOAD);
+        givenBroadcast(new BroadcastResult(3, 0, 3));
+
+        for (int attempt = 1; attempt < service.maxAttempts; attempt++) {
+            service.dispatchDue().await().indefinitely();
+            assertEquals("PENDING", outbox.status(1L), "intento " + attempt);
+        }
+        service.dispatchDue().await().indefinitely();
+
+        assertEquals("FAILED", outbox.status(1L));
+        assertEquals(3, outbox.attempts(1L));
+        assertEquals(0, service.dispatchDue().await().indefinitely());
+        Mockito.verify(pushNotificationPort, Mockito.times(3)).sendToAllActiveDevices(PAYLOAD);
+    }
+
+    @Test
+    void recoveryAfterFailedAttemptsIsMarkedSent() {
+        outbox.add(1L, PAYLOAD);
+        Mockito.when(pushNotificationPort.sendToAllActiveDevices(anyMap()))
+                .thenReturn(Uni.createFrom().item(new BroadcastResult(3, 0, 3)))
+                .thenReturn(Uni.createFrom().item(new BroadcastResult(3, 3, 0)));
+
+        service.dispatchDue().await().indefinitely();
+        service.dispatchDue().await().indefinitely();
+
+        assertEquals("SENT", outbox.status(1L));
+        assertEquals(2, outbox.attempts(1L));
+    }
+
+    @Test
+    void emptyPayloadFailsWithoutSending() {
+        outbox.add(1L, Map.of());
+
+        service.dispatchDue().await().indefinitely();
+
+        assertEquals("FAILED", outbox.status(1L));
+        Mockito.verifyNoInteractions(pushNotificationPort);
+    }
+
+    private void givenBroadcast(BroadcastResult result) {
+        Mockito.when(pushNotificationPort.sendToAllActiveDevices(anyMap()))
+                .thenReturn(Uni.createFrom().item(result));
+    }
+
+    /**
+     * Outbox con las reglas de NotificationOutboxPersistenceAdapter: claimDue suma un intento
+     * y markFailed pasa a FAILED cuando los intentos alcanzan maxAttempts.
+     */
+    private static final class InMemoryOutbox implements NotificationOutboxPort {
+
+        private final Map<Long, Row> rows = new LinkedHashMap<>();
+
+        private static final class Row {
+            final Map<String, String> data;
+            String status = "PENDING";
+            int attempts;
+            String lastError;
+
+            Row(Map<String, String> data) {
+                this.data = data;
+            }
+        }
+
+        void add(Long id, Map<String, String> data) {
+            rows.put(id, new Row(data));
+        }
+
+        String status(Long id) {
+            return rows.get(id).status;
+        }
+
+        int attempts(Long id) {
+            return rows.get(id).attempts;
+        }
+
+        String lastError(Long id) {
+            return rows.get(id).lastError;
+        }
+
+        @Override
+        public Uni<Void> enqueue(List<OutboxNotification> notifications, Duration window) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uni<List<OutboxNotification>> claimDue(int limit) {
+            List<OutboxNotification> claimed = new ArrayList<>();
+            rows.forEach((id, row) -> {
+                if ("PENDING".equals(row.status) && claimed.size() < limit) {
+                    row.status = "SENDING";
+                    row.attempts++;
+                    claimed.add(new OutboxNotification(id, "exchange-rate:" + id, row.data, row.attempts));
+                }
+            });
+            return Uni.createFrom().item(claimed);
+        }
+
+        @Override
+        public Uni<Void> markSent(Long id) {
+            rows.get(id).status = "SENT";
+            return Uni.createFrom().voidItem();
+        }
+
+        @Override
+        public Uni<Void> markFailed(Long id, String error, Duration retryAfter, int maxAttempts) {
+            Row row = rows.get(id);
+            row.status = row.attempts >= maxAttempts ? "FAILED" : "PENDING";
+            row.lastError = error;
+            return Uni.createFrom().voidItem();
+        }
+
+        @Override
+        public Uni<Integer> requeueStuck(Duration stuckAfter, int maxAttempts) {
+            return Uni.createFrom().item(0);
+        }
+
+        @Override
+        public Uni<Integer> purge(Duration olderThan) {
+            return Uni.createFrom().item(0);
+        }
+    }
+}
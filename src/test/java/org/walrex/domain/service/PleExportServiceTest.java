@@ -0,0 +1,154 @@
+package org.walrex.domain.service;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.walrex.application.port.output.PleArtifactPort;
+import org.walrex.application.port.output.PleBookQueryPort;
+import org.walrex.application.port.output.PleExportJobPort;
+import org.walrex.domain.exception.PleConfigurationException;
+import org.walrex.domain.model.PleBook;
+import org.walrex.domain.model.PleCursor;
+import org.walrex.domain.model.PleExportJob;
+import org.walrex.domain.model.PleExportStatus;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+
+/**
+ * Test unitario puro para PleExportService sin levantar contexto de Quarkus
+ */
+@ExtendWith(MockitoExtension.class)
+class PleExportServiceTest {
+
+    private static final String RUC = "20123456789";
+    private static final String FILE_NAME = "LE2012345678920260300050100001011";
+    private static final String FILE_NAME_WITH_LINES = "LE2012345678920260300050100001111";
+    private static final PleArtifactPort.Artifact ARTIFACT =
+            new PleArtifactPort.Artifact("/tmp/ple-exports/7/attempt-2/" + FILE_NAME + ".zip", 120);
+
+    @Mock
+    PleExportJobPort pleExportJobPort;
+
+    @Mock
+    PleBookQueryPort pleBookQueryPort;
+
+    @Mock
+    PleArtifactPort pleArtifactPort;
+
+    @InjectMocks
+    PleExportService service;
+
+    @BeforeEach
+    void setUp() {
+        service.ruc = Optional.of(RUC);
+        service.checkpointRows = 100;
+        service.maxAttempts = 3;
+        service.stuckAfter = Duration.ofMinutes(10);
+    }
+
+    @Test
+    void missingRucIsAConfigurationError() {
+        service.ruc = Optional.empty();
+
+        assertThrows(PleConfigurationException.class,
+                () -> service.request(PleBook.LIBRO_DIARIO, 2026, 3).await().indefinitely());
+        Mockito.verifyNoInteractions(pleExportJobPort);
+    }
+
+    @Test
+    void completedAttemptRemovesThePartialFiles() {
+        givenClaimedJobWithoutLines();
+        Mockito.when(pleExportJobPort.complete(7L, 2, FILE_NAME, ARTIFACT.filePath(), ARTIFACT.size()))
+                .thenReturn(Uni.createFrom().item(true));
+        Mockito.when(pleArtifactPort.discardParts(7L)).thenReturn(Uni.createFrom().voidItem());
+
+        service.runPending().await().indefinitely();
+
+        Mockito.verify(pleArtifactPort).discardParts(7L);
+        Mockito.verify(pleArtifactPort, Mockito.never()).discardPart(anyLong(), anyInt());
+        Mockito.verify(pleArtifactPort, Mockito.never()).discard(any());
+        Mockito.verify(pleExportJobPort, Mockito.never()).fail(anyLong(), anyInt(), anyString(), anyInt());
+    }
+
+    @Test
+    void staleAttemptDiscardsOnlyItsOwnFiles() {
+        givenClaimedJobWithoutLines();
+        Mockito.when(pleExportJobPort.complete(7L, 2, FILE_NAME, ARTIFACT.filePath(), ARTIFACT.size()))
+                .thenReturn(Uni.createFrom().item(false));
+        Mockito.when(pleArtifactPort.discard(ARTIFACT)).thenReturn(Uni.createFrom().voidItem());
+        Mockito.when(pleArtifactPort.discardPart(7L, 2)).thenReturn(Uni.createFrom().voidItem());
+        Mockito.when(pleExportJobPort.fail(eq(7L), eq(2), anyString(), eq(3))).thenReturn(Uni.createFrom().voidItem());
+
+        service.runPending().await().indefinitely();
+
+        Mockito.verify(pleArtifactPort).discard(ARTIFACT);
+        Mockito.verify(pleArtifactPort).discardPart(7L, 2);
+        Mockito.verify(pleArtifactPort, Mockito.never()).discardParts(anyLong());
+    }
+
+    @Test
+    void newAttemptContinuesFromThePartialFileOfTheCheckpoint() {
+        PleCursor cursor = new PleCursor("1011", 40, 400);
+        givenClaimedJob(checkpointedJob(cursor));
+        Mockito.when(pleArtifactPort.adopt(7L, 1, 2, 120L)).thenReturn(Uni.createFrom().item(120L));
+        Mockito.when(pleBookQueryPort.streamLines(PleBook.LIBRO_DIARIO, 2026, 3, cursor))
+                .thenReturn(Multi.createFrom().empty());
+        givenCompletion(FILE_NAME_WITH_LINES);
+
+        service.runPending().await().indefinitely();
+
+        Mockito.verify(pleBookQueryPort).streamLines(PleBook.LIBRO_DIARIO, 2026, 3, cursor);
+    }
+
+    @Test
+    void newAttemptRestartsWhenThePartialFileIsShorterThanTheCheckpoint() {
+        givenClaimedJob(checkpointedJob(new PleCursor("1011", 40, 400)));
+        Mockito.when(pleArtifactPort.adopt(7L, 1, 2, 120L)).thenReturn(Uni.createFrom().item(50L));
+        Mockito.when(pleBookQueryPort.streamLines(PleBook.LIBRO_DIARIO, 2026, 3, null))
+                .thenReturn(Multi.createFrom().empty());
+        givenCompletion(FILE_NAME);
+
+        service.runPending().await().indefinitely();
+
+        Mockito.verify(pleBookQueryPort).streamLines(PleBook.LIBRO_DIARIO, 2026, 3, null);
+    }
+
+    private PleExportJob checkpointedJob(PleCursor cursor) {
+        return new PleExportJob(7L, PleBook.LIBRO_DIARIO, 2026, 3, PleExportStatus.RUNNING,
+                10L, 4, cursor, 120, 1, null, null, null, 2, null, null, null, null);
+    }
+
+    private void givenClaimedJob(PleExportJob job) {
+        Mockito.when(pleExportJobPort.requeueStuck(any(), anyInt())).thenReturn(Uni.createFrom().item(0));
+        Mockito.when(pleExportJobPort.claimNext()).thenReturn(Uni.createFrom().item(Optional.of(job)));
+    }
+
+    private void givenCompletion(String fileName) {
+        PleArtifactPort.Artifact artifact = new PleArtifactPort.Artifact("/tmp/ple-exports/7/attempt-2/" + fileName + ".zip", 120);
+        Mockito.when(pleArtifactPort.seal(7L, 2, fileName)).thenReturn(Uni.createFrom().item(artifact));
+        Mockito.when(pleExportJobPort.complete(7L, 2, fileName, artifact.filePath(), artifact.size()))
+                .thenReturn(Uni.createFrom().item(true));
+        Mockito.when(pleArtifactPort.discardParts(7L)).thenReturn(Uni.createFrom().voidItem());
+    }
+
+    private void givenClaimedJobWithoutLines() {
+        PleExportJob job = new PleExportJob(7L, PleBook.LIBRO_DIARIO, 2026, 3, PleExportStatus.RUNNING,
+                0L, 0, null, 0, null, null, null, null, 2, null, null, null, null);
+        Mockito.when(pleExportJobPort.requeueStuck(any(), anyInt())).thenReturn(Uni.createFrom().item(0));
+        Mockito.when(pleExportJobPort.claimNext()).thenReturn(Uni.createFrom().item(Optional.of(job)));
+        Mockito.when(pleArtifactPort.adopt(7L, null, 2, 0L)).thenReturn(Uni.createFrom().item(0L));
+        Mockito.when(pleBookQueryPort.streamLines(PleBook.LIBRO_DIARIO, 2026, 3, null))
+                .thenReturn(Multi.createFrom().empty());
+        Mockito.when(pleArtifactPort.seal(7L, 2, FILE_NAME)).thenReturn(Uni.createFrom().item(ARTIFACT));
+    }
+}
@@ -0,0 +1,112 @@
+package org.walrex.domain.service;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.walrex.application.port.input.UpdateAstroPayExchangeRateUseCase;
+import org.walrex.application.port.input.UpdateExchangeRatesUseCase;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+
+/**
+ * Test unitario puro para RateRecomputeCoordinator sin levantar contexto de Quarkus
+ */
+@ExtendWith(MockitoExtension.class)
+class RateRecomputeCoordinatorTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Mock
+    UpdateAstroPayExchangeRateUseCase updateAstroPayUseCase;
+
+    @Mock
+    UpdateExchangeRatesUseCase updateExchangeRatesUseCase;
+
+    @Mock
+    DerivedExchangeRateService derivedRateService;
+
+    @InjectMocks
+    RateRecomputeCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        coordinator.debounceMs = 0;
+        Mockito.lenient().when(derivedRateService.recomputeAffectedBy(anySet()))
+                .thenReturn(Uni.createFrom().voidItem());
+    }
+
+    @Test
+    void fullRefreshRecomputesDerivedRatesOfPendingCurrencies() {
+        AtomicInteger refreshes = new AtomicInteger();
+        coordinator.requestRecompute("pen", "test");
+
+        coordinator.runFullRefresh("[TEST]", () -> {
+            refreshes.incrementAndGet();
+            return Uni.createFrom().voidItem();
+        }).await().indefinitely();
+
+        assertEquals(1, refreshes.get());
+        Mockito.verify(derivedRateService).recomputeAffectedBy(Set.of("PEN"));
+
+        // La ventana quedó consumida por el refresco completo
+        coordinator.runDue(T0.plusSeconds(60)).await().indefinitely();
+        Mockito.verifyNoInteractions(updateAstroPayUseCase, updateExchangeRatesUseCase);
+    }
+
+    @Test
+    void fullRefreshRequestedDuringIncrementalCycleIsDeferred() {
+        AtomicReference<UniEmitter<? super Void>> incremental = new AtomicReference<>();
+        Mockito.when(updateAstroPayUseCase.updateRatesForCurrency("PEN"))
+                .thenReturn(Uni.createFrom().emitter(incremental::set));
+        Mockito.when(updateExchangeRatesUseCase.updateExchangeRatesForCurrency("PEN"))
+                .thenReturn(Uni.createFrom().nullItem());
+        AtomicInteger refreshes = new AtomicInteger();
+
+        coordinator.requestRecompute("PEN", "test");
+        coordinator.runDue(Instant.now().plusSeconds(1)).subscribe().with(v -> { });
+
+        coordinator.runFullRefresh("[TEST]", () -> {
+            refreshes.incrementAndGet();
+            return Uni.createFrom().voidItem();
+        }).await().indefinitely();
+        assertEquals(0, refreshes.get());
+
+        incremental.get().complete(null);
+        Mockito.verify(derivedRateService).recomputeAffectedBy(Set.of("PEN"));
+
+        // Siguiente revisión: corre el refresco diferido aunque no haya ventana abierta
+        coordinator.runDue(Instant.now()).await().indefinitely();
+        assertEquals(1, refreshes.get());
+
+        coordinator.runDue(Instant.now()).await().indefinitely();
+        assertEquals(1, refreshes.get());
+    }
+
+    @Test
+    void failedFullRefreshReturnsCurrenciesToTheWindow() {
+        Mockito.when(updateAstroPayUseCase.updateRatesForCurrency("VES"))
+                .thenReturn(Uni.createFrom().voidItem());
+        Mockito.when(updateExchangeRatesUseCase.updateExchangeRatesForCurrency("VES"))
+                .thenReturn(Uni.createFrom().nullItem());
+        coordinator.requestRecompute("VES", "test");
+
+        assertThrows(IllegalStateException.class, () -> coordinator.runFullRefresh("[TEST]",
+                () -> Uni.createFrom().failure(new IllegalStateException("binance caído"))).await().indefinitely());
+
+        coordinator.runDue(Instant.now().plusSeconds(1)).await().indefinitely();
+        Mockito.verify(updateAstroPayUseCase).updateRatesForCurrency("VES");
+        Mockito.verify(derivedRateService).recomputeAffectedBy(Set.of("VES"));
+    }
+}
@@ -0,0 +1,228 @@
+package org.walrex.infrastructure.adapter.outbound.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.walrex.application.port.output.CountryQueryPort;
+import org.walrex.application.port.output.CurrencyQueryPort;
+import org.walrex.application.port.output.DepartamentQueryPort;
+import org.walrex.application.port.output.FinancialInstitutionQueryPort;
+import org.walrex.application.port.output.OcupacionRepositoryPort;
+import org.walrex.application.port.output.ProvinceQueryPort;
+import org.walrex.application.port.output.SunatDocumentTypeQueryPort;
+import org.walrex.application.port.output.SystemDocumentTypeQueryPort;
+import org.walrex.application.port.output.TypeComprobantSunatQueryPort;
+import org.walrex.domain.model.Country;
+import org.walrex.domain.model.Currency;
+import org.walrex.domain.model.PayoutRailInstitution;
+import org.walrex.domain.model.ReferenceDataSnapshot;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test unitario del catálogo en memoria con los puertos de consulta simulados.
+ */
+class InMemoryReferenceDataCatalogAdapterTest {
+
+    private static final Country PERU = Country.builder()
+            .id(1).alphabeticCode3("PER").numericCode(604).status("1").build();
+    private static final Country COLOMBIA = Country.builder()
+            .id(2).alphabeticCode3("COL").numericCode(170).status("1").build();
+
+    private Vertx vertx;
+    private SimpleMeterRegistry registry;
+    private List<Context> sessionContexts;
+    private CountryQueryPort countryQueryPort;
+    private TypeComprobantSunatQueryPort typeComprobantSunatQueryPort;
+    private InMemoryReferenceDataCatalogAdapter catalog;
+
+    @BeforeEach
+    void setUp() {
+        vertx = Vertx.vertx();
+        registry = new SimpleMeterRegistry();
+        sessionContexts = new CopyOnWriteArrayList<>();
+
+        countryQueryPort = mock(CountryQueryPort.class);
+        CurrencyQueryPort currencyQueryPort = mock(CurrencyQueryPort.class);
+        SystemDocumentTypeQueryPort systemDocumentTypeQueryPort = mock(SystemDocumentTypeQueryPort.class);
+        SunatDocumentTypeQueryPort sunatDocumentTypeQueryPort = mock(SunatDocumentTypeQueryPort.class);
+        typeComprobantSunatQueryPort = mock(TypeComprobantSunatQueryPort.class);
+        OcupacionRepositoryPort ocupacionRepositoryPort = mock(OcupacionRepositoryPort.class);
+        DepartamentQueryPort departamentQueryPort = mock(DepartamentQueryPort.class);
+        ProvinceQueryPort provinceQueryPort = mock(ProvinceQueryPort.class);
+        FinancialInstitutionQueryPort financialInstitutionQueryPort = mock(FinancialInstitutionQueryPort.class);
+
+        when(countryQueryPort.streamAll()).thenReturn(Multi.createFrom().items(PERU));
+        when(currencyQueryPort.streamAll()).thenReturn(Multi.createFrom().items(
+                Currency.builder().id(10).alphabeticCode("PEN").numericCode(604).build()));
+        when(systemDocumentTypeQueryPort.streamAll()).thenReturn(Multi.createFrom().empty());
+        when(sunatDocumentTypeQueryPort.streamAll()).thenReturn(Multi.createFrom().empty());
+        when(typeComprobantSunatQueryPort.findAll()).thenReturn(Uni.createFrom().item(List.of()));
+        when(ocupacionRepositoryPort.findAllNoPaginated(null)).thenReturn(Uni.createFrom().item(List.of()));
+        when(departamentQueryPort.streamAll()).thenReturn(Multi.createFrom().empty());
+        when(provinceQueryPort.streamAll()).thenReturn(Multi.createFrom().empty());
+        when(financialInstitutionQueryPort.streamAll()).thenReturn(Multi.createFrom().items(
+                new PayoutRailInstitution("BANK", "PE", 1L, "Banco de Crédito", "BCP", null)));
+
+        catalog = new InMemoryReferenceDataCatalogAdapter() {
+            @Override
+            Uni<ReferenceDataSnapshot> withOwnSession(Supplier<Uni<ReferenceDataSnapshot>> work) {
+                sessionContexts.add(Vertx.currentContext());
+                return work.get();
+            }
+        };
+        catalog.countryQueryPort = countryQueryPort;
+        catalog.currencyQueryPort = currencyQueryPort;
+        catalog.systemDocumentTypeQueryPort = systemDocumentTypeQueryPort;
+        catalog.sunatDocumentTypeQueryPort = sunatDocumentTypeQueryPort;
+        catalog.typeComprobantSunatQueryPort = typeComprobantSunatQueryPort;
+        catalog.ocupacionRepositoryPort = ocupacionRepositoryPort;
+        catalog.departamentQueryPort = departamentQueryPort;
+        catalog.provinceQueryPort = provinceQueryPort;
+        catalog.financialInstitutionQueryPort = financialInstitutionQueryPort;
+        catalog.meterRegistry = registry;
+        catalog.vertx = vertx;
+        catalog.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    void firstReadLoadsOnceInItsOwnSession() {
+        ReferenceDataSnapshot first = catalog.snapshot().await().indefinitely();
+        ReferenceDataSnapshot second = catalog.snapshot().await().indefinitely();
+
+        assertSame(first, second);
+        assertEquals(PERU, first.findCountryById(1).orElseThrow());
+        assertEquals(1, first.payoutRailInstitutions("BANK", "PE").size());
+        verify(countryQueryPort, times(1)).streamAll();
+        assertEquals(1, sessionContexts.size());
+        assertNotNull(sessionContexts.get(0));
+    }
+
+    @Test
+    void successfulReloadReplacesSnapshot() {
+        catalog.snapshot().await().indefinitely();
+        when(countryQueryPort.streamAll()).thenReturn(Multi.createFrom().items(PERU, COLOMBIA));
+
+        ReferenceDataSnapshot reloaded = catalog.refresh().await().indefinitely();
+
+        assertSame(reloaded, catalog.snapshot().await().indefinitely());
+        assertEquals(COLOMBIA, reloaded.findCountryByAlphabeticCode3("COL").orElseThrow());
+        assertEquals(2, sessionContexts.size());
+        assertNotSame(sessionContexts.get(0), sessionContexts.get(1));
+        assertEquals(2.0, registry.get("walrex.reference_data.reloads").tag("result", "success").counter().count());
+    }
+
+    @Test
+    void failedReloadKeepsPreviousSnapshot() {
+        ReferenceDataSnapshot loaded = catalog.snapshot().await().indefinitely();
+        when(countryQueryPort.streamAll()).thenReturn(Multi.createFrom().items(PERU, COLOMBIA));
+        when(typeComprobantSunatQueryPort.findAll())
+                .thenReturn(Uni.createFrom().failure(new IllegalStateException("conexión cerrada")));
+
+        assertThrows(IllegalStateException.class, () -> catalog.refresh().await().indefinitely());
+
+        assertSame(loaded, catalog.snapshot().await().indefinitely());
+        assertTrue(catalog.snapshot().await().indefinitely().findCountryByAlphabeticCode3("COL").isEmpty());
+        assertEquals(1.0, registry.get("walrex.reference_data.reloads").tag("result", "failure").counter().count());
+    }
+
+    @Test
+    void currentSnapshotAnswersLookupsWithoutTheDatabase() {
+        AtomicInteger databaseReads = new AtomicInteger();
+
+        Optional<Country> found = catalog.lookup(
+                snapshot -> snapshot.findCountryById(1),
+                () -> database(databaseReads, Optional.<Country>empty())).await().indefinitely();
+
+        assertEquals(PERU, found.orElseThrow());
+        assertEquals(0, databaseReads.get());
+        assertTrue(catalog.isCurrent());
+    }
+
+    @Test
+    void snapshotMissFallsBackToTheDatabase() {
+        AtomicInteger databaseReads = new AtomicInteger();
+
+        Optional<Country> found = catalog.lookup(
+                snapshot -> snapshot.findCountryById(2),
+                () -> database(databaseReads, Optional.of(COLOMBIA))).await().indefinitely();
+
+        assertEquals(COLOMBIA, found.orElseThrow());
+        assertEquals(1, databaseReads.get());
+        assertEquals(1.0, registry.get("walrex.reference_data.database_reads").counter().count());
+    }
+
+    @Test
+    void changedCatalogReadsTheDatabaseUntilTheNextReload() {
+        catalog.snapshot().await().indefinitely();
+        AtomicInteger databaseReads = new AtomicInteger();
+        Country renamed = Country.builder().id(1).alphabeticCode3("PER").numericCode(604).name("Perú (nuevo)")
+                .status("1").build();
+
+        catalog.markChanged();
+
+        assertFalse(catalog.isCurrent());
+        assertEquals(renamed, catalog.lookup(
+                snapshot -> snapshot.findCountryById(1),
+                () -> database(databaseReads, Optional.of(renamed))).await().indefinitely().orElseThrow());
+        assertEquals(List.of(renamed), catalog.read(
+                ReferenceDataSnapshot::countries,
+                () -> database(databaseReads, List.of(renamed))).await().indefinitely());
+        assertEquals(2, databaseReads.get());
+
+        when(countryQueryPort.streamAll()).thenReturn(Multi.createFrom().items(renamed));
+        catalog.refresh().await().indefinitely();
+
+        assertTrue(catalog.isCurrent());
+        assertEquals(List.of(renamed), catalog.read(
+                ReferenceDataSnapshot::countries,
+                () -> database(databaseReads, List.<Country>of())).await().indefinitely());
+        assertEquals(2, databaseReads.get());
+    }
+
+    @Test
+    void reloadStartedBeforeTheChangeDoesNotMakeTheCatalogCurrent() throws Exception {
+        catalog.snapshot().await().indefinitely();
+        CompletableFuture<Country> tables = new CompletableFuture<>();
+        when(countryQueryPort.streamAll()).thenReturn(Uni.createFrom().completionStage(tables).toMulti());
+
+        CompletableFuture<ReferenceDataSnapshot> reload = catalog.refresh().subscribeAsCompletionStage();
+        catalog.markChanged();
+        tables.complete(COLOMBIA);
+        ReferenceDataSnapshot installed = reload.get(5, TimeUnit.SECONDS);
+
+        assertSame(installed, catalog.snapshot().await().indefinitely());
+        assertFalse(catalog.isCurrent());
+
+        when(countryQueryPort.streamAll()).thenReturn(Multi.createFrom().items(COLOMBIA));
+        catalog.refresh().await().indefinitely();
+
+        assertTrue(catalog.isCurrent());
+    }
+
+    private static <T> Uni<T> database(AtomicInteger reads, T result) {
+        return Uni.createFrom().item(() -> {
+            reads.incrementAndGet();
+            return result;
+        });
+    }
+}
@@ -0,0 +1,195 @@
+package org.walrex.infrastructure.adapter.outbound.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.walrex.application.dto.response.PagedResponse;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test unitario del cache paginado genérico con Redis simulado.
+ */
+class RedisCacheAdapterTest {
+
+    private static final String KEY = "test:page1";
+    private static final String VERSIONED_KEY = KEY + ":g0";
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private Vertx vertx;
+    private ReactiveValueCommands<String, byte[]> valueCommands;
+    private AtomicReference<Context> ownSessionContext;
+    private RedisCacheAdapter<String> cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        vertx = Vertx.vertx();
+        valueCommands = mock(ReactiveValueCommands.class);
+        ReactiveValueCommands<String, Long> generationCommands = mock(ReactiveValueCommands.class);
+        ReactiveRedisDataSource dataSource = mock(ReactiveRedisDataSource.class);
+        when(dataSource.value(String.class, byte[].class)).thenReturn(valueCommands);
+        when(dataSource.value(String.class, Long.class)).thenReturn(generationCommands);
+        when(generationCommands.get(anyString())).thenReturn(Uni.createFrom().nullItem());
+
+        ObjectMapper objectMapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        ownSessionContext = new AtomicReference<>();
+        cache = new RedisCacheAdapter<>(dataSource, objectMapper, new TypeReference<PagedResponse<String>>() {}, "test") {
+            @Override
+            protected String getInvalidationPattern() {
+                return "test:*";
+            }
+
+            @Override
+            Uni<PagedResponse<String>> withOwnSession(Supplier<Uni<PagedResponse<String>>> loader) {
+                ownSessionContext.set(Vertx.currentContext());
+                return loader.get();
+            }
+        };
+        cache.meterRegistry = new SimpleMeterRegistry();
+        cache.vertx = vertx;
+        cache.earlyRefreshBeta = 0;
+        cache.staleWhileRevalidate = Duration.ofSeconds(30);
+        cache.initStampedeProtection();
+    }
+
+    @AfterEach
+    void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    void entryHeaderCarriesFreshnessAndLoadTime() throws Exception {
+        long before = System.currentTimeMillis();
+        byte[] encoded = cache.encodeEntry(page("a"), TTL, 250);
+
+        ByteBuffer header = ByteBuffer.wrap(encoded);
+        assertEquals(0x01, header.get());
+        long freshUntil = header.getLong();
+        assertTrue(freshUntil >= before + TTL.toMillis() && freshUntil <= System.currentTimeMillis() + TTL.toMillis());
+        assertEquals(250, header.getInt());
+
+        RedisCacheAdapter.CachedPage<String> decoded = cache.decodeEntry(encoded);
+        assertEquals(List.of("a"), decoded.value().content());
+        assertEquals(freshUntil, decoded.freshUntilMillis());
+        assertEquals(250, decoded.loadMillis());
+    }
+
+    @Test
+    void headerlessEntryIsFreshUntilItsTtl() throws Exception {
+        byte[] legacy = new ObjectMapper().writeValueAsString(page("a")).getBytes(StandardCharsets.UTF_8);
+
+        RedisCacheAdapter.CachedPage<String> decoded = cache.decodeEntry(legacy);
+
+        assertEquals(List.of("a"), decoded.value().content());
+        assertEquals(Long.MAX_VALUE, decoded.freshUntilMillis());
+        assertEquals(0, decoded.loadMillis());
+    }
+
+    @Test
+    void earlyRefreshProbabilityGrowsTowardsExpiry() {
+        long now = 1_000_000;
+        // loadMillis * beta = 100 ms: refresca si -ln(1 - random) >= restante / 100
+        RedisCacheAdapter.CachedPage<String> entry = new RedisCacheAdapter.CachedPage<>("a", now + 100, 100);
+
+        // Probabilidad e^-1 (~0.37) a 100 ms del vencimiento
+        double threshold = 1 - Math.exp(-1);
+        assertFalse(RedisCacheAdapter.shouldRefreshEarly(entry, now, 1.0, threshold - 0.01));
+        assertTrue(RedisCacheAdapter.shouldRefreshEarly(entry, now, 1.0, threshold + 0.01));
+
+        // Lejos del vencimiento casi nunca; ya vencida, siempre
+        assertFalse(RedisCacheAdapter.shouldRefreshEarly(entry, now - 10_000, 1.0, 0.99));
+        assertTrue(RedisCacheAdapter.shouldRefreshEarly(entry, now + 100, 1.0, 0.0));
+
+        // Un beta mayor adelanta la recarga
+        assertTrue(RedisCacheAdapter.shouldRefreshEarly(entry, now, 3.0, 0.5));
+        assertFalse(RedisCacheAdapter.shouldRefreshEarly(entry, now, 1.0, 0.5));
+
+        // Desactivada con beta 0 o sin tiempo de carga registrado
+        assertFalse(RedisCacheAdapter.shouldRefreshEarly(entry, now + 100, 0, 0.99));
+        assertFalse(RedisCacheAdapter.shouldRefreshEarly(
+                new RedisCacheAdapter.CachedPage<>("a", now + 100, 0), now + 100, 1.0, 0.99));
+    }
+
+    @Test
+    void staleEntryIsServedWhileReloadingInItsOwnSession() throws Exception {
+        byte[] stale = cache.encodeEntry(page("viejo"), Duration.ofSeconds(-1), 10);
+        when(valueCommands.get(VERSIONED_KEY)).thenReturn(Uni.createFrom().item(stale));
+        CountDownLatch stored = new CountDownLatch(1);
+        AtomicReference<byte[]> storedValue = new AtomicReference<>();
+        when(valueCommands.setex(eq(VERSIONED_KEY), anyLong(), any(byte[].class))).thenAnswer(invocation -> {
+            storedValue.set(invocation.getArgument(2));
+            stored.countDown();
+            return Uni.createFrom().voidItem();
+        });
+        AtomicInteger loads = new AtomicInteger();
+
+        PagedResponse<String> served = cache.getOrLoad(KEY, TTL, () -> {
+            loads.incrementAndGet();
+            return Uni.createFrom().item(page("nuevo"));
+        }).await().indefinitely();
+
+        assertEquals(List.of("viejo"), served.content());
+        assertTrue(stored.await(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        assertEquals(List.of("nuevo"), cache.decodeEntry(storedValue.get()).value().content());
+        // La recarga corrió en un contexto propio, no en el del llamador (aquí ninguno)
+        assertNotNull(ownSessionContext.get());
+        verify(valueCommands).setex(eq(VERSIONED_KEY), eq(TTL.plusSeconds(30).getSeconds()), any(byte[].class));
+    }
+
+    @Test
+    void freshEntryIsServedWithoutReloading() throws Exception {
+        byte[] fresh = cache.encodeEntry(page("a"), TTL, 10);
+        when(valueCommands.get(VERSIONED_KEY)).thenReturn(Uni.createFrom().item(fresh));
+        AtomicInteger loads = new AtomicInteger();
+
+        PagedResponse<String> served = cache.getOrLoad(KEY, TTL, () -> {
+            loads.incrementAndGet();
+            return Uni.createFrom().item(page("b"));
+        }).await().indefinitely();
+
+        assertEquals(List.of("a"), served.content());
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    void missLoadsInCallerSessionAndStores() {
+        when(valueCommands.get(VERSIONED_KEY)).thenReturn(Uni.createFrom().nullItem());
+        when(valueCommands.setex(eq(VERSIONED_KEY), anyLong(), any(byte[].class)))
+                .thenReturn(Uni.createFrom().voidItem());
+
+        PagedResponse<String> served = cache.getOrLoad(KEY, TTL, () -> Uni.createFrom().item(page("a")))
+                .await().indefinitely();
+
+        assertEquals(List.of("a"), served.content());
+        assertNull(ownSessionContext.get());
+        verify(valueCommands).setex(eq(VERSIONED_KEY), anyLong(), any(byte[].class));
+    }
+
+    private static PagedResponse<String> page(String item) {
+        return PagedResponse.of(List.of(item), 1, 10, 1);
+    }
+}
@@ -0,0 +1,74 @@
+package org.walrex.infrastructure.adapter.outbound.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitario para SingleFlight sin levantar contexto de Quarkus.
+ */
+class SingleFlightTest {
+
+    @Test
+    void shouldShareInFlightCallForSameKey() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", registry);
+        AtomicInteger loaderCalls = new AtomicInteger();
+        AtomicReference<UniEmitter<? super String>> emitter = new AtomicReference<>();
+
+        Uni<String> first = singleFlight.execute("PEN", () -> {
+            loaderCalls.incrementAndGet();
+            return Uni.createFrom().<String>emitter(e -> emitter.set(e));
+        });
+        Uni<String> second = singleFlight.execute("PEN", () -> {
+            loaderCalls.incrementAndGet();
+            return Uni.createFrom().item("otro");
+        });
+
+        AtomicReference<String> firstResult = new AtomicReference<>();
+        AtomicReference<String> secondResult = new AtomicReference<>();
+        first.subscribe().with(firstResult::set);
+        second.subscribe().with(secondResult::set);
+
+        assertEquals(1, singleFlight.inFlightCount());
+        emitter.get().complete("3.80");
+
+        assertEquals("3.80", firstResult.get());
+        assertEquals("3.80", secondResult.get());
+        assertEquals(1, loaderCalls.get());
+        assertEquals(0, singleFlight.inFlightCount());
+        assertEquals(1.0, registry.get("walrex.singleflight.calls").tag("outcome", "coalesced").counter().count());
+    }
+
+    @Test
+    void shouldRunLoaderAgainAfterCompletion() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>("test", new SimpleMeterRegistry());
+        AtomicInteger loaderCalls = new AtomicInteger();
+
+        singleFlight.execute("VES", () -> Uni.createFrom().item(loaderCalls.incrementAndGet()))
+                .await().indefinitely();
+        Integer result = singleFlight.execute("VES", () -> Uni.createFrom().item(loaderCalls.incrementAndGet()))
+                .await().indefinitely();
+
+        assertEquals(2, result);
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void shouldReleaseKeyOnFailure() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", new SimpleMeterRegistry());
+
+        assertThrows(IllegalStateException.class, () ->
+                singleFlight.execute("COP", () -> Uni.createFrom().<String>failure(new IllegalStateException("boom")))
+                        .await().indefinitely());
+
+        assertEquals(0, singleFlight.inFlightCount());
+        assertEquals("ok", singleFlight.execute("COP", () -> Uni.createFrom().item("ok")).await().indefinitely());
+    }
+}
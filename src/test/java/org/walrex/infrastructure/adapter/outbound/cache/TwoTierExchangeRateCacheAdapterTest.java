@@ -0,0 +1,126 @@
+package org.walrex.infrastructure.adapter.outbound.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.walrex.application.port.output.ExchangeRateCachePort;
+import org.walrex.domain.model.ExchangeRateCache;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test unitario del caché de dos niveles con Redis y pub/sub simulados.
+ */
+class TwoTierExchangeRateCacheAdapterTest {
+
+    private static final String KEY = "exchange_rate:PEN:VES";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private ExchangeRateCachePort redisCache;
+    private AtomicReference<Consumer<String>> onInvalidation;
+    private TwoTierExchangeRateCacheAdapter cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisCache = mock(ExchangeRateCachePort.class);
+        ReactivePubSubCommands<String> pubSub = mock(ReactivePubSubCommands.class);
+        ReactiveRedisDataSource dataSource = mock(ReactiveRedisDataSource.class);
+        when(dataSource.pubsub(String.class)).thenReturn(pubSub);
+
+        onInvalidation = new AtomicReference<>();
+        ReactivePubSubCommands.ReactiveRedisSubscriber subscriber = mock(ReactivePubSubCommands.ReactiveRedisSubscriber.class);
+        when(pubSub.subscribe(anyString(), any(Consumer.class), any(Runnable.class), any(Consumer.class)))
+                .thenAnswer(invocation -> {
+                    onInvalidation.set(invocation.getArgument(1));
+                    return Uni.createFrom().item(subscriber);
+                });
+        when(pubSub.publish(anyString(), anyString())).thenReturn(Uni.createFrom().voidItem());
+
+        cache = new TwoTierExchangeRateCacheAdapter();
+        cache.redisCache = redisCache;
+        cache.dataSource = dataSource;
+        cache.meterRegistry = new SimpleMeterRegistry();
+        cache.l1MaxSize = 100;
+        cache.l1Ttl = Duration.ofMinutes(5);
+        cache.invalidationChannel = "test:invalidate";
+        cache.resubscribeDelay = Duration.ofSeconds(5);
+        cache.init();
+        cache.onStart(null);
+    }
+
+    @Test
+    void confirmedWriteIsServedFromL1() {
+        when(redisCache.set(KEY, rate("10.40"), TTL)).thenReturn(Uni.createFrom().voidItem());
+
+        cache.set(KEY, rate("10.40"), TTL).await().indefinitely();
+        Optional<ExchangeRateCache> read = cache.get(KEY).await().indefinitely();
+
+        assertEquals(0, new BigDecimal("10.40").compareTo(read.orElseThrow().getRate()));
+        verify(redisCache, never()).get(anyString());
+    }
+
+    @Test
+    void failedRedisWriteDoesNotPopulateL1() {
+        when(redisCache.setAll(anyMap(), eq(TTL)))
+                .thenReturn(Uni.createFrom().failure(new IllegalStateException("redis caído")));
+        when(redisCache.get(KEY)).thenReturn(Uni.createFrom().item(Optional.empty()));
+
+        // El error no llega al llamador
+        cache.setAll(Map.of(KEY, rate("10.40")), TTL).await().indefinitely();
+
+        assertTrue(cache.get(KEY).await().indefinitely().isEmpty());
+        verify(redisCache).get(KEY);
+    }
+
+    @Test
+    void invalidationDuringRedisReadWins() {
+        AtomicReference<UniEmitter<? super Optional<ExchangeRateCache>>> pendingRead = new AtomicReference<>();
+        when(redisCache.get(KEY))
+                .thenReturn(Uni.createFrom().emitter(pendingRead::set))
+                .thenReturn(Uni.createFrom().item(Optional.of(rate("10.50"))));
+
+        AtomicReference<Optional<ExchangeRateCache>> firstRead = new AtomicReference<>();
+        cache.get(KEY).subscribe().with(firstRead::set);
+
+        // Otro nodo escribió 10.50 mientras la lectura traía el valor anterior
+        onInvalidation.get().accept("otro-nodo\n" + KEY);
+        pendingRead.get().complete(Optional.of(rate("10.40")));
+
+        assertEquals(0, new BigDecimal("10.40").compareTo(firstRead.get().orElseThrow().getRate()));
+        Optional<ExchangeRateCache> secondRead = cache.get(KEY).await().indefinitely();
+        assertEquals(0, new BigDecimal("10.50").compareTo(secondRead.orElseThrow().getRate()));
+        verify(redisCache, times(2)).get(KEY);
+    }
+
+    @Test
+    void readWithoutConcurrentInvalidationIsCached() {
+        when(redisCache.get(KEY)).thenReturn(Uni.createFrom().item(Optional.of(rate("10.40"))));
+
+        cache.get(KEY).await().indefinitely();
+        cache.get(KEY).await().indefinitely();
+
+        verify(redisCache, times(1)).get(KEY);
+    }
+
+    private static ExchangeRateCache rate(String value) {
+        return ExchangeRateCache.builder()
+                .rate(new BigDecimal(value))
+                .currencyFrom("PEN")
+                .currencyTo("VES")
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package org.walrex.infrastructure.adapter.outbound.cache.codec;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitario del codec de caché (JSON/Smile, compresión y valores corruptos).
+ */
+class JacksonCacheCodecTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Sample SAMPLE = new Sample("PEN-VES", List.of(1, 2, 3));
+
+    record Sample(String name, List<Integer> values) {
+    }
+
+    @Test
+    void jsonWithoutCompressionIsWrittenWithoutHeader() throws IOException {
+        JacksonCacheCodec codec = new JacksonCacheCodec(MAPPER, JacksonCacheCodec.Format.JSON, -1);
+
+        byte[] encoded = codec.encode(SAMPLE);
+
+        assertArrayEquals(MAPPER.writeValueAsBytes(SAMPLE), encoded);
+        assertEquals(SAMPLE, codec.decode(encoded, Sample.class));
+    }
+
+    @Test
+    void smileRoundTrip() throws IOException {
+        JacksonCacheCodec codec = new JacksonCacheCodec(MAPPER, JacksonCacheCodec.Format.SMILE, -1);
+
+        byte[] encoded = codec.encode(SAMPLE);
+
+        assertEquals(0x00, encoded[0]);
+        assertEquals(2, encoded[2]);
+        assertEquals(0, encoded[3]);
+        assertEquals(SAMPLE, codec.decode(encoded, Sample.class));
+        assertEquals(List.of(SAMPLE), codec.decode(codec.encode(List.of(SAMPLE)), new TypeReference<List<Sample>>() {}));
+    }
+
+    @Test
+    void legacyHeaderlessJsonIsReadByAnyFormat() throws IOException {
+        byte[] legacy = "{\"name\":\"PEN-VES\",\"values\":[1,2,3]}".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(SAMPLE, new JacksonCacheCodec(MAPPER, JacksonCacheCodec.Format.SMILE, 16).decode(legacy, Sample.class));
+        assertEquals(SAMPLE, new JacksonCacheCodec(MAPPER, JacksonCacheCodec.Format.JSON, -1).decode(legacy, Sample.class));
+    }
+
+    @Test
+    void valuesOverThresholdAreCompressed() throws IOException {
+        Sample large = new Sample("PEN-VES", Collections.nCopies(2_000, 7));
+        for (JacksonCacheCodec.Format format : JacksonCacheCodec.Format.values()) {
+            JacksonCacheCodec codec = new JacksonCacheCodec(MAPPER, format, 256);
+
+            byte[] encoded = codec.encode(large);
+            byte[] small = codec.encode(SAMPLE);
+
+            assertEquals(1, encoded[3], format.name());
+            assertTrue(encoded.length < MAPPER.writeValueAsBytes(large).length, format.name());
+            assertEquals(large, codec.decode(encoded, Sample.class), format.name());
+            // Por debajo del umbral no se comprime
+            assertEquals(SAMPLE, codec.decode(small, Sample.class), format.name());
+            if (format == JacksonCacheCodec.Format.SMILE) {
+                assertEquals(0, small[3]);
+            }
+        }
+    }
+
+    @Test
+    void valuesWrittenWithAnotherConfigurationAreReadable() throws IOException {
+        byte[] compressedSmile = new JacksonCacheCodec(MAPPER, JacksonCacheCodec.Format.SMILE, 0).encode(SAMPLE);
+
+        assertEquals(SAMPLE, new JacksonCacheCodec(MAPPER, JacksonCacheCodec.Format.JSON, -1).decode(compressedSmile, Sample.class));
+    }
+
+    @Test
+    void unknownOrCorruptHeaderFailsWithIOException() throws IOException {
+        JacksonCacheCodec codec = new JacksonCacheCodec(MAPPER, JacksonCacheCodec.Format.SMILE, 0);
+        byte[] valid = codec.encode(SAMPLE);
+
+        assertCorrupt(codec, new byte[]{0x00, 0x01});
+        assertCorrupt(codec, withByte(valid, 1, (byte) 9));   // versión desconocida
+        assertCorrupt(codec, withByte(valid, 2, (byte) 9));   // formato desconocido
+        assertCorrupt(codec, withByte(valid, 3, (byte) 9));   // compresión desconocida
+        assertCorrupt(codec, Arrays.copyOf(valid, 6));        // tamaño original truncado
+        assertCorrupt(codec, withLength(valid, -1));
+        assertCorrupt(codec, withLength(valid, Integer.MAX_VALUE));
+        assertCorrupt(codec, Arrays.copyOf(valid, 9));           // Deflate truncado
+        assertCorrupt(codec, "{\"name\":".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertCorrupt(JacksonCacheCodec codec, byte[] bytes) {
+        assertThrows(IOException.class, () -> codec.decode(bytes, Sample.class));
+    }
+
+    private static byte[] withByte(byte[] bytes, int index, byte value) {
+        byte[] copy = bytes.clone();
+        copy[index] = value;
+        return copy;
+    }
+
+    private static byte[] withLength(byte[] compressed, int originalLength) {
+        byte[] copy = compressed.clone();
+        ByteBuffer.wrap(copy, 4, Integer.BYTES).putInt(originalLength);
+        return copy;
+    }
+}
@@ -0,0 +1,109 @@
+package org.walrex.infrastructure.adapter.outbound.filesystem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.walrex.application.port.output.PleArtifactPort;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test de los archivos PLE por intento sobre un directorio temporal.
+ */
+class PleArtifactFileAdapterTest {
+
+    private static final Long JOB = 7L;
+
+    @TempDir
+    Path basePath;
+
+    private PleArtifactFileAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new PleArtifactFileAdapter();
+        adapter.basePath = basePath.toString();
+    }
+
+    @Test
+    void staleAttemptCannotTruncateTheFileOfANewerAttempt() throws IOException {
+        long checkpoint = adapter.append(JOB, 1, 0, List.of("a", "b")).await().indefinitely();
+        assertEquals(checkpoint, adapter.adopt(JOB, 1, 2, checkpoint).await().indefinitely());
+        long newer = adapter.append(JOB, 2, checkpoint, List.of("c")).await().indefinitely();
+
+        // El intento 1 sigue vivo y reescribe desde su último offset
+        adapter.append(JOB, 1, 0, List.of("stale")).await().indefinitely();
+        long next = adapter.append(JOB, 2, newer, List.of("d")).await().indefinitely();
+
+        assertEquals("a\r\nb\r\nc\r\nd\r\n", read(part(2)));
+        assertEquals(next, Files.size(part(2)));
+        assertEquals("stale\r\n", read(part(1)));
+    }
+
+    @Test
+    void adoptCopiesOnlyUpToTheCheckpoint() throws IOException {
+        long checkpoint = adapter.append(JOB, 1, 0, List.of("a")).await().indefinitely();
+        adapter.append(JOB, 1, checkpoint, List.of("after checkpoint")).await().indefinitely();
+
+        assertEquals(checkpoint, adapter.adopt(JOB, 1, 2, checkpoint).await().indefinitely());
+
+        assertEquals("a\r\n", read(part(2)));
+    }
+
+    @Test
+    void adoptReportsAMissingOrShorterFile() throws IOException {
+        assertEquals(0L, adapter.adopt(JOB, 1, 2, 100).await().indefinitely());
+        assertEquals(0L, Files.size(part(2)));
+
+        adapter.append(JOB, 2, 0, List.of("a")).await().indefinitely();
+        assertEquals(3L, adapter.adopt(JOB, 2, 3, 100).await().indefinitely());
+    }
+
+    @Test
+    void adoptReadsTheSharedFileOfOlderExports() throws IOException {
+        Path legacy = basePath.resolve("ple-exports").resolve("7").resolve("export.part");
+        Files.createDirectories(legacy.getParent());
+        Files.writeString(legacy, "a\r\nb\r\n", StandardCharsets.ISO_8859_1);
+
+        assertEquals(3L, adapter.adopt(JOB, null, 4, 3).await().indefinitely());
+
+        assertEquals("a\r\n", read(part(4)));
+    }
+
+    @Test
+    void sealZipsTheFileOfTheAttemptAndDiscardPartsKeepsTheZip() throws IOException {
+        adapter.append(JOB, 1, 0, List.of("old")).await().indefinitely();
+        adapter.append(JOB, 2, 0, List.of("Peña")).await().indefinitely();
+
+        PleArtifactPort.Artifact artifact = adapter.seal(JOB, 2, "LE01").await().indefinitely();
+        adapter.discardParts(JOB).await().indefinitely();
+
+        Path zip = Paths.get(artifact.filePath());
+        assertEquals(part(2).getParent().resolve("LE01.zip"), zip);
+        assertEquals(Files.size(zip), artifact.size());
+        try (ZipInputStream in = new ZipInputStream(Files.newInputStream(zip))) {
+            ZipEntry entry = in.getNextEntry();
+            assertEquals("LE01.txt", entry.getName());
+            assertEquals("Peña\r\n", new String(in.readAllBytes(), StandardCharsets.ISO_8859_1));
+        }
+        assertFalse(Files.exists(part(1)));
+        assertFalse(Files.exists(part(2)));
+    }
+
+    private Path part(int attempt) {
+        return basePath.resolve("ple-exports").resolve("7").resolve("attempt-" + attempt).resolve("export.part");
+    }
+
+    private static String read(Path file) throws IOException {
+        return Files.readString(file, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,156 @@
+package org.walrex.infrastructure.adapter.outbound.persistence;
+
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.walrex.domain.model.EntryStatus;
+import org.walrex.domain.model.JournalEntry;
+import org.walrex.domain.model.JournalEntryLine;
+import org.walrex.infrastructure.adapter.outbound.persistence.repository.AccountBalanceRepository;
+import org.walrex.infrastructure.adapter.outbound.persistence.repository.AccountBalanceRepository.Movement;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test unitario del adaptador de saldos con el repositorio simulado.
+ */
+class AccountBalancePersistenceAdapterTest {
+
+    private static final BigDecimal ZERO = new BigDecimal("0.00");
+
+    private AccountBalanceRepository repository;
+    private AccountBalancePersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(AccountBalanceRepository.class);
+        when(repository.addMovements(anyInt(), anyInt(), anyList()))
+                .thenAnswer(invocation -> Uni.createFrom().item(((List<?>) invocation.getArgument(2)).size()));
+
+        adapter = new AccountBalancePersistenceAdapter();
+        adapter.repository = repository;
+    }
+
+    @Test
+    void postCollapsesLinesPerAccountInAscendingOrder() {
+        JournalEntry entry = entry(
+                line(40, "100.00", "0"),
+                line(10, "0", "250.00"),
+                line(40, "150.00", "0"),
+                line(10, "0", "0.50"),
+                line(25, "0.50", "0"));
+
+        adapter.post(entry).await().indefinitely();
+
+        assertEquals(List.of(
+                new Movement(10, ZERO, new BigDecimal("250.50"), 2),
+                new Movement(25, new BigDecimal("0.50"), ZERO, 1),
+                new Movement(40, new BigDecimal("250.00"), ZERO, 2)
+        ), normalized(capturedMovements(2026, 3)));
+    }
+
+    @Test
+    void reverseNegatesAmountsAndLineCounts() {
+        JournalEntry entry = entry(
+                line(10, "100.00", "0"),
+                line(20, "0", "60.00"),
+                line(20, "0", "40.00"));
+
+        adapter.reverse(entry).await().indefinitely();
+
+        assertEquals(List.of(
+                new Movement(10, new BigDecimal("-100.00"), ZERO, -1),
+                new Movement(20, ZERO, new BigDecimal("-100.00"), -2)
+        ), normalized(capturedMovements(2026, 3)));
+    }
+
+    @Test
+    void postThenReverseCancelsOut() {
+        JournalEntry entry = entry(line(10, "80.00", "0"), line(20, "0", "80.00"), line(10, "20.00", "0"));
+
+        adapter.post(entry).await().indefinitely();
+        adapter.reverse(entry).await().indefinitely();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Movement>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(2)).addMovements(eq(2026), eq(3), captor.capture());
+        List<Movement> posted = captor.getAllValues().get(0);
+        List<Movement> reversed = captor.getAllValues().get(1);
+        for (int i = 0; i < posted.size(); i++) {
+            assertEquals(posted.get(i).accountId(), reversed.get(i).accountId());
+            assertEquals(0, posted.get(i).debit().add(reversed.get(i).debit()).signum());
+            assertEquals(0, posted.get(i).credit().add(reversed.get(i).credit()).signum());
+            assertEquals(0, posted.get(i).lineCount() + reversed.get(i).lineCount());
+        }
+    }
+
+    @Test
+    void missingAmountsCountAsZero() {
+        JournalEntry entry = entry(line(10, "5.00", null), line(20, null, "5.00"));
+
+        adapter.post(entry).await().indefinitely();
+
+        assertEquals(List.of(
+                new Movement(10, new BigDecimal("5.00"), ZERO, 1),
+                new Movement(20, ZERO, new BigDecimal("5.00"), 1)
+        ), normalized(capturedMovements(2026, 3)));
+    }
+
+    @Test
+    void entryWithoutLinesTouchesNothing() {
+        JournalEntry entry = entry();
+
+        adapter.post(entry).await().indefinitely();
+        entry.setLines(null);
+        adapter.reverse(entry).await().indefinitely();
+
+        verifyNoInteractions(repository);
+    }
+
+    private List<Movement> capturedMovements(int year, int month) {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Movement>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository).addMovements(eq(year), eq(month), captor.capture());
+        return captor.getValue();
+    }
+
+    /**
+     * Lleva los montos a 2 decimales para comparar 0 con 0.00.
+     */
+    private static List<Movement> normalized(List<Movement> movements) {
+        return movements.stream()
+                .map(m -> new Movement(m.accountId(), scaled(m.debit()), scaled(m.credit()), m.lineCount()))
+                .toList();
+    }
+
+    private static BigDecimal scaled(BigDecimal value) {
+        return value.setScale(2, RoundingMode.UNNECESSARY);
+    }
+
+    private static JournalEntry entry(JournalEntryLine... lines) {
+        return JournalEntry.builder()
+                .id(1)
+                .entryDate(LocalDate.of(2026, 3, 15))
+                .status(EntryStatus.ACTIVE)
+                .lines(List.of(lines))
+                .build();
+    }
+
+    private static JournalEntryLine line(Integer accountId, String debit, String credit) {
+        return JournalEntryLine.builder()
+                .accountId(accountId)
+                .debit(debit != null ? new BigDecimal(debit) : null)
+                .credit(credit != null ? new BigDecimal(credit) : null)
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package org.walrex.infrastructure.adapter.outbound.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.PreparedQuery;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.RowSet;
+import io.vertx.mutiny.sqlclient.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.walrex.domain.model.MarketPriceTick;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test unitario del escritor micro-batch con el Pool simulado.
+ */
+class MarketPriceTickPersistenceAdapterTest {
+
+    private SimpleMeterRegistry registry;
+    private PreparedQuery<RowSet<Row>> query;
+    private MarketPriceTickPersistenceAdapter adapter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        query = mock(PreparedQuery.class);
+        Pool pool = mock(Pool.class);
+        when(pool.preparedQuery(anyString())).thenReturn(query);
+
+        adapter = new MarketPriceTickPersistenceAdapter();
+        adapter.pool = pool;
+        adapter.meterRegistry = registry;
+        adapter.capacity = 100;
+        adapter.batchSize = 10;
+        adapter.maxRetries = 2;
+        adapter.overflowPolicy = MarketPriceTickPersistenceAdapter.OverflowPolicy.DROP_OLDEST;
+        adapter.shutdownTimeoutSeconds = 1;
+        adapter.init();
+    }
+
+    @Test
+    void shouldReleaseFlushFlagWhenInsertThrowsSynchronously() {
+        RowSet<Row> inserted = rows();
+        when(query.execute(any(Tuple.class)))
+                .thenThrow(new IllegalStateException("boom"))
+                .thenReturn(Uni.createFrom().item(inserted));
+        adapter.record(tick("1.10"));
+
+        adapter.flush().await().indefinitely();
+        assertEquals(1, adapter.pendingCount());
+
+        // Si el flag hubiera quedado tomado, este flush no haría nada
+        adapter.flush().await().indefinitely();
+        assertEquals(0, adapter.pendingCount());
+        assertEquals(1.0, registry.get("walrex.market_tick.written").counter().count());
+    }
+
+    @Test
+    void shouldDropBatchAfterMaxRetriesAndContinueWithNextTicks() {
+        RowSet<Row> inserted = rows();
+        AtomicInteger executions = new AtomicInteger();
+        when(query.execute(any(Tuple.class))).thenAnswer(invocation ->
+                executions.incrementAndGet() <= 3
+                        ? Uni.createFrom().failure(new IllegalStateException("rechazado"))
+                        : Uni.createFrom().item(inserted));
+        adapter.record(tick("1.10"));
+
+        adapter.flush().await().indefinitely(); // intento 1
+        adapter.flush().await().indefinitely(); // intento 2
+        adapter.record(tick("1.20"));
+        adapter.flush().await().indefinitely(); // intento 3: se descarta el lote
+        assertEquals(1, adapter.pendingCount());
+        assertEquals(1.0, registry.get("walrex.market_tick.failed").counter().count());
+
+        adapter.flush().await().indefinitely();
+        assertEquals(0, adapter.pendingCount());
+        assertEquals(1.0, registry.get("walrex.market_tick.written").counter().count());
+    }
+
+    @Test
+    void shouldRejectTickWithoutPrice() {
+        adapter.record(MarketPriceTick.builder().provider("FINNHUB").symbol("OANDA:USD_COP").build());
+
+        assertEquals(0, adapter.pendingCount());
+        assertEquals(1.0, registry.get("walrex.market_tick.rejected").counter().count());
+        verifyNoInteractions(query);
+    }
+
+    @Test
+    void shouldWaitForInFlightFlushOnShutdown() throws Exception {
+        RowSet<Row> inserted = rows();
+        AtomicReference<UniEmitter<? super RowSet<Row>>> inFlight = new AtomicReference<>();
+        when(query.execute(any(Tuple.class)))
+                .thenReturn(Uni.createFrom().emitter(inFlight::set))
+                .thenReturn(Uni.createFrom().item(inserted));
+        adapter.shutdownTimeoutSeconds = 5;
+        adapter.record(tick("1.10"));
+        adapter.flush().subscribe().with(v -> { });
+        adapter.record(tick("1.20"));
+
+        Thread stopper = new Thread(() -> adapter.onStop(null));
+        stopper.start();
+        Thread.sleep(100);
+        // El apagado sigue esperando: no lanzó un segundo INSERT en paralelo
+        assertTrue(stopper.isAlive());
+        verify(query, times(1)).execute(any(Tuple.class));
+
+        inFlight.get().complete(inserted);
+        stopper.join(5000);
+
+        assertFalse(stopper.isAlive());
+        assertEquals(0, adapter.pendingCount());
+        assertEquals(2.0, registry.get("walrex.market_tick.written").counter().count());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RowSet<Row> rows() {
+        RowSet<Row> rows = mock(RowSet.class);
+        when(rows.rowCount()).thenReturn(1);
+        return rows;
+    }
+
+    private static MarketPriceTick tick(String price) {
+        return MarketPriceTick.builder()
+                .provider("FINNHUB")
+                .symbol("OANDA:USD_COP")
+                .currencyBase("USD")
+                .currencyQuote("COP")
+                .price(new BigDecimal(price))
+                .eventType("TICK")
+                .recordedAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,187 @@
+package org.walrex.infrastructure.adapter.outbound.persistence.repository;
+
+import org.junit.jupiter.api.Test;
+import org.walrex.application.dto.query.PageRequest;
+import org.walrex.domain.exception.InvalidCursorException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitario puro para KeysetSpec
+ */
+class KeysetSpecTest {
+
+    record Row(Integer id, String name, String nickname) {
+    }
+
+    private static final KeysetSpec<Row> KEYSET = KeysetSpec.<Row>byId(Row::id, Integer::valueOf)
+            .sortable("name", Row::name, value -> value)
+            .sortableNullable("nickname", Row::nickname, value -> value);
+
+    private static final PageRequest.SortDirection ASC = PageRequest.SortDirection.ASCENDING;
+    private static final PageRequest.SortDirection DESC = PageRequest.SortDirection.DESCENDING;
+
+    @Test
+    void firstPageHasNoKeysetCondition() {
+        Where where = where(request("name", ASC, null));
+
+        assertEquals("", where.query());
+        assertTrue(where.params().isEmpty());
+    }
+
+    @Test
+    void idOnlyAscending() {
+        Where where = where(request("id", ASC, cursorAfter("id", ASC, new Row(7, "Ana", null))));
+
+        assertEquals(" and id > :keysetId", where.query());
+        assertEquals(Map.of("keysetId", 7), where.params());
+    }
+
+    @Test
+    void idOnlyDescending() {
+        Where where = where(request(null, DESC, cursorAfter(null, DESC, new Row(7, "Ana", null))));
+
+        assertEquals(" and id < :keysetId", where.query());
+        assertEquals(Map.of("keysetId", 7), where.params());
+    }
+
+    @Test
+    void notNullKeyAscending() {
+        Where where = where(request("name", ASC, cursorAfter("name", ASC, new Row(7, "Ana", null))));
+
+        assertEquals(" and (name >= :keysetValue and (name > :keysetValue or id > :keysetId))", where.query());
+        assertEquals(Map.of("keysetId", 7, "keysetValue", "Ana"), where.params());
+    }
+
+    @Test
+    void notNullKeyDescending() {
+        Where where = where(request("name", DESC, cursorAfter("name", DESC, new Row(7, "Ana", null))));
+
+        assertEquals(" and (name <= :keysetValue and (name < :keysetValue or id < :keysetId))", where.query());
+        assertEquals(Map.of("keysetId", 7, "keysetValue", "Ana"), where.params());
+    }
+
+    @Test
+    void nullableKeyWithValueAscendingAlsoMatchesTrailingNulls() {
+        Where where = where(request("nickname", ASC, cursorAfter("nickname", ASC, new Row(7, "Ana", "ani"))));
+
+        assertEquals(" and ((nickname >= :keysetValue and (nickname > :keysetValue or id > :keysetId)) or nickname is null)",
+                where.query());
+        assertEquals(Map.of("keysetId", 7, "keysetValue", "ani"), where.params());
+    }
+
+    @Test
+    void nullableKeyWithValueDescending() {
+        Where where = where(request("nickname", DESC, cursorAfter("nickname", DESC, new Row(7, "Ana", "ani"))));
+
+        assertEquals(" and (nickname <= :keysetValue and (nickname < :keysetValue or id < :keysetId))", where.query());
+        assertEquals(Map.of("keysetId", 7, "keysetValue", "ani"), where.params());
+    }
+
+    @Test
+    void nullableKeyWithNullValueAscendingStaysAmongNulls() {
+        Where where = where(request("nickname", ASC, cursorAfter("nickname", ASC, new Row(7, "Ana", null))));
+
+        assertEquals(" and (nickname is null and id > :keysetId)", where.query());
+        assertEquals(Map.of("keysetId", 7), where.params());
+    }
+
+    @Test
+    void nullableKeyWithNullValueDescendingContinuesIntoValues() {
+        Where where = where(request("nickname", DESC, cursorAfter("nickname", DESC, new Row(7, "Ana", null))));
+
+        assertEquals(" and (nickname is not null or id < :keysetId)", where.query());
+        assertEquals(Map.of("keysetId", 7), where.params());
+    }
+
+    @Test
+    void sortFieldIsCaseInsensitive() {
+        Where where = where(request("NAME", ASC, cursorAfter("name", ASC, new Row(7, "Ana", null))));
+
+        assertEquals(Map.of("keysetId", 7, "keysetValue", "Ana"), where.params());
+    }
+
+    @Test
+    void valuesWithDelimiterCharactersRoundTrip() {
+        for (String value : List.of("a\u001fb", "\u0000", "-", "3:abc", "", "Peña:-\u001f")) {
+            Where where = where(request("nickname", ASC, cursorAfter("nickname", ASC, new Row(7, "Ana", value))));
+
+            assertEquals(value, where.params().get("keysetValue"), value);
+            assertEquals(7, where.params().get("keysetId"));
+        }
+    }
+
+    @Test
+    void cursorFromAnotherDirectionIsRejected() {
+        String cursor = cursorAfter("name", ASC, new Row(7, "Ana", null));
+
+        assertThrows(InvalidCursorException.class, () -> KEYSET.plan(request("name", DESC, cursor)));
+    }
+
+    @Test
+    void cursorFromAnotherSortFieldIsRejected() {
+        String cursor = cursorAfter("name", ASC, new Row(7, "Ana", null));
+
+        assertThrows(InvalidCursorException.class, () -> KEYSET.plan(request("nickname", ASC, cursor)));
+        assertThrows(InvalidCursorException.class, () -> KEYSET.plan(request("id", ASC, cursor)));
+        String idCursor = cursorAfter("id", ASC, new Row(7, "Ana", null));
+        assertThrows(InvalidCursorException.class, () -> KEYSET.plan(request("name", ASC, idCursor)));
+    }
+
+    @Test
+    void malformedCursorOrUnsupportedSortIsRejected() {
+        assertThrows(InvalidCursorException.class, () -> KEYSET.plan(request("name", ASC, "%%%")));
+        assertThrows(InvalidCursorException.class, () -> KEYSET.plan(request("name", ASC, "bm90LWEtY3Vyc29y")));
+        assertThrows(InvalidCursorException.class, () -> KEYSET.plan(request("email", ASC, null)));
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        KeysetSpec<Row>.Plan plan = KEYSET.plan(request("name", ASC, null));
+
+        KeysetSpec.Slice<Row> slice = plan.slice(List.of(new Row(1, "Ana", null)));
+
+        assertNull(slice.nextCursor());
+        assertEquals(3, plan.fetchSize());
+    }
+
+    @Test
+    void nullableKeyOrdersNullsLikePostgres() {
+        assertEquals("nickname ASC NULLS LAST, id ASC", KEYSET.plan(request("nickname", ASC, null)).orderBy());
+        assertEquals("nickname DESC NULLS FIRST, id DESC", KEYSET.plan(request("nickname", DESC, null)).orderBy());
+        assertEquals("name ASC, id ASC", KEYSET.plan(request("name", ASC, null)).orderBy());
+    }
+
+    private record Where(String query, Map<String, Object> params) {
+    }
+
+    private static Where where(PageRequest request) {
+        StringBuilder query = new StringBuilder();
+        Map<String, Object> params = new HashMap<>();
+        KEYSET.plan(request).appendWhere(query, params);
+        return new Where(query.toString(), params);
+    }
+
+    /**
+     * Cursor de una página de 2 filas cuya última fila es {@code last}.
+     */
+    private static String cursorAfter(String sortBy, PageRequest.SortDirection direction, Row last) {
+        KeysetSpec<Row>.Plan plan = KEYSET.plan(request(sortBy, direction, null));
+        String cursor = plan.slice(List.of(new Row(1, "A", "a"), last, new Row(99, "Z", "z"))).nextCursor();
+        assertNotNull(cursor);
+        return cursor;
+    }
+
+    private static PageRequest request(String sortBy, PageRequest.SortDirection direction, String cursor) {
+        return PageRequest.builder()
+                .size(2)
+                .sortBy(sortBy)
+                .sortDirection(direction)
+                .cursor(cursor)
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package org.walrex.infrastructure.adapter.outbound.rateprovider;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import org.junit.jupiter.api.Test;
+import org.walrex.application.port.output.ExchangeRateProviderPort;
+import org.walrex.domain.model.ExchangeRate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitario para el decorador de coalescencia sin levantar contexto de Quarkus.
+ */
+class CoalescingExchangeRateProviderDecoratorTest {
+
+    @Test
+    void shouldRefilterSharedResultByExactAmount() {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicReference<UniEmitter<? super List<ExchangeRate>>> emitter = new AtomicReference<>();
+        ExchangeRateProviderPort delegate = new StubProvider() {
+            @Override
+            public Uni<List<ExchangeRate>> fetchExchangeRates(String asset, String fiat, String tradeType,
+                                                              List<String> payTypes, BigDecimal transAmount) {
+                calls.incrementAndGet();
+                return Uni.createFrom().emitter(emitter::set);
+            }
+        };
+        var decorator = new CoalescingExchangeRateProviderDecorator(delegate, new SimpleMeterRegistry(), 2);
+
+        // 1000 y 1049 caen en el mismo bucket (1.0E+3)
+        AtomicReference<List<ExchangeRate>> first = new AtomicReference<>();
+        AtomicReference<List<ExchangeRate>> second = new AtomicReference<>();
+        decorator.fetchExchangeRates("USDT", "PEN", "BUY", List.of(), new BigDecimal("1000"))
+                .subscribe().with(first::set);
+        decorator.fetchExchangeRates("USDT", "PEN", "BUY", List.of(), new BigDecimal("1049"))
+                .subscribe().with(second::set);
+
+        emitter.get().complete(List.of(ad("A", "100", "1000"), ad("B", "100", "5000")));
+
+        assertEquals(1, calls.get());
+        assertEquals(List.of("A", "B"), first.get().stream().map(ExchangeRate::advNo).toList());
+        assertEquals(List.of("B"), second.get().stream().map(ExchangeRate::advNo).toList());
+    }
+
+    @Test
+    void shouldFilterCryptoAmountWithAdPrice() {
+        List<ExchangeRate> ads = List.of(ad("A", "100", "300"), ad("B", "100", "1000"));
+
+        // 100 USDT a 3.75 = 375 PEN: solo B lo acepta
+        List<ExchangeRate> accepted = CoalescingExchangeRateProviderDecorator.acceptedFor(
+                ads, null, new BigDecimal("100"));
+
+        assertEquals(List.of("B"), accepted.stream().map(ExchangeRate::advNo).toList());
+    }
+
+    @Test
+    void shouldNotCoalesceOrderBookPages() {
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeRateProviderPort delegate = new StubProvider() {
+            @Override
+            public Uni<List<ExchangeRate>> fetchOrderBookPage(String asset, String fiat, String tradeType,
+                                                              List<String> payTypes, int page, int rows) {
+                calls.incrementAndGet();
+                return Uni.createFrom().emitter(e -> { });
+            }
+        };
+        var decorator = new CoalescingExchangeRateProviderDecorator(delegate, new SimpleMeterRegistry(), 2);
+
+        decorator.fetchOrderBookPage("USDT", "PEN", "BUY", List.of(), 1, 20).subscribe().with(r -> { });
+        decorator.fetchOrderBookPage("USDT", "PEN", "BUY", List.of(), 1, 20).subscribe().with(r -> { });
+
+        assertEquals(2, calls.get());
+    }
+
+    private static ExchangeRate ad(String advNo, String min, String max) {
+        return new ExchangeRate(advNo, "USDT", "PEN", "BUY", new BigDecimal("3.75"),
+                new BigDecimal(min), new BigDecimal(max), 15, List.of(), "merchant", "mass", null);
+    }
+
+    private abstract static class StubProvider implements ExchangeRateProviderPort {
+
+        @Override
+        public Uni<List<ExchangeRate>> fetchExchangeRates(String asset, String fiat, String tradeType,
+                                                          List<String> payTypes, BigDecimal transAmount) {
+            return Uni.createFrom().item(List.of());
+        }
+
+        @Override
+        public Uni<List<ExchangeRate>> fetchExchangeRates(String asset, String fiat, String tradeType,
+                                                          List<String> payTypes, BigDecimal transAmount,
+                                                          BigDecimal transCryptoAmount) {
+            return Uni.createFrom().item(List.of());
+        }
+
+        @Override
+        public Uni<List<ExchangeRate>> fetchOrderBookPage(String asset, String fiat, String tradeType,
+                                                          List<String> payTypes, int page, int rows) {
+            return Uni.createFrom().item(List.of());
+        }
+    }
+}